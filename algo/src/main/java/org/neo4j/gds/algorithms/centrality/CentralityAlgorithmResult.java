@@ -20,6 +20,7 @@
 package org.neo4j.gds.algorithms.centrality;
 
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.cursor.HugeCursorSupport;
 
 import java.util.function.LongToDoubleFunction;
 
@@ -28,4 +29,30 @@ public interface CentralityAlgorithmResult {
     NodePropertyValues nodePropertyValues();
 
     LongToDoubleFunction centralityScoreProvider();
+
+    /**
+     * Copies the scores of the nodes from {@code startNode} (inclusive) until {@code endNode} (exclusive)
+     * to the beginning of {@code target}.
+     */
+    default void copyCentralityScores(long startNode, long endNode, double[] target) {
+        var scores = centralityScoreProvider();
+        for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+            target[(int) (nodeId - startNode)] = scores.applyAsDouble(nodeId);
+        }
+    }
+
+    /**
+     * Implements {@link #copyCentralityScores(long, long, double[])} page-wise for scores backed by a huge array.
+     */
+    static void copyCentralityScores(HugeCursorSupport<double[]> scores, long startNode, long endNode, double[] target) {
+        if (startNode == endNode) {
+            return;
+        }
+        try (var cursor = scores.initCursor(scores.newCursor(), startNode, endNode)) {
+            while (cursor.next()) {
+                int targetOffset = (int) (cursor.base + cursor.offset - startNode);
+                System.arraycopy(cursor.array, cursor.offset, target, targetOffset, cursor.limit - cursor.offset);
+            }
+        }
+    }
 }
@@ -25,7 +25,11 @@ import org.neo4j.gds.betweenness.BetweennessCentralityFactory;
 import org.neo4j.gds.degree.DegreeCentralityConfig;
 import org.neo4j.gds.degree.DegreeCentralityFactory;
 import org.neo4j.gds.influenceMaximization.CELFAlgorithmFactory;
+import org.neo4j.gds.influenceMaximization.IMMAlgorithmFactory;
+import org.neo4j.gds.influenceMaximization.IMMBaseConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationBaseConfig;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRankBaseConfig;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRankFactory;
 import org.neo4j.gds.pagerank.PageRankAlgorithmFactory;
 import org.neo4j.gds.pagerank.PageRankConfig;
 import org.neo4j.gds.results.MemoryEstimateResult;
@@ -78,6 +82,30 @@ public class CentralityAlgorithmsEstimateBusinessFacade {
         );
     }
 
+    public <C extends IMMBaseConfig> MemoryEstimateResult imm(
+        Object graphNameOrConfiguration,
+        C configuration
+    ) {
+        return algorithmEstimator.estimate(
+            graphNameOrConfiguration,
+            configuration,
+            Optional.empty(),
+            new IMMAlgorithmFactory<>()
+        );
+    }
+
+    public <C extends BatchedPersonalizedPageRankBaseConfig> MemoryEstimateResult batchedPersonalizedPageRank(
+        Object graphNameOrConfiguration,
+        C configuration
+    ) {
+        return algorithmEstimator.estimate(
+            graphNameOrConfiguration,
+            configuration,
+            Optional.empty(),
+            new BatchedPersonalizedPageRankFactory<>(false)
+        );
+    }
+
     public <C extends PageRankConfig> MemoryEstimateResult pageRank(
         Object graphNameOrConfiguration,
         C configuration
@@ -33,11 +33,16 @@ import org.neo4j.gds.degree.DegreeCentralityResult;
 import org.neo4j.gds.harmonic.HarmonicCentralityAlgorithmFactory;
 import org.neo4j.gds.harmonic.HarmonicCentralityBaseConfig;
 import org.neo4j.gds.harmonic.HarmonicResult;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRank;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRankBaseConfig;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRankFactory;
 import org.neo4j.gds.pagerank.PageRankAlgorithmFactory;
 import org.neo4j.gds.pagerank.PageRankConfig;
 import org.neo4j.gds.pagerank.PageRankResult;
 import org.neo4j.gds.influenceMaximization.CELFAlgorithmFactory;
 import org.neo4j.gds.influenceMaximization.CELFResult;
+import org.neo4j.gds.influenceMaximization.IMMAlgorithmFactory;
+import org.neo4j.gds.influenceMaximization.IMMBaseConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationBaseConfig;
 
 import java.util.Optional;
@@ -119,6 +124,31 @@ public class CentralityAlgorithmsFacade {
         );
     }
 
+    AlgorithmComputationResult<CELFResult> imm(
+        String graphName,
+        IMMBaseConfig config
+    ) {
+        return algorithmRunner.run(
+            graphName,
+            config,
+            Optional.empty(),
+            new IMMAlgorithmFactory<>()
+        );
+    }
+
+    AlgorithmComputationResult<BatchedPersonalizedPageRank.Result> batchedPersonalizedPageRank(
+        String graphName,
+        BatchedPersonalizedPageRankBaseConfig config,
+        boolean collectScores
+    ) {
+        return algorithmRunner.run(
+            graphName,
+            config,
+            Optional.empty(),
+            new BatchedPersonalizedPageRankFactory<>(collectScores)
+        );
+    }
+
 
     AlgorithmComputationResult<PageRankResult> pageRank(
         String graphName,
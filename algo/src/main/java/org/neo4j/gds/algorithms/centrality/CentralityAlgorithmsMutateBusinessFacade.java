@@ -22,8 +22,11 @@ package org.neo4j.gds.algorithms.centrality;
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.algorithms.AlgorithmComputationResult;
 import org.neo4j.gds.algorithms.NodePropertyMutateResult;
+import org.neo4j.gds.algorithms.centrality.specificfields.BetweennessCentralitySpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.CELFSpecificFields;
+import org.neo4j.gds.algorithms.centrality.specificfields.ClosenessCentralitySpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.DefaultCentralitySpecificFields;
+import org.neo4j.gds.algorithms.centrality.specificfields.HarmonicCentralitySpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.PageRankSpecificFields;
 import org.neo4j.gds.algorithms.mutateservices.MutateNodePropertyService;
 import org.neo4j.gds.algorithms.runner.AlgorithmResultWithTiming;
@@ -57,7 +60,7 @@ public class CentralityAlgorithmsMutateBusinessFacade {
         this.mutateNodePropertyService = mutateNodePropertyService;
     }
 
-    public NodePropertyMutateResult<DefaultCentralitySpecificFields> betweennessCentrality(
+    public NodePropertyMutateResult<BetweennessCentralitySpecificFields> betweennessCentrality(
         String graphName,
         BetweennessCentralityMutateConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -70,8 +73,17 @@ public class CentralityAlgorithmsMutateBusinessFacade {
         return mutateNodeProperty(
             intermediateResult.algorithmResult,
             configuration,
+            CentralityAlgorithmResult::centralityScoreProvider,
+            CentralityAlgorithmResult::nodePropertyValues,
+            (result, centralityDistribution) -> new BetweennessCentralitySpecificFields(
+                result.sampleCount(),
+                result.achievedEpsilon(),
+                result.topKSeparated(),
+                centralityDistribution
+            ),
             shouldComputeCentralityDistribution,
-            intermediateResult.computeMilliseconds
+            intermediateResult.computeMilliseconds,
+            () -> BetweennessCentralitySpecificFields.EMPTY
         );
     }
 
@@ -93,7 +105,7 @@ public class CentralityAlgorithmsMutateBusinessFacade {
         );
     }
 
-    public NodePropertyMutateResult<DefaultCentralitySpecificFields> closenessCentrality(
+    public NodePropertyMutateResult<ClosenessCentralitySpecificFields> closenessCentrality(
         String graphName,
         ClosenessCentralityMutateConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -106,12 +118,19 @@ public class CentralityAlgorithmsMutateBusinessFacade {
         return mutateNodeProperty(
             intermediateResult.algorithmResult,
             configuration,
+            CentralityAlgorithmResult::centralityScoreProvider,
+            CentralityAlgorithmResult::nodePropertyValues,
+            (result, centralityDistribution) -> new ClosenessCentralitySpecificFields(
+                result.effectiveDiameter(),
+                centralityDistribution
+            ),
             shouldComputeCentralityDistribution,
-            intermediateResult.computeMilliseconds
+            intermediateResult.computeMilliseconds,
+            () -> ClosenessCentralitySpecificFields.EMPTY
         );
     }
 
-    public NodePropertyMutateResult<DefaultCentralitySpecificFields> harmonicCentrality(
+    public NodePropertyMutateResult<HarmonicCentralitySpecificFields> harmonicCentrality(
         String graphName,
         HarmonicCentralityMutateConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -124,8 +143,15 @@ public class CentralityAlgorithmsMutateBusinessFacade {
         return mutateNodeProperty(
             intermediateResult.algorithmResult,
             configuration,
+            CentralityAlgorithmResult::centralityScoreProvider,
+            CentralityAlgorithmResult::nodePropertyValues,
+            (result, centralityDistribution) -> new HarmonicCentralitySpecificFields(
+                result.effectiveDiameter(),
+                centralityDistribution
+            ),
             shouldComputeCentralityDistribution,
-            intermediateResult.computeMilliseconds
+            intermediateResult.computeMilliseconds,
+            () -> HarmonicCentralitySpecificFields.EMPTY
         );
     }
 
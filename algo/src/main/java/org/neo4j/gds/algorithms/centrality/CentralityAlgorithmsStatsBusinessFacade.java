@@ -22,9 +22,13 @@ package org.neo4j.gds.algorithms.centrality;
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.algorithms.AlgorithmComputationResult;
 import org.neo4j.gds.algorithms.StatsResult;
+import org.neo4j.gds.algorithms.centrality.specificfields.BetweennessCentralitySpecificFields;
+import org.neo4j.gds.algorithms.centrality.specificfields.BatchedPersonalizedPageRankSpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.CELFSpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.CentralityStatisticsSpecificFields;
+import org.neo4j.gds.algorithms.centrality.specificfields.ClosenessCentralitySpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.DefaultCentralitySpecificFields;
+import org.neo4j.gds.algorithms.centrality.specificfields.HarmonicCentralitySpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.PageRankSpecificFields;
 import org.neo4j.gds.algorithms.runner.AlgorithmResultWithTiming;
 import org.neo4j.gds.algorithms.runner.AlgorithmRunner;
@@ -35,6 +39,7 @@ import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.degree.DegreeCentralityStatsConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityStatsConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationStatsConfig;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRankStatsConfig;
 import org.neo4j.gds.pagerank.PageRankResult;
 import org.neo4j.gds.pagerank.PageRankStatsConfig;
 import org.neo4j.gds.result.CentralityStatistics;
@@ -50,7 +55,7 @@ public class CentralityAlgorithmsStatsBusinessFacade {
     }
 
 
-    public StatsResult<DefaultCentralitySpecificFields> betweennessCentrality(
+    public StatsResult<BetweennessCentralitySpecificFields> betweennessCentrality(
         String graphName,
         BetweennessCentralityStatsConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -63,8 +68,16 @@ public class CentralityAlgorithmsStatsBusinessFacade {
         return statsResult(
             intermediateResult.algorithmResult,
             configuration,
+            CentralityAlgorithmResult::centralityScoreProvider,
+            (result, centralityDistribution) -> new BetweennessCentralitySpecificFields(
+                result.sampleCount(),
+                result.achievedEpsilon(),
+                result.topKSeparated(),
+                centralityDistribution
+            ),
             shouldComputeCentralityDistribution,
-            intermediateResult.computeMilliseconds
+            intermediateResult.computeMilliseconds,
+            () -> BetweennessCentralitySpecificFields.EMPTY
         );
     }
 
@@ -86,7 +99,7 @@ public class CentralityAlgorithmsStatsBusinessFacade {
         );
     }
 
-    public StatsResult<DefaultCentralitySpecificFields> closenessCentrality(
+    public StatsResult<ClosenessCentralitySpecificFields> closenessCentrality(
         String graphName,
         ClosenessCentralityStatsConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -99,12 +112,18 @@ public class CentralityAlgorithmsStatsBusinessFacade {
         return statsResult(
             intermediateResult.algorithmResult,
             configuration,
+            CentralityAlgorithmResult::centralityScoreProvider,
+            (result, centralityDistribution) -> new ClosenessCentralitySpecificFields(
+                result.effectiveDiameter(),
+                centralityDistribution
+            ),
             shouldComputeCentralityDistribution,
-            intermediateResult.computeMilliseconds
+            intermediateResult.computeMilliseconds,
+            () -> ClosenessCentralitySpecificFields.EMPTY
         );
     }
 
-    public StatsResult<DefaultCentralitySpecificFields> harmonicCentrality(
+    public StatsResult<HarmonicCentralitySpecificFields> harmonicCentrality(
         String graphName,
         HarmonicCentralityStatsConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -117,8 +136,14 @@ public class CentralityAlgorithmsStatsBusinessFacade {
         return statsResult(
             intermediateResult.algorithmResult,
             configuration,
+            CentralityAlgorithmResult::centralityScoreProvider,
+            (result, centralityDistribution) -> new HarmonicCentralitySpecificFields(
+                result.effectiveDiameter(),
+                centralityDistribution
+            ),
             shouldComputeCentralityDistribution,
-            intermediateResult.computeMilliseconds
+            intermediateResult.computeMilliseconds,
+            () -> HarmonicCentralitySpecificFields.EMPTY
         );
     }
 
@@ -227,6 +252,34 @@ public class CentralityAlgorithmsStatsBusinessFacade {
         return statsResultBuilder.build();
     }
 
+    public StatsResult<BatchedPersonalizedPageRankSpecificFields> batchedPersonalizedPageRank(
+        String graphName,
+        BatchedPersonalizedPageRankStatsConfig configuration
+    ) {
+        // 1. Run the algorithm and time the execution, the scores are not collected in stats mode
+        var intermediateResult = AlgorithmRunner.runWithTiming(
+            () -> centralityAlgorithmsFacade.batchedPersonalizedPageRank(graphName, configuration, false)
+        );
+
+        var statsResultBuilder = StatsResult.<BatchedPersonalizedPageRankSpecificFields>builder()
+            .computeMillis(intermediateResult.computeMilliseconds)
+            .postProcessingMillis(0);
+
+        var algorithmResult = intermediateResult.algorithmResult;
+        statsResultBuilder.algorithmSpecificFields(
+            algorithmResult.result().map(
+                    result -> new BatchedPersonalizedPageRankSpecificFields(
+                        result.batches(),
+                        result.ranIterations(),
+                        result.didConverge()
+                    ))
+                .orElse(
+                    BatchedPersonalizedPageRankSpecificFields.EMPTY
+                ));
+
+        return statsResultBuilder.build();
+    }
+
 
 
     private <RESULT extends CentralityAlgorithmResult, CONFIG extends AlgoBaseConfig> StatsResult<DefaultCentralitySpecificFields> statsResult(
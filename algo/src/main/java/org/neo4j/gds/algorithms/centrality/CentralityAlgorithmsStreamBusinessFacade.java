@@ -29,9 +29,12 @@ import org.neo4j.gds.degree.DegreeCentralityResult;
 import org.neo4j.gds.degree.DegreeCentralityStreamConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityStreamConfig;
 import org.neo4j.gds.harmonic.HarmonicResult;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRank;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRankStreamConfig;
 import org.neo4j.gds.pagerank.PageRankConfig;
 import org.neo4j.gds.pagerank.PageRankResult;
 import org.neo4j.gds.influenceMaximization.CELFResult;
+import org.neo4j.gds.influenceMaximization.IMMStreamConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationStreamConfig;
 
 public class CentralityAlgorithmsStreamBusinessFacade {
@@ -119,6 +122,33 @@ public class CentralityAlgorithmsStreamBusinessFacade {
         return createStreamComputationResult(result);
     }
 
+    public StreamComputationResult<CELFResult> imm(
+        String graphName,
+        IMMStreamConfig config
+    ) {
+
+        var result = centralityAlgorithmsFacade.imm(
+            graphName,
+            config
+        );
+
+        return createStreamComputationResult(result);
+    }
+
+    public StreamComputationResult<BatchedPersonalizedPageRank.Result> batchedPersonalizedPageRank(
+        String graphName,
+        BatchedPersonalizedPageRankStreamConfig config
+    ) {
+
+        var result = centralityAlgorithmsFacade.batchedPersonalizedPageRank(
+            graphName,
+            config,
+            true
+        );
+
+        return createStreamComputationResult(result);
+    }
+
     public StreamComputationResult<PageRankResult> articleRank(
         String graphName,
         PageRankConfig config
@@ -23,9 +23,12 @@ import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.algorithms.AlgorithmComputationResult;
 import org.neo4j.gds.algorithms.NodePropertyWriteResult;
 import org.neo4j.gds.algorithms.centrality.specificfields.AlphaHarmonicSpecificFields;
+import org.neo4j.gds.algorithms.centrality.specificfields.BetweennessCentralitySpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.CELFSpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.CentralityStatisticsSpecificFields;
+import org.neo4j.gds.algorithms.centrality.specificfields.ClosenessCentralitySpecificFields;
 import org.neo4j.gds.algorithms.centrality.specificfields.DefaultCentralitySpecificFields;
+import org.neo4j.gds.algorithms.centrality.specificfields.HarmonicCentralitySpecificFields;
 import org.neo4j.gds.algorithms.runner.AlgorithmRunner;
 import org.neo4j.gds.algorithms.centrality.specificfields.PageRankSpecificFields;
 import org.neo4j.gds.algorithms.runner.AlgorithmResultWithTiming;
@@ -62,7 +65,7 @@ public class CentralityAlgorithmsWriteBusinessFacade {
         this.writeNodePropertyService = writeNodePropertyService;
     }
 
-    public NodePropertyWriteResult<DefaultCentralitySpecificFields> betweennessCentrality(
+    public NodePropertyWriteResult<BetweennessCentralitySpecificFields> betweennessCentrality(
         String graphName,
         BetweennessCentralityWriteConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -75,8 +78,17 @@ public class CentralityAlgorithmsWriteBusinessFacade {
         return writeToDatabase(
             intermediateResult.algorithmResult,
             configuration,
+            CentralityAlgorithmResult::centralityScoreProvider,
+            CentralityAlgorithmResult::nodePropertyValues,
+            (result, centralityDistribution) -> new BetweennessCentralitySpecificFields(
+                result.sampleCount(),
+                result.achievedEpsilon(),
+                result.topKSeparated(),
+                centralityDistribution
+            ),
             shouldComputeCentralityDistribution,
             intermediateResult.computeMilliseconds,
+            () -> BetweennessCentralitySpecificFields.EMPTY,
             "BetweennessCentralityWrite",
             configuration.writeConcurrency(),
             configuration.writeProperty(),
@@ -106,7 +118,7 @@ public class CentralityAlgorithmsWriteBusinessFacade {
         );
     }
 
-    public NodePropertyWriteResult<DefaultCentralitySpecificFields> closenessCentrality(
+    public NodePropertyWriteResult<ClosenessCentralitySpecificFields> closenessCentrality(
         String graphName,
         ClosenessCentralityWriteConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -119,8 +131,15 @@ public class CentralityAlgorithmsWriteBusinessFacade {
         return writeToDatabase(
             intermediateResult.algorithmResult,
             configuration,
+            CentralityAlgorithmResult::centralityScoreProvider,
+            CentralityAlgorithmResult::nodePropertyValues,
+            (result, centralityDistribution) -> new ClosenessCentralitySpecificFields(
+                result.effectiveDiameter(),
+                centralityDistribution
+            ),
             shouldComputeCentralityDistribution,
             intermediateResult.computeMilliseconds,
+            () -> ClosenessCentralitySpecificFields.EMPTY,
             "ClosenessCentralityWrite",
             configuration.writeConcurrency(),
             configuration.writeProperty(),
@@ -219,7 +238,7 @@ public class CentralityAlgorithmsWriteBusinessFacade {
         }).orElseGet(() -> NodePropertyWriteResult.empty(PageRankSpecificFields.EMPTY, configuration));
     }
 
-    public NodePropertyWriteResult<DefaultCentralitySpecificFields> harmonicCentrality(
+    public NodePropertyWriteResult<HarmonicCentralitySpecificFields> harmonicCentrality(
         String graphName,
         HarmonicCentralityWriteConfig configuration,
         boolean shouldComputeCentralityDistribution
@@ -232,8 +251,15 @@ public class CentralityAlgorithmsWriteBusinessFacade {
         return writeToDatabase(
             intermediateResult.algorithmResult,
             configuration,
+            CentralityAlgorithmResult::centralityScoreProvider,
+            CentralityAlgorithmResult::nodePropertyValues,
+            (result, centralityDistribution) -> new HarmonicCentralitySpecificFields(
+                result.effectiveDiameter(),
+                centralityDistribution
+            ),
             shouldComputeCentralityDistribution,
             intermediateResult.computeMilliseconds,
+            () -> HarmonicCentralitySpecificFields.EMPTY,
             "HarmonicCentralityWrite",
             configuration.writeConcurrency(),
             configuration.writeProperty(),
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.algorithms.centrality.specificfields;
+
+import java.util.Map;
+
+public class BetweennessCentralitySpecificFields implements CentralityStatisticsSpecificFields {
+
+    public static final BetweennessCentralitySpecificFields EMPTY = new BetweennessCentralitySpecificFields(
+        0,
+        0,
+        false,
+        Map.of()
+    );
+
+    private final long sampleCount;
+    private final double achievedEpsilon;
+    private final boolean topKSeparated;
+    private final Map<String, Object> centralityDistribution;
+
+    public BetweennessCentralitySpecificFields(
+        long sampleCount,
+        double achievedEpsilon,
+        boolean topKSeparated,
+        Map<String, Object> centralityDistribution
+    ) {
+        this.sampleCount = sampleCount;
+        this.achievedEpsilon = achievedEpsilon;
+        this.topKSeparated = topKSeparated;
+        this.centralityDistribution = centralityDistribution;
+    }
+
+    public long sampleCount() {
+        return sampleCount;
+    }
+
+    public double achievedEpsilon() {
+        return achievedEpsilon;
+    }
+
+    public boolean topKSeparated() {
+        return topKSeparated;
+    }
+
+    @Override
+    public Map<String, Object> centralityDistribution() {
+        return centralityDistribution;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.algorithms.centrality.specificfields;
+
+import java.util.Map;
+
+public class ClosenessCentralitySpecificFields implements CentralityStatisticsSpecificFields {
+
+    public static final ClosenessCentralitySpecificFields EMPTY = new ClosenessCentralitySpecificFields(Double.NaN, Map.of());
+
+    private final double effectiveDiameter;
+    private final Map<String, Object> centralityDistribution;
+
+    public ClosenessCentralitySpecificFields(double effectiveDiameter, Map<String, Object> centralityDistribution) {
+        this.effectiveDiameter = effectiveDiameter;
+        this.centralityDistribution = centralityDistribution;
+    }
+
+    public double effectiveDiameter() {
+        return effectiveDiameter;
+    }
+
+    @Override
+    public Map<String, Object> centralityDistribution() {
+        return centralityDistribution;
+    }
+}
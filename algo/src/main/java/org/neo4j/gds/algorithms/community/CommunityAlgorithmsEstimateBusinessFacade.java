@@ -45,6 +45,8 @@ import org.neo4j.gds.triangle.IntersectingTriangleCountFactory;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientBaseConfig;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientFactory;
 import org.neo4j.gds.triangle.TriangleCountBaseConfig;
+import org.neo4j.gds.wcc.IncrementalWccAlgorithmFactory;
+import org.neo4j.gds.wcc.IncrementalWccBaseConfig;
 import org.neo4j.gds.wcc.WccAlgorithmFactory;
 import org.neo4j.gds.wcc.WccBaseConfig;
 
@@ -69,6 +71,18 @@ public class CommunityAlgorithmsEstimateBusinessFacade {
         );
     }
 
+    public <C extends IncrementalWccBaseConfig> MemoryEstimateResult incrementalWcc(
+        Object graphNameOrConfiguration,
+        C configuration
+    ) {
+        return algorithmEstimator.estimate(
+            graphNameOrConfiguration,
+            configuration,
+            Optional.empty(),
+            new IncrementalWccAlgorithmFactory<>()
+        );
+    }
+
 
     public <C extends ApproxMaxKCutBaseConfig> MemoryEstimateResult approxMaxKCut(Object graphNameOrConfiguration, C configuration) {
         return algorithmEstimator.estimate(
@@ -61,6 +61,8 @@ import org.neo4j.gds.triangle.LocalClusteringCoefficientFactory;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientResult;
 import org.neo4j.gds.triangle.TriangleCountBaseConfig;
 import org.neo4j.gds.triangle.TriangleCountResult;
+import org.neo4j.gds.wcc.IncrementalWccAlgorithmFactory;
+import org.neo4j.gds.wcc.IncrementalWccBaseConfig;
 import org.neo4j.gds.wcc.WccAlgorithmFactory;
 import org.neo4j.gds.wcc.WccBaseConfig;
 
@@ -88,6 +90,18 @@ public class CommunityAlgorithmsFacade {
         );
     }
 
+    AlgorithmComputationResult<DisjointSetStruct> incrementalWcc(
+        String graphName,
+        IncrementalWccBaseConfig config
+    ) {
+        return algorithmRunner.run(
+            graphName,
+            config,
+            Optional.empty(),
+            new IncrementalWccAlgorithmFactory<>()
+        );
+    }
+
     AlgorithmComputationResult<TriangleCountResult> triangleCount(
         String graphName,
         TriangleCountBaseConfig config
@@ -54,6 +54,7 @@ import org.neo4j.gds.scc.SccMutateConfig;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientMutateConfig;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientResult;
 import org.neo4j.gds.triangle.TriangleCountMutateConfig;
+import org.neo4j.gds.wcc.IncrementalWccMutateConfig;
 import org.neo4j.gds.wcc.WccMutateConfig;
 
 import java.util.ArrayList;
@@ -111,6 +112,41 @@ public class CommunityAlgorithmsMutateBusinessFacade {
         );
     }
 
+    public NodePropertyMutateResult<StandardCommunityStatisticsSpecificFields> incrementalWcc(
+        String graphName,
+        IncrementalWccMutateConfig configuration,
+        StatisticsComputationInstructions statisticsComputationInstructions
+    ) {
+        // 1. Run the algorithm and time the execution
+        var intermediateResult = runWithTiming(
+            () -> communityAlgorithmsFacade.incrementalWcc(graphName, configuration)
+        );
+        var algorithmResult = intermediateResult.algorithmResult;
+
+        return mutateNodeProperty(
+            algorithmResult,
+            configuration,
+            (result, config) -> CommunityResultCompanion.nodePropertyValues(
+                config.isIncremental(),
+                config.mutateProperty(),
+                config.seedProperty(),
+                config.consecutiveIds(),
+                result.asNodeProperties(),
+                () -> algorithmResult.graphStore().nodeProperty(config.seedProperty())
+            ),
+            (result -> result::setIdOf),
+            (result, componentCount, communitySummary) -> {
+                return new StandardCommunityStatisticsSpecificFields(
+                    componentCount,
+                    communitySummary
+                );
+            },
+            statisticsComputationInstructions,
+            intermediateResult.computeMilliseconds,
+            () -> StandardCommunityStatisticsSpecificFields.EMPTY
+        );
+    }
+
 
     public NodePropertyMutateResult<KCoreSpecificFields> kCore(
         String graphName,
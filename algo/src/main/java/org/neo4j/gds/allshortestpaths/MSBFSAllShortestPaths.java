@@ -87,8 +87,7 @@ public class MSBFSAllShortestPaths extends MSBFSASPAlgorithm {
 
         @Override
         public void run() {
-            MultiSourceBFSAccessMethods.aggregatedNeighborProcessingWithoutSourceNodes(
-                    graph.nodeCount(),
+            MultiSourceBFSAccessMethods.directionOptimizingNeighborProcessingWithoutSourceNodes(
                     graph,
                     (target, distance, sources) -> {
                         while (sources.hasNext()) {
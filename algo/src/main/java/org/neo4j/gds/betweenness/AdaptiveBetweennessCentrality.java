@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Approximates betweenness centrality by progressively sampling source nodes until a requested accuracy is reached.
+ * <p>
+ * Sources are drawn uniformly at random with replacement. For a sampled source {@code s}, every node {@code v}
+ * observes {@code X = δ_s(v) / (n - 2)}, which lies in {@code [0, 1]} and whose expectation is the betweenness
+ * of {@code v} normalised by {@code n (n - 2)}. Samples are added in rounds, each round doubling the total sample count.
+ * After a round, the empirical Bernstein bound (Maurer and Pontil) gives a confidence interval per node from
+ * the sample mean and variance. The failure probability {@code delta} is split over the nodes and the rounds,
+ * such that all intervals hold at once with probability at least {@code 1 - delta}, no matter in which round
+ * the sampling stops.
+ * <p>
+ * The sampling stops once all intervals are narrower than {@code epsilon}, or, if {@code topK} is positive,
+ * once the intervals of the {@code topK} highest scoring nodes are separated from the intervals of all other nodes,
+ * i.e. the top-k set cannot change with more samples. It also stops after {@code maxSamples} samples,
+ * in which case the reported error may exceed {@code epsilon}.
+ * <p>
+ * The sampled sources are stored in an array that grows with each round, so only the samples actually
+ * drawn are kept in memory.
+ */
+public class AdaptiveBetweennessCentrality extends Algorithm<BetwennessCentralityResult> {
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final double epsilon;
+    private final double delta;
+    private final int topK;
+    private final long maxSamples;
+    private final Optional<Long> randomSeed;
+    private final boolean weighted;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    private final double divisor;
+    private final double scale;
+    private final HugeAtomicDoubleArray sums;
+    private final HugeAtomicDoubleArray squareSums;
+    private HugeLongArray sources;
+    private final AtomicLong nextSample;
+    private long sampleCount;
+
+    public static Task progressTask() {
+        return Tasks.leaf("AdaptiveBetweennessCentrality");
+    }
+
+    /**
+     * The sources array grows with the rounds, so {@code maxSamples} only bounds its size from above.
+     */
+    public static MemoryEstimation memoryEstimation(long maxSamples, boolean weighted) {
+        return MemoryEstimations.builder(AdaptiveBetweennessCentrality.class)
+            .perNode("sums", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("square sums", HugeAtomicDoubleArray::memoryEstimation)
+            .fixed("sources", MemoryRange.of(0, HugeLongArray.memoryEstimation(maxSamples)))
+            .perThread("traverser", DependencyTraverser.memoryEstimation(weighted))
+            .build();
+    }
+
+    /**
+     * @param epsilon    the maximum absolute error of the centrality normalised by {@code n (n - 2)}
+     * @param delta      the probability that the error exceeds {@code epsilon}
+     * @param topK       if positive, stop once the {@code topK} highest scoring nodes are known
+     * @param maxSamples the maximum number of sampled sources
+     */
+    public AdaptiveBetweennessCentrality(
+        Graph graph,
+        double epsilon,
+        double delta,
+        int topK,
+        long maxSamples,
+        Optional<Long> randomSeed,
+        boolean weighted,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (!(epsilon > 0 && epsilon < 1)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `epsilon` must be in the range (0, 1), got %f.",
+                epsilon
+            ));
+        }
+        if (!(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `delta` must be in the range (0, 1), got %f.",
+                delta
+            ));
+        }
+        if (topK < 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `topK` must not be negative, got %d.",
+                topK
+            ));
+        }
+        if (maxSamples < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `maxSamples` must be positive, got %d.",
+                maxSamples
+            ));
+        }
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.topK = topK;
+        this.maxSamples = maxSamples;
+        this.randomSeed = randomSeed;
+        this.weighted = weighted;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.divisor = graph.schema().isUndirected() ? 2.0 : 1.0;
+        this.scale = Math.max(nodeCount - 2, 1);
+        this.sums = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        this.squareSums = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        this.sources = HugeLongArray.newArray(0);
+        this.nextSample = new AtomicLong();
+    }
+
+    @Override
+    public AdaptiveBetweennessCentralityResult compute() {
+        progressTracker.beginSubTask();
+
+        var random = randomSeed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        var tasks = ParallelUtil.tasks(concurrency, SamplingTask::new);
+
+        // the second term of the bound shrinks with 1 / k only, no earlier round can reach the target error.
+        // the top-k nodes might be separated long before that, as long as the intervals are narrower than 1/2.
+        double initialEpsilon = topK > 0 ? Math.max(epsilon, 0.5) : epsilon;
+        long targetSampleCount = Math.max(
+            Math.max(2, concurrency),
+            (long) Math.ceil(7 * logTerm(0) / (3 * initialEpsilon)) + 1
+        );
+
+        int rounds = 0;
+        double achievedEpsilon = 1.0;
+        boolean topKSeparated = false;
+        while (nodeCount > 0) {
+            targetSampleCount = Math.min(targetSampleCount, maxSamples);
+            sample(random, targetSampleCount, tasks);
+
+            double logTerm = logTerm(rounds++);
+            achievedEpsilon = maxError(logTerm);
+            topKSeparated = topK > 0 && isTopKSeparated(logTerm);
+
+            progressTracker.logInfo(formatWithLocale(
+                "Round %d: %d samples, maximum error %.6f",
+                rounds,
+                sampleCount,
+                achievedEpsilon
+            ));
+
+            if (achievedEpsilon <= epsilon || topKSeparated || sampleCount >= maxSamples) {
+                break;
+            }
+            targetSampleCount = 2 * sampleCount;
+        }
+
+        // the sums are not needed after the last round, so they are scaled in place
+        double factor = nodeCount * scale / (divisor * Math.max(sampleCount, 1));
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            terminationFlag,
+            nodeId -> sums.set(nodeId, sums.get(nodeId) * factor)
+        );
+
+        progressTracker.endSubTask();
+        return new AdaptiveBetweennessCentralityResult(
+            sums,
+            sampleCount,
+            rounds,
+            achievedEpsilon,
+            topKSeparated
+        );
+    }
+
+    private void sample(SplittableRandom random, long targetSampleCount, Collection<Runnable> tasks) {
+        if (targetSampleCount > sources.size()) {
+            sources = sources.copyOf(targetSampleCount);
+        }
+        // sources are drawn upfront, so the sample does not depend on the concurrency
+        for (long sample = sampleCount; sample < targetSampleCount; sample++) {
+            sources.set(sample, random.nextLong(nodeCount));
+        }
+        nextSample.set(sampleCount);
+        sampleCount = targetSampleCount;
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        terminationFlag.assertRunning();
+    }
+
+    /**
+     * {@code ln(4 n / δ_i)} with {@code δ_i = δ / 2^(i + 1)} being the failure probability of round {@code i}.
+     */
+    private double logTerm(int round) {
+        return Math.log(4.0 * nodeCount / delta) + (round + 1) * Math.log(2);
+    }
+
+    private double error(long nodeId, double logTerm) {
+        if (sampleCount < 2) {
+            return 1.0;
+        }
+        double sum = sums.get(nodeId);
+        double variance = Math.max(0, (squareSums.get(nodeId) - sum * sum / sampleCount) / (sampleCount - 1));
+        double error = Math.sqrt(2 * variance * logTerm / sampleCount) + 7 * logTerm / (3 * (sampleCount - 1));
+        return Math.min(error, 1.0);
+    }
+
+    private double maxError(double logTerm) {
+        return ParallelUtil.parallelStream(
+            LongStream.range(0, nodeCount),
+            concurrency,
+            stream -> stream.mapToDouble(nodeId -> error(nodeId, logTerm)).max().orElse(0)
+        );
+    }
+
+    private boolean isTopKSeparated(double logTerm) {
+        if (topK >= nodeCount) {
+            return true;
+        }
+        // every partition collects its own top-k nodes, which are merged afterwards
+        var topNodeTasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            TopNodesTask::new,
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(topNodeTasks)
+            .executor(executorService)
+            .run();
+
+        var topNodes = BoundedLongPriorityQueue.max(topK);
+        for (var task : topNodeTasks) {
+            task.topNodes.forEach(topNodes::offer);
+        }
+
+        var isTopNode = new BitSet(nodeCount);
+        double[] minLowerBound = {Double.MAX_VALUE};
+        topNodes.forEach((nodeId, sum) -> {
+            isTopNode.set(nodeId);
+            minLowerBound[0] = Math.min(minLowerBound[0], sum / sampleCount - error(nodeId, logTerm));
+        });
+
+        double maxUpperBound = ParallelUtil.parallelStream(
+            LongStream.range(0, nodeCount),
+            concurrency,
+            stream -> stream
+                .filter(nodeId -> !isTopNode.get(nodeId))
+                .mapToDouble(nodeId -> sums.get(nodeId) / sampleCount + error(nodeId, logTerm))
+                .max()
+                .orElse(0)
+        );
+
+        return minLowerBound[0] > maxUpperBound;
+    }
+
+    private final class TopNodesTask implements Runnable {
+        private final Partition partition;
+        private final BoundedLongPriorityQueue topNodes;
+
+        private TopNodesTask(Partition partition) {
+            this.partition = partition;
+            this.topNodes = BoundedLongPriorityQueue.max(topK);
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> topNodes.offer(nodeId, sums.get(nodeId)));
+        }
+    }
+
+    private final class SamplingTask implements Runnable {
+        private final DependencyTraverser traverser;
+
+        private SamplingTask() {
+            this.traverser = new DependencyTraverser(graph.concurrentCopy(), weighted, terminationFlag);
+        }
+
+        @Override
+        public void run() {
+            long sample;
+            while ((sample = nextSample.getAndIncrement()) < sampleCount && terminationFlag.running()) {
+                traverser.traverse(sources.get(sample), (nodeId, dependency) -> {
+                    double value = dependency / scale;
+                    sums.getAndAdd(nodeId, value);
+                    squareSums.getAndAdd(nodeId, value * value);
+                });
+                progressTracker.logProgress();
+            }
+        }
+    }
+}
@@ -21,10 +21,12 @@ package org.neo4j.gds.betweenness;
 
 import com.carrotsearch.hppc.LongArrayList;
 import com.carrotsearch.hppc.cursors.LongCursor;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
@@ -34,7 +36,11 @@ import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult> {
 
@@ -46,9 +52,11 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
 
     private final HugeAtomicDoubleArray centrality;
     private final SelectionStrategy selectionStrategy;
+    private final AtomicLong sampleCount;
 
     private final ExecutorService executorService;
     private final int concurrency;
+    private final Supplier<Runnable> taskSupplier;
 
 
     public BetweennessCentrality(
@@ -58,8 +66,51 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
         ExecutorService executorService,
         int concurrency,
         ProgressTracker progressTracker
+    ) {
+        this(graph, selectionStrategy, traverserFactory, false, 1, executorService, concurrency, progressTracker);
+    }
+
+    /**
+     * Creates a betweenness centrality computation that does not store predecessor lists.
+     * Predecessors are instead recomputed from the shortest path distances during back-propagation,
+     * which needs a fixed amount of memory per node and thread.
+     * For unweighted graphs, up to 64 sources are traversed at once using bit-parallel frontiers.
+     *
+     * @param sourceBatchSize number of sources traversed at once, must be one for weighted graphs
+     */
+    public BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        boolean weighted,
+        int sourceBatchSize,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, selectionStrategy, null, weighted, sourceBatchSize, executorService, concurrency, progressTracker);
+    }
+
+    private BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        @Nullable ForwardTraverser.Factory traverserFactory,
+        boolean weighted,
+        int sourceBatchSize,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
+        if (sourceBatchSize < 1 || sourceBatchSize > Long.SIZE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The source batch size must be between 1 and %d, got %d.",
+                Long.SIZE,
+                sourceBatchSize
+            ));
+        }
+        if (sourceBatchSize > 1 && weighted) {
+            throw new IllegalArgumentException("Traversing multiple sources at once is only supported on unweighted graphs.");
+        }
         this.graph = graph;
         this.executorService = executorService;
         this.concurrency = concurrency;
@@ -67,17 +118,42 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
         this.centrality = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
         this.selectionStrategy = selectionStrategy;
         this.selectionStrategy.init(graph, executorService, concurrency);
+        this.sampleCount = new AtomicLong();
         this.divisor = graph.schema().isUndirected() ? 2.0 : 1.0;
         this.traverserFactory = traverserFactory;
 
+        if (traverserFactory != null) {
+            this.taskSupplier = BCTask::new;
+        } else if (sourceBatchSize > 1) {
+            this.taskSupplier = () -> new BatchedBCTask(sourceBatchSize);
+        } else {
+            this.taskSupplier = () -> new RecomputingBCTask(weighted);
+        }
     }
 
     @Override
     public BetwennessCentralityResult compute() {
         progressTracker.beginSubTask();
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        ParallelUtil.run(ParallelUtil.tasks(concurrency, taskSupplier), executorService);
         progressTracker.endSubTask();
-        return new BetwennessCentralityResult(centrality);
+        // sampled scores come without an error bound
+        double achievedEpsilon = selectionStrategy instanceof FullSelectionStrategy ? 0 : Double.NaN;
+        return new BetwennessCentralityResult(centrality, sampleCount.get(), achievedEpsilon, false);
+    }
+
+    private long nextSource() {
+        long startNodeId = selectionStrategy.next();
+        if (startNodeId != SelectionStrategy.NONE_SELECTED) {
+            sampleCount.getAndIncrement();
+        }
+        return startNodeId;
+    }
+
+    private void addToCentrality(long node, double dependency) {
+        double current;
+        do {
+            current = centrality.get(node);
+        } while (!centrality.compareAndSet(node, current, current + dependency / divisor));
     }
 
     final class BCTask implements Runnable {
@@ -106,7 +182,7 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
             );
 
             for (;;) {
-                long startNodeId = selectionStrategy.next();
+                long startNodeId = nextSource();
                 if (startNodeId == SelectionStrategy.NONE_SELECTED || !terminationFlag.running()) {
                     return;
                 }
@@ -137,10 +213,7 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
                         });
                     }
                     if (node != startNodeId) {
-                        double current;
-                        do {
-                            current = centrality.get(node);
-                        } while (!centrality.compareAndSet(node, current, current + dependencyNode / divisor));
+                        addToCentrality(node, dependencyNode);
                     }
                 }
             }
@@ -164,4 +237,221 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
             }
         }
     }
+
+    /**
+     * Brandes without predecessor lists, see {@link DependencyTraverser}.
+     */
+    final class RecomputingBCTask implements Runnable {
+        private final boolean weighted;
+
+        private RecomputingBCTask(boolean weighted) {
+            this.weighted = weighted;
+        }
+
+        @Override
+        public void run() {
+            var traverser = new DependencyTraverser(graph.concurrentCopy(), weighted, terminationFlag);
+            for (;;) {
+                long startNodeId = nextSource();
+                if (startNodeId == SelectionStrategy.NONE_SELECTED || !terminationFlag.running()) {
+                    return;
+                }
+                getProgressTracker().logProgress();
+
+                traverser.traverse(startNodeId, BetweennessCentrality.this::addToCentrality);
+            }
+        }
+    }
+
+    /**
+     * Unweighted Brandes for up to 64 sources at once.
+     * Similar to MS-BFS, every source is assigned a bit and the frontiers of all sources are traversed
+     * together, so that each adjacency list is read once per level instead of once per source.
+     * Path counts, dependencies and depths are stored per node and source, predecessors are recomputed
+     * from the depths during back-propagation.
+     * The frontiers of all levels are kept in visiting order, so that each level only touches the nodes
+     * reached at that level, and only those nodes are reset before the next batch.
+     */
+    final class BatchedBCTask implements Runnable {
+        private final int batchSize;
+        private final long[] sources;
+        private final HugeLongArray seen;
+        private final HugeLongArray visit;
+        private final HugeLongArray visitNext;
+        // nodes in visiting order, a node is contained once per level at which it is reached by some source
+        private HugeLongArray frontier;
+        private long frontierSize;
+        // start offsets of the levels within the frontier, followed by the end offset of the last level
+        private final LongArrayList levelOffsets;
+        // indexed by node * batchSize + source
+        private final HugeLongArray sigma;
+        private final HugeDoubleArray delta;
+        private final HugeIntArray depth;
+
+        private BatchedBCTask(int batchSize) {
+            this.batchSize = batchSize;
+            this.sources = new long[batchSize];
+            this.seen = HugeLongArray.newArray(nodeCount);
+            this.visit = HugeLongArray.newArray(nodeCount);
+            this.visitNext = HugeLongArray.newArray(nodeCount);
+            this.frontier = HugeLongArray.newArray(nodeCount);
+            this.levelOffsets = new LongArrayList();
+            this.sigma = HugeLongArray.newArray(nodeCount * batchSize);
+            this.delta = HugeDoubleArray.newArray(nodeCount * batchSize);
+            this.depth = HugeIntArray.newArray(nodeCount * batchSize);
+        }
+
+        @Override
+        public void run() {
+            var localGraph = graph.concurrentCopy();
+            for (;;) {
+                int sourceCount = 0;
+                while (sourceCount < batchSize) {
+                    long startNodeId = nextSource();
+                    if (startNodeId == SelectionStrategy.NONE_SELECTED) {
+                        break;
+                    }
+                    sources[sourceCount++] = startNodeId;
+                }
+                if (sourceCount == 0 || !terminationFlag.running()) {
+                    return;
+                }
+                getProgressTracker().logProgress(sourceCount);
+
+                forward(localGraph, sourceCount);
+                backward(localGraph);
+                accumulateAndReset();
+            }
+        }
+
+        private void forward(Graph localGraph, int sourceCount) {
+            frontierSize = 0;
+            levelOffsets.clear();
+            levelOffsets.add(0);
+            for (int i = 0; i < sourceCount; i++) {
+                long source = sources[i];
+                append(source);
+                seen.or(source, 1L << i);
+                visit.or(source, 1L << i);
+                sigma.set(index(source, i), 1);
+                depth.set(index(source, i), 0);
+            }
+            levelOffsets.add(frontierSize);
+
+            int level = 0;
+            long levelStart = 0;
+            long levelEnd = frontierSize;
+            while (levelStart < levelEnd && terminationFlag.running()) {
+                for (long offset = levelStart; offset < levelEnd; offset++) {
+                    long node = frontier.get(offset);
+                    long nodeSources = visit.get(node);
+                    localGraph.forEachRelationship(node, (source, target) -> {
+                        // sources reaching the target for the first time at the next level
+                        long newSources = nodeSources & ~seen.get(target);
+                        if (newSources != 0) {
+                            if (visitNext.get(target) == 0) {
+                                append(target);
+                            }
+                            visitNext.or(target, newSources);
+                            for (long bits = newSources; bits != 0; bits &= bits - 1) {
+                                int i = Long.numberOfTrailingZeros(bits);
+                                sigma.addTo(index(target, i), sigma.get(index(source, i)));
+                            }
+                        }
+                        return true;
+                    });
+                }
+                for (long offset = levelStart; offset < levelEnd; offset++) {
+                    visit.set(frontier.get(offset), 0);
+                }
+
+                level++;
+                levelStart = levelEnd;
+                levelEnd = frontierSize;
+                for (long offset = levelStart; offset < levelEnd; offset++) {
+                    long node = frontier.get(offset);
+                    long nodeSources = visitNext.get(node);
+                    visit.set(node, nodeSources);
+                    visitNext.set(node, 0);
+                    seen.or(node, nodeSources);
+                    for (long bits = nodeSources; bits != 0; bits &= bits - 1) {
+                        depth.set(index(node, Long.numberOfTrailingZeros(bits)), level);
+                    }
+                }
+                levelOffsets.add(levelEnd);
+            }
+        }
+
+        private void backward(Graph localGraph) {
+            // the offsets delimit all levels that reached some node, followed by an empty level
+            int levels = levelOffsets.size() - 2;
+            // nodes at the deepest level have no successors
+            for (int level = levels - 2; level >= 0 && terminationFlag.running(); level--) {
+                int nodeDepth = level;
+                int successorDepth = level + 1;
+                long levelEnd = levelOffsets.get(level + 1);
+                for (long offset = levelOffsets.get(level); offset < levelEnd; offset++) {
+                    long node = frontier.get(offset);
+                    long nodeSources = 0;
+                    for (long bits = seen.get(node); bits != 0; bits &= bits - 1) {
+                        int i = Long.numberOfTrailingZeros(bits);
+                        if (depth.get(index(node, i)) == nodeDepth) {
+                            nodeSources |= 1L << i;
+                        }
+                    }
+                    long sourcesAtLevel = nodeSources;
+                    localGraph.forEachRelationship(node, (source, target) -> {
+                        for (long bits = sourcesAtLevel & seen.get(target); bits != 0; bits &= bits - 1) {
+                            int i = Long.numberOfTrailingZeros(bits);
+                            long targetIndex = index(target, i);
+                            if (depth.get(targetIndex) == successorDepth) {
+                                long sourceIndex = index(source, i);
+                                double dependency = (double) sigma.get(sourceIndex) / sigma.get(targetIndex) * (delta.get(targetIndex) + 1.0);
+                                delta.addTo(sourceIndex, dependency);
+                            }
+                        }
+                        return true;
+                    });
+                }
+            }
+        }
+
+        private void accumulateAndReset() {
+            for (long offset = 0; offset < frontierSize; offset++) {
+                long node = frontier.get(offset);
+                long nodeSources = seen.get(node);
+                // nodes reached at several levels are handled at their first occurrence
+                if (nodeSources == 0) {
+                    continue;
+                }
+                double dependency = 0;
+                for (long bits = nodeSources; bits != 0; bits &= bits - 1) {
+                    int i = Long.numberOfTrailingZeros(bits);
+                    long nodeIndex = index(node, i);
+                    if (sources[i] != node) {
+                        dependency += delta.get(nodeIndex);
+                    }
+                    sigma.set(nodeIndex, 0);
+                    delta.set(nodeIndex, 0);
+                }
+                seen.set(node, 0);
+                visit.set(node, 0);
+                visitNext.set(node, 0);
+                if (dependency != 0) {
+                    addToCentrality(node, dependency);
+                }
+            }
+        }
+
+        private void append(long node) {
+            if (frontierSize == frontier.size()) {
+                frontier = frontier.copyOf(Math.min(2 * frontierSize, nodeCount * batchSize));
+            }
+            frontier.set(frontierSize++, node);
+        }
+
+        private long index(long node, int source) {
+            return node * batchSize + source;
+        }
+    }
 }
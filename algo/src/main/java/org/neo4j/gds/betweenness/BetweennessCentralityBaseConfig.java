@@ -42,6 +42,50 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
 
     Optional<Long> samplingSeed();
 
+    /**
+     * If set, sources are sampled adaptively until every score, normalised by {@code n (n - 2)}, is known
+     * up to this absolute error. The sampling then draws at most {@code samplingSize} sources, if given,
+     * and at most as many sources as there are nodes otherwise.
+     */
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    Optional<Double> epsilon();
+
+    /**
+     * The probability that an adaptively sampled score misses the error bound given by {@code epsilon}.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double delta() {
+        return 0.1;
+    }
+
+    /**
+     * If positive, the adaptive sampling also stops once the confidence intervals of the {@code topK}
+     * highest scoring nodes are separated from those of all other nodes.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int topK() {
+        return 0;
+    }
+
+    /**
+     * If disabled, predecessors are recomputed from the shortest path distances instead of being stored,
+     * which needs less memory per thread.
+     */
+    @Value.Default
+    default boolean storePredecessors() {
+        return true;
+    }
+
+    /**
+     * Number of sources traversed at once by unweighted computations. Values larger than one imply
+     * that predecessors are not stored. If absent and predecessors are not stored, the largest batch size
+     * that needs no more memory than storing predecessors is used.
+     */
+    @Configuration.IntegerRange(min = 1, max = 64)
+    Optional<Integer> sourceBatchSize();
+
     @Value.Check
     default void validate() {
         samplingSize().ifPresent(samplingSize -> {
@@ -53,6 +97,21 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
                 ));
             }
         });
+        if (sourceBatchSize().orElse(1) > 1 && hasRelationshipWeightProperty()) {
+            throw new IllegalArgumentException(
+                "Configuration parameter 'sourceBatchSize' must be 1 when 'relationshipWeightProperty' is set."
+            );
+        }
+        if (sourceBatchSize().orElse(1) > 1 && epsilon().isPresent()) {
+            throw new IllegalArgumentException(
+                "Configuration parameter 'sourceBatchSize' must be 1 when 'epsilon' is set."
+            );
+        }
+        if (topK() > 0 && epsilon().isEmpty()) {
+            throw new IllegalArgumentException(
+                "Configuration parameter 'topK' requires 'epsilon' to be set."
+            );
+        }
     }
 
     @Configuration.GraphStoreValidationCheck
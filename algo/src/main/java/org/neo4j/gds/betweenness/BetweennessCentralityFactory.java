@@ -20,6 +20,7 @@
 package org.neo4j.gds.betweenness;
 
 import org.jetbrains.annotations.NotNull;
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
@@ -29,6 +30,7 @@ import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -37,8 +39,9 @@ import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
-public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBaseConfig> extends GraphAlgorithmFactory<BetweennessCentrality, CONFIG> {
+public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBaseConfig> extends GraphAlgorithmFactory<Algorithm<BetwennessCentralityResult>, CONFIG> {
 
     @Override
     public String taskName() {
@@ -46,7 +49,7 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
     }
 
     @Override
-    public BetweennessCentrality build(
+    public Algorithm<BetwennessCentralityResult> build(
         Graph graph,
         CONFIG configuration,
         ProgressTracker progressTracker
@@ -54,10 +57,38 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
         var samplingSize = configuration.samplingSize();
         var samplingSeed = configuration.samplingSeed();
 
+        if (configuration.epsilon().isPresent()) {
+            return new AdaptiveBetweennessCentrality(
+                graph,
+                configuration.epsilon().get(),
+                configuration.delta(),
+                configuration.topK(),
+                maxSamples(configuration, graph.nodeCount()),
+                samplingSeed,
+                configuration.hasRelationshipWeightProperty(),
+                configuration.concurrency(),
+                DefaultPool.INSTANCE,
+                progressTracker
+            );
+        }
+
         var strategy = samplingSize.isPresent() && samplingSize.get() < graph.nodeCount()
             ? new RandomDegreeSelectionStrategy(samplingSize.get(), samplingSeed)
             : new FullSelectionStrategy();
 
+        if (!storesPredecessors(configuration)) {
+            long averageDegree = graph.nodeCount() == 0 ? 0 : graph.relationshipCount() / graph.nodeCount();
+            return new BetweennessCentrality(
+                graph,
+                strategy,
+                configuration.hasRelationshipWeightProperty(),
+                sourceBatchSize(configuration, averageDegree),
+                DefaultPool.INSTANCE,
+                configuration.concurrency(),
+                progressTracker
+            );
+        }
+
         ForwardTraverser.Factory traverserFactory = configuration.hasRelationshipWeightProperty()
             ? ForwardTraverser.Factory.weighted()
             : ForwardTraverser.Factory.unweighted();
@@ -74,15 +105,103 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        if (configuration.epsilon().isPresent()) {
+            return MemoryEstimations.setup(
+                "",
+                dimensions -> AdaptiveBetweennessCentrality.memoryEstimation(
+                    maxSamples(configuration, dimensions.nodeCount()),
+                    configuration.hasRelationshipWeightProperty()
+                )
+            );
+        }
+        MemoryEstimation taskEstimation;
+        if (storesPredecessors(configuration)) {
+            taskEstimation = bcTaskMemoryEstimationBuilder(configuration.hasRelationshipWeightProperty()).build();
+        } else {
+            taskEstimation = MemoryEstimations.setup("", dimensions -> {
+                int sourceBatchSize = sourceBatchSize(configuration, dimensions.averageDegree());
+                return sourceBatchSize > 1
+                    ? batchedTaskMemoryEstimation(sourceBatchSize)
+                    : recomputingTaskMemoryEstimation(configuration.hasRelationshipWeightProperty());
+            });
+        }
         var builder = MemoryEstimations.builder(BetweennessCentrality.class)
             .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
-            .perThread("compute task",
-                bcTaskMemoryEstimationBuilder(configuration.hasRelationshipWeightProperty()).build()
-            );
+            .perThread("compute task", taskEstimation);
         return builder
             .build();
     }
 
+    private static long maxSamples(BetweennessCentralityBaseConfig configuration, long nodeCount) {
+        return Math.max(1, configuration.samplingSize().orElse(nodeCount));
+    }
+
+    private static boolean storesPredecessors(BetweennessCentralityBaseConfig configuration) {
+        return configuration.storePredecessors() && configuration.sourceBatchSize().orElse(1) == 1;
+    }
+
+    /**
+     * Resolves the number of sources traversed at once by a computation that does not store predecessors.
+     * Batched traversals are rejected if they need more memory than storing predecessors.
+     */
+    static int sourceBatchSize(BetweennessCentralityBaseConfig configuration, long averageDegree) {
+        if (configuration.hasRelationshipWeightProperty()) {
+            return 1;
+        }
+        int maxSourceBatchSize = maxSourceBatchSize(averageDegree);
+        if (configuration.sourceBatchSize().isEmpty()) {
+            return maxSourceBatchSize;
+        }
+        int sourceBatchSize = configuration.sourceBatchSize().get();
+        if (sourceBatchSize > maxSourceBatchSize) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Configuration parameter 'sourceBatchSize' of %d needs more memory than storing predecessors. " +
+                "The largest supported value for an average degree of %d is %d.",
+                sourceBatchSize,
+                averageDegree,
+                maxSourceBatchSize
+            ));
+        }
+        return sourceBatchSize;
+    }
+
+    /**
+     * The largest batch size for which a {@link BetweennessCentrality.BatchedBCTask} needs at most as much memory
+     * per node as a {@link BetweennessCentrality.BCTask} with an unweighted traverser.
+     */
+    static int maxSourceBatchSize(long averageDegree) {
+        // predecessors, backward nodes, deltas, sigmas, distances and forward nodes
+        long predecessorBytes = sizeOfLongArray(averageDegree) + 3 * Long.BYTES + Integer.BYTES + Long.BYTES;
+        // seen, visit and visitNext are independent of the batch size,
+        // the frontier, sigmas, deltas and depths hold up to one value per source
+        long fixedBytes = 3 * Long.BYTES;
+        long bytesPerSource = 3 * Long.BYTES + Integer.BYTES;
+        long maxSourceBatchSize = (predecessorBytes - fixedBytes) / bytesPerSource;
+        return (int) Math.max(1, Math.min(Long.SIZE, maxSourceBatchSize));
+    }
+
+    private static MemoryEstimation recomputingTaskMemoryEstimation(boolean weighted) {
+        return MemoryEstimations.builder(BetweennessCentrality.RecomputingBCTask.class)
+            .add("traverser", DependencyTraverser.memoryEstimation(weighted))
+            .build();
+    }
+
+    private static MemoryEstimation batchedTaskMemoryEstimation(int sourceBatchSize) {
+        return MemoryEstimations.builder(BetweennessCentrality.BatchedBCTask.class)
+            .fixed("sources", sizeOfLongArray(sourceBatchSize))
+            .perNode("seen", HugeLongArray::memoryEstimation)
+            .perNode("visit", HugeLongArray::memoryEstimation)
+            .perNode("visitNext", HugeLongArray::memoryEstimation)
+            .rangePerNode("frontier", nodeCount -> MemoryRange.of(
+                HugeLongArray.memoryEstimation(nodeCount),
+                HugeLongArray.memoryEstimation(nodeCount * sourceBatchSize)
+            ))
+            .perNode("sigmas", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * sourceBatchSize))
+            .perNode("deltas", nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount * sourceBatchSize))
+            .perNode("depths", nodeCount -> HugeIntArray.memoryEstimation(nodeCount * sourceBatchSize))
+            .build();
+    }
+
     @NotNull
     private static MemoryEstimations.Builder bcTaskMemoryEstimationBuilder(boolean weighted) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
@@ -121,6 +240,10 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.epsilon().isPresent()) {
+            // the number of samples is only known once the sampling stops
+            return Tasks.leaf(taskName());
+        }
         return Tasks.leaf(taskName(), config.samplingSize().orElse(graph.nodeCount()));
     }
 }
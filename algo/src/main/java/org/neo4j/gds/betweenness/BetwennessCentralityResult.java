@@ -29,9 +29,20 @@ import java.util.function.LongToDoubleFunction;
 public class BetwennessCentralityResult  implements CentralityAlgorithmResult {
 
    private final HugeAtomicDoubleArray centralities;
+   private final long sampleCount;
+   private final double achievedEpsilon;
+   private final boolean topKSeparated;
 
-   BetwennessCentralityResult(HugeAtomicDoubleArray centralities){
-       this.centralities=centralities;
+   BetwennessCentralityResult(
+       HugeAtomicDoubleArray centralities,
+       long sampleCount,
+       double achievedEpsilon,
+       boolean topKSeparated
+   ) {
+       this.centralities = centralities;
+       this.sampleCount = sampleCount;
+       this.achievedEpsilon = achievedEpsilon;
+       this.topKSeparated = topKSeparated;
    }
     @Override
     public NodePropertyValues nodePropertyValues() {
@@ -43,7 +54,35 @@ public class BetwennessCentralityResult  implements CentralityAlgorithmResult {
         return centralities::get;
     }
 
+    @Override
+    public void copyCentralityScores(long startNode, long endNode, double[] target) {
+        CentralityAlgorithmResult.copyCentralityScores(centralities, startNode, endNode, target);
+    }
+
     public HugeAtomicDoubleArray centralities(){
        return centralities;
     }
+
+    /**
+     * The number of source nodes the scores have been computed from.
+     */
+    public long sampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * The largest error of a score, normalised by {@code n (n - 2)}. For adaptive sampling, this is the
+     * largest confidence interval radius over all nodes. Exact scores have no error, while scores of a
+     * fixed-size sample have no bound and report {@code NaN}.
+     */
+    public double achievedEpsilon() {
+        return achievedEpsilon;
+    }
+
+    /**
+     * Whether the adaptive sampling stopped because the top-k nodes were separated from all other nodes.
+     */
+    public boolean topKSeparated() {
+        return topKSeparated;
+    }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.termination.TerminationFlag;
+
+/**
+ * Single source Brandes without predecessor lists.
+ * <p>
+ * The nodes are recorded in the order they are settled. During back-propagation, each node
+ * pulls the dependencies of its successors, i.e. the neighbours whose distance equals
+ * the distance of the node plus the relationship weight. The memory per node is fixed and
+ * only the touched nodes are reset between traversals.
+ * <p>
+ * Instances are not thread-safe, the graph needs to be a concurrent copy.
+ */
+final class DependencyTraverser {
+
+    @FunctionalInterface
+    interface DependencyConsumer {
+        /**
+         * Called once per node reachable from the source, excluding the source itself.
+         */
+        void accept(long nodeId, double dependency);
+    }
+
+    private static final double UNVISITED = -1;
+
+    private final Graph graph;
+    private final boolean weighted;
+    private final TerminationFlag terminationFlag;
+    private final HugeLongArray order;
+    private final HugeLongArray sigma;
+    private final HugeDoubleArray delta;
+    private final HugeDoubleArray distances;
+    @Nullable
+    private final HugeLongPriorityQueue nodeQueue;
+    // nodes which already have been back-propagated, only needed to order equidistant nodes
+    @Nullable
+    private final BitSet processed;
+    private long orderSize;
+
+    static MemoryEstimation memoryEstimation(boolean weighted) {
+        var builder = MemoryEstimations.builder(DependencyTraverser.class)
+            .perNode("order", HugeLongArray::memoryEstimation)
+            .perNode("sigmas", HugeLongArray::memoryEstimation)
+            .perNode("deltas", HugeDoubleArray::memoryEstimation)
+            .perNode("distances", HugeDoubleArray::memoryEstimation);
+        if (weighted) {
+            builder
+                .add("nodeQueue", HugeLongPriorityQueue.memoryEstimation())
+                .perNode("processed", MemoryUsage::sizeOfBitset);
+        }
+        return builder.build();
+    }
+
+    DependencyTraverser(Graph graph, boolean weighted, TerminationFlag terminationFlag) {
+        var nodeCount = graph.nodeCount();
+        this.graph = graph;
+        this.weighted = weighted;
+        this.terminationFlag = terminationFlag;
+        this.order = HugeLongArray.newArray(nodeCount);
+        this.sigma = HugeLongArray.newArray(nodeCount);
+        this.delta = HugeDoubleArray.newArray(nodeCount);
+        this.distances = HugeDoubleArray.newArray(nodeCount);
+        this.distances.fill(UNVISITED);
+        this.nodeQueue = weighted ? HugeLongPriorityQueue.min(nodeCount) : null;
+        this.processed = weighted ? new BitSet(nodeCount) : null;
+    }
+
+    void traverse(long startNodeId, DependencyConsumer consumer) {
+        sigma.set(startNodeId, 1);
+        if (weighted) {
+            forwardWeighted(startNodeId);
+        } else {
+            forwardUnweighted(startNodeId);
+        }
+        backward(startNodeId, consumer);
+        clear();
+    }
+
+    private void forwardUnweighted(long startNodeId) {
+        distances.set(startNodeId, 0);
+        order.set(orderSize++, startNodeId);
+
+        // the order doubles as the BFS queue
+        for (long head = 0; head < orderSize && terminationFlag.running(); head++) {
+            long node = order.get(head);
+            double targetDistance = distances.get(node) + 1;
+            graph.forEachRelationship(node, (source, target) -> {
+                if (distances.get(target) == UNVISITED) {
+                    distances.set(target, targetDistance);
+                    order.set(orderSize++, target);
+                }
+                if (distances.get(target) == targetDistance) {
+                    sigma.addTo(target, sigma.get(source));
+                }
+                return true;
+            });
+        }
+    }
+
+    private void forwardWeighted(long startNodeId) {
+        nodeQueue.add(startNodeId, 0.0D);
+
+        while (!nodeQueue.isEmpty() && terminationFlag.running()) {
+            long node = nodeQueue.top();
+            double nodeCost = nodeQueue.cost(node);
+            nodeQueue.pop();
+            distances.set(node, nodeCost);
+            order.set(orderSize++, node);
+
+            graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                if (distances.get(target) != UNVISITED) {
+                    return true;
+                }
+                double targetCost = nodeCost + weight;
+                if (!nodeQueue.containsElement(target)) {
+                    nodeQueue.add(target, targetCost);
+                    sigma.set(target, sigma.get(source));
+                } else {
+                    int compare = Double.compare(targetCost, nodeQueue.cost(target));
+                    if (compare == 0) {
+                        sigma.addTo(target, sigma.get(source));
+                    } else if (compare < 0) {
+                        nodeQueue.set(target, targetCost);
+                        sigma.set(target, sigma.get(source));
+                    }
+                }
+                return true;
+            });
+        }
+    }
+
+    private void backward(long startNodeId, DependencyConsumer consumer) {
+        for (long index = orderSize - 1; index >= 0; index--) {
+            long node = order.get(index);
+            double nodeDistance = distances.get(node);
+            double sigmaNode = sigma.get(node);
+
+            double[] dependency = {0.0};
+            if (weighted) {
+                graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                    if (processed.get(target) && Double.compare(nodeDistance + weight, distances.get(target)) == 0) {
+                        dependency[0] += sigmaNode / sigma.get(target) * (delta.get(target) + 1.0);
+                    }
+                    return true;
+                });
+                processed.set(node);
+            } else {
+                graph.forEachRelationship(node, (source, target) -> {
+                    if (distances.get(target) == nodeDistance + 1) {
+                        dependency[0] += sigmaNode / sigma.get(target) * (delta.get(target) + 1.0);
+                    }
+                    return true;
+                });
+            }
+            delta.set(node, dependency[0]);
+
+            if (node != startNodeId) {
+                consumer.accept(node, dependency[0]);
+            }
+        }
+    }
+
+    private void clear() {
+        // only reset what has been touched, which is cheaper than filling the arrays for small samples
+        for (long index = 0; index < orderSize; index++) {
+            long node = order.get(index);
+            sigma.set(node, 0);
+            delta.set(node, 0);
+            distances.set(node, UNVISITED);
+            if (weighted) {
+                processed.clear(node);
+            }
+        }
+        orderSize = 0;
+        if (weighted) {
+            // only non-empty if the computation has been terminated
+            while (!nodeQueue.isEmpty()) {
+                long node = nodeQueue.pop();
+                sigma.set(node, 0);
+            }
+        }
+    }
+}
@@ -23,10 +23,13 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
 import org.neo4j.gds.core.utils.paged.ParallelIntPageCreator;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.hyperball.HyperBall;
 import org.neo4j.gds.msbfs.BfsConsumer;
 import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
 
@@ -38,6 +41,7 @@ import java.util.concurrent.ExecutorService;
  *
  * Utilizes the MSBFS for counting the farness between nodes.
  * See MSBFS documentation.
+ * In approximate mode, the farness is estimated with {@link HyperBall} instead.
  */
 public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResult> {
 
@@ -49,9 +53,10 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
     private final long nodeCount;
     private final int concurrency;
     private final ExecutorService executorService;
-    private final HugeAtomicIntArray farness;
+    private final HugeAtomicLongArray farness;
     private final HugeAtomicIntArray component;
     private final CentralityComputer centralityComputer;
+    private final Optional<Integer> hyperLogLogPrecision;
 
     public static ClosenessCentrality of(
         Graph graph,
@@ -68,8 +73,9 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
             nodeCount,
             config.concurrency(),
             centralityComputer,
+            HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(config.concurrency())),
             HugeAtomicIntArray.of(nodeCount, ParallelIntPageCreator.of(config.concurrency())),
-            HugeAtomicIntArray.of(nodeCount, ParallelIntPageCreator.of(config.concurrency())),
+            config.approximate() ? Optional.of(config.hyperLogLogPrecision()) : Optional.empty(),
             executorService,
             progressTracker
         );
@@ -80,8 +86,9 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         long nodeCount,
         int concurrency,
         CentralityComputer centralityComputer,
-        HugeAtomicIntArray farness,
+        HugeAtomicLongArray farness,
         HugeAtomicIntArray component,
+        Optional<Integer> hyperLogLogPrecision,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -93,30 +100,58 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         this.centralityComputer = centralityComputer;
         this.farness = farness;
         this.component = component;
+        this.hyperLogLogPrecision = hyperLogLogPrecision;
     }
 
     @Override
     public ClosenessCentralityResult compute() {
         progressTracker.beginSubTask();
-        computeFarness();
+        double effectiveDiameter = computeFarness();
         var centralities = computeCloseness();
         progressTracker.endSubTask();
 
-        return new ClosenessCentralityResult(centralities);
+        return new ClosenessCentralityResult(centralities, effectiveDiameter);
     }
 
-    private void computeFarness() {
+    /**
+     * @return the effective diameter estimated by {@link HyperBall}, or {@code NaN} for exact computations
+     */
+    private double computeFarness() {
+        if (hyperLogLogPrecision.isPresent()) {
+            return approximateFarness(hyperLogLogPrecision.get());
+        }
         progressTracker.beginSubTask();
         final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
             int len = sourceNodeIds.size();
-            farness.getAndAdd(nodeId, len * depth);
+            farness.getAndAdd(nodeId, (long) len * depth);
             component.getAndAdd(nodeId, len);
             progressTracker.logProgress();
         };
         MultiSourceBFSAccessMethods
-            .aggregatedNeighborProcessingWithoutSourceNodes(nodeCount, graph, consumer)
+            .directionOptimizingNeighborProcessingWithoutSourceNodes(graph, consumer)
             .run(concurrency, executorService);
         progressTracker.endSubTask();
+        return Double.NaN;
+    }
+
+    private double approximateFarness(int log2m) {
+        var hyperBall = new HyperBall(graph, log2m, concurrency, executorService, progressTracker);
+        hyperBall.setTerminationFlag(terminationFlag);
+        var result = hyperBall.compute();
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> partition.consume(nodeId -> {
+                farness.set(nodeId, Math.round(result.farness().get(nodeId)));
+                component.set(nodeId, (int) Math.round(result.ballSizes().get(nodeId) - 1));
+            }),
+            Optional.empty()
+        );
+
+        ParallelUtil.run(tasks, executorService);
+
+        return result.effectiveDiameter();
     }
 
     private HugeDoubleArray computeCloseness() {
@@ -22,10 +22,17 @@ package org.neo4j.gds.closeness;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.hyperball.HyperBall;
+import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
 
 public class ClosenessCentralityAlgorithmFactory<CONFIG extends ClosenessCentralityBaseConfig> extends
     GraphAlgorithmFactory<ClosenessCentrality, CONFIG> {
@@ -48,11 +55,25 @@ public class ClosenessCentralityAlgorithmFactory<CONFIG extends ClosenessCentral
         return "ClosenessCentrality";
     }
 
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        var builder = MemoryEstimations.builder(ClosenessCentrality.class)
+            .perNode("farness", HugeAtomicLongArray::memoryEstimation)
+            .perNode("component sizes", HugeAtomicIntArray::memoryEstimation)
+            .perNode("closeness", HugeDoubleArray::memoryEstimation);
+        if (configuration.approximate()) {
+            builder.add("HyperBall", HyperBall.memoryEstimation(configuration.hyperLogLogPrecision()));
+        } else {
+            builder.perThread("MSBFS", MultiSourceBFSAccessMethods.memoryEstimationWithoutSeensNext());
+        }
+        return builder.build();
+    }
+
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
         return Tasks.task(
             taskName(),
-            Tasks.leaf("Farness computation"),
+            config.approximate() ? HyperBall.progressTask() : Tasks.leaf("Farness computation"),
             Tasks.leaf("Closeness computation", graph.nodeCount())
         );
     }
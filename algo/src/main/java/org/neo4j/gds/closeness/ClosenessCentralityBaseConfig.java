@@ -23,11 +23,12 @@ import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.hyperball.HyperBallConfig;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface ClosenessCentralityBaseConfig extends AlgoBaseConfig {
+public interface ClosenessCentralityBaseConfig extends AlgoBaseConfig, HyperBallConfig {
 
     @Value.Default
     default boolean useWassermanFaust() {
@@ -30,11 +30,20 @@ import java.util.function.LongToDoubleFunction;
 public class ClosenessCentralityResult implements CentralityAlgorithmResult {
 
     private final HugeDoubleArray centralities;
+    private final double effectiveDiameter;
 
-    ClosenessCentralityResult(HugeDoubleArray centralities) {
+    ClosenessCentralityResult(HugeDoubleArray centralities, double effectiveDiameter) {
         this.centralities = centralities;
+        this.effectiveDiameter = effectiveDiameter;
     }
-    
+
+    /**
+     * The distance within which 90% of all reachable node pairs lie, or {@code NaN} if the farness was computed exactly.
+     */
+    public double effectiveDiameter() {
+        return effectiveDiameter;
+    }
+
     @Override
     public NodePropertyValues nodePropertyValues() {
         return NodePropertyValuesAdapter.adapt(centralities);
@@ -44,4 +53,9 @@ public class ClosenessCentralityResult implements CentralityAlgorithmResult {
     public LongToDoubleFunction centralityScoreProvider() {
         return centralities::get;
     }
+
+    @Override
+    public void copyCentralityScores(long startNode, long endNode, double[] target) {
+        CentralityAlgorithmResult.copyCentralityScores(centralities, startNode, endNode, target);
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.dag.longestPath;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.paths.delta.TentativeDistances;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.LongStream;
+
+/*
+ * Critical path analysis on a DAG.
+ *
+ * The forward pass computes the longest distance from any source node to each node, level by level.
+ * The backward pass walks the levels in reverse and computes the latest distance at which each node
+ * can be reached without extending the longest path of the graph. The difference of the two is the slack,
+ * nodes without slack lie on at least one maximum-length path.
+ */
+public class DagCriticalPath extends Algorithm<DagCriticalPathResult> {
+
+    private final Graph graph;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    public static Task progressTask(Graph graph) {
+        return Tasks.task(
+            "CriticalPath",
+            Tasks.leaf("Initialization", graph.nodeCount()),
+            Tasks.leaf("Traversal", graph.nodeCount()),
+            Tasks.leaf("Slack", graph.nodeCount())
+        );
+    }
+
+    public DagCriticalPath(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public DagCriticalPathResult compute() {
+        progressTracker.beginSubTask("CriticalPath");
+        long nodeCount = graph.nodeCount();
+
+        var inDegrees = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        DagLongestPath.initializeInDegrees(graph, inDegrees, concurrency, terminationFlag, progressTracker);
+
+        var distances = TentativeDistances.distanceAndPredecessors(
+            nodeCount,
+            concurrency,
+            Double.NEGATIVE_INFINITY,
+            (a, b) -> Double.compare(a, b) < 0
+        );
+
+        progressTracker.beginSubTask("Traversal");
+        var levels = new LevelSynchronousTraversal(
+            graph,
+            inDegrees,
+            distances,
+            concurrency,
+            executorService,
+            terminationFlag,
+            progressTracker
+        ).run();
+        progressTracker.endSubTask("Traversal");
+
+        double length = length(levels, distances.distances());
+
+        progressTracker.beginSubTask("Slack");
+        var latestDistances = latestDistances(levels, length);
+        progressTracker.endSubTask("Slack");
+
+        progressTracker.endSubTask("CriticalPath");
+        return new DagCriticalPathResult(levels, distances.distances(), latestDistances, length);
+    }
+
+    private double length(DagLevels levels, HugeAtomicDoubleArray distances) {
+        return ParallelUtil.parallelStream(
+            LongStream.range(0, levels.reachedNodeCount()),
+            concurrency,
+            stream -> stream.mapToDouble(index -> distances.get(levels.nodeAt(index))).max().orElse(0)
+        );
+    }
+
+    private HugeDoubleArray latestDistances(DagLevels levels, double length) {
+        var latestDistances = HugeDoubleArray.newArray(graph.nodeCount());
+        latestDistances.fill(Double.NaN);
+
+        // every successor of a node lives on a higher level, so processing the levels in reverse
+        // guarantees that the latest distances of all successors are final
+        for (int level = levels.levelCount() - 1; level >= 0; level--) {
+            terminationFlag.assertRunning();
+            long levelStart = levels.levelStart(level);
+            long levelEnd = levels.levelEnd(level);
+            long levelSize = levelEnd - levelStart;
+
+            if (concurrency == 1 || levelSize < LevelSynchronousTraversal.MIN_PARALLEL_LEVEL_SIZE) {
+                new LatestDistanceTask(graph, levels, latestDistances, length, levelStart, levelEnd).run();
+            } else {
+                var tasks = PartitionUtils.rangePartition(
+                    concurrency,
+                    levelSize,
+                    partition -> new LatestDistanceTask(
+                        graph.concurrentCopy(),
+                        levels,
+                        latestDistances,
+                        length,
+                        levelStart + partition.startNode(),
+                        levelStart + partition.startNode() + partition.nodeCount()
+                    ),
+                    Optional.empty()
+                );
+                RunWithConcurrency.builder()
+                    .concurrency(concurrency)
+                    .tasks(tasks)
+                    .terminationFlag(terminationFlag)
+                    .executor(executorService)
+                    .run();
+            }
+            progressTracker.logProgress(levelSize);
+        }
+
+        return latestDistances;
+    }
+
+    private static final class LatestDistanceTask implements Runnable {
+        private final Graph localGraph;
+        private final DagLevels levels;
+        private final HugeDoubleArray latestDistances;
+        private final double length;
+        private final long start;
+        private final long end;
+
+        private double latestDistance;
+
+        LatestDistanceTask(
+            Graph localGraph,
+            DagLevels levels,
+            HugeDoubleArray latestDistances,
+            double length,
+            long start,
+            long end
+        ) {
+            this.localGraph = localGraph;
+            this.levels = levels;
+            this.latestDistances = latestDistances;
+            this.length = length;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            for (long index = start; index < end; index++) {
+                long nodeId = levels.nodeAt(index);
+                // nodes without reached successors are sinks and may finish as late as the longest path
+                latestDistance = length;
+                localGraph.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                    if (levels.level(target) != DagLevels.UNREACHED) {
+                        latestDistance = Math.min(latestDistance, latestDistances.get(target) - weight);
+                    }
+                    return true;
+                });
+                latestDistances.set(nodeId, latestDistance);
+            }
+        }
+    }
+}
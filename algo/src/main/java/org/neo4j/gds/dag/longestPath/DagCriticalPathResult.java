@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.dag.longestPath;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+
+import java.util.stream.LongStream;
+
+public class DagCriticalPathResult {
+
+    // relative tolerance for the slack, forward and backward distances are summed in different orders
+    private static final double SLACK_TOLERANCE = 1e-9;
+
+    private final DagLevels levels;
+    private final HugeAtomicDoubleArray distances;
+    private final HugeDoubleArray latestDistances;
+    private final double length;
+    private final double tolerance;
+
+    DagCriticalPathResult(
+        DagLevels levels,
+        HugeAtomicDoubleArray distances,
+        HugeDoubleArray latestDistances,
+        double length
+    ) {
+        this.levels = levels;
+        this.distances = distances;
+        this.latestDistances = latestDistances;
+        this.length = length;
+        this.tolerance = SLACK_TOLERANCE * Math.max(1.0, Math.abs(length));
+    }
+
+    public DagLevels levels() {
+        return levels;
+    }
+
+    /**
+     * The length of the longest path in the graph.
+     */
+    public double length() {
+        return length;
+    }
+
+    /**
+     * The longest distance from any source node, {@code NaN} for nodes that are part of or reachable from a cycle.
+     */
+    public double distance(long nodeId) {
+        return isReached(nodeId) ? distances.get(nodeId) : Double.NaN;
+    }
+
+    /**
+     * By how much the distance of a node can grow without extending the longest path,
+     * {@code NaN} for nodes that are part of or reachable from a cycle.
+     */
+    public double slack(long nodeId) {
+        if (!isReached(nodeId)) {
+            return Double.NaN;
+        }
+        double slack = latestDistances.get(nodeId) - distances.get(nodeId);
+        return slack <= tolerance ? 0 : slack;
+    }
+
+    /**
+     * Whether the node lies on at least one path of maximum length.
+     */
+    public boolean isCritical(long nodeId) {
+        return isReached(nodeId) && slack(nodeId) == 0;
+    }
+
+    public LongStream criticalNodes() {
+        return LongStream.range(0, latestDistances.size()).filter(this::isCritical);
+    }
+
+    private boolean isReached(long nodeId) {
+        return levels.level(nodeId) != DagLevels.UNREACHED;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.dag.longestPath;
+
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import java.util.stream.LongStream;
+
+/**
+ * Topological levels of a DAG as computed by the level-synchronous traversal.
+ * A node is on level {@code l} if its longest incoming path (counted in hops) from a source node has length {@code l}.
+ * Nodes that are part of, or reachable from, a cycle are never assigned a level.
+ */
+public final class DagLevels {
+
+    public static final int UNREACHED = -1;
+
+    private final HugeIntArray levels;
+    // the reached nodes grouped by level, level `l` spans the indices [levelOffsets[l], levelOffsets[l + 1])
+    private final HugeLongArray nodesByLevel;
+    private final long[] levelOffsets;
+
+    DagLevels(HugeIntArray levels, HugeLongArray nodesByLevel, long[] levelOffsets) {
+        this.levels = levels;
+        this.nodesByLevel = nodesByLevel;
+        this.levelOffsets = levelOffsets;
+    }
+
+    public int level(long nodeId) {
+        return levels.get(nodeId);
+    }
+
+    public int levelCount() {
+        return levelOffsets.length - 1;
+    }
+
+    public long levelSize(int level) {
+        return levelEnd(level) - levelStart(level);
+    }
+
+    public long reachedNodeCount() {
+        return levelOffsets[levelOffsets.length - 1];
+    }
+
+    public LongStream nodes(int level) {
+        return LongStream.range(levelStart(level), levelEnd(level)).map(nodesByLevel::get);
+    }
+
+    long levelStart(int level) {
+        return levelOffsets[level];
+    }
+
+    long levelEnd(int level) {
+        return levelOffsets[level + 1];
+    }
+
+    long nodeAt(long index) {
+        return nodesByLevel.get(index);
+    }
+}
@@ -28,8 +28,10 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ExecutorServiceUtil;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.partition.NodeChunkScheduler;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
@@ -42,6 +44,7 @@ import org.neo4j.gds.paths.dijkstra.PathFindingResult;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicLong;
@@ -63,16 +66,32 @@ public class DagLongestPath extends Algorithm<PathFindingResult> {
     private final long nodeCount;
     private final int concurrency;
     private final TentativeDistances parentsAndDistances;
+    private final boolean levelSynchronous;
+    private final ExecutorService executorService;
+    private Optional<DagLevels> levels;
 
     DagLongestPath(
         Graph graph,
         ProgressTracker progressTracker,
         int concurrency
+    ) {
+        this(graph, progressTracker, concurrency, false, DefaultPool.INSTANCE);
+    }
+
+    DagLongestPath(
+        Graph graph,
+        ProgressTracker progressTracker,
+        int concurrency,
+        boolean levelSynchronous,
+        ExecutorService executorService
     ) {
         super(progressTracker);
         this.graph = graph;
         this.nodeCount = graph.nodeCount();
         this.concurrency = concurrency;
+        this.levelSynchronous = levelSynchronous;
+        this.executorService = executorService;
+        this.levels = Optional.empty();
         this.inDegrees = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(this.concurrency));
         this.parentsAndDistances = TentativeDistances.distanceAndPredecessors(nodeCount, concurrency, Double.MIN_VALUE, (a, b) -> Double.compare(a, b) < 0);
     }
@@ -81,30 +100,66 @@ public class DagLongestPath extends Algorithm<PathFindingResult> {
     public PathFindingResult compute() {
         this.progressTracker.beginSubTask("LongestPath");
 
-        initializeInDegrees();
-        traverse();
+        initializeInDegrees(graph, inDegrees, concurrency, terminationFlag, progressTracker);
+        if (levelSynchronous) {
+            traverseLevels();
+        } else {
+            traverse();
+        }
 
         return new PathFindingResult(pathResults(parentsAndDistances, concurrency), progressTracker::endSubTask);
     }
 
-    private void initializeInDegrees() {
-        this.progressTracker.beginSubTask("Initialization");
-        ParallelUtil.parallelForEachNode(
-            graph.nodeCount(),
-            concurrency,
+    /**
+     * The topological levels computed by the level-synchronous traversal.
+     * Empty if the algorithm has not been run or did not use the level-synchronous traversal.
+     */
+    public Optional<DagLevels> levels() {
+        return levels;
+    }
+
+    static void initializeInDegrees(
+        Graph graph,
+        HugeAtomicLongArray inDegrees,
+        int concurrency,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        progressTracker.beginSubTask("Initialization");
+        ParallelUtil.parallelForEachChunk(
+            NodeChunkScheduler.of(graph, concurrency),
             terminationFlag,
-            nodeId -> {
-                graph.concurrentCopy().forEachRelationship(
-                    nodeId,
-                    (source, target) -> {
-                        inDegrees.getAndAdd(target, 1L);
-                        return true;
-                    }
-                );
-                progressTracker.logProgress();
+            () -> {
+                var localGraph = graph.concurrentCopy();
+                var progress = progressTracker.localProgress();
+                return partition -> partition.consume(nodeId -> {
+                    localGraph.forEachRelationship(
+                        nodeId,
+                        (source, target) -> {
+                            inDegrees.getAndAdd(target, 1L);
+                            return true;
+                        }
+                    );
+                    progress.logProgress();
+                });
             }
         );
-        this.progressTracker.endSubTask("Initialization");
+        progressTracker.endSubTask("Initialization");
+    }
+
+    private void traverseLevels() {
+        this.progressTracker.beginSubTask("Traversal");
+        var traversal = new LevelSynchronousTraversal(
+            graph,
+            inDegrees,
+            parentsAndDistances,
+            concurrency,
+            executorService,
+            terminationFlag,
+            progressTracker
+        );
+        this.levels = Optional.of(traversal.run());
+        this.progressTracker.endSubTask("Traversal");
     }
 
     private void traverse() {
@@ -19,7 +19,16 @@
  */
 package org.neo4j.gds.dag.longestPath;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.config.AlgoBaseConfig;
 
 public interface DagLongestPathBaseConfig extends AlgoBaseConfig {
+
+    /**
+     * Relax whole topological levels in parallel instead of forking a task per node.
+     */
+    @Value.Default
+    default boolean levelSynchronous() {
+        return false;
+    }
 }
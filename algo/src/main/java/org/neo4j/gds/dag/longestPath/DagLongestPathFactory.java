@@ -21,6 +21,7 @@ package org.neo4j.gds.dag.longestPath;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
@@ -33,7 +34,9 @@ public class DagLongestPathFactory<CONFIG extends DagLongestPathBaseConfig> exte
         return new DagLongestPath(
             graph,
             progressTracker,
-            configuration.concurrency()
+            configuration.concurrency(),
+            configuration.levelSynchronous(),
+            DefaultPool.INSTANCE
         );
     }
 
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.dag.longestPath;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.delta.TentativeDistances;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Relaxes a DAG one topological level at a time.
+ * All nodes of a level are processed in parallel, distances are updated with an atomic max.
+ * A node joins the next level once its last incoming relationship has been relaxed,
+ * at which point its distance is final.
+ */
+final class LevelSynchronousTraversal {
+
+    // levels with fewer nodes are relaxed on the calling thread, scheduling would cost more than it saves
+    static final long MIN_PARALLEL_LEVEL_SIZE = 4096;
+    // newly discovered nodes are buffered per task to reduce contention on the shared tail
+    private static final int DISCOVERY_BUFFER_SIZE = 1024;
+
+    private final Graph graph;
+    private final HugeAtomicLongArray inDegrees;
+    private final TentativeDistances distances;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    private final HugeIntArray levels;
+    private final HugeLongArray nodesByLevel;
+    private final AtomicLong tail;
+
+    LevelSynchronousTraversal(
+        Graph graph,
+        HugeAtomicLongArray inDegrees,
+        TentativeDistances distances,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.inDegrees = inDegrees;
+        this.distances = distances;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+
+        this.levels = HugeIntArray.newArray(graph.nodeCount());
+        this.nodesByLevel = HugeLongArray.newArray(graph.nodeCount());
+        this.tail = new AtomicLong();
+    }
+
+    DagLevels run() {
+        levels.fill(DagLevels.UNREACHED);
+
+        var sourceTasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> new SourceTask(partition.startNode(), partition.startNode() + partition.nodeCount()),
+            Optional.empty()
+        );
+        runTasks(sourceTasks);
+
+        var levelOffsets = new LongArrayList();
+        levelOffsets.add(0);
+        long levelStart = 0;
+        long levelEnd = tail.get();
+        int level = 0;
+        while (levelStart < levelEnd) {
+            terminationFlag.assertRunning();
+            levelOffsets.add(levelEnd);
+
+            relaxLevel(level, levelStart, levelEnd);
+            // Might not reach 100% if there are cycles in the graph
+            progressTracker.logProgress(levelEnd - levelStart);
+
+            level++;
+            levelStart = levelEnd;
+            levelEnd = tail.get();
+        }
+
+        return new DagLevels(levels, nodesByLevel, levelOffsets.toArray());
+    }
+
+    private void relaxLevel(int level, long levelStart, long levelEnd) {
+        long levelSize = levelEnd - levelStart;
+        if (concurrency == 1 || levelSize < MIN_PARALLEL_LEVEL_SIZE) {
+            new RelaxationTask(graph, levelStart, levelEnd, level + 1).run();
+            return;
+        }
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            levelSize,
+            partition -> new RelaxationTask(
+                graph.concurrentCopy(),
+                levelStart + partition.startNode(),
+                levelStart + partition.startNode() + partition.nodeCount(),
+                level + 1
+            ),
+            Optional.empty()
+        );
+        runTasks(tasks);
+    }
+
+    private void runTasks(Iterable<? extends Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private void relax(long source, long target, double weight) {
+        // the source distance will never change anymore, but the target distance might
+        var potentialDistance = distances.distance(source) + weight;
+        var currentTargetDistance = distances.distance(target);
+        while (Double.compare(potentialDistance, currentTargetDistance) > 0) {
+            var witnessValue = distances.compareAndExchange(target, currentTargetDistance, potentialDistance, source);
+            if (Double.compare(currentTargetDistance, witnessValue) == 0) {
+                break;
+            }
+            currentTargetDistance = distances.distance(target);
+        }
+    }
+
+    private void flush(LongArrayList discovered) {
+        int count = discovered.size();
+        if (count == 0) {
+            return;
+        }
+        long offset = tail.getAndAdd(count);
+        for (int i = 0; i < count; i++) {
+            nodesByLevel.set(offset + i, discovered.get(i));
+        }
+        discovered.clear();
+    }
+
+    private final class SourceTask implements Runnable {
+        private final long startNode;
+        private final long endNode;
+
+        SourceTask(long startNode, long endNode) {
+            this.startNode = startNode;
+            this.endNode = endNode;
+        }
+
+        @Override
+        public void run() {
+            var discovered = new LongArrayList();
+            for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                if (inDegrees.get(nodeId) == 0L) {
+                    distances.set(nodeId, nodeId, 0);
+                    levels.set(nodeId, 0);
+                    discovered.add(nodeId);
+                    if (discovered.size() == DISCOVERY_BUFFER_SIZE) {
+                        flush(discovered);
+                    }
+                }
+            }
+            flush(discovered);
+        }
+    }
+
+    private final class RelaxationTask implements Runnable {
+        private final Graph localGraph;
+        private final long start;
+        private final long end;
+        private final int nextLevel;
+        private final LongArrayList discovered;
+
+        RelaxationTask(Graph localGraph, long start, long end, int nextLevel) {
+            this.localGraph = localGraph;
+            this.start = start;
+            this.end = end;
+            this.nextLevel = nextLevel;
+            this.discovered = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            for (long index = start; index < end; index++) {
+                localGraph.forEachRelationship(nodesByLevel.get(index), 1.0, (source, target, weight) -> {
+                    relax(source, target, weight);
+
+                    long prevDegree = inDegrees.getAndAdd(target, -1);
+                    // if the previous degree was 1, all predecessors have been relaxed and the target joins the next level
+                    if (prevDegree == 1) {
+                        levels.set(target, nextLevel);
+                        discovered.add(target);
+                        if (discovered.size() == DISCOVERY_BUFFER_SIZE) {
+                            flush(discovered);
+                        }
+                    }
+                    return true;
+                });
+            }
+            flush(discovered);
+        }
+    }
+}
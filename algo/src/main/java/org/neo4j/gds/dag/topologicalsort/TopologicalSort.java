@@ -26,6 +26,7 @@ import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.concurrency.ExecutorServiceUtil;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.partition.NodeChunkScheduler;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
@@ -94,19 +95,22 @@ public class TopologicalSort extends Algorithm<TopologicalSortResult> {
 
     private void initializeInDegrees() {
         this.progressTracker.beginSubTask("Initialization");
-        ParallelUtil.parallelForEachNode(
-            graph.nodeCount(),
-            concurrency,
+        ParallelUtil.parallelForEachChunk(
+            NodeChunkScheduler.of(graph, concurrency),
             terminationFlag,
-            nodeId -> {
-                graph.concurrentCopy().forEachRelationship(
-                    nodeId,
-                    (source, target) -> {
-                        inDegrees.getAndAdd(target, 1L);
-                        return true;
-                    }
-                );
-                progressTracker.logProgress();
+            () -> {
+                var localGraph = graph.concurrentCopy();
+                var progress = progressTracker.localProgress();
+                return partition -> partition.consume(nodeId -> {
+                    localGraph.forEachRelationship(
+                        nodeId,
+                        (source, target) -> {
+                            inDegrees.getAndAdd(target, 1L);
+                            return true;
+                        }
+                    );
+                    progress.logProgress();
+                });
             }
         );
         this.progressTracker.endSubTask("Initialization");
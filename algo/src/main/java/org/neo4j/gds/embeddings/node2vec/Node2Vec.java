@@ -24,6 +24,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.checkpoint.Checkpointer;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -48,6 +49,7 @@ public class Node2Vec extends Algorithm<Node2VecModel.Result> {
     private final Optional<Long> maybeRandomSeed;
     private final TrainParameters trainParameters;
     private final int walkBufferSize;
+    private final Optional<Checkpointer> checkpointer;
 
 
     public static MemoryEstimation memoryEstimation(int walksPerNode, int walkLength, int embeddingDimension) {
@@ -71,6 +73,30 @@ public class Node2Vec extends Algorithm<Node2VecModel.Result> {
         WalkParameters walkParameters,
         TrainParameters trainParameters,
         ProgressTracker progressTracker
+    ) {
+        this(
+            graph,
+            concurrency,
+            sourceNodes,
+            maybeRandomSeed,
+            walkBufferSize,
+            walkParameters,
+            trainParameters,
+            progressTracker,
+            Optional.empty()
+        );
+    }
+
+    public Node2Vec(
+        Graph graph,
+        int concurrency,
+        List<Long> sourceNodes,
+        Optional<Long> maybeRandomSeed,
+        int walkBufferSize,
+        WalkParameters walkParameters,
+        TrainParameters trainParameters,
+        ProgressTracker progressTracker,
+        Optional<Checkpointer> checkpointer
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -80,6 +106,7 @@ public class Node2Vec extends Algorithm<Node2VecModel.Result> {
         this.sourceNodes = sourceNodes;
         this.maybeRandomSeed = maybeRandomSeed;
         this.trainParameters = trainParameters;
+        this.checkpointer = checkpointer;
     }
 
     @Override
@@ -143,7 +170,8 @@ public class Node2Vec extends Algorithm<Node2VecModel.Result> {
             maybeRandomSeed,
             walks,
             probabilitiesBuilder.build(),
-            progressTracker
+            progressTracker,
+            checkpointer
         );
 
         var result = node2VecModel.train();
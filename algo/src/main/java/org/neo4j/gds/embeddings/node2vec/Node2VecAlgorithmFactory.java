@@ -21,6 +21,7 @@ package org.neo4j.gds.embeddings.node2vec;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.checkpoint.Checkpointer;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -55,7 +56,8 @@ public class Node2VecAlgorithmFactory<CONFIG extends Node2VecBaseConfig> extends
             configuration.walkBufferSize(),
             configuration.walkParameters(),
             configuration.trainParameters(),
-            progressTracker
+            progressTracker,
+            Checkpointer.of(configuration, graph, Node2Vec.class, progressTracker)
         );
     }
 
@@ -22,13 +22,14 @@ package org.neo4j.gds.embeddings.node2vec;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.CheckpointConfig;
 import org.neo4j.gds.config.EmbeddingDimensionConfig;
 import org.neo4j.gds.traversal.RandomWalkBaseConfig;
 
 import java.util.List;
 
 
-public interface Node2VecBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConfig, RandomWalkBaseConfig {
+public interface Node2VecBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConfig, RandomWalkBaseConfig, CheckpointConfig {
 
     @Value.Default
     @Configuration.IntegerRange(min = 2)
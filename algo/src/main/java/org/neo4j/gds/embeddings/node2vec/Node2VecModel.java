@@ -21,6 +21,9 @@ package org.neo4j.gds.embeddings.node2vec;
 
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
+import org.neo4j.gds.core.utils.checkpoint.Checkpointer;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
@@ -60,6 +63,7 @@ public class Node2VecModel {
     private final RandomWalkProbabilities randomWalkProbabilities;
     private final ProgressTracker progressTracker;
     private final long randomSeed;
+    private final Optional<Checkpointer> checkpointer;
 
     public static MemoryEstimation memoryEstimation(int embeddingDimension) {
         var vectorMemoryEstimation = MemoryUsage.sizeOfFloatArray(embeddingDimension);
@@ -85,6 +89,30 @@ public class Node2VecModel {
         CompressedRandomWalks walks,
         RandomWalkProbabilities randomWalkProbabilities,
         ProgressTracker progressTracker
+    ) {
+        this(
+            toOriginalId,
+            nodeCount,
+            trainParameters,
+            concurrency,
+            maybeRandomSeed,
+            walks,
+            randomWalkProbabilities,
+            progressTracker,
+            Optional.empty()
+        );
+    }
+
+    Node2VecModel(
+        LongUnaryOperator toOriginalId,
+        long nodeCount,
+        TrainParameters trainParameters,
+        int concurrency,
+        Optional<Long> maybeRandomSeed,
+        CompressedRandomWalks walks,
+        RandomWalkProbabilities randomWalkProbabilities,
+        ProgressTracker progressTracker,
+        Optional<Checkpointer> checkpointer
     ) {
         this(
             toOriginalId,
@@ -100,7 +128,8 @@ public class Node2VecModel {
             maybeRandomSeed,
             walks,
             randomWalkProbabilities,
-            progressTracker
+            progressTracker,
+            checkpointer
         );
     }
 
@@ -118,7 +147,8 @@ public class Node2VecModel {
         Optional<Long> maybeRandomSeed,
         CompressedRandomWalks walks,
         RandomWalkProbabilities randomWalkProbabilities,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        Optional<Checkpointer> checkpointer
     ) {
         this.initialLearningRate = initialLearningRate;
         this.minLearningRate = minLearningRate;
@@ -133,6 +163,7 @@ public class Node2VecModel {
         this.progressTracker = progressTracker;
         this.negativeSamples = new NegativeSampleProducer(randomWalkProbabilities.negativeSamplingDistribution());
         this.randomSeed = maybeRandomSeed.orElseGet(() -> new SplittableRandom().nextLong());
+        this.checkpointer = checkpointer;
 
         var random = new Random();
         centerEmbeddings = initializeEmbeddings(toOriginalId, nodeCount, embeddingDimension, random);
@@ -145,7 +176,13 @@ public class Node2VecModel {
 
         var lossPerIteration = new ArrayList<Double>();
 
-        for (int iteration = 0; iteration < iterations; iteration++) {
+        int startIteration = checkpointer.flatMap(Checkpointer::reader).map(reader -> {
+            try (reader) {
+                return readCheckpoint(reader, lossPerIteration);
+            }
+        }).orElse(0);
+
+        for (int iteration = startIteration; iteration < iterations; iteration++) {
             progressTracker.beginSubTask();
             progressTracker.setVolume(walks.size());
 
@@ -187,13 +224,57 @@ public class Node2VecModel {
             progressTracker.logInfo(formatWithLocale("Loss %.4f", loss));
             lossPerIteration.add(loss);
 
+            int finishedIteration = iteration;
+            checkpointer.ifPresent(it -> it.checkpoint(
+                finishedIteration,
+                writer -> writeCheckpoint(writer, lossPerIteration)
+            ));
+
             progressTracker.endSubTask();
         }
+        checkpointer.ifPresent(Checkpointer::clear);
         progressTracker.endSubTask();
 
         return ImmutableResult.of(centerEmbeddings, lossPerIteration);
     }
 
+    private void writeCheckpoint(CheckpointWriter writer, List<Double> lossPerIteration) {
+        for (double loss : lossPerIteration) {
+            writer.writeDouble(loss);
+        }
+        try (var cursor = centerEmbeddings.initCursor(centerEmbeddings.newCursor())) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    writer.write(cursor.array[i].data());
+                    writer.write(contextEmbeddings.get(cursor.base + i).data());
+                }
+            }
+        }
+    }
+
+    /**
+     * Restores the embeddings and losses into the freshly initialized model.
+     * The walks are not part of the checkpoint as they are cheap to recompute.
+     *
+     * @return the iteration to continue the training with
+     */
+    private int readCheckpoint(CheckpointReader reader, List<Double> lossPerIteration) {
+        int lastIteration = reader.iteration();
+        for (int iteration = 0; iteration <= lastIteration; iteration++) {
+            lossPerIteration.add(reader.readDouble());
+        }
+        try (var cursor = centerEmbeddings.initCursor(centerEmbeddings.newCursor())) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    reader.read(cursor.array[i].data());
+                    reader.read(contextEmbeddings.get(cursor.base + i).data());
+                }
+            }
+        }
+        progressTracker.logInfo(formatWithLocale("Resuming from checkpoint after iteration %d", lastIteration));
+        return lastIteration + 1;
+    }
+
     private HugeObjectArray<FloatVector> initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions, Random random) {
         HugeObjectArray<FloatVector> embeddings = HugeObjectArray.newArray(
             FloatVector.class,
@@ -26,6 +26,7 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.hyperball.HyperBall;
 import org.neo4j.gds.msbfs.BfsConsumer;
 import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
 
@@ -38,6 +39,7 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
     private final long nodeCount;
     private final ExecutorService executorService;
     private final HugeAtomicDoubleArray inverseFarness;
+    private final Optional<Integer> hyperLogLogPrecision;
 
     private final Graph graph;
 
@@ -46,6 +48,20 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
         int concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        this(graph, Optional.empty(), concurrency, executorService, progressTracker);
+    }
+
+    /**
+     * @param hyperLogLogPrecision if present, the inverse farness is estimated with {@link HyperBall}
+     *                             using {@code 2^hyperLogLogPrecision} registers per node
+     */
+    public HarmonicCentrality(
+        Graph graph,
+        Optional<Integer> hyperLogLogPrecision,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -53,22 +69,37 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
         this.executorService = executorService;
         this.inverseFarness = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(concurrency));
         this.nodeCount = graph.nodeCount();
+        this.hyperLogLogPrecision = hyperLogLogPrecision;
     }
 
     @Override
     public HarmonicResult compute() {
         progressTracker.beginSubTask();
 
-        final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
-            double len = sourceNodeIds.size();
-            inverseFarness.update(nodeId, currentValue -> currentValue + (len * (1.0 / depth)));
-        };
+        double effectiveDiameter = Double.NaN;
+        if (hyperLogLogPrecision.isPresent()) {
+            var hyperBall = new HyperBall(graph, hyperLogLogPrecision.get(), concurrency, executorService, progressTracker);
+            hyperBall.setTerminationFlag(terminationFlag);
+            var hyperBallResult = hyperBall.compute();
+            var harmonicSums = hyperBallResult.harmonicSums();
+            effectiveDiameter = hyperBallResult.effectiveDiameter();
+            ParallelUtil.run(PartitionUtils.rangePartition(
+                concurrency,
+                nodeCount,
+                partition -> (Runnable) () -> partition.consume(nodeId -> inverseFarness.set(nodeId, harmonicSums.get(nodeId))),
+                Optional.empty()
+            ), executorService);
+        } else {
+            final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
+                double len = sourceNodeIds.size();
+                inverseFarness.update(nodeId, currentValue -> currentValue + (len * (1.0 / depth)));
+            };
 
-        MultiSourceBFSAccessMethods.aggregatedNeighborProcessingWithoutSourceNodes(
-            graph.nodeCount(),
-            graph,
-            consumer
-        ).run(concurrency, executorService);
+            MultiSourceBFSAccessMethods.directionOptimizingNeighborProcessingWithoutSourceNodes(
+                graph,
+                consumer
+            ).run(concurrency, executorService);
+        }
 
         var tasks = PartitionUtils.rangePartition(
             concurrency,
@@ -81,7 +112,7 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
 
         progressTracker.endSubTask();
 
-        return new HarmonicResult(inverseFarness);
+        return new HarmonicResult(inverseFarness, effectiveDiameter);
     }
 
 }
@@ -21,8 +21,17 @@ package org.neo4j.gds.harmonic;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.hyperball.HyperBall;
+import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
+
+import java.util.Optional;
 
 public class HarmonicCentralityAlgorithmFactory<CONFIG extends HarmonicCentralityBaseConfig> extends GraphAlgorithmFactory<HarmonicCentrality, CONFIG> {
     @Override
@@ -38,9 +47,30 @@ public class HarmonicCentralityAlgorithmFactory<CONFIG extends HarmonicCentralit
     ) {
         return new HarmonicCentrality(
             graph,
+            configuration.approximate() ? Optional.of(configuration.hyperLogLogPrecision()) : Optional.empty(),
             configuration.concurrency(),
             DefaultPool.INSTANCE,
             progressTracker
         );
     }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        var builder = MemoryEstimations.builder(HarmonicCentrality.class)
+            .perNode("inverse farness", HugeAtomicDoubleArray::memoryEstimation);
+        if (configuration.approximate()) {
+            builder.add("HyperBall", HyperBall.memoryEstimation(configuration.hyperLogLogPrecision()));
+        } else {
+            builder.perThread("MSBFS", MultiSourceBFSAccessMethods.memoryEstimationWithoutSeensNext());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Task progressTask(Graph graph, CONFIG config) {
+        if (config.approximate()) {
+            return Tasks.task(taskName(), HyperBall.progressTask());
+        }
+        return Tasks.leaf(taskName());
+    }
 }
@@ -20,8 +20,9 @@
 package org.neo4j.gds.harmonic;
 
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.hyperball.HyperBallConfig;
 
 
-public interface HarmonicCentralityBaseConfig  extends AlgoBaseConfig
+public interface HarmonicCentralityBaseConfig  extends AlgoBaseConfig, HyperBallConfig
 {
 }
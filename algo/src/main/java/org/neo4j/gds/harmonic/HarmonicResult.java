@@ -29,9 +29,18 @@ import java.util.function.LongToDoubleFunction;
 public class HarmonicResult implements CentralityAlgorithmResult {
 
     private final HugeAtomicDoubleArray centralities;
+    private final double effectiveDiameter;
 
-    HarmonicResult(HugeAtomicDoubleArray centralities) {
+    HarmonicResult(HugeAtomicDoubleArray centralities, double effectiveDiameter) {
         this.centralities = centralities;
+        this.effectiveDiameter = effectiveDiameter;
+    }
+
+    /**
+     * The distance within which 90% of all reachable node pairs lie, or {@code NaN} if the centrality was computed exactly.
+     */
+    public double effectiveDiameter() {
+        return effectiveDiameter;
     }
 
     @Override
@@ -43,4 +52,9 @@ public class HarmonicResult implements CentralityAlgorithmResult {
     public LongToDoubleFunction centralityScoreProvider() {
         return centralities::get;
     }
+
+    @Override
+    public void copyCentralityScores(long startNode, long endNode, double[] target) {
+        CentralityAlgorithmResult.copyCentralityScores(centralities, startNode, endNode, target);
+    }
 }
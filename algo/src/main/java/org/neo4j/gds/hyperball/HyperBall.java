@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.hyperball;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.LongConsumer;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Approximates the distance distribution of every node, see
+ * Boldi and Vigna, "In-Core Computation of Geometric Centralities with HyperBall: A Hundred Billion Nodes and Beyond".
+ * <p>
+ * Every node keeps a HyperLogLog counter of the nodes that reach it within {@code t} steps.
+ * In iteration {@code t}, the counter of a node is merged with the counters of its incoming neighbours from
+ * iteration {@code t - 1}. The growth of a counter in iteration {@code t} is the estimated number of nodes at
+ * distance exactly {@code t}, from which farness and harmonic sums are accumulated.
+ * Only nodes with an incoming neighbour that changed in the previous iteration need to be merged.
+ * The computation stops once no counter changes, i.e. after the diameter plus one iterations.
+ * <p>
+ * Each iteration takes {@code O(m * 2^log2m)} time, the counters take {@code 2 * n * 2^log2m} bytes.
+ * The relative standard error of each counter is about {@code 1.04 / sqrt(2^log2m)}.
+ * Directed graphs must be inverse indexed to read incoming neighbours.
+ */
+public class HyperBall extends Algorithm<HyperBallResult> {
+
+    public static final int MIN_LOG2M = 4;
+    public static final int MAX_LOG2M = 16;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final boolean undirected;
+    private final int log2m;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    public static Task progressTask() {
+        return Tasks.leaf("HyperBall");
+    }
+
+    public static MemoryEstimation memoryEstimation(int log2m) {
+        return MemoryEstimations.builder(HyperBall.class)
+            .perNode("counters", nodeCount -> 2 * HyperLogLogCounters.memoryEstimation(nodeCount, log2m))
+            .perNode("changed", nodeCount -> 2 * HugeAtomicBitSet.memoryEstimation(nodeCount))
+            .perNode("ball sizes", HugeDoubleArray::memoryEstimation)
+            .perNode("farness", HugeDoubleArray::memoryEstimation)
+            .perNode("harmonic sums", HugeDoubleArray::memoryEstimation)
+            .build();
+    }
+
+    public HyperBall(
+        Graph graph,
+        int log2m,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (log2m < MIN_LOG2M || log2m > MAX_LOG2M) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The HyperLogLog precision must be between %d and %d, got %d.",
+                MIN_LOG2M,
+                MAX_LOG2M,
+                log2m
+            ));
+        }
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "HyperBall requires an undirected or inverse indexed graph. " +
+                "Use `inverseIndexedRelationshipTypes` when projecting the graph."
+            );
+        }
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.undirected = graph.characteristics().isUndirected();
+        this.log2m = log2m;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public HyperBallResult compute() {
+        progressTracker.beginSubTask();
+
+        var current = new HyperLogLogCounters(nodeCount, log2m);
+        var next = new HyperLogLogCounters(nodeCount, log2m);
+        var changed = HugeAtomicBitSet.create(nodeCount);
+        var nextChanged = HugeAtomicBitSet.create(nodeCount);
+        var ballSizes = HugeDoubleArray.newArray(nodeCount);
+        var farness = HugeDoubleArray.newArray(nodeCount);
+        var harmonicSums = HugeDoubleArray.newArray(nodeCount);
+        var neighbourhoodFunction = new DoubleArrayList();
+
+        var total = new DoubleAdder();
+        run(PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                double localTotal = 0;
+                for (long nodeId = partition.startNode(); nodeId < partition.startNode() + partition.nodeCount(); nodeId++) {
+                    current.add(nodeId, nodeId);
+                    ballSizes.set(nodeId, current.estimate(nodeId));
+                    localTotal += ballSizes.get(nodeId);
+                }
+                total.add(localTotal);
+            },
+            Optional.empty()
+        ));
+        changed.set(0, nodeCount);
+        neighbourhoodFunction.add(total.sum());
+
+        for (int iteration = 1; !changed.isEmpty(); iteration++) {
+            var previous = current;
+            var counters = next;
+            var previouslyChanged = changed;
+            var nowChanged = nextChanged;
+            int distance = iteration;
+            total.reset();
+
+            run(PartitionUtils.degreePartition(
+                graph,
+                concurrency,
+                partition -> (Runnable) () -> {
+                    var localGraph = graph.concurrentCopy();
+                    boolean[] modified = {false};
+                    RelationshipConsumer merge = (nodeId, neighbour) -> {
+                        if (previouslyChanged.get(neighbour)) {
+                            modified[0] |= counters.union(nodeId, previous, neighbour);
+                        }
+                        return true;
+                    };
+                    double[] localTotal = {0};
+                    LongConsumer update = nodeId -> {
+                        counters.copyFrom(previous, nodeId);
+                        modified[0] = false;
+                        if (undirected) {
+                            localGraph.forEachRelationship(nodeId, merge);
+                        } else {
+                            localGraph.forEachInverseRelationship(nodeId, merge);
+                        }
+                        if (modified[0]) {
+                            nowChanged.set(nodeId);
+                            double ballSize = ballSizes.get(nodeId);
+                            // the estimate is not strictly monotone around the small range correction
+                            double growth = Math.max(counters.estimate(nodeId) - ballSize, 0);
+                            ballSizes.set(nodeId, ballSize + growth);
+                            farness.addTo(nodeId, distance * growth);
+                            harmonicSums.addTo(nodeId, growth / distance);
+                        }
+                        localTotal[0] += ballSizes.get(nodeId);
+                    };
+                    partition.consume(update);
+                    total.add(localTotal[0]);
+                    progressTracker.logProgress(partition.nodeCount());
+                },
+                Optional.empty()
+            ));
+
+            if (!nextChanged.isEmpty()) {
+                neighbourhoodFunction.add(total.sum());
+            }
+
+            current = counters;
+            next = previous;
+            changed = nowChanged;
+            nextChanged = previouslyChanged;
+            nextChanged.clear();
+        }
+
+        progressTracker.endSubTask();
+        return new HyperBallResult(ballSizes, farness, harmonicSums, neighbourhoodFunction.toArray());
+    }
+
+    private void run(Collection<Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+}
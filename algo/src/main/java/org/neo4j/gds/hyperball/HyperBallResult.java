@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.hyperball;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+
+public final class HyperBallResult {
+
+    private final HugeDoubleArray ballSizes;
+    private final HugeDoubleArray farness;
+    private final HugeDoubleArray harmonicSums;
+    private final double[] neighbourhoodFunction;
+
+    HyperBallResult(
+        HugeDoubleArray ballSizes,
+        HugeDoubleArray farness,
+        HugeDoubleArray harmonicSums,
+        double[] neighbourhoodFunction
+    ) {
+        this.ballSizes = ballSizes;
+        this.farness = farness;
+        this.harmonicSums = harmonicSums;
+        this.neighbourhoodFunction = neighbourhoodFunction;
+    }
+
+    /**
+     * The estimated number of nodes that reach a node, including the node itself.
+     */
+    public HugeDoubleArray ballSizes() {
+        return ballSizes;
+    }
+
+    /**
+     * The estimated sum of distances from all nodes that reach a node.
+     */
+    public HugeDoubleArray farness() {
+        return farness;
+    }
+
+    /**
+     * The estimated sum of inverse distances from all nodes that reach a node.
+     */
+    public HugeDoubleArray harmonicSums() {
+        return harmonicSums;
+    }
+
+    /**
+     * The estimated number of node pairs within distance {@code t}, for {@code t} from zero to {@link #iterations()}.
+     */
+    public double[] neighbourhoodFunction() {
+        return neighbourhoodFunction;
+    }
+
+    public int iterations() {
+        return neighbourhoodFunction.length - 1;
+    }
+
+    public double effectiveDiameter() {
+        return effectiveDiameter(0.9);
+    }
+
+    /**
+     * The interpolated distance within which the given fraction of all reachable node pairs lies.
+     */
+    public double effectiveDiameter(double fraction) {
+        double threshold = fraction * neighbourhoodFunction[neighbourhoodFunction.length - 1];
+        for (int distance = 0; distance < neighbourhoodFunction.length; distance++) {
+            if (neighbourhoodFunction[distance] >= threshold) {
+                if (distance == 0) {
+                    return 0;
+                }
+                double previous = neighbourhoodFunction[distance - 1];
+                return distance - 1 + (threshold - previous) / (neighbourhoodFunction[distance] - previous);
+            }
+        }
+        return iterations();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.hyperball;
+
+import org.neo4j.gds.collections.ha.HugeByteArray;
+
+/**
+ * One HyperLogLog counter per node, all registers stored in a single flat array.
+ * The registers of counter {@code c} occupy the indices {@code [c * m, (c + 1) * m)}.
+ * <p>
+ * Each counter is only ever written by a single thread at a time, reads of other counters
+ * need to happen on a different instance, i.e. the counters of the previous iteration.
+ */
+final class HyperLogLogCounters {
+
+    private final int log2m;
+    private final int registerCount;
+    private final double alphaMm;
+    private final HugeByteArray registers;
+
+    static long memoryEstimation(long nodeCount, int log2m) {
+        return HugeByteArray.memoryEstimation(nodeCount << log2m);
+    }
+
+    HyperLogLogCounters(long nodeCount, int log2m) {
+        this.log2m = log2m;
+        this.registerCount = 1 << log2m;
+        this.alphaMm = alpha(registerCount) * registerCount * registerCount;
+        this.registers = HugeByteArray.newArray(nodeCount << log2m);
+    }
+
+    void add(long counter, long element) {
+        long hash = hash(element);
+        int register = (int) (hash >>> (Long.SIZE - log2m));
+        // the sentinel bit caps the rank at the number of remaining bits plus one
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << log2m) | (1L << (log2m - 1))) + 1);
+        long index = offset(counter) + register;
+        if (registers.get(index) < rank) {
+            registers.set(index, rank);
+        }
+    }
+
+    /**
+     * Overwrites the given counter with the same counter of {@code source}.
+     */
+    void copyFrom(HyperLogLogCounters source, long counter) {
+        long offset = offset(counter);
+        for (int register = 0; register < registerCount; register++) {
+            registers.set(offset + register, source.registers.get(offset + register));
+        }
+    }
+
+    /**
+     * Merges counter {@code sourceCounter} of {@code source} into counter {@code counter}.
+     *
+     * @return true, iff any register of the counter changed
+     */
+    boolean union(long counter, HyperLogLogCounters source, long sourceCounter) {
+        long offset = offset(counter);
+        long sourceOffset = offset(sourceCounter);
+        boolean changed = false;
+        for (int register = 0; register < registerCount; register++) {
+            byte value = source.registers.get(sourceOffset + register);
+            if (registers.get(offset + register) < value) {
+                registers.set(offset + register, value);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    double estimate(long counter) {
+        long offset = offset(counter);
+        double sum = 0;
+        int zeroes = 0;
+        for (int register = 0; register < registerCount; register++) {
+            byte value = registers.get(offset + register);
+            if (value == 0) {
+                zeroes++;
+            }
+            sum += 1.0 / (1L << value);
+        }
+        double estimate = alphaMm / sum;
+        // small range correction, the bias of the raw estimate is large for few elements
+        if (estimate <= 2.5 * registerCount && zeroes > 0) {
+            return registerCount * Math.log((double) registerCount / zeroes);
+        }
+        return estimate;
+    }
+
+    private long offset(long counter) {
+        return counter << log2m;
+    }
+
+    private static double alpha(int registerCount) {
+        switch (registerCount) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / registerCount);
+        }
+    }
+
+    // finalizer of MurmurHash3
+    private static long hash(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
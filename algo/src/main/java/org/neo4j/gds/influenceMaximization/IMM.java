@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongDoubleScatterMap;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.influenceMaximization.ReverseReachableSetPool.NO_POSITION;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Influence maximization based on reverse influence sampling (IMM, Tang et al. 2015).
+ *
+ * Instead of simulating cascades for every candidate, IMM samples reverse reachable sets
+ * and picks the seeds greedily by maximum coverage of those sets.
+ * The number of sets is chosen such that the seed set is a {@code (1 - 1/e - epsilon)}
+ * approximation with probability at least {@code 1 - 1/n}.
+ * The reported gain of a seed is its marginal spread estimated from the final sets.
+ */
+public class IMM extends Algorithm<CELFResult> {
+
+    public static final double DEFAULT_EPSILON = 0.1;
+
+    private static final double ONE_MINUS_INVERSE_E = 1 - 1 / Math.E;
+
+    private final Graph graph;
+    private final int seedSetCount;
+    private final double propagationProbability;
+    private final double epsilon;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final long randomSeed;
+
+    private final ReverseReachableSetPool pool;
+    private List<ReverseReachableSetSampler> samplers;
+
+    /**
+     * The number of sets depends on the optimal spread, which lies between one and the node count.
+     * The estimation assumes that every set consists of its root only.
+     */
+    public static MemoryEstimation memoryEstimation(int seedSetCount, double epsilon) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long k = Math.min(seedSetCount, nodeCount);
+            double lambdaStar = lambdaStar(nodeCount, k, epsilon);
+            long minSetCount = (long) Math.ceil(lambdaStar / Math.max(nodeCount, 1));
+            // the estimation phase samples at most lambdaPrime / 2 sets
+            long maxSetCount = (long) Math.ceil(Math.max(lambdaStar, lambdaPrime(nodeCount, k, epsilon) / 2));
+            return MemoryEstimations.builder(IMM.class)
+                .fixed("seed set", MemoryUsage.sizeOfLongDoubleScatterMap(k))
+                .add("pool", ReverseReachableSetPool.memoryEstimation(minSetCount, maxSetCount))
+                .perNode("coverage", HugeLongArray::memoryEstimation)
+                .add("queue", HugeLongPriorityQueue.memoryEstimation())
+                .fixed("covered", MemoryRange.of(
+                    MemoryUsage.sizeOfBitset(minSetCount),
+                    MemoryUsage.sizeOfBitset(maxSetCount)
+                ))
+                .perThread("sampler", ReverseReachableSetSampler.memoryEstimation())
+                .build();
+        });
+    }
+
+    public static Task progressTask(Graph graph, int seedSetCount) {
+        return Tasks.task(
+            "IMM",
+            Tasks.leaf("Estimation"),
+            Tasks.leaf("Sampling"),
+            Tasks.leaf("Selection", Math.min(seedSetCount, graph.nodeCount()))
+        );
+    }
+
+    public IMM(
+        Graph graph,
+        int seedSetCount,
+        double propagationProbability,
+        double epsilon,
+        ExecutorService executorService,
+        int concurrency,
+        long randomSeed,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (epsilon <= 0 || epsilon >= 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `epsilon` must be in the range (0, 1), but was %s.",
+                epsilon
+            ));
+        }
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "IMM requires the relationships to be either undirected or inverse indexed."
+            );
+        }
+        this.graph = graph;
+        this.seedSetCount = (int) Math.min(seedSetCount, graph.nodeCount());
+        this.propagationProbability = propagationProbability;
+        this.epsilon = epsilon;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.randomSeed = randomSeed;
+        this.pool = new ReverseReachableSetPool(graph.nodeCount());
+    }
+
+    @Override
+    public CELFResult compute() {
+        if (seedSetCount == 0) {
+            return new CELFResult(new LongDoubleScatterMap(0));
+        }
+        progressTracker.beginSubTask();
+
+        this.samplers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            samplers.add(new ReverseReachableSetSampler(
+                graph,
+                propagationProbability,
+                randomSeed + i,
+                pool,
+                terminationFlag,
+                progressTracker
+            ));
+        }
+
+        progressTracker.beginSubTask();
+        double lowerBound = estimateLowerBound();
+        progressTracker.endSubTask();
+
+        long theta = (long) Math.ceil(lambdaStar(graph.nodeCount(), seedSetCount, epsilon) / lowerBound);
+
+        progressTracker.logInfo(formatWithLocale(
+            "Lower bound on the optimal spread is %.2f, sampling %d reverse reachable sets",
+            lowerBound,
+            theta
+        ));
+
+        // the final sets are sampled independently of the ones used for estimating the lower bound
+        pool.clear();
+        progressTracker.beginSubTask(theta);
+        sampleUpTo(theta);
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        var selection = selectSeeds(true);
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+        return new CELFResult(selection.seedSetNodes);
+    }
+
+    private double estimateLowerBound() {
+        double n = graph.nodeCount();
+        double epsilonPrime = Math.sqrt(2) * epsilon;
+        double lambdaPrime = lambdaPrime(graph.nodeCount(), seedSetCount, epsilon);
+        double log2N = logN(n) / Math.log(2);
+
+        for (int i = 1; i <= log2N - 1; i++) {
+            double x = n / Math.pow(2, i);
+            sampleUpTo((long) Math.ceil(lambdaPrime / x));
+
+            var selection = selectSeeds(false);
+            double estimatedSpread = n * selection.coveredSets / pool.setCount();
+            if (estimatedSpread >= (1 + epsilonPrime) * x) {
+                return estimatedSpread / (1 + epsilonPrime);
+            }
+        }
+        return 1;
+    }
+
+    private void sampleUpTo(long targetSetCount) {
+        long missingSets = targetSetCount - pool.setCount();
+        if (missingSets <= 0) {
+            return;
+        }
+
+        long setsPerSampler = missingSets / samplers.size();
+        long remainder = missingSets % samplers.size();
+        for (int i = 0; i < samplers.size(); i++) {
+            samplers.get(i).setsToSample(setsPerSampler + (i < remainder ? 1 : 0));
+        }
+
+        // the samplers append their sets to the pool themselves
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(samplers)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    /**
+     * Greedy maximum coverage over the sets in the pool, using the inverted index maintained by the pool.
+     * The coverage of a node only decreases, so stale queue entries are refreshed lazily when they reach the top.
+     */
+    private Selection selectSeeds(boolean logProgress) {
+        long nodeCount = graph.nodeCount();
+        long setCount = pool.setCount();
+
+        // the number of sets containing a node that are not covered yet
+        var coverage = pool.coverage();
+
+        var queue = new HugeLongPriorityQueue(nodeCount) {
+            @Override
+            protected boolean lessThan(long a, long b) {
+                return (Double.compare(costValues.get(a), costValues.get(b)) == 0) // when equal costs
+                    ? a < b                                                        // the smaller node ID is less
+                    : costValues.get(a) > costValues.get(b);                       // otherwise compare the costs
+            }
+        };
+        for (long node = 0; node < nodeCount; node++) {
+            queue.add(node, coverage.get(node));
+        }
+
+        var covered = new BitSet(setCount);
+        var seedSetNodes = new LongDoubleScatterMap(seedSetCount);
+        long coveredSets = 0;
+        for (int i = 0; i < seedSetCount; i++) {
+            terminationFlag.assertRunning();
+
+            long seed = queue.top();
+            while (queue.cost(seed) != coverage.get(seed)) {
+                queue.set(seed, coverage.get(seed));
+                seed = queue.top();
+            }
+            queue.pop();
+
+            long gain = coverage.get(seed);
+            for (long position = pool.firstPosition(seed); position != NO_POSITION; position = pool.nextPosition(position)) {
+                long set = pool.setOf(position);
+                if (!covered.get(set)) {
+                    covered.set(set);
+                    for (long k = pool.start(set); k < pool.end(set); k++) {
+                        coverage.addTo(pool.member(k), -1);
+                    }
+                }
+            }
+
+            coveredSets += gain;
+            seedSetNodes.put(seed, (double) nodeCount * gain / setCount);
+            if (logProgress) {
+                progressTracker.logProgress();
+            }
+        }
+
+        return new Selection(seedSetNodes, coveredSets);
+    }
+
+    /**
+     * The number of reverse reachable sets needed for the final selection, times the optimal spread.
+     */
+    static double lambdaStar(long nodeCount, long seedSetCount, double epsilon) {
+        double n = nodeCount;
+        double logN = logN(n);
+        double ell = ell(logN);
+        double logBinomial = logBinomial(nodeCount, seedSetCount);
+        double alpha = Math.sqrt(ell * logN + Math.log(2));
+        double beta = Math.sqrt(ONE_MINUS_INVERSE_E * (logBinomial + ell * logN + Math.log(2)));
+        return 2 * n * Math.pow(ONE_MINUS_INVERSE_E * alpha + beta, 2) / (epsilon * epsilon);
+    }
+
+    /**
+     * The number of reverse reachable sets needed while estimating the lower bound, times the tested spread.
+     */
+    static double lambdaPrime(long nodeCount, long seedSetCount, double epsilon) {
+        double n = nodeCount;
+        double logN = logN(n);
+        double epsilonPrime = Math.sqrt(2) * epsilon;
+        return (2 + 2.0 / 3.0 * epsilonPrime)
+               * (logBinomial(nodeCount, seedSetCount) + ell(logN) * logN + Math.log(logN / Math.log(2)))
+               * n / (epsilonPrime * epsilonPrime);
+    }
+
+    private static double logN(double n) {
+        // a single node graph is treated like two nodes to keep the bounds finite
+        return Math.log(Math.max(n, 2));
+    }
+
+    private static double ell(double logN) {
+        // raise the confidence so that both phases together fail with probability at most 1/n
+        return 1 + Math.log(2) / logN;
+    }
+
+    static double logBinomial(long n, long k) {
+        double result = 0;
+        for (long i = 1; i <= k; i++) {
+            result += Math.log(n - k + i) - Math.log(i);
+        }
+        return result;
+    }
+
+    private static final class Selection {
+        private final LongDoubleScatterMap seedSetNodes;
+        private final long coveredSets;
+
+        private Selection(LongDoubleScatterMap seedSetNodes, long coveredSets) {
+            this.seedSetNodes = seedSetNodes;
+            this.coveredSets = coveredSets;
+        }
+    }
+}
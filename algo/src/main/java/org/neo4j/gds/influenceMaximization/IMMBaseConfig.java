@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+
+public interface IMMBaseConfig extends AlgoBaseConfig, RandomSeedConfig {
+
+    @Configuration.IntegerRange(min = 1)
+    int seedSetSize();
+
+    @Value.Default
+    @Configuration.DoubleRange(min = 0.01, max = 1)
+    default double propagationProbability() {
+        return 0.1;
+    }
+
+    /**
+     * The seed set is a {@code (1 - 1/e - epsilon)} approximation with probability at least {@code 1 - 1/n}.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double epsilon() {
+        return IMM.DEFAULT_EPSILON;
+    }
+}
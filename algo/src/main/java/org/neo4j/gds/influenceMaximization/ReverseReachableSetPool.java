@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+
+/**
+ * Flat storage for reverse reachable sets.
+ * The members of all sets are stored back to back, set {@code i} spans
+ * the members between {@code end(i - 1)} and {@code end(i)}.
+ * <p>
+ * The pool also maintains an inverted index from a node to the positions at which it is a member,
+ * chained from the most recent position, as well as the number of sets containing each node.
+ * Both are updated as sets are appended, so that seed selection does not rebuild them.
+ * Samplers append concurrently, the order of the sets is therefore not deterministic.
+ */
+final class ReverseReachableSetPool {
+
+    static final long NO_POSITION = -1;
+
+    private final HugeLongArray firstPositions;
+    private final HugeLongArray coverage;
+    private HugeLongArray members;
+    private HugeLongArray nextPositions;
+    private HugeLongArray setEnds;
+    private long memberCount;
+    private long setCount;
+
+    /**
+     * Every set contains at least its root, larger sets are not part of the estimation.
+     */
+    static MemoryEstimation memoryEstimation(long minSetCount, long maxSetCount) {
+        var perSet = MemoryRange.of(
+            HugeLongArray.memoryEstimation(minSetCount),
+            HugeLongArray.memoryEstimation(maxSetCount)
+        );
+        return MemoryEstimations.builder(ReverseReachableSetPool.class)
+            .perNode("first positions", HugeLongArray::memoryEstimation)
+            .perNode("coverage", HugeLongArray::memoryEstimation)
+            .fixed("members", perSet)
+            .fixed("next positions", perSet)
+            .fixed("set ends", perSet)
+            .build();
+    }
+
+    ReverseReachableSetPool(long nodeCount) {
+        this.firstPositions = HugeLongArray.newArray(nodeCount);
+        this.firstPositions.fill(NO_POSITION);
+        this.coverage = HugeLongArray.newArray(nodeCount);
+        this.members = HugeLongArray.newArray(Math.max(nodeCount, 1));
+        this.nextPositions = HugeLongArray.newArray(Math.max(nodeCount, 1));
+        this.setEnds = HugeLongArray.newArray(Math.max(nodeCount, 1));
+    }
+
+    long setCount() {
+        return setCount;
+    }
+
+    long start(long set) {
+        return set == 0 ? 0 : setEnds.get(set - 1);
+    }
+
+    long end(long set) {
+        return setEnds.get(set);
+    }
+
+    long member(long position) {
+        return members.get(position);
+    }
+
+    /**
+     * The most recent position at which the node is a member, or {@link #NO_POSITION}.
+     */
+    long firstPosition(long node) {
+        return firstPositions.get(node);
+    }
+
+    /**
+     * The previous position at which the member at the given position is a member, or {@link #NO_POSITION}.
+     */
+    long nextPosition(long position) {
+        return nextPositions.get(position);
+    }
+
+    /**
+     * The set containing the given position.
+     */
+    long setOf(long position) {
+        long low = 0;
+        long high = setCount - 1;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (setEnds.get(mid) <= position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A copy of the number of sets containing each node.
+     */
+    HugeLongArray coverage() {
+        return coverage.copyOf(coverage.size());
+    }
+
+    /**
+     * Appends a chunk of sets sampled by a single thread.
+     * The chunk end offsets are relative to the start of the chunk.
+     */
+    synchronized void append(long[] chunkMembers, int chunkMemberCount, int[] chunkEnds, int chunkSetCount) {
+        ensureCapacity(memberCount + chunkMemberCount, setCount + chunkSetCount);
+
+        long chunkStart = memberCount;
+        for (int i = 0; i < chunkMemberCount; i++) {
+            appendMember(chunkMembers[i]);
+        }
+        for (int i = 0; i < chunkSetCount; i++) {
+            setEnds.set(setCount++, chunkStart + chunkEnds[i]);
+        }
+    }
+
+    /**
+     * Appends a single set consisting of the first {@code size} nodes of the given array.
+     */
+    synchronized void append(HugeLongArray setMembers, long size) {
+        ensureCapacity(memberCount + size, setCount + 1);
+
+        for (long i = 0; i < size; i++) {
+            appendMember(setMembers.get(i));
+        }
+        setEnds.set(setCount++, memberCount);
+    }
+
+    void clear() {
+        memberCount = 0;
+        setCount = 0;
+        firstPositions.fill(NO_POSITION);
+        coverage.fill(0);
+    }
+
+    private void appendMember(long node) {
+        long position = memberCount++;
+        members.set(position, node);
+        nextPositions.set(position, firstPositions.get(node));
+        firstPositions.set(node, position);
+        coverage.addTo(node, 1);
+    }
+
+    private void ensureCapacity(long requiredMemberCount, long requiredSetCount) {
+        members = grow(members, requiredMemberCount);
+        nextPositions = grow(nextPositions, requiredMemberCount);
+        setEnds = grow(setEnds, requiredSetCount);
+    }
+
+    private static HugeLongArray grow(HugeLongArray array, long requiredSize) {
+        if (requiredSize <= array.size()) {
+            return array;
+        }
+        return array.copyOf(Math.max(requiredSize, array.size() + (array.size() >> 1)));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.SplittableRandom;
+
+/**
+ * Samples reverse reachable sets under the Independent Cascade model.
+ * A set is rooted at a uniformly chosen node and contains every node that
+ * reaches the root over relationships which are live with the propagation probability.
+ * <p>
+ * Sampled sets are collected in a chunk of bounded size, which is appended to the pool once it is full.
+ * Sets larger than a chunk are appended to the pool directly.
+ */
+final class ReverseReachableSetSampler implements Runnable {
+
+    static final int CHUNK_SIZE = 1 << 14;
+
+    private static final int PROGRESS_BATCH_SIZE = 1024;
+
+    private final Graph localGraph;
+    private final boolean undirected;
+    private final double propagationProbability;
+    private final SplittableRandom random;
+    private final ReverseReachableSetPool pool;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    private final BitSet visited;
+    // members of the current set, doubling as the breadth first search queue
+    private HugeLongArray queue;
+    private long setSize;
+
+    private final long[] chunkMembers;
+    private final int[] chunkEnds;
+    private int chunkMemberCount;
+    private int chunkSetCount;
+
+    private long setsToSample;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ReverseReachableSetSampler.class)
+            .perNode("visited", MemoryUsage::sizeOfBitset)
+            .rangePerNode("queue", nodeCount -> MemoryRange.of(
+                HugeLongArray.memoryEstimation(Math.min(nodeCount, CHUNK_SIZE)),
+                HugeLongArray.memoryEstimation(nodeCount)
+            ))
+            .fixed("chunk members", MemoryUsage.sizeOfLongArray(CHUNK_SIZE))
+            .fixed("chunk ends", MemoryUsage.sizeOfIntArray(CHUNK_SIZE))
+            .build();
+    }
+
+    ReverseReachableSetSampler(
+        Graph graph,
+        double propagationProbability,
+        long randomSeed,
+        ReverseReachableSetPool pool,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.localGraph = graph.concurrentCopy();
+        this.undirected = graph.characteristics().isUndirected();
+        this.propagationProbability = propagationProbability;
+        this.random = new SplittableRandom(randomSeed);
+        this.pool = pool;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+
+        this.visited = new BitSet(graph.nodeCount());
+        this.queue = HugeLongArray.newArray(Math.max(1, Math.min(graph.nodeCount(), CHUNK_SIZE)));
+        this.chunkMembers = new long[CHUNK_SIZE];
+        // every set has at least one member, so a chunk holds at most as many sets as members
+        this.chunkEnds = new int[CHUNK_SIZE];
+    }
+
+    void setsToSample(long setsToSample) {
+        this.setsToSample = setsToSample;
+    }
+
+    @Override
+    public void run() {
+        long nodeCount = localGraph.nodeCount();
+        for (long i = 0; i < setsToSample; i++) {
+            if (i % PROGRESS_BATCH_SIZE == 0) {
+                terminationFlag.assertRunning();
+            }
+            sample(random.nextLong(nodeCount));
+            if ((i + 1) % PROGRESS_BATCH_SIZE == 0) {
+                progressTracker.logProgress(PROGRESS_BATCH_SIZE);
+            }
+        }
+        flush();
+        progressTracker.logProgress(setsToSample % PROGRESS_BATCH_SIZE);
+    }
+
+    private void sample(long root) {
+        setSize = 0;
+        enqueue(root);
+
+        for (long next = 0; next < setSize; next++) {
+            long node = queue.get(next);
+            if (undirected) {
+                localGraph.forEachRelationship(node, this::visitLive);
+            } else {
+                localGraph.forEachInverseRelationship(node, this::visitLive);
+            }
+        }
+
+        for (long i = 0; i < setSize; i++) {
+            visited.clear(queue.get(i));
+        }
+
+        if (setSize > CHUNK_SIZE) {
+            pool.append(queue, setSize);
+            return;
+        }
+        if (chunkMemberCount + setSize > CHUNK_SIZE) {
+            flush();
+        }
+        for (long i = 0; i < setSize; i++) {
+            chunkMembers[chunkMemberCount++] = queue.get(i);
+        }
+        chunkEnds[chunkSetCount++] = chunkMemberCount;
+    }
+
+    private void flush() {
+        if (chunkSetCount > 0) {
+            pool.append(chunkMembers, chunkMemberCount, chunkEnds, chunkSetCount);
+            chunkMemberCount = 0;
+            chunkSetCount = 0;
+        }
+    }
+
+    private boolean visitLive(long node, long neighbor) {
+        if (random.nextDouble() < propagationProbability && !visited.get(neighbor)) {
+            enqueue(neighbor);
+        }
+        return true;
+    }
+
+    private void enqueue(long node) {
+        if (setSize == queue.size()) {
+            queue = queue.copyOf(Math.min(2 * setSize, localGraph.nodeCount()));
+        }
+        visited.set(node);
+        queue.set(setSize++, node);
+    }
+}
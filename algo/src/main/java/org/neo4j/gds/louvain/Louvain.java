@@ -30,6 +30,9 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.OriginalIdNodePropertyValues;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
+import org.neo4j.gds.core.utils.checkpoint.Checkpointer;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -43,8 +46,10 @@ import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
 
 import static org.neo4j.gds.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class Louvain extends Algorithm<LouvainResult> {
 
@@ -66,6 +71,8 @@ public final class Louvain extends Algorithm<LouvainResult> {
 
     private final boolean trackIntermediateCommunities;
 
+    private final Optional<Checkpointer> checkpointer;
+
     public Louvain(
         Graph graph,
         LouvainBaseConfig config,
@@ -92,6 +99,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
         this.modularities = new double[maxLevels];
         this.maxLevels = maxLevels;
         this.trackIntermediateCommunities = trackIntermediateCommunities;
+        this.checkpointer = Checkpointer.of(config, graph, Louvain.class, progressTracker);
     }
 
     @Override
@@ -104,7 +112,21 @@ public final class Louvain extends Algorithm<LouvainResult> {
         boolean resized = false;
 
         long oldNodeCount = rootGraph.nodeCount();
-        for (ranLevels = 0; ranLevels < maxLevels; ranLevels++) {
+        int startLevel = 0;
+
+        var restoredGraph = checkpointer.flatMap(Checkpointer::reader).map(reader -> {
+            try (reader) {
+                return readCheckpoint(reader);
+            }
+        });
+        if (restoredGraph.isPresent()) {
+            workingGraph = restoredGraph.get();
+            nextSeedingValues = summarySeedingValues(workingGraph);
+            oldNodeCount = workingGraph.nodeCount();
+            startLevel = ranLevels + 1;
+        }
+
+        for (ranLevels = startLevel; ranLevels < maxLevels; ranLevels++) {
 
             terminationFlag.assertRunning();
 
@@ -122,14 +144,8 @@ public final class Louvain extends Algorithm<LouvainResult> {
                 modularityOptimizationResult
             );
 
-            workingGraph = summarizeGraph(workingGraph, modularityOptimizationResult, maxCommunityId);
-            nextSeedingValues = new OriginalIdNodePropertyValues(workingGraph) {
-                @Override
-                public OptionalLong getMaxLongPropertyValue() {
-                    // We want to use the maxSeedCommunity with value 0 in all subsequent iterations
-                    return OptionalLong.empty();
-                }
-            };
+            workingGraph = summarizeGraph(workingGraph, modularityOptimizationResult::communityId, maxCommunityId);
+            nextSeedingValues = summarySeedingValues(workingGraph);
 
             if (workingGraph.nodeCount() == oldNodeCount
                 || workingGraph.nodeCount() == 1
@@ -140,10 +156,17 @@ public final class Louvain extends Algorithm<LouvainResult> {
                 break;
             }
             oldNodeCount = workingGraph.nodeCount();
+
+            int level = ranLevels;
+            checkpointer.ifPresent(it -> it.checkpoint(
+                level,
+                writer -> writeCheckpoint(level, maxCommunityId, writer)
+            ));
         }
         if (!resized && !trackIntermediateCommunities) {
             resizeResultArrays();
         }
+        checkpointer.ifPresent(Checkpointer::clear);
         progressTracker.endSubTask();
         return LouvainResult.of(
             dendrogramManager.getCurrent(),
@@ -154,6 +177,43 @@ public final class Louvain extends Algorithm<LouvainResult> {
         );
     }
 
+    private static NodePropertyValues summarySeedingValues(Graph summaryGraph) {
+        return new OriginalIdNodePropertyValues(summaryGraph) {
+            @Override
+            public OptionalLong getMaxLongPropertyValue() {
+                // We want to use the maxSeedCommunity with value 0 in all subsequent iterations
+                return OptionalLong.empty();
+            }
+        };
+    }
+
+    private void writeCheckpoint(int level, long maxCommunityId, CheckpointWriter writer) {
+        for (int i = 0; i <= level; i++) {
+            writer.writeDouble(modularities[i]);
+        }
+        writer.writeLong(maxCommunityId);
+        dendrogramManager.writeCheckpoint(level, writer);
+    }
+
+    /**
+     * Restores the results of all levels up to the checkpointed one. Instead of persisting
+     * the summary graph, it is rebuilt by aggregating the root graph by the current communities.
+     */
+    private Graph readCheckpoint(CheckpointReader reader) {
+        int level = reader.iteration();
+        for (int i = 0; i <= level; i++) {
+            modularities[i] = reader.readDouble();
+        }
+        long maxCommunityId = reader.readLong();
+        dendrogramManager.readCheckpoint(level, reader);
+        ranLevels = level;
+
+        progressTracker.logInfo(formatWithLocale("Resuming from checkpoint after level %d", level));
+
+        var communities = dendrogramManager.getCurrent();
+        return summarizeGraph(rootGraph, communities::get, maxCommunityId);
+    }
+
     private void resizeResultArrays() {
         int numLevels = levels();
         double[] resizedModularities = new double[numLevels];
@@ -218,7 +278,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
 
     private Graph summarizeGraph(
         Graph workingGraph,
-        ModularityOptimizationResult modularityOptimizationResult,
+        LongUnaryOperator communityIds,
         long maxCommunityId
     ) {
         var nodesBuilder = GraphFactory.initNodesBuilder()
@@ -229,7 +289,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
         terminationFlag.assertRunning();
 
         workingGraph.forEachNode((nodeId) -> {
-            nodesBuilder.addNode(modularityOptimizationResult.communityId(nodeId));
+            nodesBuilder.addNode(communityIds.applyAsLong(nodeId));
             return true;
         });
 
@@ -254,7 +314,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
             partition ->
                 new RelationshipCreator(
                     relationshipsBuilder,
-                    modularityOptimizationResult,
+                    communityIds,
                     workingGraph.concurrentCopy(),
                     partition
                 ),
@@ -284,7 +344,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
 
         private final RelationshipsBuilder relationshipsBuilder;
 
-        private final ModularityOptimizationResult modularityOptimizationResult;
+        private final LongUnaryOperator communityIds;
 
         private final RelationshipIterator relationshipIterator;
 
@@ -292,12 +352,12 @@ public final class Louvain extends Algorithm<LouvainResult> {
 
         private RelationshipCreator(
             RelationshipsBuilder relationshipsBuilder,
-            ModularityOptimizationResult modularityOptimizationResult,
+            LongUnaryOperator communityIds,
             RelationshipIterator relationshipIterator,
             Partition partition
         ) {
             this.relationshipsBuilder = relationshipsBuilder;
-            this.modularityOptimizationResult = modularityOptimizationResult;
+            this.communityIds = communityIds;
             this.relationshipIterator = relationshipIterator;
             this.partition = partition;
         }
@@ -305,12 +365,12 @@ public final class Louvain extends Algorithm<LouvainResult> {
         @Override
         public void run() {
             partition.consume(nodeId -> {
-                long communityId = modularityOptimizationResult.communityId(nodeId);
+                long communityId = communityIds.applyAsLong(nodeId);
                 relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
                     //ignore scaling alltogether
                         relationshipsBuilder.add(
                             communityId,
-                            modularityOptimizationResult.communityId(target),
+                            communityIds.applyAsLong(target),
                             property
                         );
 
@@ -20,6 +20,8 @@
 package org.neo4j.gds.louvain;
 
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
 
 public class LouvainDendrogramManager {
 
@@ -81,6 +83,40 @@ public class LouvainDendrogramManager {
         return communities;
     }
 
+    /**
+     * Writes the dendrograms that are required to continue after the given level.
+     */
+    void writeCheckpoint(int level, CheckpointWriter writer) {
+        if (trackIntermediateCommunities) {
+            for (int i = 0; i <= level; i++) {
+                writer.write(dendrograms[i]);
+            }
+        } else {
+            writer.write(dendrograms[currentIndex]);
+        }
+    }
+
+    /**
+     * Restores the dendrograms written by {@link #writeCheckpoint(int, CheckpointWriter)}
+     * as if the given level just finished.
+     */
+    void readCheckpoint(int level, CheckpointReader reader) {
+        if (trackIntermediateCommunities) {
+            for (int i = 0; i <= level; i++) {
+                dendrograms[i] = HugeLongArray.newArray(nodeCount);
+                reader.read(dendrograms[i]);
+            }
+            currentIndex = level;
+        } else {
+            for (int i = 0; i < dendrograms.length; i++) {
+                dendrograms[i] = HugeLongArray.newArray(nodeCount);
+            }
+            currentIndex = level % 2;
+            reader.read(dendrograms[currentIndex]);
+        }
+        previousIndex = trackIntermediateCommunities ? level - 1 : ((1 + level) % 2);
+    }
+
     public void resizeDendrogram(int numLevels) {
         if (trackIntermediateCommunities) {
             HugeLongArray[] resizedDendrogram = new HugeLongArray[numLevels];
@@ -20,6 +20,8 @@
 package org.neo4j.gds.msbfs;
 
 import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.collections.ha.HugeLongArray;
@@ -41,13 +43,45 @@ import org.neo4j.gds.collections.ha.HugeLongArray;
  * but then always for different sources.
  * </li>
  * </ul>
+ * <p>
+ * If created with a graph that allows iterating incoming relationships, i.e. an
+ * undirected or an inverse indexed graph, the strategy is direction-optimizing as
+ * described in Direction-Optimizing Breadth-First Search
+ * https://scottbeamer.net/pubs/beamer-sc2012.pdf
+ * <p>
+ * Once the relationships leaving the frontier outnumber the relationships of
+ * the nodes not yet seen by all sources, a level is expanded bottom-up: every
+ * node that has not been seen by all sources collects the sources of its
+ * incoming neighbors and stops as soon as all missing sources are found.
+ * When the frontier shrinks again, the traversal switches back to top-down.
+ * Both directions compute the same next visit set, the consumer is called
+ * with the same arguments either way.
  */
 public class ANPStrategy implements ExecutionStrategy {
 
+    // thresholds for switching the direction as proposed by Beamer et al.
+    private static final int TOP_DOWN_TO_BOTTOM_UP = 14;
+    private static final int BOTTOM_UP_TO_TOP_DOWN = 24;
+
     private final BfsConsumer perNodeAction;
+    private final @Nullable Graph graph;
 
     public ANPStrategy(BfsConsumer perNodeAction) {
+        this(perNodeAction, null);
+    }
+
+    /**
+     * @param graph used to estimate the cost of both directions; if it is neither undirected
+     *              nor inverse indexed, the traversal is always top-down
+     */
+    public ANPStrategy(BfsConsumer perNodeAction, @Nullable Graph graph) {
         this.perNodeAction = perNodeAction;
+        this.graph = graph != null && supportsBottomUp(graph) ? graph : null;
+    }
+
+    static boolean supportsBottomUp(Graph graph) {
+        var characteristics = graph.characteristics();
+        return characteristics.isUndirected() || characteristics.isInverseIndexed();
     }
 
     @Override
@@ -65,16 +99,30 @@ public class ANPStrategy implements ExecutionStrategy {
 
         var depth = 0;
 
+        var graph = this.graph;
+        var allSources = sourceNodes.allSourcesMask();
+        var bottomUpVisit = graph != null
+            ? new BottomUpVisit(relationships, graph.characteristics().isUndirected(), visitSet, allSources)
+            : null;
+        var bottomUp = false;
+        // relationships of nodes that have not been seen by all sources
+        var unexploredRelationships = graph != null ? graph.relationshipCount() : 0L;
+        var previousFrontierSize = 0L;
+
         while (true) {
-            visitSet.initCursor(visitCursor);
-            while (visitCursor.next()) {
-                long[] array = visitCursor.array;
-                int offset = visitCursor.offset;
-                int limit = visitCursor.limit;
-                long base = visitCursor.base;
-                for (int i = offset; i < limit; ++i) {
-                    if (array[i] != 0L) {
-                        prepareNextVisit(relationships, array[i], base + i, visitNextSet, depth);
+            if (bottomUp) {
+                bottomUpVisit.prepareNextVisit(totalNodeCount, seenSet, visitNextSet);
+            } else {
+                visitSet.initCursor(visitCursor);
+                while (visitCursor.next()) {
+                    long[] array = visitCursor.array;
+                    int offset = visitCursor.offset;
+                    int limit = visitCursor.limit;
+                    long base = visitCursor.base;
+                    for (int i = offset; i < limit; ++i) {
+                        if (array[i] != 0L) {
+                            prepareNextVisit(relationships, array[i], base + i, visitNextSet, depth);
+                        }
                     }
                 }
             }
@@ -83,6 +131,8 @@ public class ANPStrategy implements ExecutionStrategy {
 
             boolean hasNext = false;
             long next;
+            long frontierSize = 0L;
+            long frontierRelationships = 0L;
 
             visitNextSet.initCursor(nextCursor);
             while (nextCursor.next()) {
@@ -97,6 +147,15 @@ public class ANPStrategy implements ExecutionStrategy {
                             sourceNodes.reset(next);
                             perNodeAction.accept(base + i, depth, sourceNodes);
                             hasNext = true;
+
+                            if (graph != null) {
+                                var degree = graph.degree(base + i);
+                                frontierSize++;
+                                frontierRelationships += degree;
+                                if (seenSet.get(base + i) == allSources) {
+                                    unexploredRelationships -= degree;
+                                }
+                            }
                         }
                     }
                 }
@@ -106,6 +165,17 @@ public class ANPStrategy implements ExecutionStrategy {
                 return;
             }
 
+            if (graph != null) {
+                if (!bottomUp) {
+                    bottomUp = frontierSize > previousFrontierSize
+                               && frontierRelationships > unexploredRelationships / TOP_DOWN_TO_BOTTOM_UP;
+                } else {
+                    bottomUp = frontierSize >= previousFrontierSize
+                               || frontierSize >= totalNodeCount / BOTTOM_UP_TO_TOP_DOWN;
+                }
+                previousFrontierSize = frontierSize;
+            }
+
             visitNextSet.copyTo(visitSet, totalNodeCount);
             visitNextSet.fill(0L);
         }
@@ -137,4 +207,50 @@ public class ANPStrategy implements ExecutionStrategy {
         seenSet.or(nodeId, next);
         return next;
     }
+
+    /**
+     * Collects the sources that reach a node over its incoming relationships.
+     */
+    private static final class BottomUpVisit implements RelationshipConsumer {
+
+        private final RelationshipIterator relationships;
+        private final boolean isUndirected;
+        private final HugeLongArray visitSet;
+        private final long allSources;
+
+        private long missingSources;
+        private long foundSources;
+
+        BottomUpVisit(RelationshipIterator relationships, boolean isUndirected, HugeLongArray visitSet, long allSources) {
+            this.relationships = relationships;
+            this.isUndirected = isUndirected;
+            this.visitSet = visitSet;
+            this.allSources = allSources;
+        }
+
+        void prepareNextVisit(long nodeCount, HugeLongArray seenSet, HugeLongArray nextSet) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                missingSources = ~seenSet.get(nodeId) & allSources;
+                if (missingSources == 0L) {
+                    continue;
+                }
+                foundSources = 0L;
+                if (isUndirected) {
+                    relationships.forEachRelationship(nodeId, this);
+                } else {
+                    relationships.forEachInverseRelationship(nodeId, this);
+                }
+                if (foundSources != 0L) {
+                    nextSet.set(nodeId, foundSources);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long nodeId, long incomingNeighbor) {
+            foundSources |= visitSet.get(incomingNeighbor) & missingSources;
+            // stop once all missing sources are found
+            return foundSources != missingSources;
+        }
+    }
 }
@@ -25,6 +25,8 @@ import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.utils.CloseableThreadLocal;
 
 import java.util.Arrays;
@@ -105,6 +107,48 @@ public final class MultiSourceBFSAccessMethods {
         );
     }
 
+    /**
+     * Aggregated neighbor processing that expands large frontiers bottom-up
+     * if the graph is undirected or inverse indexed, see {@link ANPStrategy}.
+     */
+    public static MultiSourceBFSAccessMethods directionOptimizingNeighborProcessingWithoutSourceNodes(
+        Graph graph,
+        BfsConsumer perNodeAction
+    ) {
+        return createWithoutSeensNextOrSourceNodesOrStartNodeTraversal(
+            graph.nodeCount(),
+            graph,
+            new ANPStrategy(perNodeAction, graph)
+        );
+    }
+
+    /**
+     * The memory of one thread running a traversal created by
+     * {@link #directionOptimizingNeighborProcessingWithoutSourceNodes(Graph, BfsConsumer)}.
+     */
+    public static MemoryEstimation memoryEstimationWithoutSeensNext() {
+        return MemoryEstimations.builder(MultiSourceBFSAccessMethods.class)
+            .perNode("visit, visit next and seen sets", nodeCount -> 3 * HugeLongArray.memoryEstimation(nodeCount))
+            .build();
+    }
+
+    /**
+     * Aggregated neighbor processing that expands large frontiers bottom-up
+     * if the graph is undirected or inverse indexed, see {@link ANPStrategy}.
+     */
+    public static MultiSourceBFSAccessMethods directionOptimizingNeighborProcessing(
+        Graph graph,
+        BfsConsumer perNodeAction,
+        long[] sourceNodes
+    ) {
+        return createWithoutSeensNextOrStartNodeTraversal(
+            graph.nodeCount(),
+            graph,
+            new ANPStrategy(perNodeAction, graph),
+            sourceNodes
+        );
+    }
+
     // only used from tests
     public static MultiSourceBFSAccessMethods predecessorProcessingWithoutSourceNodes(
         Graph graph,
@@ -41,6 +41,13 @@ final class SourceNodes implements BfsSources {
         this.startPos = -1;
     }
 
+    /**
+     * Returns a mask with one bit set for each of the sources.
+     */
+    long allSourcesMask() {
+        return maxPos == MSBFSConstants.OMEGA ? -1L : (1L << maxPos) - 1;
+    }
+
     void reset() {
         this.pos = startPos;
         fetchNext();
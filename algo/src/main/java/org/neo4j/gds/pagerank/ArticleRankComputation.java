@@ -66,11 +66,18 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        var seedProperty = context.config().seedProperty();
+        var initialValue = seedProperty != null
+            ? context.nodeProperties(seedProperty).doubleValue(context.nodeId())
+            : Double.NaN;
+        if (Double.isNaN(initialValue)) {
+            initialValue = teleportValue(context.nodeId());
+        }
+        context.setNodeValue(PAGE_RANK, initialValue);
     }
 
-    private double initialValue(InitContext<PageRankConfig> context) {
-        if (!hasSourceNodes || sourceNodes.contains(context.nodeId())) {
+    private double teleportValue(long nodeId) {
+        if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
             return alpha;
         }
         return 0;
@@ -87,10 +94,14 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
                 sum += message;
             }
             delta = dampingFactor * sum;
+            if (context.superstep() == 1) {
+                // see PageRankComputation, the first delta of a warm-started computation is the residual of the seed
+                delta += teleportValue(context.nodeId()) - rank;
+            }
             context.setNodeValue(PAGE_RANK, rank + delta);
         }
 
-        if (delta > tolerance || context.isInitialSuperstep()) {
+        if (Math.abs(delta) > tolerance || context.isInitialSuperstep()) {
             var degree = degreeFunction.applyAsDouble(context.nodeId());
             if (degree > 0) {
                 // different from the original ArticleRank paper as we use deltas instead of the whole rank
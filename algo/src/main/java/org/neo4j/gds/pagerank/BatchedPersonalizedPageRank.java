@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.pregel.FixedWidthDoubleArrays;
+import org.neo4j.gds.beta.pregel.Pregel;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Computes personalized PageRank for many source node sets using
+ * the {@link ResidualPageRankComputation}. The source node sets are
+ * split into batches and each batch is computed in a single Pregel
+ * run. The scores of a batch are handed to the consumer as soon as
+ * the batch is done, so only one batch of scores is held in memory.
+ */
+public class BatchedPersonalizedPageRank extends Algorithm<BatchedPersonalizedPageRank.Result> {
+
+    @FunctionalInterface
+    public interface BatchConsumer {
+        /**
+         * @param firstSourceSet index of the source node set stored at position 0 of the score blocks
+         * @param scores         one score per source node set of the batch for each node
+         */
+        void accept(int firstSourceSet, FixedWidthDoubleArrays scores);
+    }
+
+    private final Graph graph;
+    private final PageRankConfig config;
+    private final List<LongSet> sourceNodeSets;
+    private final int batchSize;
+    private final BatchConsumer consumer;
+    private final Optional<PersonalizedPageRankScores> scores;
+    private final ExecutorService executorService;
+
+    public BatchedPersonalizedPageRank(
+        Graph graph,
+        PageRankConfig config,
+        List<LongSet> sourceNodeSets,
+        int batchSize,
+        BatchConsumer consumer,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, config, sourceNodeSets, batchSize, consumer, Optional.empty(), executorService, progressTracker);
+    }
+
+    private BatchedPersonalizedPageRank(
+        Graph graph,
+        PageRankConfig config,
+        List<LongSet> sourceNodeSets,
+        int batchSize,
+        BatchConsumer consumer,
+        Optional<PersonalizedPageRankScores> scores,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The batch size must be at least 1, got %d.",
+                batchSize
+            ));
+        }
+        this.graph = graph;
+        this.config = config;
+        this.sourceNodeSets = sourceNodeSets;
+        this.batchSize = batchSize;
+        this.consumer = consumer;
+        this.scores = scores;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Creates an instance that collects the positive scores of all batches,
+     * they are returned by {@link Result#scores()}.
+     */
+    public static BatchedPersonalizedPageRank collectingScores(
+        Graph graph,
+        PageRankConfig config,
+        List<LongSet> sourceNodeSets,
+        int batchSize,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var scores = new PersonalizedPageRankScores();
+        return new BatchedPersonalizedPageRank(
+            graph,
+            config,
+            sourceNodeSets,
+            batchSize,
+            scores,
+            Optional.of(scores),
+            executorService,
+            progressTracker
+        );
+    }
+
+    public static Task progressTask(int sourceNodeSetCount, int batchSize) {
+        return Tasks.leaf("BatchedPersonalizedPageRank", batchCount(sourceNodeSetCount, batchSize));
+    }
+
+    public static MemoryEstimation memoryEstimation(int batchSize) {
+        return Pregel.memoryEstimation(
+            ResidualPageRankComputation.schema(batchSize),
+            ResidualPageRankComputation.messageSchema(batchSize)
+        );
+    }
+
+    @Override
+    public Result compute() {
+        progressTracker.beginSubTask();
+
+        int maxIterations = 0;
+        boolean didConverge = true;
+
+        for (int start = 0; start < sourceNodeSets.size(); start += batchSize) {
+            terminationFlag.assertRunning();
+
+            var batch = sourceNodeSets.subList(start, Math.min(start + batchSize, sourceNodeSets.size()));
+            var pregelJob = Pregel.create(
+                graph,
+                config,
+                new ResidualPageRankComputation(config, batch),
+                executorService,
+                ProgressTracker.NULL_TRACKER
+            );
+            pregelJob.setTerminationFlag(terminationFlag);
+
+            try {
+                var pregelResult = pregelJob.run();
+                consumer.accept(
+                    start,
+                    pregelResult.nodeValues().fixedWidthDoubleArrayProperties(ResidualPageRankComputation.PAGE_RANK)
+                );
+                maxIterations = Math.max(maxIterations, pregelResult.ranIterations());
+                didConverge &= pregelResult.didConverge();
+            } finally {
+                pregelJob.release();
+            }
+
+            progressTracker.logProgress();
+        }
+
+        progressTracker.endSubTask();
+
+        return new Result(batchCount(sourceNodeSets.size(), batchSize), maxIterations, didConverge, scores);
+    }
+
+    private static int batchCount(int sourceNodeSetCount, int batchSize) {
+        return (sourceNodeSetCount + batchSize - 1) / batchSize;
+    }
+
+    public static final class Result {
+
+        private final int batches;
+        private final int ranIterations;
+        private final boolean didConverge;
+        private final Optional<PersonalizedPageRankScores> scores;
+
+        Result(int batches, int ranIterations, boolean didConverge, Optional<PersonalizedPageRankScores> scores) {
+            this.batches = batches;
+            this.ranIterations = ranIterations;
+            this.didConverge = didConverge;
+            this.scores = scores;
+        }
+
+        public int batches() {
+            return batches;
+        }
+
+        /**
+         * The maximum number of iterations over all batches.
+         */
+        public int ranIterations() {
+            return ranIterations;
+        }
+
+        /**
+         * Whether all batches converged.
+         */
+        public boolean didConverge() {
+            return didConverge;
+        }
+
+        /**
+         * The collected scores, only present if the scores were not handed to a custom consumer.
+         */
+        public Optional<PersonalizedPageRankScores> scores() {
+            return scores;
+        }
+    }
+}
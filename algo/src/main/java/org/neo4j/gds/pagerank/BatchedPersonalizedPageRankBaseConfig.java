@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+
+public interface BatchedPersonalizedPageRankBaseConfig extends PageRankConfig {
+
+    /**
+     * The number of source nodes whose personalized ranks are computed in a single Pregel run.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int batchSize() {
+        return 64;
+    }
+
+    @Value.Check
+    default void validate() {
+        if (sourceNodes().isEmpty()) {
+            throw new IllegalArgumentException(
+                "Batched personalized PageRank requires at least one source node."
+            );
+        }
+        if (hasRelationshipWeightProperty()) {
+            throw new IllegalArgumentException(
+                "Batched personalized PageRank does not support relationship weights."
+            );
+        }
+    }
+}
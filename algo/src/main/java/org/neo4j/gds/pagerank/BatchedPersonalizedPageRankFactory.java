@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongSet;
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Computes one personalized PageRank per configured source node.
+ * The personalization of the i-th source node is reported as source node set i.
+ */
+public class BatchedPersonalizedPageRankFactory<CONFIG extends BatchedPersonalizedPageRankBaseConfig> extends GraphAlgorithmFactory<BatchedPersonalizedPageRank, CONFIG> {
+
+    private final boolean collectScores;
+
+    /**
+     * @param collectScores whether the positive scores of all batches are kept in the result
+     */
+    public BatchedPersonalizedPageRankFactory(boolean collectScores) {
+        this.collectScores = collectScores;
+    }
+
+    @Override
+    public BatchedPersonalizedPageRank build(
+        Graph graph,
+        CONFIG configuration,
+        ProgressTracker progressTracker
+    ) {
+        List<LongSet> sourceNodeSets = configuration.sourceNodes().stream()
+            .map(sourceNode -> (LongSet) LongHashSet.from(graph.toMappedNodeId(sourceNode)))
+            .collect(Collectors.toList());
+
+        if (collectScores) {
+            return BatchedPersonalizedPageRank.collectingScores(
+                graph,
+                configuration,
+                sourceNodeSets,
+                configuration.batchSize(),
+                DefaultPool.INSTANCE,
+                progressTracker
+            );
+        }
+
+        return new BatchedPersonalizedPageRank(
+            graph,
+            configuration,
+            sourceNodeSets,
+            configuration.batchSize(),
+            (firstSourceSet, scores) -> {},
+            DefaultPool.INSTANCE,
+            progressTracker
+        );
+    }
+
+    @Override
+    public String taskName() {
+        return "BatchedPersonalizedPageRank";
+    }
+
+    @Override
+    public Task progressTask(Graph graph, CONFIG config) {
+        return BatchedPersonalizedPageRank.progressTask(config.sourceNodes().size(), config.batchSize());
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        // a batch never holds more personalizations than there are source nodes
+        return BatchedPersonalizedPageRank.memoryEstimation(
+            Math.min(configuration.batchSize(), configuration.sourceNodes().size())
+        );
+    }
+}
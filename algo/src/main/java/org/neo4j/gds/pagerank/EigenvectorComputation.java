@@ -81,7 +81,16 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(RANK, initialValue(context));
+        // A seed property, e.g. the result of a previous run, replaces the initial vector.
+        // It is expected to be L2-normalized and takes precedence over the source nodes.
+        var seedProperty = context.config().seedProperty();
+        var initialValue = seedProperty != null
+            ? context.nodeProperties(seedProperty).doubleValue(context.nodeId())
+            : Double.NaN;
+        if (Double.isNaN(initialValue)) {
+            initialValue = initialValue(context);
+        }
+        context.setNodeValue(RANK, initialValue);
     }
 
     private double initialValue(InitContext<PageRankConfig> context) {
@@ -63,11 +63,19 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        var seedProperty = context.config().seedProperty();
+        var initialValue = seedProperty != null
+            ? context.nodeProperties(seedProperty).doubleValue(context.nodeId())
+            : Double.NaN;
+        // Nodes without a seed value, e.g. those added since the previous run, start cold.
+        if (Double.isNaN(initialValue)) {
+            initialValue = teleportValue(context.nodeId());
+        }
+        context.setNodeValue(PAGE_RANK, initialValue);
     }
 
-    private double initialValue(InitContext<PageRankConfig> context) {
-        if (!hasSourceNodes || sourceNodes.contains(context.nodeId())) {
+    private double teleportValue(long nodeId) {
+        if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
             return alpha;
         }
         return 0;
@@ -84,10 +92,16 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
                 sum += message;
             }
             delta = dampingFactor * sum;
+            if (context.superstep() == 1) {
+                // The initial rank is the teleport value unless the computation is warm-started
+                // from a seed property. In that case, the first delta is the residual of the seed.
+                delta += teleportValue(context.nodeId()) - rank;
+            }
             context.setNodeValue(PAGE_RANK, rank + delta);
         }
 
-        if (delta > tolerance || context.isInitialSuperstep()) {
+        // deltas of warm-started computations can be negative
+        if (Math.abs(delta) > tolerance || context.isInitialSuperstep()) {
             var degree = degreeFunction.applyAsDouble(context.nodeId());
             if (degree > 0) {
                 context.sendToNeighbors(delta / degree);
@@ -61,4 +61,9 @@ public class PageRankResult implements CentralityAlgorithmResult {
         return scores::get;
     }
 
+    @Override
+    public void copyCentralityScores(long startNode, long endNode, double[] target) {
+        CentralityAlgorithmResult.copyCentralityScores(scores, startNode, endNode, target);
+    }
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.beta.pregel.FixedWidthDoubleArrays;
+
+/**
+ * Collects the positive scores of all batches of a {@link BatchedPersonalizedPageRank}.
+ * Personalized ranks are zero for every node that is not reachable from
+ * the source nodes, so only the scores of reached nodes are kept.
+ * Batches are handed over sequentially, the collector is not thread-safe.
+ */
+public final class PersonalizedPageRankScores implements BatchedPersonalizedPageRank.BatchConsumer {
+
+    private final LongArrayList nodeIds;
+    private final IntArrayList sourceNodeSets;
+    private final DoubleArrayList scores;
+
+    PersonalizedPageRankScores() {
+        this.nodeIds = new LongArrayList();
+        this.sourceNodeSets = new IntArrayList();
+        this.scores = new DoubleArrayList();
+    }
+
+    @Override
+    public void accept(int firstSourceSet, FixedWidthDoubleArrays batchScores) {
+        for (long nodeId = 0; nodeId < batchScores.nodeCount(); nodeId++) {
+            for (int index = 0; index < batchScores.dimension(); index++) {
+                var score = batchScores.get(nodeId, index);
+                if (score > 0) {
+                    nodeIds.add(nodeId);
+                    sourceNodeSets.add(firstSourceSet + index);
+                    scores.add(score);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    public long nodeId(int index) {
+        return nodeIds.get(index);
+    }
+
+    /**
+     * The index of the source node set that the score at the given index is personalized for.
+     */
+    public int sourceNodeSet(int index) {
+        return sourceNodeSets.get(index);
+    }
+
+    public double score(int index) {
+        return scores.get(index);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongSet;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.beta.pregel.MessageSchema;
+import org.neo4j.gds.beta.pregel.Messages;
+import org.neo4j.gds.beta.pregel.PregelComputation;
+import org.neo4j.gds.beta.pregel.PregelSchema;
+import org.neo4j.gds.beta.pregel.Reducer;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Push-based personalized PageRank following Andersen, Chung and Lang.
+ * <br>
+ * Every node keeps a residual per personalization vector. A node only
+ * pushes the components whose contribution to its rank exceeds the
+ * tolerance; smaller residuals are kept and accumulate until they do.
+ * Nodes that receive no residual are not computed at all, which keeps
+ * the work proportional to the part of the graph whose rank changes.
+ * <br>
+ * Multiple source node sets are computed in a single pass. The ranks
+ * and residuals of all source sets are stored in per-node blocks and
+ * a message carries the residuals of all source sets at once.
+ */
+public final class ResidualPageRankComputation implements PregelComputation<PageRankConfig> {
+
+    static final String PAGE_RANK = "pagerank";
+    static final String RESIDUAL = "residual";
+
+    private final List<LongSet> sourceNodeSets;
+    private final int batchSize;
+
+    private final double dampingFactor;
+    private final double tolerance;
+    private final double alpha;
+
+    private final CloseableThreadLocal<double[]> residualBuffers;
+
+    ResidualPageRankComputation(PageRankConfig config, List<LongSet> sourceNodeSets) {
+        if (config.hasRelationshipWeightProperty()) {
+            throw new IllegalArgumentException("Residual PageRank does not support relationship weights.");
+        }
+        if (sourceNodeSets.isEmpty()) {
+            throw new IllegalArgumentException("Residual PageRank requires at least one source node set.");
+        }
+        this.sourceNodeSets = sourceNodeSets;
+        this.batchSize = sourceNodeSets.size();
+        this.dampingFactor = config.dampingFactor();
+        this.tolerance = config.tolerance();
+        this.alpha = 1 - this.dampingFactor;
+        this.residualBuffers = CloseableThreadLocal.withInitial(() -> new double[batchSize]);
+    }
+
+    static PregelSchema schema(int batchSize) {
+        return new PregelSchema.Builder()
+            .add(PAGE_RANK, ValueType.DOUBLE_ARRAY, batchSize)
+            .add(RESIDUAL, ValueType.DOUBLE_ARRAY, batchSize, PregelSchema.Visibility.PRIVATE)
+            .build();
+    }
+
+    static MessageSchema messageSchema(int batchSize) {
+        return MessageSchema.doubleArray(batchSize, new Reducer.Sum());
+    }
+
+    @Override
+    public PregelSchema schema(PageRankConfig config) {
+        return schema(batchSize);
+    }
+
+    @Override
+    public MessageSchema messageSchema(PageRankConfig config) {
+        return messageSchema(batchSize);
+    }
+
+    @Override
+    public void init(InitContext<PageRankConfig> context) {
+        for (int i = 0; i < batchSize; i++) {
+            var sourceNodes = sourceNodeSets.get(i);
+            if (sourceNodes.isEmpty() || sourceNodes.contains(context.nodeId())) {
+                context.setDoubleArrayNodeValueAt(RESIDUAL, i, 1);
+            }
+        }
+    }
+
+    @Override
+    public void compute(ComputeContext<PageRankConfig> context, Messages messages) {
+        var buffer = residualBuffers.get();
+        receive(messages, buffer);
+
+        var degree = context.degree();
+        boolean hasPushed = false;
+
+        for (int i = 0; i < batchSize; i++) {
+            double residual = context.doubleArrayNodeValueAt(RESIDUAL, i) + dampingFactor * buffer[i];
+            double delta = alpha * residual;
+
+            if (delta > tolerance) {
+                context.setDoubleArrayNodeValueAt(PAGE_RANK, i, context.doubleArrayNodeValueAt(PAGE_RANK, i) + delta);
+                context.setDoubleArrayNodeValueAt(RESIDUAL, i, 0);
+                buffer[i] = degree > 0 ? residual / degree : 0;
+                hasPushed = true;
+            } else {
+                context.setDoubleArrayNodeValueAt(RESIDUAL, i, residual);
+                buffer[i] = 0;
+            }
+        }
+
+        if (hasPushed && degree > 0) {
+            context.sendArrayToNeighbors(buffer);
+        }
+
+        // nodes are woken up again by incoming residuals
+        context.voteToHalt();
+    }
+
+    private void receive(Messages messages, double[] buffer) {
+        Arrays.fill(buffer, 0);
+        if (batchSize == 1) {
+            // single double messages are handled by the default messengers
+            var iterator = messages.doubleIterator();
+            while (iterator.hasNext()) {
+                buffer[0] += iterator.nextDouble();
+            }
+            return;
+        }
+        var cursor = messages.cursor();
+        while (cursor.advance()) {
+            for (int i = 0; i < batchSize; i++) {
+                buffer[i] += cursor.doubleValue(i);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        residualBuffers.close();
+    }
+}
@@ -26,6 +26,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeLongDoubleMap;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.ShortestPathBaseConfig;
 import org.neo4j.gds.paths.astar.config.ShortestPathAStarBaseConfig;
 import org.neo4j.gds.paths.dijkstra.Dijkstra;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
@@ -76,6 +77,18 @@ public final class AStar extends Algorithm<PathFindingResult> {
         return new AStar(dijkstra);
     }
 
+    /**
+     * Runs A* with the given heuristic, which must not overestimate the distance to the target node.
+     */
+    public static AStar sourceTarget(
+        Graph graph,
+        ShortestPathBaseConfig config,
+        Dijkstra.HeuristicFunction heuristic,
+        ProgressTracker progressTracker
+    ) {
+        return new AStar(Dijkstra.sourceTarget(graph, config, Optional.of(heuristic), progressTracker));
+    }
+
     public static MemoryEstimation memoryEstimation() {
         return MemoryEstimations.builder(AStar.class)
             .add("Dijkstra", Dijkstra.memoryEstimation(false))
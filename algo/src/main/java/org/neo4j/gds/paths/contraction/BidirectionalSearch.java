@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import com.carrotsearch.hppc.DoubleArrayDeque;
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayDeque;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.paths.contraction.UpwardGraph.NO_MIDDLE;
+
+/**
+ * Point-to-point shortest path queries on a {@link ContractionHierarchy}.
+ * <p>
+ * A forward search from the source and a backward search from the target only follow relationships
+ * towards nodes of higher rank. Each search stops once its smallest tentative distance exceeds the best
+ * path found through a node settled by both searches. Shortcuts on the resulting path are unpacked
+ * into the original relationships.
+ * <p>
+ * Instances are not thread-safe. The buffers are sized by the node count once and only the touched
+ * entries are reset between queries.
+ */
+public final class BidirectionalSearch {
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final ContractionHierarchy hierarchy;
+    private final Side forward;
+    private final Side backward;
+    private double bestDistance;
+    private long meetingNode;
+
+    public static MemoryEstimation memoryEstimation() {
+        var side = MemoryEstimations.builder(Side.class)
+            .perNode("distances", HugeDoubleArray::memoryEstimation)
+            .perNode("predecessors", HugeLongArray::memoryEstimation)
+            .add("queue", HugeLongPriorityQueue.memoryEstimation())
+            .build();
+        return MemoryEstimations.builder(BidirectionalSearch.class)
+            .add("forward", side)
+            .add("backward", side)
+            .build();
+    }
+
+    BidirectionalSearch(ContractionHierarchy hierarchy) {
+        this.hierarchy = hierarchy;
+        this.forward = new Side(hierarchy.outgoing(), hierarchy.nodeCount());
+        this.backward = new Side(hierarchy.incoming(), hierarchy.nodeCount());
+    }
+
+    /**
+     * @return the length of the shortest path or {@link Double#POSITIVE_INFINITY} if the target is unreachable
+     */
+    public double distance(long sourceNode, long targetNode) {
+        search(sourceNode, targetNode);
+        double distance = bestDistance;
+        forward.reset();
+        backward.reset();
+        return distance;
+    }
+
+    /**
+     * Computes the shortest path between the given nodes, the result is empty if the target is unreachable.
+     */
+    public PathFindingResult sourceTarget(long sourceNode, long targetNode) {
+        Stream<PathResult> paths = path(0, sourceNode, targetNode).stream();
+        return new PathFindingResult(paths);
+    }
+
+    /**
+     * Computes the shortest path between the given nodes, the path is empty if the target is unreachable.
+     *
+     * @param index the index of the resulting path
+     */
+    public Optional<PathResult> path(long index, long sourceNode, long targetNode) {
+        search(sourceNode, targetNode);
+        var path = meetingNode == -1
+            ? Optional.<PathResult>empty()
+            : Optional.of(pathResult(index, sourceNode, targetNode));
+        forward.reset();
+        backward.reset();
+        return path;
+    }
+
+    private void search(long sourceNode, long targetNode) {
+        forward.start(sourceNode);
+        backward.start(targetNode);
+        bestDistance = Double.POSITIVE_INFINITY;
+        meetingNode = -1;
+
+        while (true) {
+            boolean forwardDone = forward.minDistance() >= bestDistance;
+            boolean backwardDone = backward.minDistance() >= bestDistance;
+            if (forwardDone && backwardDone) {
+                return;
+            }
+            var side = !forwardDone && (backwardDone || forward.minDistance() <= backward.minDistance())
+                ? forward
+                : backward;
+            var other = side == forward ? backward : forward;
+
+            long node = side.queue.pop();
+            double distance = side.distances.get(node);
+            double otherDistance = other.distances.get(node);
+            if (distance + otherDistance < bestDistance) {
+                bestDistance = distance + otherDistance;
+                meetingNode = node;
+            }
+            side.relax(node, distance);
+        }
+    }
+
+    private PathResult pathResult(long index, long sourceNode, long targetNode) {
+        var nodeIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+        nodeIds.add(sourceNode);
+        costs.add(0.0);
+
+        // the forward search reached the meeting node through relationships pointing towards it
+        var forwardNodes = new LongArrayDeque();
+        for (long node = meetingNode; node != sourceNode; node = forward.predecessors.get(node)) {
+            forwardNodes.addFirst(node);
+        }
+        long previous = sourceNode;
+        while (!forwardNodes.isEmpty()) {
+            long node = forwardNodes.removeFirst();
+            unpack(previous, node, nodeIds, costs);
+            previous = node;
+        }
+        // the backward search reached the meeting node through relationships pointing away from it
+        for (long node = meetingNode; node != targetNode; node = backward.predecessors.get(node)) {
+            unpack(node, backward.predecessors.get(node), nodeIds, costs);
+        }
+
+        return ImmutablePathResult.builder()
+            .index(index)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(EMPTY_ARRAY)
+            .costs(costs.toArray())
+            .build();
+    }
+
+    /**
+     * Appends the original relationships of the hierarchy relationship {@code from -> to}.
+     */
+    private void unpack(long from, long to, LongArrayList nodeIds, DoubleArrayList costs) {
+        // triples of source, target and middle node, the innermost shortcut is unpacked first
+        var relationships = new LongArrayDeque();
+        var weights = new DoubleArrayDeque();
+        push(from, to, relationships, weights);
+
+        while (!relationships.isEmpty()) {
+            long middle = relationships.removeLast();
+            long target = relationships.removeLast();
+            long source = relationships.removeLast();
+            double weight = weights.removeLast();
+            if (middle == NO_MIDDLE) {
+                nodeIds.add(target);
+                costs.add(costs.get(costs.size() - 1) + weight);
+            } else {
+                push(middle, target, relationships, weights);
+                push(source, middle, relationships, weights);
+            }
+        }
+    }
+
+    private void push(long source, long target, LongArrayDeque relationships, DoubleArrayDeque weights) {
+        // the relationship is stored at its lower ranked end
+        UpwardGraph graph;
+        long offset;
+        if (hierarchy.rank(target) > hierarchy.rank(source)) {
+            graph = hierarchy.outgoing();
+            offset = graph.find(source, target);
+        } else {
+            graph = hierarchy.incoming();
+            offset = graph.find(target, source);
+        }
+        assert offset != -1;
+        relationships.addLast(source);
+        relationships.addLast(target);
+        relationships.addLast(graph.middle(offset));
+        weights.addLast(graph.weight(offset));
+    }
+
+    private static final class Side {
+        private final UpwardGraph graph;
+        private final HugeDoubleArray distances;
+        private final HugeLongArray predecessors;
+        private final HugeLongPriorityQueue queue;
+        private final LongArrayList touched;
+
+        private Side(UpwardGraph graph, long nodeCount) {
+            this.graph = graph;
+            this.distances = HugeDoubleArray.newArray(nodeCount);
+            this.distances.fill(Double.POSITIVE_INFINITY);
+            this.predecessors = HugeLongArray.newArray(nodeCount);
+            this.queue = HugeLongPriorityQueue.min(nodeCount);
+            this.touched = new LongArrayList();
+        }
+
+        void start(long nodeId) {
+            distances.set(nodeId, 0.0);
+            predecessors.set(nodeId, -1);
+            touched.add(nodeId);
+            queue.add(nodeId, 0.0);
+        }
+
+        double minDistance() {
+            return queue.isEmpty() ? Double.POSITIVE_INFINITY : queue.cost(queue.top());
+        }
+
+        void relax(long nodeId, double distance) {
+            for (long offset = graph.startOffset(nodeId); offset < graph.endOffset(nodeId); offset++) {
+                long neighbour = graph.neighbour(offset);
+                double neighbourDistance = distance + graph.weight(offset);
+                double current = distances.get(neighbour);
+                if (neighbourDistance < current) {
+                    if (current == Double.POSITIVE_INFINITY) {
+                        touched.add(neighbour);
+                    }
+                    distances.set(neighbour, neighbourDistance);
+                    predecessors.set(neighbour, nodeId);
+                    queue.set(neighbour, neighbourDistance);
+                }
+            }
+        }
+
+        void reset() {
+            while (!queue.isEmpty()) {
+                queue.pop();
+            }
+            for (int i = 0; i < touched.size(); i++) {
+                distances.set(touched.get(i), Double.POSITIVE_INFINITY);
+            }
+            touched.clear();
+        }
+    }
+}
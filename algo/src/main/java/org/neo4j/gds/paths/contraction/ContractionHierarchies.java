@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.termination.TerminationFlag.RUN_CHECK_NODE_COUNT;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds a {@link ContractionHierarchy}, see Geisberger et al., "Contraction Hierarchies: Faster and Simpler
+ * Hierarchical Routing in Road Networks".
+ * <p>
+ * Nodes are contracted one by one in the order of their priority, which is the number of shortcuts
+ * the contraction adds minus the number of relationships it removes plus the number of already contracted
+ * neighbours. When a node is contracted, a shortcut {@code u -> w} is added for every pair of neighbours
+ * {@code u -> v -> w}, unless a witness search finds a path from {@code u} to {@code w} that avoids {@code v}
+ * and is not longer. The witness search gives up after settling {@code witnessSearchLimit} nodes,
+ * which adds more shortcuts than necessary but never drops a required one.
+ * <p>
+ * The initial priorities are computed in parallel, the contraction itself is sequential.
+ * Priorities are updated lazily when a node reaches the top of the queue and eagerly for the neighbours
+ * of a contracted node. Relationship weights must not be negative, parallel relationships keep the
+ * smallest weight.
+ * <p>
+ * The relationships of the nodes that are not contracted yet are kept in a {@link DynamicAdjacency}
+ * per direction. Once a node is contracted, its relationships are no longer modified and become
+ * its relationships in the hierarchy.
+ */
+public class ContractionHierarchies extends Algorithm<ContractionHierarchy> {
+
+    public static final int DEFAULT_WITNESS_SEARCH_LIMIT = 500;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final int witnessSearchLimit;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    private final HugeIntArray contractedNeighbours;
+    // the relationships between nodes which are not contracted yet
+    private DynamicAdjacency outgoing;
+    private DynamicAdjacency incoming;
+
+    public static Task progressTask(Graph graph) {
+        return Tasks.task(
+            "ContractionHierarchies",
+            Tasks.leaf("Priorities", graph.nodeCount()),
+            Tasks.leaf("Contraction", graph.nodeCount())
+        );
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ContractionHierarchies.class)
+            .add("outgoing", DynamicAdjacency.memoryEstimation())
+            .add("incoming", DynamicAdjacency.memoryEstimation())
+            .perNode("contracted neighbours", HugeIntArray::memoryEstimation)
+            .perNode("priorities", HugeDoubleArray::memoryEstimation)
+            .add("queue", HugeLongPriorityQueue.memoryEstimation())
+            .perThread("witness search", MemoryEstimations.builder(WitnessSearch.class)
+                .add("queue", HugeLongPriorityQueue.memoryEstimation())
+                .perNode("distances", HugeDoubleArray::memoryEstimation)
+                .build())
+            .add("hierarchy", ContractionHierarchy.memoryEstimation())
+            .build();
+    }
+
+    public ContractionHierarchies(
+        Graph graph,
+        int witnessSearchLimit,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (witnessSearchLimit < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The witness search limit must be positive, got %d.",
+                witnessSearchLimit
+            ));
+        }
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.witnessSearchLimit = witnessSearchLimit;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.contractedNeighbours = HugeIntArray.newArray(nodeCount);
+    }
+
+    @Override
+    public ContractionHierarchy compute() {
+        progressTracker.beginSubTask();
+
+        loadRelationships();
+        var queue = initialPriorities();
+
+        progressTracker.beginSubTask();
+        var ranks = HugeLongArray.newArray(nodeCount);
+        var witnessSearch = new WitnessSearch();
+
+        long rank = 0;
+        while (!queue.isEmpty()) {
+            long nodeId = queue.top();
+            // lazy update, the priority might have grown since the node was inserted
+            queue.set(nodeId, priority(nodeId, witnessSearch));
+            if (queue.top() != nodeId) {
+                continue;
+            }
+            queue.pop();
+
+            contract(nodeId, witnessSearch, queue);
+            ranks.set(nodeId, rank++);
+
+            progressTracker.logProgress();
+            if (rank % RUN_CHECK_NODE_COUNT == 0) {
+                terminationFlag.assertRunning();
+            }
+        }
+        progressTracker.endSubTask();
+
+        var hierarchy = new ContractionHierarchy(
+            ranks,
+            UpwardGraph.of(outgoing, nodeCount),
+            UpwardGraph.of(incoming, nodeCount)
+        );
+        this.outgoing = null;
+        this.incoming = null;
+
+        progressTracker.endSubTask();
+        return hierarchy;
+    }
+
+    private void loadRelationships() {
+        var outDegrees = HugeIntArray.newArray(nodeCount);
+        var inDegrees = HugeIntArray.newArray(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                if (source != target) {
+                    outDegrees.addTo(source, 1);
+                    inDegrees.addTo(target, 1);
+                }
+                return true;
+            });
+        }
+
+        this.outgoing = new DynamicAdjacency(outDegrees);
+        this.incoming = new DynamicAdjacency(inDegrees);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            graph.forEachRelationship(nodeId, 1.0D, (source, target, weight) -> {
+                if (source != target) {
+                    outgoing.putMin(source, target, weight);
+                    incoming.putMin(target, source, weight);
+                }
+                return true;
+            });
+        }
+    }
+
+    private HugeLongPriorityQueue initialPriorities() {
+        progressTracker.beginSubTask();
+        var priorities = HugeDoubleArray.newArray(nodeCount);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var witnessSearch = new WitnessSearch();
+                partition.consume(nodeId -> priorities.set(nodeId, priority(nodeId, witnessSearch)));
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        var queue = HugeLongPriorityQueue.min(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            queue.add(nodeId, priorities.get(nodeId));
+        }
+        progressTracker.endSubTask();
+        return queue;
+    }
+
+    private double priority(long nodeId, WitnessSearch witnessSearch) {
+        long[] shortcuts = {0};
+        forEachShortcut(nodeId, witnessSearch, (source, target, weight) -> shortcuts[0]++);
+        long removed = outgoing.degree(nodeId) + incoming.degree(nodeId);
+        return shortcuts[0] - removed + contractedNeighbours.get(nodeId);
+    }
+
+    private void contract(long nodeId, WitnessSearch witnessSearch, HugeLongPriorityQueue queue) {
+        var sources = new LongArrayList();
+        var targets = new LongArrayList();
+        var weights = new DoubleArrayList();
+        forEachShortcut(nodeId, witnessSearch, (source, target, weight) -> {
+            sources.add(source);
+            targets.add(target);
+            weights.add(weight);
+        });
+
+        // the relationships of the contracted node are kept as its upward relationships
+        var neighbours = new LongHashSet();
+        for (long offset = incoming.startOffset(nodeId); offset < incoming.endOffset(nodeId); offset++) {
+            long source = incoming.neighbour(offset);
+            outgoing.remove(source, nodeId);
+            neighbours.add(source);
+        }
+        for (long offset = outgoing.startOffset(nodeId); offset < outgoing.endOffset(nodeId); offset++) {
+            long target = outgoing.neighbour(offset);
+            incoming.remove(target, nodeId);
+            neighbours.add(target);
+        }
+
+        for (int i = 0; i < sources.size(); i++) {
+            long source = sources.get(i);
+            long target = targets.get(i);
+            double weight = weights.get(i);
+            if (outgoing.putMin(source, target, weight, nodeId)) {
+                incoming.putMin(target, source, weight, nodeId);
+            }
+        }
+
+        for (LongCursor neighbour : neighbours) {
+            contractedNeighbours.addTo(neighbour.value, 1);
+            queue.set(neighbour.value, priority(neighbour.value, witnessSearch));
+        }
+    }
+
+    /**
+     * Calls the consumer for every shortcut that the contraction of the given node requires.
+     */
+    private void forEachShortcut(long nodeId, WitnessSearch witnessSearch, ShortcutConsumer consumer) {
+        long incomingStart = incoming.startOffset(nodeId);
+        long incomingEnd = incoming.endOffset(nodeId);
+        long outgoingStart = outgoing.startOffset(nodeId);
+        long outgoingEnd = outgoing.endOffset(nodeId);
+        if (incomingStart == incomingEnd || outgoingStart == outgoingEnd) {
+            return;
+        }
+        double maxOutgoingWeight = 0;
+        for (long offset = outgoingStart; offset < outgoingEnd; offset++) {
+            maxOutgoingWeight = Math.max(maxOutgoingWeight, outgoing.weight(offset));
+        }
+
+        for (long sourceOffset = incomingStart; sourceOffset < incomingEnd; sourceOffset++) {
+            long source = incoming.neighbour(sourceOffset);
+            double sourceWeight = incoming.weight(sourceOffset);
+            witnessSearch.run(source, nodeId, sourceWeight + maxOutgoingWeight);
+            for (long targetOffset = outgoingStart; targetOffset < outgoingEnd; targetOffset++) {
+                long target = outgoing.neighbour(targetOffset);
+                if (target == source) {
+                    continue;
+                }
+                double weight = sourceWeight + outgoing.weight(targetOffset);
+                if (witnessSearch.distance(target) > weight) {
+                    consumer.accept(source, target, weight);
+                }
+            }
+            witnessSearch.reset();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ShortcutConsumer {
+        void accept(long source, long target, double weight);
+    }
+
+    /**
+     * A Dijkstra search on the not yet contracted nodes which skips one node and stops early.
+     */
+    private final class WitnessSearch {
+        private final HugeLongPriorityQueue queue;
+        private final HugeDoubleArray distances;
+        private final LongArrayList touched;
+
+        private WitnessSearch() {
+            this.queue = HugeLongPriorityQueue.min(nodeCount);
+            this.distances = HugeDoubleArray.newArray(nodeCount);
+            this.distances.fill(Double.POSITIVE_INFINITY);
+            this.touched = new LongArrayList();
+        }
+
+        void run(long sourceNode, long skippedNode, double maxDistance) {
+            distances.set(sourceNode, 0.0);
+            touched.add(sourceNode);
+            queue.add(sourceNode, 0.0);
+
+            int settled = 0;
+            while (!queue.isEmpty() && settled < witnessSearchLimit) {
+                long node = queue.top();
+                double distance = queue.cost(node);
+                if (distance > maxDistance) {
+                    break;
+                }
+                queue.pop();
+                settled++;
+
+                long end = outgoing.endOffset(node);
+                for (long offset = outgoing.startOffset(node); offset < end; offset++) {
+                    long target = outgoing.neighbour(offset);
+                    if (target == skippedNode) {
+                        continue;
+                    }
+                    double targetDistance = distance + outgoing.weight(offset);
+                    double current = distances.get(target);
+                    if (targetDistance < current) {
+                        if (current == Double.POSITIVE_INFINITY) {
+                            touched.add(target);
+                        }
+                        distances.set(target, targetDistance);
+                        queue.set(target, targetDistance);
+                    }
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                queue.pop();
+            }
+        }
+
+        /**
+         * The length of some path avoiding the skipped node, not necessarily the shortest.
+         */
+        double distance(long nodeId) {
+            return distances.get(nodeId);
+        }
+
+        /**
+         * Resets the distances of the nodes touched by the last run.
+         */
+        void reset() {
+            for (int i = 0; i < touched.size(); i++) {
+                distances.set(touched.get(i), Double.POSITIVE_INFINITY);
+            }
+            touched.clear();
+        }
+    }
+}
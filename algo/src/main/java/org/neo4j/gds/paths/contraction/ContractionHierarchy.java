@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+
+import static org.neo4j.gds.paths.contraction.UpwardGraph.NO_MIDDLE;
+
+/**
+ * The result of {@link ContractionHierarchies}: the rank of every node and the shortcut augmented
+ * relationships, split into the relationships leading upwards from a node and the relationships
+ * arriving at a node from above.
+ * <p>
+ * The hierarchy is immutable and can be shared between threads, each thread needs its own
+ * {@link BidirectionalSearch}, which reuses its buffers over many queries.
+ */
+public final class ContractionHierarchy {
+
+    private final HugeLongArray ranks;
+    // u -> v with rank(v) > rank(u), stored at u
+    private final UpwardGraph outgoing;
+    // u -> v with rank(u) > rank(v), stored at v
+    private final UpwardGraph incoming;
+
+    ContractionHierarchy(HugeLongArray ranks, UpwardGraph outgoing, UpwardGraph incoming) {
+        this.ranks = ranks;
+        this.outgoing = outgoing;
+        this.incoming = incoming;
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ContractionHierarchy.class)
+            .perNode("ranks", HugeLongArray::memoryEstimation)
+            .add("outgoing", UpwardGraph.memoryEstimation())
+            .add("incoming", UpwardGraph.memoryEstimation())
+            .build();
+    }
+
+    /**
+     * Restores a hierarchy from the rank of every node and the relationships of the hierarchy,
+     * including shortcuts, e.g. after both have been stored in the graph catalog.
+     * <p>
+     * The bypassed nodes of shortcuts are not stored and are recovered instead: a relationship
+     * {@code u -> w} bypasses a lower ranked node {@code v} if {@code u -> v -> w} has the same length.
+     * Every such node unpacks the relationship into a path of the same length.
+     */
+    public static ContractionHierarchy of(Graph graph, NodePropertyValues rankValues) {
+        long nodeCount = graph.nodeCount();
+        var ranks = HugeLongArray.newArray(nodeCount);
+        ranks.setAll(rankValues::longValue);
+
+        var outgoingOffsets = HugeLongArray.newArray(nodeCount + 1);
+        var incomingOffsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                if (ranks.get(target) > ranks.get(source)) {
+                    outgoingOffsets.addTo(source + 1, 1);
+                } else if (ranks.get(target) < ranks.get(source)) {
+                    incomingOffsets.addTo(target + 1, 1);
+                }
+                return true;
+            });
+        }
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            outgoingOffsets.addTo(nodeId + 1, outgoingOffsets.get(nodeId));
+            incomingOffsets.addTo(nodeId + 1, incomingOffsets.get(nodeId));
+        }
+
+        var outgoing = emptyUpwardGraph(outgoingOffsets);
+        var incoming = emptyUpwardGraph(incomingOffsets);
+        // the next free relationship of every node, starting at its offset
+        var outgoingNext = outgoingOffsets.copyOf(nodeCount);
+        var incomingNext = incomingOffsets.copyOf(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            graph.forEachRelationship(nodeId, 1.0D, (source, target, weight) -> {
+                if (ranks.get(target) > ranks.get(source)) {
+                    outgoing.set(nextOffset(outgoingNext, source), target, weight);
+                } else if (ranks.get(target) < ranks.get(source)) {
+                    incoming.set(nextOffset(incomingNext, target), source, weight);
+                }
+                return true;
+            });
+        }
+
+        var hierarchy = new ContractionHierarchy(ranks, outgoing, incoming);
+        hierarchy.recoverMiddles();
+        return hierarchy;
+    }
+
+    private static long nextOffset(HugeLongArray next, long nodeId) {
+        long offset = next.get(nodeId);
+        next.set(nodeId, offset + 1);
+        return offset;
+    }
+
+    private static UpwardGraph emptyUpwardGraph(HugeLongArray offsets) {
+        long relationshipCount = offsets.get(offsets.size() - 1);
+        var middles = HugeLongArray.newArray(relationshipCount);
+        middles.fill(NO_MIDDLE);
+        return new UpwardGraph(
+            offsets,
+            HugeLongArray.newArray(relationshipCount),
+            HugeDoubleArray.newArray(relationshipCount),
+            middles
+        );
+    }
+
+    private void recoverMiddles() {
+        for (long middle = 0; middle < nodeCount(); middle++) {
+            // source -> middle is stored at the middle, since the middle has the lower rank
+            for (long in = incoming.startOffset(middle); in < incoming.endOffset(middle); in++) {
+                long source = incoming.neighbour(in);
+                for (long out = outgoing.startOffset(middle); out < outgoing.endOffset(middle); out++) {
+                    long target = outgoing.neighbour(out);
+                    if (target == source) {
+                        continue;
+                    }
+                    double weight = incoming.weight(in) + outgoing.weight(out);
+                    var graph = rank(target) > rank(source) ? outgoing : incoming;
+                    long offset = graph == outgoing ? graph.find(source, target) : graph.find(target, source);
+                    if (offset != -1 && graph.middle(offset) == NO_MIDDLE && graph.weight(offset) == weight) {
+                        graph.setMiddle(offset, middle);
+                    }
+                }
+            }
+        }
+    }
+
+    public long nodeCount() {
+        return ranks.size();
+    }
+
+    /**
+     * The position of the node in the contraction order, nodes contracted later have a higher rank.
+     */
+    public long rank(long nodeId) {
+        return ranks.get(nodeId);
+    }
+
+    /**
+     * The rank of every node, e.g. to store the hierarchy as a node property.
+     */
+    public HugeLongArray ranks() {
+        return ranks;
+    }
+
+    /**
+     * The number of relationships in the hierarchy, including shortcuts.
+     */
+    public long relationshipCount() {
+        return outgoing.relationshipCount() + incoming.relationshipCount();
+    }
+
+    /**
+     * Calls the consumer for every relationship of the hierarchy, including shortcuts,
+     * in the direction of the original relationships. Stops early if the consumer returns false.
+     */
+    public void forEachRelationship(RelationshipWithPropertyConsumer consumer) {
+        for (long nodeId = 0; nodeId < nodeCount(); nodeId++) {
+            for (long offset = outgoing.startOffset(nodeId); offset < outgoing.endOffset(nodeId); offset++) {
+                if (!consumer.accept(nodeId, outgoing.neighbour(offset), outgoing.weight(offset))) {
+                    return;
+                }
+            }
+            for (long offset = incoming.startOffset(nodeId); offset < incoming.endOffset(nodeId); offset++) {
+                if (!consumer.accept(incoming.neighbour(offset), nodeId, incoming.weight(offset))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public BidirectionalSearch newSearch() {
+        return new BidirectionalSearch(this);
+    }
+
+    UpwardGraph outgoing() {
+        return outgoing;
+    }
+
+    UpwardGraph incoming() {
+        return incoming;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+
+import java.util.ArrayList;
+
+import static org.neo4j.gds.termination.TerminationFlag.RUN_CHECK_NODE_COUNT;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Answers source-target queries on a {@link ContractionHierarchy} that has been stored in the graph catalog,
+ * i.e. the graph consists of the relationships of the hierarchy and the rank of every node.
+ * <p>
+ * The hierarchy is restored once and shared by all pairs. The emitted paths are indexed by the position
+ * of their pair in the input, pairs without a path are omitted.
+ */
+public final class ContractionHierarchyQuery extends Algorithm<PathFindingResult> {
+
+    private final Graph graph;
+    private final NodePropertyValues ranks;
+    private final long[] sourceNodes;
+    private final long[] targetNodes;
+
+    public static Task progressTask(Graph graph, int pairCount) {
+        return Tasks.task(
+            "ContractionHierarchyQuery",
+            Tasks.leaf("Load hierarchy", graph.nodeCount()),
+            Tasks.leaf("Query", pairCount)
+        );
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ContractionHierarchyQuery.class)
+            .add("hierarchy", ContractionHierarchy.memoryEstimation())
+            .add("search", BidirectionalSearch.memoryEstimation())
+            .build();
+    }
+
+    /**
+     * @param sourceNodes mapped source node ids, the i-th source belongs to the i-th target
+     * @param targetNodes mapped target node ids
+     */
+    public ContractionHierarchyQuery(
+        Graph graph,
+        NodePropertyValues ranks,
+        long[] sourceNodes,
+        long[] targetNodes,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (sourceNodes.length != targetNodes.length) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected as many source nodes as target nodes, got %d and %d.",
+                sourceNodes.length,
+                targetNodes.length
+            ));
+        }
+        this.graph = graph;
+        this.ranks = ranks;
+        this.sourceNodes = sourceNodes;
+        this.targetNodes = targetNodes;
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        progressTracker.beginSubTask();
+        var hierarchy = ContractionHierarchy.of(graph, ranks);
+        progressTracker.logProgress(graph.nodeCount());
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        var search = hierarchy.newSearch();
+        var paths = new ArrayList<PathResult>();
+        for (int i = 0; i < sourceNodes.length; i++) {
+            search.path(i, sourceNodes[i], targetNodes[i]).ifPresent(paths::add);
+            progressTracker.logProgress();
+            if ((i + 1) % RUN_CHECK_NODE_COUNT == 0) {
+                terminationFlag.assertRunning();
+            }
+        }
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+        return new PathFindingResult(paths.stream());
+    }
+}
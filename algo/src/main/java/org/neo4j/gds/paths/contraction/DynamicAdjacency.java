@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+
+import static org.neo4j.gds.paths.contraction.UpwardGraph.NO_MIDDLE;
+
+/**
+ * The relationships of one direction during contraction, in compressed sparse row format with spare capacity.
+ * <p>
+ * Every node owns a range of slots, each slot stores a neighbour, the weight and the node that a shortcut
+ * bypasses. A node whose range is full is moved to the end of the slots with twice the capacity, the range
+ * it leaves behind is not reused. Parallel relationships keep the smallest weight.
+ */
+final class DynamicAdjacency {
+
+    private static final int MIN_CAPACITY = 4;
+
+    // the slots of a node, relative to the relationship count,
+    // covering the relocations and the shortcuts that are added
+    private static final int MAX_GROWTH_FACTOR = 4;
+
+    private final HugeLongArray offsets;
+    private final HugeIntArray degrees;
+    private final HugeIntArray capacities;
+
+    private HugeLongArray neighbours;
+    private HugeDoubleArray weights;
+    private HugeLongArray middles;
+    private long allocatedSlots;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(DynamicAdjacency.class)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("capacities", HugeIntArray::memoryEstimation)
+            .rangePerGraphDimension("slots", (dimensions, concurrency) -> {
+                long relationshipCount = dimensions.relCountUpperBound();
+                return MemoryRange.of(
+                    slotsMemoryEstimation(relationshipCount),
+                    slotsMemoryEstimation(MAX_GROWTH_FACTOR * relationshipCount)
+                );
+            })
+            .build();
+    }
+
+    private static long slotsMemoryEstimation(long slots) {
+        return 2 * HugeLongArray.memoryEstimation(slots) + HugeDoubleArray.memoryEstimation(slots);
+    }
+
+    /**
+     * @param initialDegrees the capacity of each node, the array is taken over
+     */
+    DynamicAdjacency(HugeIntArray initialDegrees) {
+        long nodeCount = initialDegrees.size();
+        this.offsets = HugeLongArray.newArray(nodeCount);
+        this.degrees = HugeIntArray.newArray(nodeCount);
+        this.capacities = initialDegrees;
+
+        long slots = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, slots);
+            slots += capacities.get(nodeId);
+        }
+        this.allocatedSlots = slots;
+        this.neighbours = HugeLongArray.newArray(slots);
+        this.weights = HugeDoubleArray.newArray(slots);
+        this.middles = HugeLongArray.newArray(slots);
+    }
+
+    int degree(long nodeId) {
+        return degrees.get(nodeId);
+    }
+
+    long startOffset(long nodeId) {
+        return offsets.get(nodeId);
+    }
+
+    long endOffset(long nodeId) {
+        return offsets.get(nodeId) + degrees.get(nodeId);
+    }
+
+    long neighbour(long offset) {
+        return neighbours.get(offset);
+    }
+
+    double weight(long offset) {
+        return weights.get(offset);
+    }
+
+    long middle(long offset) {
+        return middles.get(offset);
+    }
+
+    /**
+     * @return the offset of the relationship to the given neighbour or -1 if there is none
+     */
+    long find(long nodeId, long neighbour) {
+        long end = endOffset(nodeId);
+        for (long offset = startOffset(nodeId); offset < end; offset++) {
+            if (neighbours.get(offset) == neighbour) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the relationship, or lowers the weight of an existing relationship to the same neighbour.
+     *
+     * @return false if a relationship with at most the given weight already exists
+     */
+    boolean putMin(long nodeId, long neighbour, double weight, long middle) {
+        long offset = find(nodeId, neighbour);
+        if (offset != -1) {
+            if (weights.get(offset) <= weight) {
+                return false;
+            }
+        } else {
+            int degree = degrees.get(nodeId);
+            if (degree == capacities.get(nodeId)) {
+                relocate(nodeId, Math.max(MIN_CAPACITY, 2 * degree));
+            }
+            offset = offsets.get(nodeId) + degree;
+            neighbours.set(offset, neighbour);
+            degrees.set(nodeId, degree + 1);
+        }
+        weights.set(offset, weight);
+        middles.set(offset, middle);
+        return true;
+    }
+
+    void putMin(long nodeId, long neighbour, double weight) {
+        putMin(nodeId, neighbour, weight, NO_MIDDLE);
+    }
+
+    /**
+     * Removes the relationship to the given neighbour, the last relationship of the node takes its slot.
+     */
+    void remove(long nodeId, long neighbour) {
+        long offset = find(nodeId, neighbour);
+        if (offset == -1) {
+            return;
+        }
+        int degree = degrees.get(nodeId) - 1;
+        long last = offsets.get(nodeId) + degree;
+        neighbours.set(offset, neighbours.get(last));
+        weights.set(offset, weights.get(last));
+        middles.set(offset, middles.get(last));
+        degrees.set(nodeId, degree);
+    }
+
+    private void relocate(long nodeId, int capacity) {
+        long newOffset = allocatedSlots;
+        allocatedSlots += capacity;
+        if (allocatedSlots > neighbours.size()) {
+            long size = Math.max(allocatedSlots, neighbours.size() + (neighbours.size() >> 1));
+            this.neighbours = neighbours.copyOf(size);
+            this.weights = weights.copyOf(size);
+            this.middles = middles.copyOf(size);
+        }
+
+        long offset = offsets.get(nodeId);
+        int degree = degrees.get(nodeId);
+        for (int i = 0; i < degree; i++) {
+            neighbours.set(newOffset + i, neighbours.get(offset + i));
+            weights.set(newOffset + i, weights.get(offset + i));
+            middles.set(newOffset + i, middles.get(offset + i));
+        }
+        offsets.set(nodeId, newOffset);
+        capacities.set(nodeId, capacity);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+
+/**
+ * The relationships of a contraction hierarchy that lead to a node of higher rank, in compressed sparse row format.
+ * Shortcuts store the node they bypass, original relationships store {@link #NO_MIDDLE}.
+ */
+final class UpwardGraph {
+
+    static final long NO_MIDDLE = -1L;
+
+    // the hierarchy relationships of one direction, relative to the relationship count,
+    // assuming that contraction at most doubles the relationships by adding shortcuts
+    private static final int MAX_SHORTCUT_FACTOR = 2;
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray neighbours;
+    private final HugeDoubleArray weights;
+    private final HugeLongArray middles;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(UpwardGraph.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .rangePerGraphDimension("relationships", (dimensions, concurrency) -> {
+                long relationshipCount = dimensions.relCountUpperBound();
+                return MemoryRange.of(
+                    relationshipsMemoryEstimation(relationshipCount),
+                    relationshipsMemoryEstimation(MAX_SHORTCUT_FACTOR * relationshipCount)
+                );
+            })
+            .build();
+    }
+
+    private static long relationshipsMemoryEstimation(long relationshipCount) {
+        return 2 * HugeLongArray.memoryEstimation(relationshipCount) + HugeDoubleArray.memoryEstimation(relationshipCount);
+    }
+
+    /**
+     * Compacts the relationships of a contracted adjacency.
+     */
+    static UpwardGraph of(DynamicAdjacency adjacency, long nodeCount) {
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        long relationshipCount = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, relationshipCount);
+            relationshipCount += adjacency.degree(nodeId);
+        }
+        offsets.set(nodeCount, relationshipCount);
+
+        var neighbours = HugeLongArray.newArray(relationshipCount);
+        var weights = HugeDoubleArray.newArray(relationshipCount);
+        var middles = HugeLongArray.newArray(relationshipCount);
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long end = adjacency.endOffset(nodeId);
+            for (long source = adjacency.startOffset(nodeId); source < end; source++) {
+                neighbours.set(offset, adjacency.neighbour(source));
+                weights.set(offset, adjacency.weight(source));
+                middles.set(offset, adjacency.middle(source));
+                offset++;
+            }
+        }
+        return new UpwardGraph(offsets, neighbours, weights, middles);
+    }
+
+    UpwardGraph(HugeLongArray offsets, HugeLongArray neighbours, HugeDoubleArray weights, HugeLongArray middles) {
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+        this.weights = weights;
+        this.middles = middles;
+    }
+
+    long startOffset(long nodeId) {
+        return offsets.get(nodeId);
+    }
+
+    long endOffset(long nodeId) {
+        return offsets.get(nodeId + 1);
+    }
+
+    long neighbour(long offset) {
+        return neighbours.get(offset);
+    }
+
+    double weight(long offset) {
+        return weights.get(offset);
+    }
+
+    long middle(long offset) {
+        return middles.get(offset);
+    }
+
+    void set(long offset, long neighbour, double weight) {
+        neighbours.set(offset, neighbour);
+        weights.set(offset, weight);
+    }
+
+    void setMiddle(long offset, long middle) {
+        middles.set(offset, middle);
+    }
+
+    /**
+     * @return the offset of the relationship to the given neighbour or -1 if there is none
+     */
+    long find(long nodeId, long neighbour) {
+        for (long offset = startOffset(nodeId); offset < endOffset(nodeId); offset++) {
+            if (neighbours.get(offset) == neighbour) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    long relationshipCount() {
+        return neighbours.size();
+    }
+}
@@ -24,6 +24,7 @@ import com.carrotsearch.hppc.LongArrayList;
 import com.carrotsearch.hppc.cursors.LongCursor;
 import com.carrotsearch.hppc.procedures.LongProcedure;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
@@ -50,6 +51,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.paths.delta.TentativeDistances.NO_PREDECESSOR;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class DeltaStepping extends Algorithm<PathFindingResult> {
     public static final String DESCRIPTION = "The Delta Stepping shortest path algorithm computes the shortest (weighted) path between one node and any other node in the graph. " +
@@ -58,11 +60,16 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
     private static final int NO_BIN = Integer.MAX_VALUE;
     private static final int BIN_SIZE_THRESHOLD = 1000;
     private static final int BATCH_SIZE = 64;
-
+    // upper bound for the number of bins a task processes on its own between two barriers
+    private static final int MAX_FUSED_BINS = 16;
+    // number of nodes whose relationships are sampled to estimate delta
+    private static final long DELTA_SAMPLE_SIZE = 10_000;
+    private static final double FALLBACK_DELTA = 1.0;
 
     private final Graph graph;
     private final long startNode;
     private final double delta;
+    private final boolean fuseBins;
     private final int concurrency;
 
     private final HugeLongArray frontier;
@@ -79,7 +86,8 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         return new DeltaStepping(
             graph,
             graph.toMappedNodeId(config.sourceNode()),
-            config.delta(),
+            config.autoDelta() ? estimateDelta(graph) : config.delta(),
+            config.autoDelta(),
             config.concurrency(),
             true,
             executorService,
@@ -87,6 +95,44 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         );
     }
 
+    /**
+     * Picks the bin width from a sample of the relationship weights and the average degree,
+     * following Meyer and Sanders who suggest a delta in the order of {@code maxWeight / averageDegree}.
+     * We use twice the mean weight instead of the maximum to be robust against outliers, which equals
+     * the maximum for uniformly distributed weights. Delta is never smaller than the smallest positive weight,
+     * since narrower bins only add synchronisation rounds without increasing the available parallelism.
+     */
+    static double estimateDelta(Graph graph) {
+        long nodeCount = graph.nodeCount();
+        if (nodeCount == 0 || graph.relationshipCount() == 0) {
+            return FALLBACK_DELTA;
+        }
+
+        long stride = Math.max(1, nodeCount / DELTA_SAMPLE_SIZE);
+        var weightSum = new MutableDouble();
+        var minPositiveWeight = new MutableDouble(Double.POSITIVE_INFINITY);
+        var sampledRelationships = new MutableLong();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId += stride) {
+            graph.forEachRelationship(nodeId, 1.0, (sourceNodeId, targetNodeId, weight) -> {
+                weightSum.add(weight);
+                if (weight > 0 && weight < minPositiveWeight.doubleValue()) {
+                    minPositiveWeight.setValue(weight);
+                }
+                sampledRelationships.increment();
+                return true;
+            });
+        }
+
+        if (sampledRelationships.longValue() == 0 || minPositiveWeight.doubleValue() == Double.POSITIVE_INFINITY) {
+            return FALLBACK_DELTA;
+        }
+
+        double meanWeight = weightSum.doubleValue() / sampledRelationships.longValue();
+        double averageDegree = Math.max(1.0, (double) graph.relationshipCount() / nodeCount);
+
+        return Math.max(minPositiveWeight.doubleValue(), 2 * meanWeight / averageDegree);
+    }
+
     public static MemoryEstimation memoryEstimation(boolean storePredecessors) {
         var builder = MemoryEstimations.builder(DeltaStepping.class)
             .perNode("distance array", HugeAtomicDoubleArray::memoryEstimation)
@@ -127,6 +173,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         Graph graph,
         long startNode,
         double delta,
+        boolean fuseBins,
         int concurrency,
         boolean storePredecessors,
         ExecutorService executorService,
@@ -136,6 +183,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         this.graph = graph;
         this.startNode = startNode;
         this.delta = delta;
+        this.fuseBins = fuseBins;
         this.concurrency = concurrency;
         this.executorService = executorService;
 
@@ -153,9 +201,16 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         }
     }
 
+    public double delta() {
+        return delta;
+    }
+
     @Override
     public PathFindingResult compute() {
         progressTracker.beginSubTask();
+        if (fuseBins) {
+            progressTracker.logInfo(formatWithLocale("Using estimated delta %.4f", delta));
+        }
         int currentBin = 0;
 
         var frontierIndex = new AtomicLong(0);
@@ -166,7 +221,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
 
         var relaxTasks = IntStream
             .range(0, concurrency)
-            .mapToObj(i -> new DeltaSteppingTask(graph, frontier, distances, delta, frontierIndex))
+            .mapToObj(i -> new DeltaSteppingTask(graph, frontier, distances, delta, fuseBins, frontierIndex))
             .collect(Collectors.toList());
 
         while (currentBin != NO_BIN) {
@@ -213,6 +268,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         private final HugeLongArray frontier;
         private final TentativeDistances distances;
         private final double delta;
+        private final boolean fuseBins;
         private int binIndex;
         private final AtomicLong frontierIndex;
         private long frontierLength;
@@ -230,6 +286,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             HugeLongArray frontier,
             TentativeDistances distances,
             double delta,
+            boolean fuseBins,
             AtomicLong frontierIndex
         ) {
 
@@ -237,6 +294,7 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             this.frontier = frontier;
             this.distances = distances;
             this.delta = delta;
+            this.fuseBins = fuseBins;
             this.frontierIndex = frontierIndex;
 
             this.localBins = new LongArrayList[0];
@@ -246,7 +304,10 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         public void run() {
             if (phase == Phase.RELAX) {
                 relaxGlobalBin();
-                relaxLocalBin();
+                relaxLocalBin(binIndex);
+                if (fuseBins && frontierLength < BIN_SIZE_THRESHOLD) {
+                    relaxFusedBins();
+                }
             } else if (phase == Phase.SYNC) {
                 updateFrontier();
             }
@@ -265,7 +326,11 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         }
 
         int minNonEmptyBin() {
-            for (int i = binIndex; i < localBins.length; i++) {
+            return minNonEmptyBin(binIndex);
+        }
+
+        private int minNonEmptyBin(int fromBin) {
+            for (int i = fromBin; i < localBins.length; i++) {
                 if (localBins[i] != null && !localBins[i].isEmpty()) {
                     return i;
                 }
@@ -287,17 +352,35 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             }
         }
 
-        private void relaxLocalBin() {
-            while (binIndex < localBins.length
-                   && localBins[binIndex] != null
-                   && !localBins[binIndex].isEmpty()
-                   && localBins[binIndex].size() < BIN_SIZE_THRESHOLD) {
-                var binCopy = localBins[binIndex].clone();
-                localBins[binIndex].elementsCount = 0;
+        private void relaxLocalBin(int bin) {
+            while (bin < localBins.length
+                   && localBins[bin] != null
+                   && !localBins[bin].isEmpty()
+                   && localBins[bin].size() < BIN_SIZE_THRESHOLD) {
+                var binCopy = localBins[bin].clone();
+                localBins[bin].elementsCount = 0;
                 binCopy.forEach((LongProcedure) this::relaxNode);
             }
         }
 
+        /**
+         * Bucket fusion: if the current bin was small, the round is dominated by the barrier.
+         * Instead of publishing the next small local bins and waiting for the other tasks,
+         * we relax them right away. Nodes may be relaxed before their distance is final,
+         * but every improvement puts them into a bin again, which keeps the result exact.
+         * All relaxations produce bins at or after the current one, so the bins left
+         * behind are found by the next global round.
+         */
+        private void relaxFusedBins() {
+            for (int fused = 0; fused < MAX_FUSED_BINS; fused++) {
+                int nextBin = minNonEmptyBin(binIndex);
+                if (nextBin == NO_BIN || localBins[nextBin].size() >= BIN_SIZE_THRESHOLD) {
+                    return;
+                }
+                relaxLocalBin(nextBin);
+            }
+        }
+
         private void relaxNode(long nodeId) {
             graph.forEachRelationship(nodeId, 1.0, (sourceNodeId, targetNodeId, weight) -> {
                 var oldDist = distances.distance(targetNodeId);
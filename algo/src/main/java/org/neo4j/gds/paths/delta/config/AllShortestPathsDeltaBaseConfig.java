@@ -33,4 +33,13 @@ public interface AllShortestPathsDeltaBaseConfig extends AllShortestPathsBaseCon
     default double delta() {
         return 2.0;
     }
+
+    /**
+     * Estimate delta from the relationship weights and fuse small bins per thread.
+     * The configured {@link #delta()} is ignored in this mode.
+     */
+    @Value.Default
+    default boolean autoDelta() {
+        return false;
+    }
 }
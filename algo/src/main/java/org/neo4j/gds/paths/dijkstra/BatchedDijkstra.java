@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Computes shortest paths for many source-target pairs in a single run.
+ * <p>
+ * The pairs are grouped by their source node and every distinct source is searched once.
+ * A search stops as soon as all targets of its source are settled. Each thread owns a search state,
+ * priority queue, predecessors and visited set, which is reset in time proportional to the
+ * nodes touched by the previous search, so no per-source allocation happens.
+ * <p>
+ * The emitted paths are ordered and indexed by the position of their pair in the input.
+ * Pairs without a path are omitted.
+ */
+public final class BatchedDijkstra extends Algorithm<PathFindingResult> {
+
+    private static final long NO_PREDECESSOR = -1;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final Graph graph;
+    private final long[] sourceNodes;
+    private final long[] targetNodes;
+    private final boolean trackRelationships;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    public static MemoryEstimation memoryEstimation(boolean trackRelationships) {
+        var searchState = MemoryEstimations.builder(SearchState.class)
+            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .perNode("predecessors", HugeLongArray::memoryEstimation)
+            .perNode("visited set", MemoryUsage::sizeOfBitset);
+        if (trackRelationships) {
+            searchState.perNode("relationship ids", HugeLongArray::memoryEstimation);
+        }
+        return MemoryEstimations.builder(BatchedDijkstra.class)
+            .perThread("search state", searchState.build())
+            .build();
+    }
+
+    /**
+     * @param sourceNodes mapped source node ids, the i-th source belongs to the i-th target
+     * @param targetNodes mapped target node ids
+     */
+    public BatchedDijkstra(
+        Graph graph,
+        long[] sourceNodes,
+        long[] targetNodes,
+        boolean trackRelationships,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (sourceNodes.length != targetNodes.length) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected as many source nodes as target nodes, got %d and %d.",
+                sourceNodes.length,
+                targetNodes.length
+            ));
+        }
+        this.graph = graph;
+        this.sourceNodes = sourceNodes;
+        this.targetNodes = targetNodes;
+        this.trackRelationships = trackRelationships;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        // pair indices sorted by source, sources[i] owns pairs [offsets[i], offsets[i + 1])
+        var pairs = sortPairsBySource();
+        var sources = new LongArrayList();
+        var offsets = new LongArrayList();
+        for (int i = 0; i < pairs.length; i++) {
+            long source = sourceNodes[pairs[i]];
+            if (i == 0 || source != sources.get(sources.size() - 1)) {
+                sources.add(source);
+                offsets.add(i);
+            }
+        }
+        offsets.add(pairs.length);
+
+        var results = new PathResult[pairs.length];
+        var nextSource = new AtomicInteger();
+        var tasks = new ArrayList<Runnable>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(() -> {
+                var state = new SearchState();
+                int sourceIndex;
+                while ((sourceIndex = nextSource.getAndIncrement()) < sources.size() && terminationFlag.running()) {
+                    int start = (int) offsets.get(sourceIndex);
+                    int end = (int) offsets.get(sourceIndex + 1);
+                    state.search(sources.get(sourceIndex), pairs, start, end);
+                    for (int p = start; p < end; p++) {
+                        int pair = pairs[p];
+                        results[pair] = state.pathResult(pair, targetNodes[pair]);
+                    }
+                    state.reset();
+                    progressTracker.logProgress();
+                }
+            });
+        }
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+        terminationFlag.assertRunning();
+
+        progressTracker.endSubTask();
+        return new PathFindingResult(Arrays.stream(results).filter(Objects::nonNull));
+    }
+
+    private int[] sortPairsBySource() {
+        return IndirectSort.mergesort(0, sourceNodes.length, new AscendingLongComparator(sourceNodes));
+    }
+
+    private final class SearchState {
+        private final HugeLongPriorityQueue queue;
+        private final HugeLongArray predecessors;
+        private final HugeLongArray relationships;
+        private final BitSet visited;
+        private final LongArrayList touched;
+        private final LongHashSet pendingTargets;
+        private final MutableInt relationshipId;
+        private long sourceNode;
+
+        private SearchState() {
+            long nodeCount = graph.nodeCount();
+            this.queue = HugeLongPriorityQueue.min(nodeCount);
+            this.predecessors = HugeLongArray.newArray(nodeCount);
+            this.relationships = trackRelationships ? HugeLongArray.newArray(nodeCount) : null;
+            this.visited = new BitSet(nodeCount);
+            this.touched = new LongArrayList();
+            this.pendingTargets = new LongHashSet();
+            this.relationshipId = new MutableInt();
+        }
+
+        void search(long sourceNode, int[] pairs, int start, int end) {
+            this.sourceNode = sourceNode;
+            for (int p = start; p < end; p++) {
+                pendingTargets.add(targetNodes[pairs[p]]);
+            }
+
+            queue.add(sourceNode, 0.0);
+            predecessors.set(sourceNode, NO_PREDECESSOR);
+            touched.add(sourceNode);
+
+            while (!queue.isEmpty() && !pendingTargets.isEmpty()) {
+                long node = queue.pop();
+                double cost = queue.cost(node);
+                visited.set(node);
+                pendingTargets.remove(node);
+
+                relationshipId.setValue(0);
+                graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                    relax(source, target, relationshipId.longValue(), cost + weight);
+                    relationshipId.increment();
+                    return true;
+                });
+            }
+        }
+
+        private void relax(long source, long target, long relationshipId, double newCost) {
+            if (visited.get(target)) {
+                return;
+            }
+            if (!queue.containsElement(target)) {
+                queue.add(target, newCost);
+                touched.add(target);
+            } else if (newCost < queue.cost(target)) {
+                queue.set(target, newCost);
+            } else {
+                return;
+            }
+            predecessors.set(target, source);
+            if (trackRelationships) {
+                relationships.set(target, relationshipId);
+            }
+        }
+
+        PathResult pathResult(int pairIndex, long targetNode) {
+            if (!visited.get(targetNode)) {
+                return null;
+            }
+
+            var length = 1;
+            for (long node = targetNode; node != sourceNode; node = predecessors.get(node)) {
+                length++;
+            }
+
+            var nodeIds = new long[length];
+            var costs = new double[length];
+            var relationshipIds = trackRelationships ? new long[length - 1] : EMPTY_ARRAY;
+            long node = targetNode;
+            for (int i = length - 1; i >= 0; i--) {
+                nodeIds[i] = node;
+                costs[i] = queue.cost(node);
+                if (i > 0) {
+                    if (trackRelationships) {
+                        relationshipIds[i - 1] = relationships.get(node);
+                    }
+                    node = predecessors.get(node);
+                }
+            }
+
+            return ImmutablePathResult.builder()
+                .index(pairIndex)
+                .sourceNode(sourceNode)
+                .targetNode(targetNode)
+                .nodeIds(nodeIds)
+                .relationshipIds(relationshipIds)
+                .costs(costs)
+                .build();
+        }
+
+        void reset() {
+            while (!queue.isEmpty()) {
+                queue.pop();
+            }
+            for (int i = 0; i < touched.size(); i++) {
+                visited.clear(touched.get(i));
+            }
+            touched.clear();
+            pendingTargets.clear();
+        }
+    }
+}
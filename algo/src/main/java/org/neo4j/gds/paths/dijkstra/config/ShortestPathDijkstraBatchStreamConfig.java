@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.config.SourceNodesConfig;
+import org.neo4j.gds.config.TargetNodesConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.paths.TrackRelationshipsConfig;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The i-th source node is paired with the i-th target node.
+ */
+@Configuration
+public interface ShortestPathDijkstraBatchStreamConfig extends
+    AlgoBaseConfig,
+    SourceNodesConfig,
+    TargetNodesConfig,
+    RelationshipWeightConfig,
+    TrackRelationshipsConfig {
+
+    @Value.Check
+    default void validatePairs() {
+        if (sourceNodes().isEmpty()) {
+            throw new IllegalArgumentException("At least one source-target pair is required.");
+        }
+        if (sourceNodes().size() != targetNodes().size()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of `%s` (%d) must match the number of `%s` (%d).",
+                SOURCE_NODES_KEY,
+                sourceNodes().size(),
+                TARGET_NODES_KEY,
+                targetNodes().size()
+            ));
+        }
+    }
+
+    static ShortestPathDijkstraBatchStreamConfig of(CypherMapWrapper userInput) {
+        return new ShortestPathDijkstraBatchStreamConfigImpl(userInput);
+    }
+}
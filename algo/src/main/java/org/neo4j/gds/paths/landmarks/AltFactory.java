@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.paths.astar.AStar;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.DijkstraFactory;
+
+/**
+ * Runs A* with the landmark bound of a {@link LandmarkIndex} that is restored from a node property.
+ */
+public class AltFactory<CONFIG extends ShortestPathAltStreamConfig> extends GraphAlgorithmFactory<AStar, CONFIG> {
+
+    @Override
+    public AStar build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
+        var index = LandmarkIndex.fromNodeProperty(
+            graph,
+            configuration.landmarkProperty(),
+            LandmarkIndex.signature(graph, configuration.relationshipWeightProperty())
+        );
+        var heuristic = index.heuristic(graph.toMappedNodeId(configuration.targetNode()));
+        return AStar.sourceTarget(graph, configuration, heuristic, progressTracker);
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        // the landmark index reads the stored node property and does not copy the distances
+        return MemoryEstimations.builder(AStar.class)
+            .add("Dijkstra", Dijkstra.memoryEstimation(configuration.trackRelationships()))
+            .build();
+    }
+
+    @Override
+    public String taskName() {
+        return "AStar";
+    }
+
+    @Override
+    public Task progressTask(Graph graph, CONFIG config) {
+        return DijkstraFactory.dijkstraProgressTask(taskName(), graph);
+    }
+}
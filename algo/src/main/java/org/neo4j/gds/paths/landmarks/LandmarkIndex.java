@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Shortest path distances between every node and a small set of landmarks.
+ * <p>
+ * By the triangle inequality, {@code d(v, t) >= d(L, t) - d(L, v)} and {@code d(v, t) >= d(v, L) - d(t, L)}
+ * for any landmark {@code L}. The maximum over all landmarks is a consistent A* heuristic for any
+ * non-negatively weighted graph, see Goldberg and Harrelson, "Computing the Shortest Path: A* Search Meets Graph Theory".
+ * <p>
+ * A computed index stores the distances node-major, i.e. the distances of node {@code v} occupy
+ * the indices {@code [v * k, (v + 1) * k)}, so that evaluating the heuristic reads a contiguous range.
+ * An index restored from a node property reads the per node arrays of the property and does not copy them.
+ * The property carries the layout and a signature of the relationships the distances have been computed on.
+ * Unreachable pairs have an infinite distance and do not contribute to the bound.
+ */
+public final class LandmarkIndex {
+
+    // landmark count, presence of the distances to the landmarks and signature
+    static final int METADATA_SLOTS = 3;
+    private static final long SIGNATURE_MASK = (1L << 52) - 1;
+
+    private final int landmarkCount;
+    private final long nodeCount;
+    // d(L, v)
+    private final Distances fromLandmarks;
+    // d(v, L), same as fromLandmarks on undirected graphs, null if unknown
+    @Nullable
+    private final Distances toLandmarks;
+
+    LandmarkIndex(int landmarkCount, HugeDoubleArray fromLandmarks, @Nullable HugeDoubleArray toLandmarks) {
+        this(
+            landmarkCount,
+            fromLandmarks.size() / landmarkCount,
+            (nodeId, landmark) -> fromLandmarks.get(nodeId * landmarkCount + landmark),
+            toLandmarks == null || toLandmarks == fromLandmarks
+                ? null
+                : (nodeId, landmark) -> toLandmarks.get(nodeId * landmarkCount + landmark),
+            toLandmarks == fromLandmarks
+        );
+    }
+
+    private LandmarkIndex(
+        int landmarkCount,
+        long nodeCount,
+        Distances fromLandmarks,
+        @Nullable Distances toLandmarks,
+        boolean undirected
+    ) {
+        this.landmarkCount = landmarkCount;
+        this.nodeCount = nodeCount;
+        this.fromLandmarks = fromLandmarks;
+        this.toLandmarks = undirected ? fromLandmarks : toLandmarks;
+    }
+
+    /**
+     * Identifies the relationships an index is computed on, i.e. their types, orientation and weight property.
+     * An index is only an admissible bound for searches on the same relationships.
+     * The value fits into the mantissa of a double, so that it is stored exactly in the node property.
+     */
+    public static long signature(Graph graph, Optional<String> relationshipWeightProperty) {
+        var types = graph.schema().relationshipSchema().availableTypes().stream()
+            .map(RelationshipType::name)
+            .sorted()
+            .collect(Collectors.joining(","));
+        var description = formatWithLocale(
+            "types=%s|undirected=%b|weight=%s",
+            types,
+            graph.characteristics().isUndirected(),
+            relationshipWeightProperty.orElse("")
+        );
+
+        // 64 bit FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : description.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash & SIGNATURE_MASK;
+    }
+
+    /**
+     * Restores an index from a node property written from {@link #nodePropertyValues(long)}.
+     * The layout of the distances is read from the metadata stored with the property.
+     *
+     * @param signature the {@link #signature} of the graph and weight property the index is queried with
+     * @throws IllegalArgumentException if the index has been computed on different relationships
+     */
+    public static LandmarkIndex fromNodeProperty(Graph graph, String propertyKey, long signature) {
+        var values = graph.nodeProperties(propertyKey);
+        if (values == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded",
+                propertyKey
+            ));
+        }
+        var nodeCount = graph.nodeCount();
+        if (nodeCount == 0) {
+            return new LandmarkIndex(0, 0, (nodeId, landmark) -> 0, null, false);
+        }
+
+        var first = values.doubleArrayValue(0);
+        var dimension = first == null ? 0 : first.length;
+        var landmarkCount = dimension >= METADATA_SLOTS ? (int) first[dimension - METADATA_SLOTS] : 0;
+        var bothDirections = dimension >= METADATA_SLOTS && first[dimension - METADATA_SLOTS + 1] != 0;
+        var expectedDimension = (bothDirections ? 2 * landmarkCount : landmarkCount) + METADATA_SLOTS;
+        if (landmarkCount <= 0 || dimension != expectedDimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been written by the landmarks procedure.",
+                propertyKey
+            ));
+        }
+        if ((long) first[dimension - 1] != signature) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmarks in property `%s` have been computed on different relationships. " +
+                "The relationship types, orientation and `relationshipWeightProperty` must match the ones of the landmarks computation.",
+                propertyKey
+            ));
+        }
+
+        return new LandmarkIndex(
+            landmarkCount,
+            nodeCount,
+            (nodeId, landmark) -> values.doubleArrayValue(nodeId)[landmark],
+            bothDirections ? (nodeId, landmark) -> values.doubleArrayValue(nodeId)[landmarkCount + landmark] : null,
+            graph.characteristics().isUndirected()
+        );
+    }
+
+    public int landmarkCount() {
+        return landmarkCount;
+    }
+
+    public double distanceFromLandmark(long nodeId, int landmark) {
+        return fromLandmarks.get(nodeId, landmark);
+    }
+
+    /**
+     * Returns the distance from the node to the landmark or {@link Double#NaN} if only forward distances are known.
+     */
+    public double distanceToLandmark(long nodeId, int landmark) {
+        return toLandmarks == null ? Double.NaN : toLandmarks.get(nodeId, landmark);
+    }
+
+    /**
+     * A lower bound of the distance from any node to the given target node.
+     */
+    public Dijkstra.HeuristicFunction heuristic(long targetNode) {
+        var fromLandmarksToTarget = new double[landmarkCount];
+        var targetToLandmarks = new double[landmarkCount];
+        for (int landmark = 0; landmark < landmarkCount; landmark++) {
+            fromLandmarksToTarget[landmark] = distanceFromLandmark(targetNode, landmark);
+            targetToLandmarks[landmark] = distanceToLandmark(targetNode, landmark);
+        }
+
+        return nodeId -> {
+            double bound = 0;
+            for (int landmark = 0; landmark < landmarkCount; landmark++) {
+                double fromLandmark = fromLandmarks.get(nodeId, landmark);
+                if (fromLandmark != Double.POSITIVE_INFINITY && fromLandmarksToTarget[landmark] != Double.POSITIVE_INFINITY) {
+                    bound = Math.max(bound, fromLandmarksToTarget[landmark] - fromLandmark);
+                }
+                if (toLandmarks != null) {
+                    double toLandmark = toLandmarks.get(nodeId, landmark);
+                    if (toLandmark != Double.POSITIVE_INFINITY && targetToLandmarks[landmark] != Double.POSITIVE_INFINITY) {
+                        bound = Math.max(bound, toLandmark - targetToLandmarks[landmark]);
+                    }
+                }
+            }
+            return bound;
+        };
+    }
+
+    /**
+     * The distances per node, to be stored as a node property. Directed indices with distances in both directions
+     * store the distances from the landmarks followed by the distances to the landmarks.
+     * Every array ends with the landmark count, whether distances to the landmarks are present and the
+     * {@link #signature} of the relationships, so that queries can validate and interpret the property.
+     */
+    public NodePropertyValues nodePropertyValues(long signature) {
+        var bothDirections = toLandmarks != null && toLandmarks != fromLandmarks;
+        var distanceCount = bothDirections ? 2 * landmarkCount : landmarkCount;
+        return new DoubleArrayNodePropertyValues() {
+            @Override
+            public double[] doubleArrayValue(long nodeId) {
+                var values = new double[distanceCount + METADATA_SLOTS];
+                for (int landmark = 0; landmark < landmarkCount; landmark++) {
+                    values[landmark] = distanceFromLandmark(nodeId, landmark);
+                    if (bothDirections) {
+                        values[landmarkCount + landmark] = distanceToLandmark(nodeId, landmark);
+                    }
+                }
+                values[distanceCount] = landmarkCount;
+                values[distanceCount + 1] = bothDirections ? 1 : 0;
+                values[distanceCount + 2] = signature;
+                return values;
+            }
+
+            @Override
+            public long nodeCount() {
+                return nodeCount;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Distances {
+        double get(long nodeId, int landmark);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+public enum LandmarkSelection {
+    /**
+     * Starts at the node farthest away from the highest degree node and repeatedly adds the node
+     * with the largest distance to all landmarks selected so far.
+     * Spreads the landmarks over the periphery of the graph, which gives the tightest bounds,
+     * but the forward searches need to run one after the other.
+     */
+    FARTHEST,
+    /**
+     * Picks the nodes with the highest degree. All searches run in parallel.
+     */
+    DEGREE;
+
+    public static LandmarkSelection parse(Object input) {
+        if (input instanceof LandmarkSelection) {
+            return (LandmarkSelection) input;
+        }
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            for (var selection : values()) {
+                if (selection.name().equals(inputString)) {
+                    return selection;
+                }
+            }
+            throw new IllegalArgumentException(formatWithLocale(
+                "Landmark selection `%s` is not supported. Must be one of: %s.",
+                input,
+                Arrays.toString(values())
+            ));
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected LandmarkSelection or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(LandmarkSelection selection) {
+        return selection.name();
+    }
+}
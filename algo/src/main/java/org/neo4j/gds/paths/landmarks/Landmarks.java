@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.procedures.LongDoubleProcedure;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.neo4j.gds.termination.TerminationFlag.RUN_CHECK_NODE_COUNT;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds a {@link LandmarkIndex} by running one Dijkstra search per landmark and direction.
+ * The searches run in parallel, each search is sequential. Every thread allocates its priority queue
+ * and settled set once and reuses them for all of its searches.
+ * <p>
+ * The distances to the landmarks are computed on the inverse relationships, so they are only available
+ * for undirected graphs, where they equal the distances from the landmarks, and for inverse indexed graphs.
+ * On other directed graphs, only the bound from the distances from the landmarks is used.
+ * Relationship weights must not be negative.
+ */
+public class Landmarks extends Algorithm<LandmarkIndex> {
+
+    public static final int DEFAULT_LANDMARK_COUNT = 16;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final int landmarkCount;
+    private final LandmarkSelection selection;
+    private final boolean withDistancesToLandmarks;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    public static Task progressTask(Graph graph, int landmarkCount, LandmarkSelection selection) {
+        var searches = Math.min(landmarkCount, graph.nodeCount());
+        if (!graph.characteristics().isUndirected() && graph.characteristics().isInverseIndexed()) {
+            searches *= 2;
+        }
+        if (selection == LandmarkSelection.FARTHEST) {
+            searches++;
+        }
+        return Tasks.leaf("Landmarks", searches);
+    }
+
+    public static MemoryEstimation memoryEstimation(int landmarkCount, boolean withDistancesToLandmarks) {
+        var builder = MemoryEstimations.builder(Landmarks.class)
+            .perNode("distances from landmarks", nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount * landmarkCount));
+        if (withDistancesToLandmarks) {
+            builder.perNode("distances to landmarks", nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount * landmarkCount));
+        }
+        return builder
+            .perThread("search", MemoryEstimations.builder("search")
+                .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+                .perNode("settled", MemoryUsage::sizeOfBitset)
+                .build())
+            .build();
+    }
+
+    public Landmarks(
+        Graph graph,
+        int landmarkCount,
+        LandmarkSelection selection,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of landmarks must be positive, got %d.",
+                landmarkCount
+            ));
+        }
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.landmarkCount = (int) Math.min(landmarkCount, nodeCount);
+        this.selection = selection;
+        this.withDistancesToLandmarks = !graph.characteristics().isUndirected() && graph.characteristics().isInverseIndexed();
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public LandmarkIndex compute() {
+        progressTracker.beginSubTask();
+
+        var fromLandmarks = HugeDoubleArray.newArray(nodeCount * landmarkCount);
+        fromLandmarks.fill(Double.POSITIVE_INFINITY);
+        var toLandmarks = withDistancesToLandmarks ? HugeDoubleArray.newArray(nodeCount * landmarkCount) : null;
+        if (toLandmarks != null) {
+            toLandmarks.fill(Double.POSITIVE_INFINITY);
+        }
+
+        long[] landmarks;
+        List<Consumer<Search>> searches = new ArrayList<>();
+        if (selection == LandmarkSelection.FARTHEST) {
+            landmarks = selectFarthest(fromLandmarks);
+        } else {
+            landmarks = selectByDegree();
+            for (int landmark = 0; landmark < landmarkCount; landmark++) {
+                searches.add(searchJob(landmarks[landmark], landmark, false, fromLandmarks));
+            }
+        }
+        if (toLandmarks != null) {
+            for (int landmark = 0; landmark < landmarkCount; landmark++) {
+                searches.add(searchJob(landmarks[landmark], landmark, true, toLandmarks));
+            }
+        }
+
+        var nextSearch = new AtomicInteger();
+        var tasks = new ArrayList<Runnable>();
+        for (int i = 0; i < Math.min(concurrency, searches.size()); i++) {
+            tasks.add(() -> {
+                var search = new Search(graph.concurrentCopy());
+                int index;
+                while ((index = nextSearch.getAndIncrement()) < searches.size() && terminationFlag.running()) {
+                    searches.get(index).accept(search);
+                }
+            });
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        progressTracker.endSubTask();
+        return new LandmarkIndex(
+            landmarkCount,
+            fromLandmarks,
+            graph.characteristics().isUndirected() ? fromLandmarks : toLandmarks
+        );
+    }
+
+    private long[] selectByDegree() {
+        var queue = BoundedLongPriorityQueue.max(landmarkCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            queue.offer(nodeId, graph.degree(nodeId));
+        }
+        return queue.elements().toArray();
+    }
+
+    /**
+     * Each selection depends on the distances from the previous landmarks,
+     * so the forward searches run one after the other.
+     */
+    private long[] selectFarthest(HugeDoubleArray fromLandmarks) {
+        var landmarks = new long[landmarkCount];
+        var minDistances = HugeDoubleArray.newArray(nodeCount);
+        var search = new Search(graph);
+
+        long start = 0;
+        for (long nodeId = 1; nodeId < nodeCount; nodeId++) {
+            if (graph.degree(nodeId) > graph.degree(start)) {
+                start = nodeId;
+            }
+        }
+        minDistances.fill(Double.NEGATIVE_INFINITY);
+        search.run(start, false, minDistances::set);
+        progressTracker.logProgress();
+
+        for (int landmark = 0; landmark < landmarkCount; landmark++) {
+            // unreachable nodes are the farthest, which spreads the landmarks over the components
+            long farthest = 0;
+            for (long nodeId = 1; nodeId < nodeCount; nodeId++) {
+                if (minDistances.get(nodeId) > minDistances.get(farthest)) {
+                    farthest = nodeId;
+                }
+            }
+            landmarks[landmark] = farthest;
+
+            int index = landmark;
+            search.run(farthest, false, (nodeId, distance) -> fromLandmarks.set(nodeId * landmarkCount + index, distance));
+            progressTracker.logProgress();
+
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                double distance = fromLandmarks.get(nodeId * landmarkCount + landmark);
+                if (landmark == 0 || distance < minDistances.get(nodeId)) {
+                    minDistances.set(nodeId, distance);
+                }
+            }
+            terminationFlag.assertRunning();
+        }
+
+        return landmarks;
+    }
+
+    private Consumer<Search> searchJob(long landmarkNode, int landmark, boolean inverse, HugeDoubleArray distances) {
+        return search -> {
+            search.run(
+                landmarkNode,
+                inverse,
+                (nodeId, distance) -> distances.set(nodeId * landmarkCount + landmark, distance)
+            );
+            progressTracker.logProgress();
+        };
+    }
+
+    private final class Search {
+        private final Graph localGraph;
+        private final HugeLongPriorityQueue queue;
+        private final BitSet settled;
+
+        private Search(Graph localGraph) {
+            this.localGraph = localGraph;
+            this.queue = HugeLongPriorityQueue.min(nodeCount);
+            this.settled = new BitSet(nodeCount);
+        }
+
+        void run(long source, boolean inverse, LongDoubleProcedure settle) {
+            queue.add(source, 0.0D);
+
+            long settledCount = 0;
+            while (!queue.isEmpty()) {
+                long node = queue.top();
+                double distance = queue.cost(node);
+                queue.pop();
+                settled.set(node);
+                settle.apply(node, distance);
+
+                RelationshipWithPropertyConsumer relax = (s, target, weight) -> {
+                    if (!settled.get(target)) {
+                        double targetDistance = distance + weight;
+                        if (!queue.containsElement(target)) {
+                            queue.add(target, targetDistance);
+                        } else if (targetDistance < queue.cost(target)) {
+                            queue.set(target, targetDistance);
+                        }
+                    }
+                    return true;
+                };
+                if (inverse) {
+                    localGraph.forEachInverseRelationship(node, 1.0D, relax);
+                } else {
+                    localGraph.forEachRelationship(node, 1.0D, relax);
+                }
+
+                if (++settledCount % RUN_CHECK_NODE_COUNT == 0) {
+                    terminationFlag.assertRunning();
+                }
+            }
+
+            // the queue is empty again, only the settled nodes need to be reset for the next search
+            settled.clear();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+
+public class LandmarksFactory<CONFIG extends LandmarksMutateConfig> extends GraphAlgorithmFactory<Landmarks, CONFIG> {
+
+    @Override
+    public Landmarks build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
+        return new Landmarks(
+            graph,
+            configuration.landmarkCount(),
+            configuration.landmarkSelection(),
+            configuration.concurrency(),
+            DefaultPool.INSTANCE,
+            progressTracker
+        );
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        // the distances to the landmarks depend on the inverse index, which is unknown here
+        return Landmarks.memoryEstimation(configuration.landmarkCount(), true);
+    }
+
+    @Override
+    public String taskName() {
+        return "Landmarks";
+    }
+
+    @Override
+    public Task progressTask(Graph graph, CONFIG config) {
+        return Landmarks.progressTask(graph, config.landmarkCount(), config.landmarkSelection());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.MutateNodePropertyConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+/**
+ * The distances of every node to and from the landmarks are stored as a double array in the {@code mutateProperty}.
+ */
+@Configuration
+public interface LandmarksMutateConfig extends AlgoBaseConfig, RelationshipWeightConfig, MutateNodePropertyConfig {
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int landmarkCount() {
+        return Landmarks.DEFAULT_LANDMARK_COUNT;
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.paths.landmarks.LandmarkSelection#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.paths.landmarks.LandmarkSelection#toString")
+    default LandmarkSelection landmarkSelection() {
+        return LandmarkSelection.FARTHEST;
+    }
+
+    static LandmarksMutateConfig of(CypherMapWrapper userInput) {
+        return new LandmarksMutateConfigImpl(userInput);
+    }
+}
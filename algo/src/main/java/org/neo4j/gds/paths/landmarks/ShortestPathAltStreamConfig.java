@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.paths.ShortestPathBaseConfig;
+
+import java.util.Collection;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A* guided by the landmark distances that have been stored in the {@code landmarkProperty}
+ * by the mutate mode of landmarks.
+ */
+@Configuration
+public interface ShortestPathAltStreamConfig extends ShortestPathBaseConfig {
+
+    String landmarkProperty();
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateLandmarkProperty(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (!graphStore.hasNodeProperty(selectedLabels, landmarkProperty())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node property `%s` not found in the in-memory graph.",
+                landmarkProperty()
+            ));
+        }
+    }
+
+    static ShortestPathAltStreamConfig of(CypherMapWrapper userInput) {
+        return new ShortestPathAltStreamConfigImpl(userInput);
+    }
+}
@@ -57,6 +57,16 @@ class RelationshipFilterer {
     void prepare(){
         Arrays.sort(neighbors,0,allNeighbors);
     }
+
+    /**
+     * Returns true, iff the relationship from the spur node to the given neighbor is filtered.
+     * Unlike {@link #validRelationship(long, long, long)}, this does not depend on the order of the calls,
+     * but it can only be used if relationship ids are not tracked.
+     */
+    boolean blocksNeighbor(long neighbor) {
+        assert !trackRelationships;
+        return Arrays.binarySearch(neighbors, 0, allNeighbors, neighbor) >= 0;
+    }
      boolean validRelationship(long source, long target, long relationshipId) {
         if (source == filteringSpurNode) {
 
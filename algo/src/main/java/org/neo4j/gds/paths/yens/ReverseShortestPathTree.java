@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.yens;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.neo4j.gds.termination.TerminationFlag.RUN_CHECK_NODE_COUNT;
+
+/**
+ * The shortest paths from every node to a fixed target node, computed once by a
+ * Dijkstra search over the inverse relationships.
+ * <p>
+ * Removing nodes and relationships can only make paths longer, so the distances are an
+ * admissible and consistent heuristic for every spur search of Yen's algorithm.
+ * If the tree path of a node avoids everything a spur search filters, it is also the
+ * shortest remaining path from that node, which lets the spur search stop early.
+ */
+final class ReverseShortestPathTree {
+
+    static final long NO_NEXT_HOP = -1;
+
+    private final long targetNode;
+    private final HugeDoubleArray distances;
+    private final HugeLongArray nextHops;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ReverseShortestPathTree.class)
+            .perNode("distances", HugeDoubleArray::memoryEstimation)
+            .perNode("next hops", HugeLongArray::memoryEstimation)
+            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .build();
+    }
+
+    static ReverseShortestPathTree compute(
+        Graph graph,
+        long targetNode,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "Reusing the shortest path tree requires the relationships to be either undirected or inverse indexed."
+            );
+        }
+        boolean undirected = graph.characteristics().isUndirected();
+
+        progressTracker.beginSubTask();
+        long nodeCount = graph.nodeCount();
+        var distances = HugeDoubleArray.newArray(nodeCount);
+        distances.fill(Double.POSITIVE_INFINITY);
+        var nextHops = HugeLongArray.newArray(nodeCount);
+        nextHops.fill(NO_NEXT_HOP);
+
+        var queue = HugeLongPriorityQueue.min(nodeCount);
+        queue.add(targetNode, 0.0);
+        distances.set(targetNode, 0.0);
+
+        long settled = 0;
+        while (!queue.isEmpty()) {
+            long nodeId = queue.pop();
+            double distance = distances.get(nodeId);
+
+            // the consumer receives `nodeId` as source and the node with a relationship to `nodeId` as target
+            RelationshipWithPropertyConsumer relax = (ignored, previous, weight) -> {
+                double candidate = distance + weight;
+                if (candidate < distances.get(previous)) {
+                    distances.set(previous, candidate);
+                    nextHops.set(previous, nodeId);
+                    queue.set(previous, candidate);
+                }
+                return true;
+            };
+            if (undirected) {
+                graph.forEachRelationship(nodeId, 1.0D, relax);
+            } else {
+                graph.forEachInverseRelationship(nodeId, 1.0D, relax);
+            }
+
+            progressTracker.logProgress(graph.degree(nodeId));
+            if (++settled % RUN_CHECK_NODE_COUNT == 0) {
+                terminationFlag.assertRunning();
+            }
+        }
+        progressTracker.endSubTask();
+
+        return new ReverseShortestPathTree(targetNode, distances, nextHops);
+    }
+
+    private ReverseShortestPathTree(long targetNode, HugeDoubleArray distances, HugeLongArray nextHops) {
+        this.targetNode = targetNode;
+        this.distances = distances;
+        this.nextHops = nextHops;
+    }
+
+    long targetNode() {
+        return targetNode;
+    }
+
+    /**
+     * The distance from the given node to the target, or positive infinity if the target is unreachable.
+     */
+    double distance(long nodeId) {
+        return distances.get(nodeId);
+    }
+
+    /**
+     * The successor of the given node on its shortest path to the target.
+     */
+    long nextHop(long nodeId) {
+        return nextHops.get(nodeId);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.yens;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+
+import java.util.Optional;
+
+/**
+ * An A* search from a spur node to the target of a {@link ReverseShortestPathTree},
+ * which uses the tree distances as heuristic.
+ * <p>
+ * When relationship ids are not tracked, the search stops at the first settled node
+ * whose tree path avoids all blocked nodes and relationships, and completes the spur path
+ * along the tree. As the heuristic is exact on that tree path, the result is still a shortest path.
+ * <p>
+ * The search state is reused across spur nodes and only the touched entries are reset.
+ */
+final class SpurSearch {
+
+    private static final long NO_PREDECESSOR = -1;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final Graph graph;
+    private final ReverseShortestPathTree tree;
+    private final long targetNode;
+    private final boolean trackRelationships;
+
+    private final HugeLongPriorityQueue queue;
+    private final HugeLongArray predecessors;
+    private final HugeLongArray relationships;
+    private final BitSet visited;
+    private final BitSet blocked;
+    private final LongArrayList touched;
+    private final LongArrayList blockedNodes;
+    private final MutableInt relationshipId;
+
+    static MemoryEstimation memoryEstimation(boolean trackRelationships) {
+        var builder = MemoryEstimations.builder(SpurSearch.class)
+            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .perNode("predecessors", HugeLongArray::memoryEstimation)
+            .perNode("visited set", MemoryUsage::sizeOfBitset)
+            .perNode("blocked set", MemoryUsage::sizeOfBitset);
+        if (trackRelationships) {
+            builder.perNode("relationship ids", HugeLongArray::memoryEstimation);
+        }
+        return builder.build();
+    }
+
+    SpurSearch(Graph graph, ReverseShortestPathTree tree, boolean trackRelationships) {
+        this.graph = graph;
+        this.tree = tree;
+        this.targetNode = tree.targetNode();
+        this.trackRelationships = trackRelationships;
+
+        long nodeCount = graph.nodeCount();
+        this.queue = new HugeLongPriorityQueue(nodeCount) {
+            @Override
+            protected boolean lessThan(long a, long b) {
+                return costValues.get(a) + tree.distance(a) < costValues.get(b) + tree.distance(b);
+            }
+        };
+        this.predecessors = HugeLongArray.newArray(nodeCount);
+        this.relationships = trackRelationships ? HugeLongArray.newArray(nodeCount) : null;
+        this.visited = new BitSet(nodeCount);
+        this.blocked = new BitSet(nodeCount);
+        this.touched = new LongArrayList();
+        this.blockedNodes = new LongArrayList();
+        this.relationshipId = new MutableInt();
+    }
+
+    /**
+     * Excludes the given node from the next search.
+     */
+    void block(long nodeId) {
+        blocked.set(nodeId);
+        blockedNodes.add(nodeId);
+    }
+
+    Optional<PathResult> compute(long spurNode, RelationshipFilterer relationshipFilterer) {
+        try {
+            return search(spurNode, relationshipFilterer);
+        } finally {
+            reset();
+        }
+    }
+
+    private Optional<PathResult> search(long spurNode, RelationshipFilterer relationshipFilterer) {
+        if (tree.distance(spurNode) == Double.POSITIVE_INFINITY) {
+            return Optional.empty();
+        }
+
+        queue.add(spurNode, 0.0);
+        predecessors.set(spurNode, NO_PREDECESSOR);
+        touched.add(spurNode);
+
+        while (!queue.isEmpty()) {
+            long node = queue.pop();
+            double cost = queue.cost(node);
+            visited.set(node);
+
+            if (node == targetNode) {
+                return Optional.of(pathResult(spurNode, node, false));
+            }
+            if (!trackRelationships && treePathIsValid(spurNode, node, relationshipFilterer)) {
+                return Optional.of(pathResult(spurNode, node, true));
+            }
+
+            relationshipId.setValue(0);
+            graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                if (relationshipFilterer.validRelationship(source, target, relationshipId.longValue())) {
+                    relax(source, target, relationshipId.longValue(), cost + weight);
+                }
+                relationshipId.increment();
+                return true;
+            });
+        }
+
+        return Optional.empty();
+    }
+
+    private void relax(long source, long target, long relationshipId, double newCost) {
+        // unreachable from the target in the unfiltered graph, so also in the filtered one
+        if (visited.get(target) || blocked.get(target) || tree.distance(target) == Double.POSITIVE_INFINITY) {
+            return;
+        }
+        if (!queue.containsElement(target)) {
+            queue.add(target, newCost);
+            touched.add(target);
+        } else if (newCost < queue.cost(target)) {
+            queue.set(target, newCost);
+        } else {
+            return;
+        }
+        predecessors.set(target, source);
+        if (trackRelationships) {
+            relationships.set(target, relationshipId);
+        }
+    }
+
+    /**
+     * Returns true, iff the tree path from the given node to the target uses neither a blocked node,
+     * nor the spur node, nor a filtered relationship. Tree paths are suffix-closed, so a tree path which
+     * runs into the current spur path would have been accepted at an earlier node already.
+     */
+    private boolean treePathIsValid(long spurNode, long node, RelationshipFilterer relationshipFilterer) {
+        var current = node;
+        while (current != targetNode) {
+            long next = tree.nextHop(current);
+            if (next == spurNode || blocked.get(next)) {
+                return false;
+            }
+            if (current == spurNode && relationshipFilterer.blocksNeighbor(next)) {
+                return false;
+            }
+            current = next;
+        }
+        return true;
+    }
+
+    private PathResult pathResult(long spurNode, long lastSearchedNode, boolean appendTreePath) {
+        var nodeIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+        var relationshipIds = trackRelationships ? new LongArrayList() : null;
+
+        for (long node = lastSearchedNode; node != NO_PREDECESSOR; node = predecessors.get(node)) {
+            nodeIds.add(node);
+            costs.add(queue.cost(node));
+            if (trackRelationships && node != spurNode) {
+                relationshipIds.add(relationships.get(node));
+            }
+        }
+        ArrayUtils.reverse(nodeIds.buffer, 0, nodeIds.size());
+        ArrayUtils.reverse(costs.buffer, 0, costs.size());
+
+        if (appendTreePath) {
+            double cost = queue.cost(lastSearchedNode);
+            double remaining = tree.distance(lastSearchedNode);
+            for (long node = lastSearchedNode; node != targetNode; ) {
+                node = tree.nextHop(node);
+                nodeIds.add(node);
+                costs.add(cost + remaining - tree.distance(node));
+            }
+        }
+
+        long[] relationshipIdsArray = EMPTY_ARRAY;
+        if (trackRelationships) {
+            relationshipIdsArray = relationshipIds.toArray();
+            ArrayUtils.reverse(relationshipIdsArray);
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(spurNode)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(relationshipIdsArray)
+            .costs(costs.toArray())
+            .build();
+    }
+
+    private void reset() {
+        while (!queue.isEmpty()) {
+            queue.pop();
+        }
+        for (int i = 0; i < touched.size(); i++) {
+            visited.clear(touched.get(i));
+        }
+        touched.clear();
+        for (int i = 0; i < blockedNodes.size(); i++) {
+            blocked.clear(blockedNodes.get(i));
+        }
+        blockedNodes.clear();
+    }
+}
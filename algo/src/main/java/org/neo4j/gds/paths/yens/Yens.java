@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.yens;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.DefaultPool;
@@ -68,9 +69,16 @@ public final class Yens extends Algorithm<PathFindingResult> {
     }
 
     public static MemoryEstimation memoryEstimation(int k, boolean trackRelationships) {
-        return MemoryEstimations.builder(Yens.class)
-            .perThread("Yens Task", YensTask.memoryEstimation(k, trackRelationships))
-            .build();
+        return memoryEstimation(k, trackRelationships, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(int k, boolean trackRelationships, boolean reuseShortestPathTree) {
+        var builder = MemoryEstimations.builder(Yens.class)
+            .perThread("Yens Task", YensTask.memoryEstimation(k, trackRelationships, reuseShortestPathTree));
+        if (reuseShortestPathTree) {
+            builder.add("shortest path tree", ReverseShortestPathTree.memoryEstimation());
+        }
+        return builder.build();
     }
 
     private Yens(Graph graph, ShortestPathYensBaseConfig config, ProgressTracker progressTracker) {
@@ -87,7 +95,17 @@ public final class Yens extends Algorithm<PathFindingResult> {
         var kShortestPaths = new ArrayList<MutablePathResult>();
         // compute top 1 shortest path
 
-        var shortestPath = findFirstPath();
+        // The tree is shared by all tasks and replaces the initial Dijkstra search.
+        var reverseTree = config.reuseShortestPathTree()
+            ? ReverseShortestPathTree.compute(
+                graph,
+                graph.toMappedNodeId(config.targetNode()),
+                progressTracker,
+                terminationFlag
+            )
+            : null;
+
+        var shortestPath = reverseTree != null ? findFirstPath(reverseTree) : findFirstPath();
 
         // no shortest path has been found
         if (shortestPath.isEmpty()) {
@@ -100,7 +118,7 @@ public final class Yens extends Algorithm<PathFindingResult> {
 
         AtomicInteger currentSpurIndexId = new AtomicInteger(0);
 
-        var tasks = createTasks(kShortestPaths, candidatePathsQueue, currentSpurIndexId);
+        var tasks = createTasks(kShortestPaths, candidatePathsQueue, currentSpurIndexId, reverseTree);
 
         progressTracker.beginSubTask("Path growing");
 
@@ -148,7 +166,8 @@ public final class Yens extends Algorithm<PathFindingResult> {
     private ArrayList<YensTask> createTasks(
         ArrayList<MutablePathResult> kShortestPaths,
         CandidatePathsPriorityQueue candidatePathsQueue,
-        AtomicInteger currentSpurIndexId
+        AtomicInteger currentSpurIndexId,
+        @Nullable ReverseShortestPathTree reverseTree
     ) {
         var tasks = new ArrayList<YensTask>();
         for (int concurrentId = 0; concurrentId < config.concurrency(); ++concurrentId) {
@@ -159,7 +178,8 @@ public final class Yens extends Algorithm<PathFindingResult> {
                 candidatePathsQueue,
                 currentSpurIndexId,
                 config.trackRelationships(),
-                config.k()
+                config.k(),
+                reverseTree
             ));
         }
         return tasks;
@@ -177,6 +197,15 @@ public final class Yens extends Algorithm<PathFindingResult> {
         return result.findFirst();
     }
 
+    private Optional<PathResult> findFirstPath(ReverseShortestPathTree reverseTree) {
+        var sourceNode = graph.toMappedNodeId(config.sourceNode());
+        // nothing is filtered for the first path
+        var relationshipFilterer = new RelationshipFilterer(0, config.trackRelationships());
+        relationshipFilterer.setFilter(sourceNode);
+        return new SpurSearch(graph, reverseTree, config.trackRelationships())
+            .compute(sourceNode, relationshipFilterer);
+    }
+
     static ShortestPathBaseConfig dijkstraConfig(long targetNode, boolean trackRelationships) {
 
         return ImmutableShortestPathDijkstraStreamConfig
@@ -38,6 +38,9 @@ public class YensTask implements Runnable {
     // Track nodes and relationships that are skipped in a single iteration.
     // The content of these data structures is reset after each of k iterations.
     private @Nullable Dijkstra localDijkstra;
+    // Only present if the shortest path tree to the target is reused, replaces the Dijkstra search.
+    private final @Nullable ReverseShortestPathTree reverseTree;
+    private @Nullable SpurSearch spurSearch;
     private final boolean trackRelationships;
     private final long targetNode;
     //Dijkstra filter
@@ -51,9 +54,18 @@ public class YensTask implements Runnable {
     private final BiConsumer<MutablePathResult, PathResult> pathAppender;
 
     public static MemoryEstimation memoryEstimation(int k, boolean trackRelationships) {
-        return MemoryEstimations.builder(YensTask.class)
-            .fixed("neighbors", MemoryUsage.sizeOfLongArray(k))
-            .add("Dijkstra", Dijkstra.memoryEstimation(trackRelationships)).build();
+        return memoryEstimation(k, trackRelationships, false);
+    }
+
+    static MemoryEstimation memoryEstimation(int k, boolean trackRelationships, boolean reuseShortestPathTree) {
+        var builder = MemoryEstimations.builder(YensTask.class)
+            .fixed("neighbors", MemoryUsage.sizeOfLongArray(k));
+        if (reuseShortestPathTree) {
+            builder.add("spur search", SpurSearch.memoryEstimation(trackRelationships));
+        } else {
+            builder.add("Dijkstra", Dijkstra.memoryEstimation(trackRelationships));
+        }
+        return builder.build();
     }
 
     YensTask(
@@ -63,13 +75,16 @@ public class YensTask implements Runnable {
         CandidatePathsPriorityQueue candidatePathsQueue,
         AtomicInteger currentSpurIndexId,
         boolean trackRelationships,
-        int k
+        int k,
+        @Nullable ReverseShortestPathTree reverseTree
     ) {
         this.currentSpurIndexId = currentSpurIndexId;
         this.localGraph = graph;
         this.trackRelationships = trackRelationships;
         this.targetNode = targetNode;
         this.localDijkstra = null;
+        this.reverseTree = reverseTree;
+        this.spurSearch = null;
 
         this.kShortestPaths = kShortestPaths;
         this.candidatePathsQueue = candidatePathsQueue;
@@ -91,7 +106,11 @@ public class YensTask implements Runnable {
         int indexId = currentSpurIndexId.getAndIncrement();
         int maxLength = previousPath.nodeCount() - 1; //-1 is because in source-a1-a2-t path we ignore t
         while (indexId < maxLength) {
-            if (localDijkstra == null) {
+            if (reverseTree != null) {
+                if (spurSearch == null) {
+                    spurSearch = new SpurSearch(localGraph, reverseTree, trackRelationships);
+                }
+            } else if (localDijkstra == null) {
                 setupDijkstra();
             }
             process(indexId);
@@ -106,7 +125,9 @@ public class YensTask implements Runnable {
         createFilters(rootPath, spurNode, indexId);
 
         // Calculate the spur path from the spur node to the sink.
-        var spurPath = computeDijkstra(spurNode);
+        var spurPath = spurSearch != null
+            ? computeSpurSearch(rootPath, spurNode, indexId)
+            : computeDijkstra(rootPath, spurNode, indexId);
 
         // No new candidate from this spur node, continue with next node.
         if (!spurPath.isEmpty()) {
@@ -117,7 +138,6 @@ public class YensTask implements Runnable {
 
     private void createFilters(MutablePathResult rootPath, long spurNode, int indexId) {
         //clean all filters
-        localDijkstra.resetTraversalState();
         relationshipFilterer.setFilter(spurNode);
 
         for (var path : kShortestPaths) {
@@ -128,18 +148,27 @@ public class YensTask implements Runnable {
             }
         }
         relationshipFilterer.prepare();
+    }
+
+    private Optional<PathResult> computeDijkstra(MutablePathResult rootPath, long spurNode, int indexId) {
+        localDijkstra.resetTraversalState();
         // Filter nodes from root path to avoid cyclic path searches.
         for (int j = 0; j < indexId; j++) {
             localDijkstra.withVisited(rootPath.node(j));
         }
-    }
-
-    private Optional<PathResult> computeDijkstra(long spurNode) {
         localDijkstra.withSourceNode(spurNode);
         var result = localDijkstra.compute().findFirst();
         return result;
     }
 
+    private Optional<PathResult> computeSpurSearch(MutablePathResult rootPath, long spurNode, int indexId) {
+        // Filter nodes from root path to avoid cyclic path searches.
+        for (int j = 0; j < indexId; j++) {
+            spurSearch.block(rootPath.node(j));
+        }
+        return spurSearch.compute(spurNode, relationshipFilterer);
+    }
+
     private void storePath(int indexId, MutablePathResult rootPath, Optional<PathResult> spurPath) {
 
         // Entire path is made up of the root path and spur path.
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.yens.config;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.paths.ShortestPathBaseConfig;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
@@ -30,4 +31,11 @@ public interface ShortestPathYensBaseConfig extends ShortestPathBaseConfig {
     // Number of shortest paths to compute
     @Configuration.IntegerRange(min = 1)
     int k();
+
+    // Compute the shortest path tree to the target once and use it to speed up all spur searches.
+    // Directed graphs need an inverse index.
+    @Value.Default
+    default boolean reuseShortestPathTree() {
+        return false;
+    }
 }
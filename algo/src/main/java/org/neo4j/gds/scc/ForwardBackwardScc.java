@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+import static org.neo4j.gds.scc.Scc.UNORDERED;
+
+/**
+ * Parallel strongly connected components based on forward-backward reachability.
+ *
+ * The algorithm alternates between three phases, all of which run in parallel:
+ * <ul>
+ *     <li>Trimming assigns every node without remaining in- or out-neighbours to its own component.</li>
+ *     <li>Forward-backward: the component of a high-degree pivot is the intersection of the nodes
+ *     reachable from the pivot and the nodes that can reach the pivot. This is done once, as real-world graphs
+ *     tend to have a single giant component.</li>
+ *     <li>Coloring propagates the maximum node id forward. Every node which kept its own id as color is the root
+ *     of a component that consists of the nodes of the same color that can reach the root.</li>
+ * </ul>
+ *
+ * Nodes are only ever assigned in whole components, so every phase can ignore assigned nodes.
+ * The backward traversals need access to incoming relationships, hence the graph must either be undirected or
+ * inverse indexed.
+ */
+final class ForwardBackwardScc {
+
+    private static final int BUFFER_SIZE = 1024;
+    // keep trimming as long as a round removes at least 1% of the remaining nodes
+    private static final double MIN_TRIM_RATIO = 0.01;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final boolean undirected;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+
+    private final HugeLongArray components;
+    private final HugeAtomicBitSet assigned;
+    private final AtomicLong assignedCount;
+
+    // shared between the pivot traversal (visited nodes) and coloring (active nodes)
+    private HugeAtomicBitSet marked;
+    private HugeAtomicBitSet nextMarked;
+    private final HugeAtomicLongArray colors;
+
+    private HugeLongArray frontier;
+    private HugeLongArray nextFrontier;
+    private final AtomicLong nextFrontierSize;
+
+    static void validate(Graph graph) {
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "The `FORWARD_BACKWARD` strategy requires an undirected or inverse indexed graph. " +
+                "Use `inverseIndexedRelationshipTypes` when projecting the graph."
+            );
+        }
+    }
+
+    ForwardBackwardScc(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        validate(graph);
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.undirected = graph.characteristics().isUndirected();
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+
+        this.components = HugeLongArray.newArray(nodeCount);
+        this.assigned = HugeAtomicBitSet.create(nodeCount);
+        this.assignedCount = new AtomicLong();
+        this.marked = HugeAtomicBitSet.create(nodeCount);
+        this.nextMarked = HugeAtomicBitSet.create(nodeCount);
+        this.colors = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.frontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontierSize = new AtomicLong();
+    }
+
+    HugeLongArray compute() {
+        components.fill(UNORDERED);
+
+        trim();
+        if (remaining() > 0) {
+            forwardBackward(pivot());
+        }
+        while (remaining() > 0) {
+            terminationFlag.assertRunning();
+            trim();
+            if (remaining() > 0) {
+                color();
+                assignColoredComponents();
+            }
+        }
+
+        return components;
+    }
+
+    private long remaining() {
+        return nodeCount - assignedCount.get();
+    }
+
+    private void trim() {
+        long remainingBefore;
+        do {
+            terminationFlag.assertRunning();
+            remainingBefore = remaining();
+            runOverNodes(localGraph -> partition -> partition.consume(nodeId -> {
+                if (assigned.get(nodeId)) {
+                    return;
+                }
+                if (!hasUnassignedNeighbour(localGraph, nodeId, false) ||
+                    !hasUnassignedNeighbour(localGraph, nodeId, true)) {
+                    assigned.set(nodeId);
+                    assign(nodeId, nodeId);
+                }
+            }));
+        } while (remaining() > 0 && remainingBefore - remaining() >= MIN_TRIM_RATIO * remainingBefore);
+    }
+
+    private boolean hasUnassignedNeighbour(Graph localGraph, long nodeId, boolean inverse) {
+        var found = new boolean[]{false};
+        forEachNeighbour(localGraph, nodeId, inverse, (source, target) -> {
+            if (target != source && !assigned.get(target)) {
+                found[0] = true;
+                return false;
+            }
+            return true;
+        });
+        return found[0];
+    }
+
+    private long pivot() {
+        var candidates = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            PivotCandidate::new,
+            Optional.empty()
+        );
+        run(candidates);
+
+        long pivot = UNORDERED;
+        double bestScore = -1;
+        for (var candidate : candidates) {
+            if (candidate.bestScore > bestScore) {
+                bestScore = candidate.bestScore;
+                pivot = candidate.bestNode;
+            }
+        }
+        return pivot;
+    }
+
+    private void forwardBackward(long pivot) {
+        marked.clear();
+
+        // forward: mark everything reachable from the pivot
+        marked.set(pivot);
+        frontier.set(0, pivot);
+        traverse(1, false, (source, target) -> !assigned.get(target) && !marked.getAndSet(target));
+
+        // backward: everything marked that reaches the pivot is in its component
+        assigned.set(pivot);
+        assign(pivot, pivot);
+        frontier.set(0, pivot);
+        traverse(1, true, (source, target) -> {
+            if (marked.get(target) && !assigned.getAndSet(target)) {
+                assign(target, pivot);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void color() {
+        marked.clear();
+        runOverNodes(localGraph -> partition -> partition.consume(nodeId -> {
+            if (!assigned.get(nodeId)) {
+                colors.set(nodeId, nodeId);
+                marked.set(nodeId);
+            }
+        }));
+
+        while (!marked.isEmpty()) {
+            terminationFlag.assertRunning();
+            nextMarked.clear();
+            runOverNodes(localGraph -> partition -> partition.consume(nodeId -> {
+                if (!marked.get(nodeId)) {
+                    return;
+                }
+                long color = colors.get(nodeId);
+                forEachNeighbour(localGraph, nodeId, false, (source, target) -> {
+                    if (!assigned.get(target)) {
+                        long current = colors.get(target);
+                        while (color > current) {
+                            long witness = colors.compareAndExchange(target, current, color);
+                            if (witness == current) {
+                                nextMarked.set(target);
+                                break;
+                            }
+                            current = witness;
+                        }
+                    }
+                    return true;
+                });
+            }));
+            var tmp = marked;
+            marked = nextMarked;
+            nextMarked = tmp;
+        }
+    }
+
+    private void assignColoredComponents() {
+        // every node that kept its own color is the root of a component
+        long rootCount = collect(nodeId -> !assigned.get(nodeId) && colors.get(nodeId) == nodeId);
+        for (long i = 0; i < rootCount; i++) {
+            long root = frontier.get(i);
+            assigned.set(root);
+            assign(root, root);
+        }
+
+        traverse(rootCount, true, (source, target) -> {
+            long color = colors.get(source);
+            if (!assigned.get(target) && colors.get(target) == color && !assigned.getAndSet(target)) {
+                assign(target, color);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void assign(long nodeId, long component) {
+        components.set(nodeId, component);
+        assignedCount.incrementAndGet();
+        progressTracker.logProgress();
+    }
+
+    /**
+     * Level-synchronous traversal starting from the first {@code frontierSize} nodes in {@code frontier}.
+     * Every neighbour for which the {@code visitor} returns {@code true} becomes part of the next frontier,
+     * hence the visitor needs to make sure that a node is accepted at most once.
+     */
+    private void traverse(long frontierSize, boolean inverse, RelationshipConsumer visitor) {
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            nextFrontierSize.set(0);
+            var currentFrontier = frontier;
+            var tasks = PartitionUtils.rangePartition(
+                concurrency,
+                frontierSize,
+                partition -> (Runnable) () -> {
+                    var localGraph = graph.concurrentCopy();
+                    var buffer = new FrontierBuffer();
+                    partition.consume(index -> forEachNeighbour(
+                        localGraph,
+                        currentFrontier.get(index),
+                        inverse,
+                        (source, target) -> {
+                            if (visitor.accept(source, target)) {
+                                buffer.add(target);
+                            }
+                            return true;
+                        }
+                    ));
+                    buffer.flush();
+                },
+                Optional.empty()
+            );
+            run(tasks);
+
+            var tmp = frontier;
+            frontier = nextFrontier;
+            nextFrontier = tmp;
+            frontierSize = nextFrontierSize.get();
+        }
+    }
+
+    /**
+     * Writes all nodes matching the {@code predicate} to the frontier and returns their number.
+     */
+    private long collect(LongPredicate predicate) {
+        nextFrontierSize.set(0);
+        runOverNodes(localGraph -> partition -> {
+            var buffer = new FrontierBuffer();
+            partition.consume(nodeId -> {
+                if (predicate.test(nodeId)) {
+                    buffer.add(nodeId);
+                }
+            });
+            buffer.flush();
+        });
+        var tmp = frontier;
+        frontier = nextFrontier;
+        nextFrontier = tmp;
+        return nextFrontierSize.get();
+    }
+
+    private void forEachNeighbour(Graph localGraph, long nodeId, boolean inverse, RelationshipConsumer consumer) {
+        if (inverse && !undirected) {
+            localGraph.forEachInverseRelationship(nodeId, consumer);
+        } else {
+            localGraph.forEachRelationship(nodeId, consumer);
+        }
+    }
+
+    private void runOverNodes(Function<Graph, Consumer<Partition>> taskFactory) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> taskFactory.apply(graph.concurrentCopy()).accept(partition),
+            Optional.empty()
+        );
+        run(tasks);
+    }
+
+    private void run(List<? extends Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private final class FrontierBuffer {
+        private final long[] buffer = new long[BUFFER_SIZE];
+        private int size = 0;
+
+        void add(long nodeId) {
+            buffer[size++] = nodeId;
+            if (size == BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            long offset = nextFrontierSize.getAndAdd(size);
+            for (int i = 0; i < size; i++) {
+                nextFrontier.set(offset + i, buffer[i]);
+            }
+            size = 0;
+        }
+    }
+
+    private final class PivotCandidate implements Runnable {
+        private final Partition partition;
+        private long bestNode = UNORDERED;
+        private double bestScore = -1;
+
+        PivotCandidate(Partition partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> {
+                if (assigned.get(nodeId)) {
+                    return;
+                }
+                double outDegree = graph.degree(nodeId);
+                double inDegree = undirected ? outDegree : graph.degreeInverse(nodeId);
+                double score = (outDegree + 1) * (inDegree + 1);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestNode = nodeId;
+                }
+            });
+        }
+    }
+}
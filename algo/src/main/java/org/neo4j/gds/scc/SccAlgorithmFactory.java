@@ -22,9 +22,12 @@ package org.neo4j.gds.scc;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
 import org.neo4j.gds.core.utils.paged.PagedLongStack;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -38,6 +41,9 @@ public class SccAlgorithmFactory<CONFIG extends SccCommonBaseConfig> extends Gra
     public Scc build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
         return new Scc(
             graph,
+            configuration.strategy(),
+            configuration.concurrency(),
+            DefaultPool.INSTANCE,
             progressTracker
         );
     }
@@ -54,8 +60,19 @@ public class SccAlgorithmFactory<CONFIG extends SccCommonBaseConfig> extends Gra
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        if (configuration.strategy() == SccStrategy.FORWARD_BACKWARD) {
+            return MemoryEstimations.builder(ForwardBackwardScc.class)
+                .perNode("components", HugeLongArray::memoryEstimation)
+                .perNode("colors", HugeAtomicLongArray::memoryEstimation)
+                .perNode("frontier", HugeLongArray::memoryEstimation)
+                .perNode("next frontier", HugeLongArray::memoryEstimation)
+                .perNode("assigned", HugeAtomicBitSet::memoryEstimation)
+                .perNode("marked", HugeAtomicBitSet::memoryEstimation)
+                .perNode("next marked", HugeAtomicBitSet::memoryEstimation)
+                .build();
+        }
 
-        var builder = MemoryEstimations.builder(Scc.class);
+        var builder = MemoryEstimations.builder(TarjanScc.class);
         builder
             .perNode("index", HugeLongArray::memoryEstimation)
             .perNode("connectedComponents", HugeLongArray::memoryEstimation)
@@ -19,8 +19,46 @@
  */
 package org.neo4j.gds.scc;
 
+import org.immutables.value.Value;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 
+import java.util.Collection;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public interface SccCommonBaseConfig extends AlgoBaseConfig {
 
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.scc.SccStrategy#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.scc.SccStrategy#toString")
+    default SccStrategy strategy() {
+        return SccStrategy.TARJAN;
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    @Value.Default
+    default void validateStrategy(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (strategy() != SccStrategy.FORWARD_BACKWARD) {
+            return;
+        }
+        var relationshipSchema = graphStore.schema().relationshipSchema();
+        var inverseIndexedTypes = graphStore.inverseIndexedRelationshipTypes();
+        for (var type : selectedRelationshipTypes) {
+            if (!relationshipSchema.isUndirected(type) && !inverseIndexedTypes.contains(type)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The `%s` strategy requires relationship type `%s` to be undirected or inverse indexed.",
+                    SccStrategy.FORWARD_BACKWARD.name(),
+                    type.name
+                ));
+            }
+        }
+    }
 }
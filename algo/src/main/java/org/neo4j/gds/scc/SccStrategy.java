@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+public enum SccStrategy {
+    /**
+     * Sequential iterative Tarjan, works on any directed graph.
+     */
+    TARJAN,
+    /**
+     * Parallel trimming, forward-backward reachability and coloring.
+     * Requires an undirected or inverse indexed graph.
+     */
+    FORWARD_BACKWARD;
+
+    public static SccStrategy parse(Object input) {
+        if (input instanceof SccStrategy) {
+            return (SccStrategy) input;
+        }
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            try {
+                return SccStrategy.valueOf(inputString);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "SCC strategy `%s` is not supported. Must be one of: %s.",
+                    input,
+                    Arrays.stream(values()).map(Enum::name).collect(Collectors.joining(", "))
+                ));
+            }
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected SCC strategy or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(SccStrategy strategy) {
+        return strategy.name();
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Parallel minimum weight spanning forest algorithm (Borůvka).
+ * <p>
+ * Every round, each component selects its cheapest relationship to another component and all
+ * selected relationships are added to the forest at once. Components are tracked in a
+ * {@link HugeAtomicDisjointSetStruct}, so both the selection and the merging run in parallel.
+ * The number of components at least halves each round, hence there are at most log(n) rounds.
+ * Unlike {@link Prim}, the result covers all connected components of the graph.
+ * <p>
+ * Ties are broken by the node ids of the relationship, which makes the selected relationships a
+ * forest even when weights are equal.
+ * <p>
+ * If {@code componentCount} is larger than the number of trees in the forest, the worst relationships
+ * are removed afterwards until the forest consists of exactly {@code componentCount} trees.
+ * Isolated nodes count as trees of their own.
+ */
+public class Boruvka extends Algorithm<SpanningTree> {
+
+    private static final long NONE = -1;
+
+    private final Graph graph;
+    private final DoubleUnaryOperator minMax;
+    private final long componentCount;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final long nodeCount;
+
+    // per node: the cheapest relationship leaving its component
+    private final HugeLongArray bestTarget;
+    private final HugeDoubleArray bestWeight;
+    private final HugeDoubleArray bestOriginalWeight;
+    // per component: the node holding the cheapest relationship of the component
+    private final HugeAtomicLongArray componentBest;
+    private final HugeLongArray componentOf;
+
+    // relationships of the forest
+    private final HugeLongArray forestSource;
+    private final HugeLongArray forestTarget;
+    private final HugeDoubleArray forestWeight;
+    private final AtomicLong forestSize;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Boruvka.class)
+            .perNode("best target", HugeLongArray::memoryEstimation)
+            .perNode("best weight", HugeDoubleArray::memoryEstimation)
+            .perNode("best original weight", HugeDoubleArray::memoryEstimation)
+            .perNode("component best", HugeAtomicLongArray::memoryEstimation)
+            .perNode("component of", HugeLongArray::memoryEstimation)
+            .add("components", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .perNode("forest source", HugeLongArray::memoryEstimation)
+            .perNode("forest target", HugeLongArray::memoryEstimation)
+            .perNode("forest weight", HugeDoubleArray::memoryEstimation)
+            .perNode("parent", HugeLongArray::memoryEstimation)
+            .perNode("cost to parent", HugeDoubleArray::memoryEstimation)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("adjacency", nodeCount -> HugeLongArray.memoryEstimation(2 * nodeCount))
+            .perNode("queue", HugeLongArray::memoryEstimation)
+            .perNode("visited", MemoryUsage::sizeOfBitset)
+            .perNode("dropped", MemoryUsage::sizeOfBitset)
+            .add("worst relationships", HugeLongPriorityQueue.memoryEstimation())
+            .build();
+    }
+
+    public static Task progressTask(Graph graph) {
+        return Tasks.leaf("Boruvka", graph.nodeCount());
+    }
+
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, minMax, 1, concurrency, executorService, progressTracker);
+    }
+
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long componentCount,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (!graph.schema().isUndirected()) {
+            throw new IllegalArgumentException(
+                "The Spanning Tree algorithm works only with undirected graphs. Please orient the edges properly");
+        }
+        if (componentCount < 1) {
+            throw new IllegalArgumentException("The number of components `componentCount` must be at least 1.");
+        }
+        this.graph = graph;
+        this.minMax = minMax;
+        this.componentCount = componentCount;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.nodeCount = graph.nodeCount();
+
+        this.bestTarget = HugeLongArray.newArray(nodeCount);
+        this.bestWeight = HugeDoubleArray.newArray(nodeCount);
+        this.bestOriginalWeight = HugeDoubleArray.newArray(nodeCount);
+        this.componentBest = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.componentOf = HugeLongArray.newArray(nodeCount);
+
+        long maxForestSize = Math.max(nodeCount - 1, 0);
+        this.forestSource = HugeLongArray.newArray(maxForestSize);
+        this.forestTarget = HugeLongArray.newArray(maxForestSize);
+        this.forestWeight = HugeDoubleArray.newArray(maxForestSize);
+        this.forestSize = new AtomicLong();
+    }
+
+    @Override
+    public SpanningTree compute() {
+        progressTracker.beginSubTask("Boruvka");
+        var components = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+
+        long addedInRound;
+        do {
+            terminationFlag.assertRunning();
+            prepareRound(components);
+            selectCheapestRelationships();
+            addedInRound = mergeComponents(components);
+        } while (addedInRound > 0);
+
+        var spanningTree = toSpanningTree();
+        progressTracker.endSubTask("Boruvka");
+        return spanningTree;
+    }
+
+    private void prepareRound(HugeAtomicDisjointSetStruct components) {
+        run(PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> partition.consume(nodeId -> {
+                componentOf.set(nodeId, components.setIdOf(nodeId));
+                componentBest.set(nodeId, NONE);
+            }),
+            Optional.empty()
+        ));
+    }
+
+    private void selectCheapestRelationships() {
+        run(PartitionUtils.degreePartition(
+            graph,
+            concurrency,
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(nodeId -> {
+                    long component = componentOf.get(nodeId);
+                    bestTarget.set(nodeId, NONE);
+                    localGraph.forEachRelationship(nodeId, 0.0D, (source, target, originalWeight) -> {
+                        if (componentOf.get(target) == component) {
+                            return true;
+                        }
+                        double weight = minMax.applyAsDouble(originalWeight);
+                        long currentTarget = bestTarget.get(source);
+                        if (currentTarget == NONE || isBetter(
+                            weight, source, target,
+                            bestWeight.get(source), source, currentTarget
+                        )) {
+                            bestTarget.set(source, target);
+                            bestWeight.set(source, weight);
+                            bestOriginalWeight.set(source, originalWeight);
+                        }
+                        return true;
+                    });
+
+                    if (bestTarget.get(nodeId) != NONE) {
+                        long current = componentBest.get(component);
+                        while (current == NONE || isBetter(nodeId, current)) {
+                            long witness = componentBest.compareAndExchange(component, current, nodeId);
+                            if (witness == current) {
+                                break;
+                            }
+                            current = witness;
+                        }
+                    }
+                });
+            },
+            Optional.empty()
+        ));
+    }
+
+    private long mergeComponents(HugeAtomicDisjointSetStruct components) {
+        long forestSizeBefore = forestSize.get();
+        run(PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> partition.consume(component -> {
+                long node = componentBest.get(component);
+                if (componentOf.get(component) != component || node == NONE) {
+                    return;
+                }
+                long target = bestTarget.get(node);
+                long otherComponent = componentOf.get(target);
+                long otherNode = componentBest.get(otherComponent);
+                // both components selected the same relationship, only one of them adds it
+                if (otherComponent < component && otherNode != NONE && isSameRelationship(node, otherNode)) {
+                    return;
+                }
+                long index = forestSize.getAndIncrement();
+                forestSource.set(index, node);
+                forestTarget.set(index, target);
+                forestWeight.set(index, bestOriginalWeight.get(node));
+                components.union(node, target);
+                progressTracker.logProgress();
+            }),
+            Optional.empty()
+        ));
+        return forestSize.get() - forestSizeBefore;
+    }
+
+    private boolean isBetter(long node, long otherNode) {
+        return isBetter(
+            bestWeight.get(node), node, bestTarget.get(node),
+            bestWeight.get(otherNode), otherNode, bestTarget.get(otherNode)
+        );
+    }
+
+    private boolean isSameRelationship(long node, long otherNode) {
+        long target = bestTarget.get(node);
+        long otherTarget = bestTarget.get(otherNode);
+        return Math.min(node, target) == Math.min(otherNode, otherTarget)
+               && Math.max(node, target) == Math.max(otherNode, otherTarget)
+               && Double.compare(bestWeight.get(node), bestWeight.get(otherNode)) == 0;
+    }
+
+    /**
+     * Total order over relationships: by weight, then by the smaller and then by the larger node id.
+     */
+    private static boolean isBetter(
+        double weight,
+        long source,
+        long target,
+        double otherWeight,
+        long otherSource,
+        long otherTarget
+    ) {
+        int compare = Double.compare(weight, otherWeight);
+        if (compare == 0) {
+            compare = Long.compare(Math.min(source, target), Math.min(otherSource, otherTarget));
+        }
+        if (compare == 0) {
+            compare = Long.compare(Math.max(source, target), Math.max(otherSource, otherTarget));
+        }
+        return compare < 0;
+    }
+
+    private SpanningTree toSpanningTree() {
+        long size = forestSize.get();
+        // every removed relationship splits one tree into two
+        long treeCount = nodeCount - size;
+        long relationshipsToDrop = Math.min(size, componentCount - treeCount);
+        var dropped = new BitSet(size);
+        if (relationshipsToDrop > 0) {
+            var worstFirst = HugeLongPriorityQueue.max(size);
+            for (long i = 0; i < size; i++) {
+                worstFirst.add(i, minMax.applyAsDouble(forestWeight.get(i)));
+            }
+            for (long i = 0; i < relationshipsToDrop; i++) {
+                dropped.set(worstFirst.pop());
+            }
+        }
+
+        // adjacency of the remaining forest in CSR layout
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        double totalWeight = 0;
+        for (long i = 0; i < size; i++) {
+            if (dropped.get(i)) {
+                continue;
+            }
+            offsets.addTo(forestSource.get(i) + 1, 1);
+            offsets.addTo(forestTarget.get(i) + 1, 1);
+            totalWeight += forestWeight.get(i);
+        }
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.addTo(nodeId + 1, offsets.get(nodeId));
+        }
+        var insertAt = HugeLongArray.newArray(nodeCount);
+        var adjacency = HugeLongArray.newArray(offsets.get(nodeCount));
+        for (long i = 0; i < size; i++) {
+            if (dropped.get(i)) {
+                continue;
+            }
+            long source = forestSource.get(i);
+            long target = forestTarget.get(i);
+            adjacency.set(offsets.get(source) + insertAt.get(source), i);
+            insertAt.addTo(source, 1);
+            adjacency.set(offsets.get(target) + insertAt.get(target), i);
+            insertAt.addTo(target, 1);
+        }
+
+        // orient every tree away from its smallest node
+        var parent = HugeLongArray.newArray(nodeCount);
+        var costToParent = HugeDoubleArray.newArray(nodeCount);
+        parent.fill(NONE);
+        costToParent.fill(NONE);
+        var visited = new BitSet(nodeCount);
+        var queue = HugeLongArray.newArray(nodeCount);
+        long queueTail = 0;
+        for (long root = 0; root < nodeCount; root++) {
+            if (visited.get(root)) {
+                continue;
+            }
+            visited.set(root);
+            long queueHead = queueTail;
+            queue.set(queueTail++, root);
+            while (queueHead < queueTail) {
+                long node = queue.get(queueHead++);
+                for (long offset = offsets.get(node); offset < offsets.get(node + 1); offset++) {
+                    long relationship = adjacency.get(offset);
+                    long neighbour = forestSource.get(relationship) == node
+                        ? forestTarget.get(relationship)
+                        : forestSource.get(relationship);
+                    if (!visited.get(neighbour)) {
+                        visited.set(neighbour);
+                        parent.set(neighbour, node);
+                        costToParent.set(neighbour, forestWeight.get(relationship));
+                        queue.set(queueTail++, neighbour);
+                    }
+                }
+            }
+        }
+
+        return new SpanningTree(
+            nodeCount > 0 ? 0 : NONE,
+            nodeCount,
+            nodeCount,
+            parent,
+            costToParent::get,
+            totalWeight
+        );
+    }
+
+    private void run(List<Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.termination.TerminationFlag.RUN_CHECK_NODE_COUNT;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Maintains weakly connected components under relationship additions.
+ * <p>
+ * Instead of recomputing {@link Wcc} from scratch, the disjoint set struct of a previous run is kept
+ * and only the endpoints of the added relationships are united. The existing relationships are never read,
+ * so an update costs a degree lookup per node plus the added relationships. The struct is updated in place
+ * and returned, so it can be fed into the next update.
+ * <p>
+ * The struct is either the result of a previous {@link Wcc} computation, or it is restored from a component
+ * property stored alongside the graph, e.g. by a previous mutate run, using {@link #fromComponents}.
+ * Relationship deletions are not supported and require a full recomputation.
+ */
+public class IncrementalWcc extends Algorithm<DisjointSetStruct> {
+
+    private final Graph addedRelationships;
+    private final DisjointSetStruct components;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    public static Task progressTask(Graph addedRelationships) {
+        return Tasks.leaf("IncrementalWcc", addedRelationships.relationshipCount());
+    }
+
+    /**
+     * Restores the disjoint set struct from a component property.
+     * Nodes sharing the same component id are linked, so that subsequent unions
+     * merge the whole component. Nodes without a component id form their own component.
+     */
+    public static DisjointSetStruct fromComponents(
+        NodePropertyValues componentIds,
+        long nodeCount,
+        int concurrency
+    ) {
+        var components = new HugeAtomicDisjointSetStruct(nodeCount, componentIds, concurrency);
+        var representatives = new LongLongHashMap();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long componentId = componentIds.longValue(nodeId);
+            if (componentId < 0) {
+                continue;
+            }
+            int index = representatives.indexOf(componentId);
+            if (representatives.indexExists(index)) {
+                components.union(nodeId, representatives.indexGet(index));
+            } else {
+                representatives.indexInsert(index, componentId, nodeId);
+            }
+        }
+        return components;
+    }
+
+    /**
+     * @param addedRelationships a graph over the same nodes which only contains the added relationships,
+     *                           e.g. a newly mutated relationship type
+     * @param components         the components before the update, must support concurrent unions
+     *                           if {@code concurrency} is larger than one
+     */
+    public IncrementalWcc(
+        Graph addedRelationships,
+        DisjointSetStruct components,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (addedRelationships.nodeCount() != components.size()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The added relationships cover %d nodes, but the components cover %d nodes.",
+                addedRelationships.nodeCount(),
+                components.size()
+            ));
+        }
+        this.addedRelationships = addedRelationships;
+        this.components = components;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public DisjointSetStruct compute() {
+        progressTracker.beginSubTask();
+
+        var tasks = PartitionUtils.degreePartition(
+            addedRelationships,
+            concurrency,
+            partition -> (Runnable) () -> {
+                var localGraph = addedRelationships.concurrentCopy();
+                var progress = progressTracker.localProgress();
+                partition.consume(nodeId -> {
+                    int degree = localGraph.degree(nodeId);
+                    if (degree > 0) {
+                        localGraph.forEachRelationship(nodeId, (source, target) -> {
+                            components.union(source, target);
+                            return true;
+                        });
+                        progress.logProgress(degree);
+                    }
+                    if (nodeId % RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                    }
+                });
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        progressTracker.endSubTask();
+        return components;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+
+/**
+ * Runs {@link IncrementalWcc} on the selected relationships, which are expected to be the added ones.
+ * The components before the update are restored from the seed property.
+ */
+public final class IncrementalWccAlgorithmFactory<CONFIG extends IncrementalWccBaseConfig> extends GraphAlgorithmFactory<IncrementalWcc, CONFIG> {
+
+    public IncrementalWccAlgorithmFactory() {
+        super();
+    }
+
+    @Override
+    public String taskName() {
+        return "IncrementalWcc";
+    }
+
+    @Override
+    public IncrementalWcc build(
+        Graph graph,
+        CONFIG configuration,
+        ProgressTracker progressTracker
+    ) {
+        var components = IncrementalWcc.fromComponents(
+            graph.nodeProperties(configuration.seedProperty()),
+            graph.nodeCount(),
+            configuration.concurrency()
+        );
+        return new IncrementalWcc(
+            graph,
+            components,
+            configuration.concurrency(),
+            DefaultPool.INSTANCE,
+            progressTracker
+        );
+    }
+
+    @Override
+    public Task progressTask(Graph graph, CONFIG config) {
+        return IncrementalWcc.progressTask(graph);
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG config) {
+        return Wcc.memoryEstimation(true);
+    }
+}
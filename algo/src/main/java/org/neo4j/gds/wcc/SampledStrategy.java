@@ -206,6 +206,7 @@ final class SampledStrategy {
         public void run() {
             var startNode = partition.startNode();
             var endNode = startNode + partition.nodeCount();
+            var progress = progressTracker.localProgress();
 
             for (long node = startNode; node < endNode; node++) {
                 reset();
@@ -213,7 +214,7 @@ final class SampledStrategy {
                 if (node % RUN_CHECK_NODE_COUNT == 0) {
                     terminationFlag.assertRunning();
                 }
-                progressTracker.logProgress(Math.min(NEIGHBOR_ROUNDS, graph.degree(node)));
+                progress.logProgress(Math.min(NEIGHBOR_ROUNDS, graph.degree(node)));
             }
         }
 
@@ -306,6 +307,7 @@ final class SampledStrategy {
             var startNode = partition.startNode();
             var endNode = startNode + partition.nodeCount();
             LongConsumer linkInverseFn = this.inverseConsumer != null ? this::linkInverse : ignored -> {};
+            var progress = progressTracker.localProgress();
 
             for (long node = startNode; node < endNode; node++) {
                 if (components.setIdOf(node) == skipComponent) {
@@ -316,7 +318,7 @@ final class SampledStrategy {
                     reset();
                     link(node);
 
-                    progressTracker.logProgress(degree - NEIGHBOR_ROUNDS);
+                    progress.logProgress(degree - NEIGHBOR_ROUNDS);
                     if (node % RUN_CHECK_NODE_COUNT == 0) {
                         terminationFlag.assertRunning();
                     }
@@ -117,13 +117,14 @@ final class UnsampledStrategy {
 
         @Override
         public void run() {
+            var progress = progressTracker.localProgress();
             for (long node = offset; node < end; node++) {
                 compute(node);
                 if (node % RUN_CHECK_NODE_COUNT == 0) {
                     terminationFlag.assertRunning();
                 }
 
-                progressTracker.logProgress(graph.degree(node));
+                progress.logProgress(graph.degree(node));
             }
         }
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.algorithms.centrality;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.cursor.HugeCursorSupport;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.pagerank.PageRankResult;
+
+import java.util.function.LongToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CentralityAlgorithmResultTest {
+
+    @Test
+    void shouldCopyScoresAcrossPages() {
+        long size = 3L * HugeArrays.PAGE_SIZE;
+        var pages = new double[3][HugeArrays.PAGE_SIZE];
+        for (int page = 0; page < pages.length; page++) {
+            for (int i = 0; i < HugeArrays.PAGE_SIZE; i++) {
+                pages[page][i] = ((long) page * HugeArrays.PAGE_SIZE + i) * 0.5;
+            }
+        }
+        var scores = new HugeCursorSupport<double[]>() {
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public HugeCursor<double[]> newCursor() {
+                return new HugeCursor.PagedCursor<>(size, pages);
+            }
+        };
+
+        long startNode = HugeArrays.PAGE_SIZE - 42;
+        long endNode = 2L * HugeArrays.PAGE_SIZE + 42;
+        var target = new double[(int) (endNode - startNode) + 1];
+        target[target.length - 1] = -1;
+
+        CentralityAlgorithmResult.copyCentralityScores(scores, startNode, endNode, target);
+
+        for (int i = 0; i < target.length - 1; i++) {
+            assertThat(target[i]).isEqualTo((startNode + i) * 0.5);
+        }
+        assertThat(target[target.length - 1]).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldCopyScoresOfHugeArrays() {
+        var scores = HugeDoubleArray.of(1, 2, 3, 4, 5);
+        var result = new PageRankResult(scores, 1, true);
+
+        var target = new double[3];
+        result.copyCentralityScores(1, 4, target);
+
+        assertThat(target).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void shouldCopyScoresFromTheScoreProviderByDefault() {
+        var result = new CentralityAlgorithmResult() {
+            @Override
+            public NodePropertyValues nodePropertyValues() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public LongToDoubleFunction centralityScoreProvider() {
+                return nodeId -> nodeId + 1;
+            }
+        };
+
+        var target = new double[3];
+        result.copyCentralityScores(5, 8, target);
+
+        assertThat(target).containsExactly(6, 7, 8);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.Orientation.UNDIRECTED;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class AdaptiveBetweennessCentralityTest {
+
+    private static final String STAR =
+        "CREATE" +
+        "  (center)" +
+        ", (center)-[:REL]->(l0), (center)-[:REL]->(l1), (center)-[:REL]->(l2), (center)-[:REL]->(l3)" +
+        ", (center)-[:REL]->(l4), (center)-[:REL]->(l5), (center)-[:REL]->(l6), (center)-[:REL]->(l7)" +
+        ", (center)-[:REL]->(l8), (center)-[:REL]->(l9), (center)-[:REL]->(l10), (center)-[:REL]->(l11)" +
+        ", (center)-[:REL]->(l12), (center)-[:REL]->(l13), (center)-[:REL]->(l14), (center)-[:REL]->(l15)" +
+        ", (center)-[:REL]->(l16), (center)-[:REL]->(l17), (center)-[:REL]->(l18), (center)-[:REL]->(l19)";
+
+    @ParameterizedTest
+    @EnumSource(Direction.class)
+    void shouldApproximateWithinAchievedError(Direction direction) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(500)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(direction)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var exact = new BetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            ForwardTraverser.Factory.unweighted(),
+            DefaultPool.INSTANCE,
+            4,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralities();
+
+        double epsilon = 0.05;
+        var result = adaptive(graph, epsilon, 0, 100_000).compute();
+
+        assertThat(result.achievedEpsilon()).isLessThanOrEqualTo(epsilon);
+        assertThat(result.sampleCount()).isLessThan(100_000);
+
+        long nodeCount = graph.nodeCount();
+        double normalization = (direction == Direction.UNDIRECTED ? 2.0 : 1.0) / (nodeCount * (nodeCount - 2));
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            double error = Math.abs(result.centralities().get(nodeId) - exact.get(nodeId)) * normalization;
+            assertThat(error).as("node %d", nodeId).isLessThanOrEqualTo(result.achievedEpsilon());
+        }
+    }
+
+    @Test
+    void shouldStopOnceTopKIsSeparated() {
+        var graph = fromGdl(STAR, UNDIRECTED);
+
+        var result = adaptive(graph, 1e-4, 1, 1_000_000).compute();
+
+        assertThat(result.topKSeparated()).isTrue();
+        assertThat(result.achievedEpsilon()).isGreaterThan(1e-4);
+        assertThat(result.sampleCount()).isLessThan(1_000_000);
+
+        long center = graph.toMappedNodeId("center");
+        assertThat(result.centralities().get(center)).isGreaterThan(0);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            if (nodeId != center) {
+                assertThat(result.centralities().get(nodeId)).isZero();
+            }
+        }
+    }
+
+    @Test
+    void shouldStopAtMaxSamples() {
+        var graph = fromGdl(STAR, UNDIRECTED);
+
+        var result = adaptive(graph, 1e-4, 0, 10).compute();
+
+        assertThat(result.sampleCount()).isEqualTo(10);
+        assertThat(result.rounds()).isEqualTo(1);
+        assertThat(result.achievedEpsilon()).isGreaterThan(1e-4);
+    }
+
+    @Test
+    void shouldBeBuiltByTheFactoryIfEpsilonIsSet() {
+        var graph = fromGdl(STAR, UNDIRECTED);
+        var config = BetweennessCentralityStreamConfigImpl.builder()
+            .epsilon(1e-4)
+            .samplingSize(10L)
+            .samplingSeed(42L)
+            .build();
+
+        var algorithm = new BetweennessCentralityFactory<>().build(graph, config, ProgressTracker.NULL_TRACKER);
+        assertThat(algorithm).isInstanceOf(AdaptiveBetweennessCentrality.class);
+
+        var result = (AdaptiveBetweennessCentralityResult) algorithm.compute();
+        assertThat(result.sampleCount()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldStopOnceTopKIsSeparatedIfConfigured() {
+        var graph = fromGdl(STAR, UNDIRECTED);
+        var config = BetweennessCentralityStreamConfigImpl.builder()
+            .epsilon(1e-4)
+            .topK(1)
+            .samplingSeed(42L)
+            .concurrency(4)
+            .build();
+
+        var result = new BetweennessCentralityFactory<>().build(graph, config, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(result.topKSeparated()).isTrue();
+        assertThat(result.achievedEpsilon()).isGreaterThan(1e-4);
+    }
+
+    @Test
+    void shouldValidateParameters() {
+        var graph = fromGdl(STAR, UNDIRECTED);
+
+        assertThatThrownBy(() -> adaptive(graph, 0, 0, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("epsilon");
+        assertThatThrownBy(() -> adaptive(graph, 0.1, -1, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("topK");
+        assertThatThrownBy(() -> adaptive(graph, 0.1, 0, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxSamples");
+    }
+
+    private static AdaptiveBetweennessCentrality adaptive(Graph graph, double epsilon, int topK, long maxSamples) {
+        return new AdaptiveBetweennessCentrality(
+            graph,
+            epsilon,
+            0.1,
+            topK,
+            maxSamples,
+            Optional.of(42L),
+            false,
+            4,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+    }
+}
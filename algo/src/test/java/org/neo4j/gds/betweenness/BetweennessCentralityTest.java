@@ -19,16 +19,22 @@
  */
 package org.neo4j.gds.betweenness;
 
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
@@ -40,6 +46,8 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.TestSupport.assertMemoryEstimation;
@@ -152,6 +160,100 @@ class BetweennessCentralityTest {
         );
     }
 
+    @ParameterizedTest(name = "graph={1}, concurrency={0}, samplingSize={2}")
+    @MethodSource("org.neo4j.gds.betweenness.BetweennessCentralityTest#testArguments")
+    void samplingWithoutPredecessors(int concurrency, TestGraph graph, int samplingSize, Map<String, Double> expectedResult) {
+        for (int sourceBatchSize : new int[]{1, 2, 64}) {
+            HugeAtomicDoubleArray actualResult = new BetweennessCentrality(
+                graph,
+                new RandomDegreeSelectionStrategy(samplingSize, Optional.of(42L)),
+                false,
+                sourceBatchSize,
+                DefaultPool.INSTANCE,
+                concurrency,
+                ProgressTracker.NULL_TRACKER
+            ).compute().centralities();
+
+            assertEquals(expectedResult.size(), actualResult.size());
+            expectedResult.forEach((variable, expectedCentrality) ->
+                assertEquals(expectedCentrality, actualResult.get(graph.toMappedNodeId(variable)), variable)
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("recomputingEngines")
+    void recomputedPredecessorsShouldMatchStoredPredecessors(
+        Direction direction,
+        @Nullable PropertyProducer<double[]> weights,
+        int sourceBatchSize
+    ) {
+        boolean weighted = weights != null;
+        var builder = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(direction)
+            .seed(42L);
+        if (weighted) {
+            builder.relationshipPropertyProducer(weights);
+        }
+        var graph = builder.build().generate();
+
+        var expected = new BetweennessCentrality(
+            graph,
+            new RandomDegreeSelectionStrategy(100, Optional.of(42L)),
+            weighted ? ForwardTraverser.Factory.weighted() : ForwardTraverser.Factory.unweighted(),
+            DefaultPool.INSTANCE,
+            4,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralities();
+
+        var actual = new BetweennessCentrality(
+            graph,
+            new RandomDegreeSelectionStrategy(100, Optional.of(42L)),
+            weighted,
+            sourceBatchSize,
+            DefaultPool.INSTANCE,
+            4,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralities();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.get(nodeId)).as("node %d", nodeId).isCloseTo(expected.get(nodeId), within(1e-6));
+        }
+    }
+
+    private static Stream<Arguments> recomputingEngines() {
+        // fixed weights produce many equally short paths
+        var fixedWeights = PropertyProducer.fixedDouble("weight", 2.0);
+        var randomWeights = PropertyProducer.randomDouble("weight", 1.0, 5.0);
+        return Stream.of(
+            Arguments.of(Direction.DIRECTED, null, 1),
+            Arguments.of(Direction.DIRECTED, null, 64),
+            Arguments.of(Direction.UNDIRECTED, null, 1),
+            Arguments.of(Direction.UNDIRECTED, null, 13),
+            Arguments.of(Direction.DIRECTED, fixedWeights, 1),
+            Arguments.of(Direction.UNDIRECTED, fixedWeights, 1),
+            Arguments.of(Direction.DIRECTED, randomWeights, 1)
+        );
+    }
+
+    @Test
+    void shouldNotBatchWeightedSources() {
+        assertThatThrownBy(() -> new BetweennessCentrality(
+            fromGdl(LINE),
+            new FullSelectionStrategy(),
+            true,
+            2,
+            DefaultPool.INSTANCE,
+            1,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only supported on unweighted graphs");
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void noSampling(int concurrency) {
@@ -192,6 +294,23 @@ class BetweennessCentralityTest {
         );
     }
     
+    @Test
+    void shouldCapSourceBatchSizeByPredecessorFootprint() {
+        assertThat(BetweennessCentralityFactory.maxSourceBatchSize(0)).isEqualTo(1);
+        assertThat(BetweennessCentralityFactory.maxSourceBatchSize(4)).isEqualTo(2);
+        assertThat(BetweennessCentralityFactory.maxSourceBatchSize(1_000)).isEqualTo(64);
+    }
+
+    @Test
+    void shouldFailEstimationIfSourceBatchSizeExceedsPredecessorFootprint() {
+        var config = BetweennessCentralityStreamConfigImpl.builder().sourceBatchSize(64).build();
+        var estimation = new BetweennessCentralityFactory<>().memoryEstimation(config);
+
+        assertThatThrownBy(() -> estimation.estimate(GraphDimensions.of(100_000, 400_000), 4))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("The largest supported value for an average degree of 4 is 2.");
+    }
+
     @Test
     void testShouldLogProgress() {
         var config = BetweennessCentralityStreamConfigImpl.builder().samplingSize(2L).build();
@@ -21,8 +21,10 @@ package org.neo4j.gds.closeness;
 
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -83,9 +85,20 @@ class ClosenessCentralityTest {
         ", (d)-[:TYPE]->(e)" +
         ", (e)-[:TYPE]->(d)";
 
+    @GdlGraph(orientation = Orientation.UNDIRECTED, graphNamePrefix = "undirected")
+    private static final String UNDIRECTED_CYPHER =
+        "CREATE " +
+        "  (a:Node)-[:TYPE]->(b:Node)" +
+        ", (b)-[:TYPE]->(c:Node)" +
+        ", (c)-[:TYPE]->(d:Node)" +
+        ", (d)-[:TYPE]->(e:Node)";
+
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph undirectedGraph;
+
     @Test
     void testGetCentrality() {
         IdFunction idFunction = graph::toMappedNodeId;
@@ -106,6 +119,49 @@ class ClosenessCentralityTest {
         assertThat(result.applyAsDouble(idFunction.of("e"))).isCloseTo(0.4, Offset.offset(0.01));
     }
 
+    @Test
+    void shouldApproximateCentrality() {
+        IdFunction idFunction = undirectedGraph::toMappedNodeId;
+
+        var algo = ClosenessCentrality.of(
+            undirectedGraph,
+            ImmutableClosenessCentralityStreamConfig.builder().approximate(true).hyperLogLogPrecision(10).build(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var centralityResult = algo.compute();
+        var result = centralityResult.centralityScoreProvider();
+
+        assertThat(result.applyAsDouble(idFunction.of("a"))).isCloseTo(0.4, Offset.offset(0.01));
+        assertThat(result.applyAsDouble(idFunction.of("b"))).isCloseTo(0.57, Offset.offset(0.01));
+        assertThat(result.applyAsDouble(idFunction.of("c"))).isCloseTo(0.66, Offset.offset(0.01));
+        assertThat(result.applyAsDouble(idFunction.of("d"))).isCloseTo(0.57, Offset.offset(0.01));
+        assertThat(result.applyAsDouble(idFunction.of("e"))).isCloseTo(0.4, Offset.offset(0.01));
+        assertThat(centralityResult.effectiveDiameter()).isBetween(2.0, 4.0);
+    }
+
+    @Test
+    void shouldEstimateHyperBallCounters() {
+        long nodeCount = 10_000;
+        var dimensions = GraphDimensions.of(nodeCount);
+        var factory = new ClosenessCentralityAlgorithmFactory<ClosenessCentralityStreamConfig>();
+
+        long lowPrecision = factory
+            .memoryEstimation(ImmutableClosenessCentralityStreamConfig.builder().approximate(true).hyperLogLogPrecision(4).build())
+            .estimate(dimensions, 4)
+            .memoryUsage()
+            .min;
+        long highPrecision = factory
+            .memoryEstimation(ImmutableClosenessCentralityStreamConfig.builder().approximate(true).hyperLogLogPrecision(10).build())
+            .estimate(dimensions, 4)
+            .memoryUsage()
+            .min;
+
+        // two counters per node with 2^precision one byte registers each
+        assertThat(highPrecision - lowPrecision).isGreaterThanOrEqualTo(2 * nodeCount * ((1 << 10) - (1 << 4)));
+    }
+
     @Test
     void shouldLogProgress() {
         var config = ImmutableClosenessCentralityStreamConfig.builder().concurrency(4).build();
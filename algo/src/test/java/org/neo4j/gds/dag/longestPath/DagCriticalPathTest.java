@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.dag.longestPath;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DagCriticalPathTest {
+
+    @GdlExtension
+    @Nested
+    class GraphWithMultipleSources {
+        @GdlGraph
+        private static final String DB_QUERY =
+            "CREATE" +
+                "  (n0)" +
+                ", (n1)" +
+                ", (n2)" +
+                ", (n3)" +
+                ", (n4)" +
+                ", (n5)" +
+                ", (n6)" +
+                ", (n0)-[:T {prop: 8.0}]->(n2)" +
+                ", (n0)-[:T {prop: 7.0}]->(n3)" +
+                ", (n2)-[:T {prop: 5.0}]->(n3)" +
+                ", (n1)-[:T {prop: 2.0}]->(n3)" +
+                ", (n1)-[:T {prop: 10.0}]->(n2)" +
+                ", (n4)-[:T {prop: 100.0}]->(n5)" +
+                ", (n3)-[:T {prop: 10.0}]->(n4)" +
+                ", (n0)-[:T {prop: 20.0}]->(n5)" +
+                ", (n0)-[:T {prop: 30.0}]->(n6)" +
+                ", (n6)-[:T {prop: 2000.0}]->(n4)";
+
+        @Inject
+        private TestGraph graph;
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 4})
+        void shouldComputeCriticalPathAndSlack(int concurrency) {
+            var result = new DagCriticalPath(
+                graph,
+                concurrency,
+                DefaultPool.INSTANCE,
+                ProgressTracker.NULL_TRACKER
+            ).compute();
+
+            // the longest path is n0 -> n6 -> n4 -> n5
+            assertThat(result.length()).isEqualTo(2130.0);
+            assertThat(result.criticalNodes()).containsExactlyInAnyOrder(
+                graph.toMappedNodeId("n0"),
+                graph.toMappedNodeId("n6"),
+                graph.toMappedNodeId("n4"),
+                graph.toMappedNodeId("n5")
+            );
+
+            // n1 -> n2 -> n3 -> n4 -> n5 has length 125
+            assertThat(result.slack(graph.toMappedNodeId("n1"))).isEqualTo(2005.0);
+            assertThat(result.slack(graph.toMappedNodeId("n2"))).isEqualTo(2005.0);
+            assertThat(result.slack(graph.toMappedNodeId("n3"))).isEqualTo(2005.0);
+            assertThat(result.slack(graph.toMappedNodeId("n0"))).isEqualTo(0.0);
+
+            assertThat(result.distance(graph.toMappedNodeId("n3"))).isEqualTo(15.0);
+            assertThat(result.distance(graph.toMappedNodeId("n5"))).isEqualTo(2130.0);
+
+            assertThat(result.levels().levelCount()).isEqualTo(5);
+            assertThat(result.levels().level(graph.toMappedNodeId("n4"))).isEqualTo(3);
+        }
+    }
+
+    @GdlExtension
+    @Nested
+    class GraphWithCycle {
+        @GdlGraph
+        private static final String DB_QUERY =
+            "CREATE" +
+                "  (a)" +
+                ", (b)" +
+                ", (c)" +
+                ", (d)" +
+                ", (a)-[:T {prop: 1.0}]->(b)" +
+                ", (b)-[:T {prop: 1.0}]->(c)" +
+                ", (c)-[:T {prop: 1.0}]->(b)" +
+                ", (a)-[:T {prop: 3.0}]->(d)";
+
+        @Inject
+        private TestGraph graph;
+
+        @Test
+        void shouldIgnoreNodesOnOrReachableFromCycles() {
+            var result = new DagCriticalPath(
+                graph,
+                4,
+                DefaultPool.INSTANCE,
+                ProgressTracker.NULL_TRACKER
+            ).compute();
+
+            assertThat(result.length()).isEqualTo(3.0);
+            assertThat(result.criticalNodes()).containsExactlyInAnyOrder(
+                graph.toMappedNodeId("a"),
+                graph.toMappedNodeId("d")
+            );
+            assertThat(result.levels().level(graph.toMappedNodeId("b"))).isEqualTo(DagLevels.UNREACHED);
+            assertThat(result.slack(graph.toMappedNodeId("c"))).isNaN();
+            assertThat(result.isCritical(graph.toMappedNodeId("b"))).isFalse();
+        }
+    }
+}
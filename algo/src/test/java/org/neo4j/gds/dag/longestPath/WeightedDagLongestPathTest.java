@@ -21,6 +21,8 @@ package org.neo4j.gds.dag.longestPath;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
@@ -149,8 +151,9 @@ class WeightedDagLongestPathTest {
         @Inject
         private TestGraph graph;
 
-        @Test
-        void shouldWorkWithMultipleSources() {
+        @ParameterizedTest
+        @ValueSource(booleans = {false, true})
+        void shouldWorkWithMultipleSources(boolean levelSynchronous) {
             IdFunction idFunction = graph::toMappedNodeId;
 
             long[] a = new long[]{
@@ -164,9 +167,13 @@ class WeightedDagLongestPathTest {
 
             };
 
+            var config = new DagLongestPathStreamConfigImpl.Builder()
+                .concurrency(4)
+                .levelSynchronous(levelSynchronous)
+                .build();
             var longestPath = new DagLongestPathFactory().build(
                 graph,
-                CONFIG,
+                config,
                 ProgressTracker.NULL_TRACKER
             );
 
@@ -201,5 +208,28 @@ class WeightedDagLongestPathTest {
             }
             assertThat(counter).isEqualTo(7L);
         }
+
+        @Test
+        void shouldStoreLevels() {
+            var config = new DagLongestPathStreamConfigImpl.Builder()
+                .concurrency(4)
+                .levelSynchronous(true)
+                .build();
+            var longestPath = new DagLongestPathFactory<>().build(
+                graph,
+                config,
+                ProgressTracker.NULL_TRACKER
+            );
+            longestPath.compute().pathSet();
+
+            var levels = longestPath.levels().orElseThrow();
+            assertThat(levels.levelCount()).isEqualTo(5);
+            assertThat(levels.reachedNodeCount()).isEqualTo(7L);
+            assertThat(levels.nodes(0)).containsExactlyInAnyOrder(graph.toMappedNodeId("n0"), graph.toMappedNodeId("n1"));
+            assertThat(levels.nodes(1)).containsExactlyInAnyOrder(graph.toMappedNodeId("n2"), graph.toMappedNodeId("n6"));
+            assertThat(levels.level(graph.toMappedNodeId("n3"))).isEqualTo(2);
+            assertThat(levels.level(graph.toMappedNodeId("n4"))).isEqualTo(3);
+            assertThat(levels.level(graph.toMappedNodeId("n5"))).isEqualTo(4);
+        }
     }
 }
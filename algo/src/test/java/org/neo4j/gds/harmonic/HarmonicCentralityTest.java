@@ -22,6 +22,9 @@ package org.neo4j.gds.harmonic;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -29,6 +32,8 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 
@@ -73,5 +78,42 @@ public class HarmonicCentralityTest {
         assertThat(result.applyAsDouble(mappedId.of("d"))).isEqualTo(0.25, within(0.1));
         assertThat(result.applyAsDouble(mappedId.of("e"))).isEqualTo(0.25, within(0.1));
     }
-    
+
+    @Test
+    void shouldApproximateHarmonicCentrality() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var exact = new HarmonicCentrality(
+            randomGraph,
+            4,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralityScoreProvider();
+
+        var approximate = new HarmonicCentrality(
+            randomGraph,
+            Optional.of(10),
+            4,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute().centralityScoreProvider();
+
+        double relativeErrorSum = 0;
+        long nodes = 0;
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            double expected = exact.applyAsDouble(nodeId);
+            if (expected > 0) {
+                relativeErrorSum += Math.abs(approximate.applyAsDouble(nodeId) - expected) / expected;
+                nodes++;
+            }
+        }
+        assertThat(relativeErrorSum / nodes).isLessThan(0.05);
+    }
 }
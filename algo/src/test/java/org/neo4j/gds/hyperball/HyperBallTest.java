@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.hyperball;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class HyperBallTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED, graphNamePrefix = "undirected")
+    private static final String PATH =
+        "CREATE " +
+        "  (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(d)" +
+        ", (d)-[:TYPE]->(e)";
+
+    @GdlGraph(indexInverse = true, graphNamePrefix = "indexed")
+    @GdlGraph(graphNamePrefix = "natural")
+    private static final String LINE =
+        "CREATE " +
+        "  (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(d)";
+
+    @Inject
+    private TestGraph undirectedGraph;
+
+    @Inject
+    private TestGraph indexedGraph;
+
+    @Inject
+    private TestGraph naturalGraph;
+
+    @Test
+    void shouldEstimateDistanceDistributionOnUndirectedGraph() {
+        var result = new HyperBall(undirectedGraph, 10, 4, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER).compute();
+
+        // small balls are estimated by linear counting, which is close to exact
+        assertThat(result.farness().get(undirectedGraph.toMappedNodeId("a"))).isCloseTo(10, within(0.1));
+        assertThat(result.farness().get(undirectedGraph.toMappedNodeId("b"))).isCloseTo(7, within(0.1));
+        assertThat(result.farness().get(undirectedGraph.toMappedNodeId("c"))).isCloseTo(6, within(0.1));
+        assertThat(result.harmonicSums().get(undirectedGraph.toMappedNodeId("a"))).isCloseTo(25.0 / 12, within(0.1));
+        assertThat(result.harmonicSums().get(undirectedGraph.toMappedNodeId("c"))).isCloseTo(3, within(0.1));
+        for (long nodeId = 0; nodeId < undirectedGraph.nodeCount(); nodeId++) {
+            assertThat(result.ballSizes().get(nodeId)).isCloseTo(5, within(0.1));
+        }
+
+        assertThat(result.iterations()).isEqualTo(4);
+        assertThat(result.neighbourhoodFunction()).containsExactly(
+            new double[]{5, 13, 19, 23, 25},
+            within(0.2)
+        );
+        // 90% of the 25 pairs are within distance 2 + 3.5 / 4
+        assertThat(result.effectiveDiameter()).isCloseTo(2.875, within(0.05));
+    }
+
+    @Test
+    void shouldFollowIncomingRelationshipsOnDirectedGraph() {
+        var result = new HyperBall(indexedGraph, 10, 1, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(result.farness().get(indexedGraph.toMappedNodeId("a"))).isCloseTo(0, within(0.1));
+        assertThat(result.farness().get(indexedGraph.toMappedNodeId("b"))).isCloseTo(1, within(0.1));
+        assertThat(result.farness().get(indexedGraph.toMappedNodeId("d"))).isCloseTo(6, within(0.1));
+        assertThat(result.ballSizes().get(indexedGraph.toMappedNodeId("c"))).isCloseTo(3, within(0.1));
+        assertThat(result.iterations()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRequireInverseIndexOnDirectedGraph() {
+        assertThatThrownBy(() -> new HyperBall(naturalGraph, 10, 1, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse indexed");
+    }
+
+    @Test
+    void shouldValidatePrecision() {
+        assertThatThrownBy(() -> new HyperBall(undirectedGraph, 3, 1, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("between 4 and 16");
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class IMMTest {
+
+    @GdlGraph(indexInverse = true)
+    @GdlGraph(graphNamePrefix = "natural")
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (a)-[:R]->(b) " +
+        ", (a)-[:R]->(c) " +
+        ", (a)-[:R]->(d) " +
+        ", (a)-[:R]->(e) " +
+        ", (f)-[:R]->(g) ";
+
+    @GdlGraph(graphNamePrefix = "tree", orientation = Orientation.UNDIRECTED)
+    private static final String TREE_CYPHER =
+        "CREATE " +
+        "  (a1:Node)" +
+        ", (a2:Node)" +
+        ", (a3:Node)" +
+        ", (a4:Node)" +
+        ", (a5:Node)" +
+        ", (a1)-[:R]->(a2) " +
+        ", (a1)-[:R]->(a3) " +
+        ", (a2)-[:R]->(a4) " +
+        ", (a3)-[:R]->(a5) ";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph naturalGraph;
+
+    @Inject
+    private TestGraph treeGraph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldPickTheMostInfluentialNodes(int concurrency) {
+        var result = new IMM(
+            graph,
+            2,
+            1.0,
+            0.1,
+            DefaultPool.INSTANCE,
+            concurrency,
+            42,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        var seedSetNodes = result.seedSetNodes();
+        assertThat(seedSetNodes.size()).isEqualTo(2);
+        // every node reached from `a` and `f` is activated with probability 1
+        assertThat(seedSetNodes.get(graph.toMappedNodeId("a"))).isCloseTo(5.0, Offset.offset(0.25));
+        assertThat(seedSetNodes.get(graph.toMappedNodeId("f"))).isCloseTo(2.0, Offset.offset(0.25));
+        assertThat(result.totalSpread()).isCloseTo(7.0, Offset.offset(0.25));
+    }
+
+    @Test
+    void shouldEstimateMarginalSpreadOnUndirectedGraphs() {
+        var seedSetNodes = new IMM(
+            treeGraph,
+            2,
+            1.0,
+            0.2,
+            DefaultPool.INSTANCE,
+            2,
+            42,
+            ProgressTracker.NULL_TRACKER
+        ).compute().seedSetNodes();
+
+        // a connected graph is fully activated by any single seed, ties are broken by the smaller node id
+        assertThat(seedSetNodes.get(treeGraph.toMappedNodeId("a1"))).isEqualTo(5.0);
+        assertThat(seedSetNodes.get(treeGraph.toMappedNodeId("a2"))).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldBeDeterministicForAFixedRandomSeed() {
+        var first = new IMM(graph, 3, 0.3, 0.2, DefaultPool.INSTANCE, 4, 7, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .seedSetNodes();
+        var second = new IMM(graph, 3, 0.3, 0.2, DefaultPool.INSTANCE, 4, 7, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .seedSetNodes();
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void shouldFailOnDirectedGraphsWithoutInverseIndex() {
+        assertThatThrownBy(() -> new IMM(
+            naturalGraph,
+            1,
+            0.1,
+            0.1,
+            DefaultPool.INSTANCE,
+            1,
+            42,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse indexed");
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 1.0, -0.5})
+    void shouldFailOnInvalidEpsilon(double epsilon) {
+        assertThatThrownBy(() -> new IMM(
+            graph,
+            1,
+            0.1,
+            epsilon,
+            DefaultPool.INSTANCE,
+            1,
+            42,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("epsilon");
+    }
+
+    @Test
+    void shouldEstimateMorePoolMemoryForSmallerEpsilon() {
+        var dimensions = GraphDimensions.of(10_000);
+        var coarse = IMM.memoryEstimation(10, 0.5).estimate(dimensions, 4).memoryUsage();
+        var fine = IMM.memoryEstimation(10, 0.1).estimate(dimensions, 4).memoryUsage();
+
+        assertThat(coarse.min).isLessThanOrEqualTo(coarse.max);
+        assertThat(fine.max).isGreaterThan(coarse.max);
+    }
+}
@@ -20,7 +20,9 @@
 package org.neo4j.gds.louvain;
 
 import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -39,6 +41,8 @@ import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.checkpoint.Checkpoint;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointLocation;
 import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
@@ -52,6 +56,7 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.modularity.ModularityCalculator;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.LongUnaryOperator;
@@ -63,6 +68,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.neo4j.gds.TestSupport.assertMemoryEstimation;
+import static org.neo4j.gds.TestSupport.assertTransactionTermination;
 import static org.neo4j.gds.TestSupport.ids;
 import static org.neo4j.gds.compat.TestLog.INFO;
 import static org.neo4j.gds.core.ProcedureConstants.TOLERANCE_DEFAULT;
@@ -134,6 +140,11 @@ class LouvainTest {
     @Inject
     private IdFunction idFunction;
 
+    @AfterEach
+    void resetCheckpointLocation() {
+        CheckpointLocation.set(null);
+    }
+
     @Test
     void testUnweighted() {
         var graph = graphStore.getGraph(
@@ -183,6 +194,72 @@ class LouvainTest {
         assertEquals(0.38, modularities[modularities.length - 1], 0.01);
     }
 
+    @Test
+    void resumesFromCheckpoint(@TempDir Path checkpointLocation) {
+        CheckpointLocation.set(checkpointLocation);
+        var checkpointDirectory = checkpointLocation.resolve("louvain");
+
+        var graph = graphStore.getGraph(
+            NodeLabel.listOf("Node"),
+            RelationshipType.listOf("TYPE_OUT"),
+            Optional.empty()
+        );
+
+        IdFunction mappedId = name -> graph.toMappedNodeId(idFunction.of(name));
+
+        var config = defaultConfigBuilder().checkpointDirectory("louvain").build();
+        var checkpointName = Checkpoint.name(Louvain.class, Checkpoint.fingerprint(graph, config.toMap(), config.concurrency()));
+
+        var interrupted = new Louvain(
+            graph,
+            config,
+            config.includeIntermediateCommunities(),
+            config.maxLevels(),
+            config.maxIterations(),
+            config.tolerance(),
+            config.concurrency(),
+            ProgressTracker.NULL_TRACKER,
+            DefaultPool.INSTANCE
+        );
+        // terminate as soon as the first level has been checkpointed
+        interrupted.setTerminationFlag(() -> !Checkpoint.exists(checkpointDirectory, checkpointName));
+        assertTransactionTermination(interrupted::compute);
+
+        assertThat(Checkpoint.exists(checkpointDirectory, checkpointName)).isTrue();
+
+        var resumed = new Louvain(
+            graph,
+            config,
+            config.includeIntermediateCommunities(),
+            config.maxLevels(),
+            config.maxIterations(),
+            config.tolerance(),
+            config.concurrency(),
+            ProgressTracker.NULL_TRACKER,
+            DefaultPool.INSTANCE
+        );
+        resumed.setTerminationFlag(TerminationFlag.RUNNING_TRUE);
+        var result = resumed.compute();
+
+        var dendrogram = result.dendrogramManager().getAllDendrograms();
+        CommunityHelper.assertCommunities(
+            dendrogram[0],
+            ids(mappedId, "a", "b", "d"),
+            ids(mappedId, "c", "e", "f", "x"),
+            ids(mappedId, "g", "h", "i"),
+            ids(mappedId, "j", "k", "l", "m", "n")
+        );
+        CommunityHelper.assertCommunities(
+            dendrogram[1],
+            ids(mappedId, "a", "b", "c", "d", "e", "f", "x"),
+            ids(mappedId, "g", "h", "i"),
+            ids(mappedId, "j", "k", "l", "m", "n")
+        );
+        assertEquals(2, result.ranLevels());
+        assertEquals(0.38, result.modularities()[1], 0.01);
+        assertThat(Checkpoint.exists(checkpointDirectory, checkpointName)).isFalse();
+    }
+
     @Test
     void testWeighted() {
         var graph = graphStore.getGraph(
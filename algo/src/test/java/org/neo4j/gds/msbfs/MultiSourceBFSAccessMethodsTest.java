@@ -22,9 +22,14 @@ package org.neo4j.gds.msbfs;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.extension.GdlExtension;
@@ -37,8 +42,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.LongUnaryOperator;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -432,6 +439,51 @@ final class MultiSourceBFSAccessMethodsTest {
     }
 
 
+    @ParameterizedTest
+    @EnumSource(Direction.class)
+    void directionOptimizingTraversalVisitsLikeTopDownTraversal(Direction direction) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(8)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(direction)
+            .inverseIndex(direction == Direction.DIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        assertTrue(ANPStrategy.supportsBottomUp(graph));
+
+        var sources = new long[200];
+        Arrays.setAll(sources, i -> i * 37L);
+
+        Set<String> topDownVisits = ConcurrentHashMap.newKeySet();
+        MultiSourceBFSAccessMethods.aggregatedNeighborProcessing(
+            graph.nodeCount(),
+            graph,
+            (nodeId, depth, sourceNodeIds) -> collectVisits(nodeId, depth, sourceNodeIds, topDownVisits),
+            sources.clone()
+        ).run(4, DefaultPool.INSTANCE);
+
+        Set<String> directionOptimizingVisits = ConcurrentHashMap.newKeySet();
+        MultiSourceBFSAccessMethods.directionOptimizingNeighborProcessing(
+            graph,
+            (nodeId, depth, sourceNodeIds) -> collectVisits(nodeId, depth, sourceNodeIds, directionOptimizingVisits),
+            sources.clone()
+        ).run(4, DefaultPool.INSTANCE);
+
+        assertThat(directionOptimizingVisits)
+            .hasSizeGreaterThan(sources.length)
+            .isEqualTo(topDownVisits);
+    }
+
+    private static void collectVisits(long nodeId, int depth, BfsSources sourceNodeIds, Set<String> visits) {
+        while (sourceNodeIds.hasNext()) {
+            var visit = formatWithLocale("%d->%d@%d", sourceNodeIds.nextLong(), nodeId, depth);
+            assertTrue(visits.add(visit), visit);
+        }
+    }
+
     private static BfsSources toList(BfsSources sources, LongUnaryOperator modify) {
         List<Long> longs = new ArrayList<>();
         while (sources.hasNext()) {
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.beta.pregel.FixedWidthDoubleArrays;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class BatchedPersonalizedPageRankTest {
+
+    private static final double SCORE_PRECISION = 1E-5;
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node { expectedRank: 0.3040965, expectedPersonalizedRank1: 0.17053529152163158 , expectedPersonalizedRank2: 0.017454997930076894 })" +
+        ", (b:Node { expectedRank: 3.5604297, expectedPersonalizedRank1: 0.3216114449911402  , expectedPersonalizedRank2: 0.813246950528992    })" +
+        ", (c:Node { expectedRank: 3.1757906, expectedPersonalizedRank1: 0.27329311398643763 , expectedPersonalizedRank2: 0.690991752640184    })" +
+        ", (d:Node { expectedRank: 0.3625935, expectedPersonalizedRank1: 0.048318333106500536, expectedPersonalizedRank2: 0.041070583050331164 })" +
+        ", (e:Node { expectedRank: 0.7503465, expectedPersonalizedRank1: 0.17053529152163158 , expectedPersonalizedRank2: 0.1449550029964717   })" +
+        ", (f:Node { expectedRank: 0.3625935, expectedPersonalizedRank1: 0.048318333106500536, expectedPersonalizedRank2: 0.041070583050331164 })" +
+        ", (g:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  })" +
+        ", (h:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  })" +
+        ", (i:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  })" +
+        ", (j:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  })" +
+        ", (k:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.15000000000000002  })" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(b)" +
+        ", (d)-[:TYPE]->(a)" +
+        ", (d)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(d)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(b)" +
+        ", (f)-[:TYPE]->(e)" +
+        ", (g)-[:TYPE]->(b)" +
+        ", (g)-[:TYPE]->(e)" +
+        ", (h)-[:TYPE]->(b)" +
+        ", (h)-[:TYPE]->(e)" +
+        ", (i)-[:TYPE]->(b)" +
+        ", (i)-[:TYPE]->(e)" +
+        ", (j)-[:TYPE]->(e)" +
+        ", (k)-[:TYPE]->(e)";
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @CsvSource(value = {"1, 1", "2, 1", "3, 4", "2, 4"})
+    void computesPersonalizedRanksInBatches(int batchSize, int concurrency) {
+        var config = ImmutablePageRankConfig.builder()
+            .maxIterations(100)
+            .tolerance(1E-10)
+            .concurrency(concurrency)
+            .build();
+
+        var sourceNodeSets = List.of(
+            sourceNodes("a", "e"),
+            sourceNodes("k", "b"),
+            sourceNodes()
+        );
+        var expectedPropertyKeys = List.of("expectedPersonalizedRank1", "expectedPersonalizedRank2", "expectedRank");
+
+        Map<Integer, double[]> scoresBySourceSet = new HashMap<>();
+        var result = new BatchedPersonalizedPageRank(
+            graph,
+            config,
+            sourceNodeSets,
+            batchSize,
+            (firstSourceSet, scores) -> collect(firstSourceSet, scores, scoresBySourceSet),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(result.batches()).isEqualTo((sourceNodeSets.size() + batchSize - 1) / batchSize);
+        assertThat(result.didConverge()).isTrue();
+        assertThat(scoresBySourceSet).hasSize(sourceNodeSets.size());
+
+        for (int i = 0; i < sourceNodeSets.size(); i++) {
+            var expected = graph.nodeProperties(expectedPropertyKeys.get(i));
+            var actual = scoresBySourceSet.get(i);
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(actual[nodeId]).isEqualTo(expected.doubleValue(nodeId), within(SCORE_PRECISION));
+            }
+        }
+    }
+
+    @Test
+    void onlyPushesResidualsAboveTolerance() {
+        var config = ImmutablePageRankConfig.builder()
+            .maxIterations(100)
+            .tolerance(0.1)
+            .build();
+
+        Map<Integer, double[]> scoresBySourceSet = new HashMap<>();
+        var result = new BatchedPersonalizedPageRank(
+            graph,
+            config,
+            List.of(sourceNodes("k")),
+            1,
+            (firstSourceSet, scores) -> collect(firstSourceSet, scores, scoresBySourceSet),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        // k pushes its residual to e, whose contribution of 0.15 * 0.85 is still above the tolerance,
+        // the residuals e pushes to its neighbors are not and remain unpushed
+        var scores = scoresBySourceSet.get(0);
+        assertThat(result.didConverge()).isTrue();
+        assertThat(scores[(int) graph.toMappedNodeId("k")]).isEqualTo(0.15, within(1E-9));
+        assertThat(scores[(int) graph.toMappedNodeId("e")]).isEqualTo(0.15 * 0.85, within(1E-9));
+        assertThat(scores[(int) graph.toMappedNodeId("b")]).isEqualTo(0);
+    }
+
+    @Test
+    void collectsOnlyPositiveScores() {
+        var config = ImmutablePageRankConfig.builder()
+            .maxIterations(100)
+            .tolerance(0.1)
+            .build();
+
+        var result = BatchedPersonalizedPageRank.collectingScores(
+            graph,
+            config,
+            List.of(sourceNodes("a"), sourceNodes("k")),
+            1,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(result.scores()).isPresent();
+        var scores = result.scores().get();
+
+        // same pushes as above for k, a has no outgoing relationships
+        assertThat(scores.size()).isEqualTo(3);
+        assertThat(scores.nodeId(0)).isEqualTo(graph.toMappedNodeId("a"));
+        assertThat(scores.sourceNodeSet(0)).isEqualTo(0);
+        assertThat(scores.score(0)).isEqualTo(0.15, within(1E-9));
+        for (int i = 1; i < scores.size(); i++) {
+            assertThat(scores.sourceNodeSet(i)).isEqualTo(1);
+            assertThat(scores.nodeId(i)).isIn(graph.toMappedNodeId("k"), graph.toMappedNodeId("e"));
+        }
+    }
+
+    @Test
+    void rejectsRelationshipWeights() {
+        var config = ImmutablePageRankConfig.builder()
+            .relationshipWeightProperty("weight")
+            .build();
+
+        assertThatThrownBy(() -> new ResidualPageRankComputation(config, List.of(sourceNodes())))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("relationship weights");
+    }
+
+    private LongSet sourceNodes(String... variables) {
+        var sourceNodes = new LongHashSet();
+        for (String variable : variables) {
+            sourceNodes.add(graph.toMappedNodeId(variable));
+        }
+        return sourceNodes;
+    }
+
+    private void collect(int firstSourceSet, FixedWidthDoubleArrays scores, Map<Integer, double[]> scoresBySourceSet) {
+        for (int i = 0; i < scores.dimension(); i++) {
+            var column = new double[(int) scores.nodeCount()];
+            for (int nodeId = 0; nodeId < column.length; nodeId++) {
+                column[nodeId] = scores.get(nodeId, i);
+            }
+            scoresBySourceSet.put(firstSourceSet + i, column);
+        }
+    }
+}
@@ -171,6 +171,59 @@ class PageRankTest {
             }
         }
 
+        @Test
+        void warmStartFromPreviousScores() {
+            var coldConfig = ImmutablePageRankConfig.builder()
+                .maxIterations(40)
+                .tolerance(1E-2)
+                .concurrency(1)
+                .build();
+            var warmConfig = ImmutablePageRankConfig.builder()
+                .from(coldConfig)
+                .seedProperty("expectedRank")
+                .build();
+
+            var coldResult = runOnPregel(graph, coldConfig);
+            var warmResult = runOnPregel(graph, warmConfig);
+
+            // all residuals of the seed are below the tolerance
+            assertThat(warmResult.iterations()).isEqualTo(1).isLessThan(coldResult.iterations());
+
+            var expected = graph.nodeProperties("expectedRank");
+            var rankProvider = warmResult.centralityScoreProvider();
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(rankProvider.applyAsDouble(nodeId)).isEqualTo(
+                    expected.doubleValue(nodeId),
+                    within(1E-2)
+                );
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"expectedPersonalizedRank1", "expectedPersonalizedRank2"})
+        void warmStartConvergesToColdStartScores(String seedProperty) {
+            var coldConfig = ImmutablePageRankConfig.builder()
+                .maxIterations(300)
+                .tolerance(1E-12)
+                .concurrency(1)
+                .build();
+            var warmConfig = ImmutablePageRankConfig.builder()
+                .from(coldConfig)
+                .seedProperty(seedProperty)
+                .build();
+
+            var coldRanks = runOnPregel(graph, coldConfig).centralityScoreProvider();
+            var warmResult = runOnPregel(graph, warmConfig);
+
+            assertThat(warmResult.didConverge()).isTrue();
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(warmResult.centralityScoreProvider().applyAsDouble(nodeId)).isEqualTo(
+                    coldRanks.applyAsDouble(nodeId),
+                    within(SCORE_PRECISION)
+                );
+            }
+        }
+
         @ParameterizedTest
         @EnumSource(Mode.class)
         void shouldLogProgress(Mode mode) {
@@ -476,6 +529,30 @@ class PageRankTest {
                     .isEqualTo(expected.doubleValue(nodeId), within(SCORE_PRECISION));
             }
         }
+
+        @Test
+        void warmStartConvergesToColdStartScores(SoftAssertions softly) {
+            var coldConfig = ImmutablePageRankStreamConfig
+                .builder()
+                .maxIterations(300)
+                .tolerance(1E-12)
+                .concurrency(1)
+                .build();
+            var warmConfig = ImmutablePageRankStreamConfig
+                .builder()
+                .from(coldConfig)
+                .seedProperty("expectedRank")
+                .build();
+
+            var coldRanks = runOnPregel(graph, coldConfig, Mode.ARTICLE_RANK).centralityScoreProvider();
+            var warmResult = runOnPregel(graph, warmConfig, Mode.ARTICLE_RANK);
+
+            softly.assertThat(warmResult.didConverge()).isTrue();
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                softly.assertThat(warmResult.centralityScoreProvider().applyAsDouble(nodeId))
+                    .isEqualTo(coldRanks.applyAsDouble(nodeId), within(SCORE_PRECISION));
+            }
+        }
     }
 
     @Nested
@@ -575,6 +652,111 @@ class PageRankTest {
                 );
             }
         }
+
+        @Test
+        void warmStartFromPreviousScores() {
+            var coldConfig = ImmutablePageRankStreamConfig
+                .builder()
+                .maxIterations(40)
+                .tolerance(1E-3)
+                .concurrency(1)
+                .build();
+            var warmConfig = ImmutablePageRankStreamConfig
+                .builder()
+                .from(coldConfig)
+                .seedProperty("expectedRank")
+                .build();
+
+            var coldResult = runOnPregel(graph, coldConfig, Mode.EIGENVECTOR);
+            var warmResult = runOnPregel(graph, warmConfig, Mode.EIGENVECTOR);
+
+            // the seed is close enough to the eigenvector to stop after the first comparison
+            assertThat(warmResult.didConverge()).isTrue();
+            assertThat(warmResult.iterations()).isEqualTo(1).isLessThan(coldResult.iterations());
+
+            var expected = graph.nodeProperties("expectedRank");
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(warmResult.centralityScoreProvider().applyAsDouble(nodeId)).isEqualTo(
+                    expected.doubleValue(nodeId),
+                    within(1E-3)
+                );
+            }
+        }
+    }
+
+    @Nested
+    @GdlExtension
+    class ChangedGraph {
+
+        // the graph of `Unweighted` with two nodes that were added after `previousRank` has been computed
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:Node { previousRank: 0.3040965 })" +
+            ", (b:Node { previousRank: 3.5604297 })" +
+            ", (c:Node { previousRank: 3.1757906 })" +
+            ", (d:Node { previousRank: 0.3625935 })" +
+            ", (e:Node { previousRank: 0.7503465 })" +
+            ", (f:Node { previousRank: 0.3625935 })" +
+            ", (g:Node { previousRank: 0.15 })" +
+            ", (h:Node { previousRank: 0.15 })" +
+            ", (i:Node { previousRank: 0.15 })" +
+            ", (j:Node { previousRank: 0.15 })" +
+            ", (k:Node { previousRank: 0.15 })" +
+            ", (l:Node)" +
+            ", (m:Node)" +
+            ", (b)-[:TYPE]->(c)" +
+            ", (c)-[:TYPE]->(b)" +
+            ", (d)-[:TYPE]->(a)" +
+            ", (d)-[:TYPE]->(b)" +
+            ", (e)-[:TYPE]->(b)" +
+            ", (e)-[:TYPE]->(d)" +
+            ", (e)-[:TYPE]->(f)" +
+            ", (f)-[:TYPE]->(b)" +
+            ", (f)-[:TYPE]->(e)" +
+            ", (g)-[:TYPE]->(b)" +
+            ", (g)-[:TYPE]->(e)" +
+            ", (h)-[:TYPE]->(b)" +
+            ", (h)-[:TYPE]->(e)" +
+            ", (i)-[:TYPE]->(b)" +
+            ", (i)-[:TYPE]->(e)" +
+            ", (j)-[:TYPE]->(e)" +
+            ", (k)-[:TYPE]->(e)" +
+            ", (e)-[:TYPE]->(l)" +
+            ", (l)-[:TYPE]->(b)" +
+            ", (m)-[:TYPE]->(l)";
+
+        @Inject
+        private Graph graph;
+
+        @Inject
+        private IdFunction idFunction;
+
+        @ParameterizedTest
+        @EnumSource(Mode.class)
+        void warmStartWithNodesWithoutSeed(Mode mode) {
+            assertThat(graph.nodeProperties("previousRank").doubleValue(graph.toMappedNodeId(idFunction.of("l")))).isNaN();
+
+            var coldConfig = ImmutablePageRankConfig.builder()
+                .maxIterations(100)
+                .tolerance(0)
+                .concurrency(1)
+                .build();
+            var warmConfig = ImmutablePageRankConfig.builder()
+                .from(coldConfig)
+                .seedProperty("previousRank")
+                .build();
+
+            var coldRanks = runOnPregel(graph, coldConfig, mode).centralityScoreProvider();
+            var warmRanks = runOnPregel(graph, warmConfig, mode).centralityScoreProvider();
+
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(warmRanks.applyAsDouble(nodeId)).isEqualTo(
+                    coldRanks.applyAsDouble(nodeId),
+                    within(SCORE_PRECISION)
+                );
+            }
+        }
     }
 
     @Nested
@@ -633,9 +815,9 @@ class PageRankTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 2412832L, 2412832L),
-            Arguments.of(4, 2413000L, 2413000L),
-            Arguments.of(42, 2415128L, 2415128L)
+            Arguments.of(1, 2488064L, 2488064L),
+            Arguments.of(4, 2488232L, 2488232L),
+            Arguments.of(42, 2490360L, 2490360L)
         );
     }
 
@@ -691,7 +873,7 @@ class PageRankTest {
             nodeCount,
             relationshipCount,
             4,
-            MemoryRange.of(241_286_621_640L, 241_286_621_640L)
+            MemoryRange.of(248_787_384_840L, 248_787_384_840L)
         );
     }
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
+
+import java.util.HashMap;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.Orientation.NATURAL;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class ContractionHierarchiesTest {
+
+    @ParameterizedTest
+    @EnumSource(value = Direction.class)
+    void shouldComputeShortestDistances(Direction direction) {
+        var graph = randomGraph(direction);
+        var hierarchy = contract(graph);
+        var search = hierarchy.newSearch();
+
+        assertThat(hierarchy.nodeCount()).isEqualTo(graph.nodeCount());
+
+        for (long source = 0; source < graph.nodeCount(); source += 101) {
+            var expected = dijkstraDistances(graph, source);
+            for (long target = 0; target < graph.nodeCount(); target++) {
+                var distance = search.distance(source, target);
+                var expectedDistance = expected.get(target);
+                if (expectedDistance == null) {
+                    assertThat(distance).as("%d -> %d", source, target).isEqualTo(Double.POSITIVE_INFINITY);
+                } else {
+                    assertThat(distance).as("%d -> %d", source, target).isCloseTo(expectedDistance, within(1e-9));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldUnpackShortcutsIntoOriginalPaths() {
+        var graph = randomGraph(Direction.DIRECTED);
+        var search = contract(graph).newSearch();
+
+        for (long source = 0; source < graph.nodeCount(); source += 53) {
+            var expected = dijkstraDistances(graph, source);
+            for (long target = 0; target < graph.nodeCount(); target += 31) {
+                var path = search.sourceTarget(source, target).findFirst();
+                if (!expected.containsKey(target)) {
+                    assertThat(path).isEmpty();
+                    continue;
+                }
+
+                assertThat(path).isPresent();
+                var nodeIds = path.get().nodeIds();
+                var costs = path.get().costs();
+                assertThat(nodeIds[0]).isEqualTo(source);
+                assertThat(nodeIds[nodeIds.length - 1]).isEqualTo(target);
+                assertThat(costs).hasSize(nodeIds.length);
+                assertThat(costs[0]).isEqualTo(0.0);
+                for (int i = 1; i < nodeIds.length; i++) {
+                    assertThat(costs[i] - costs[i - 1])
+                        .as("%d -> %d", nodeIds[i - 1], nodeIds[i])
+                        .isCloseTo(minWeight(graph, nodeIds[i - 1], nodeIds[i]), within(1e-9));
+                }
+                assertThat(path.get().totalCost()).isCloseTo(expected.get(target), within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    void shouldHandleTrivialQueries() {
+        var graph = fromGdl(
+            "CREATE (a)-[:R {w: 1.0}]->(b), (b)-[:R {w: 2.0}]->(c), (a)-[:R {w: 5.0}]->(c), (d)",
+            NATURAL
+        );
+        var search = contract(graph).newSearch();
+
+        var a = graph.toMappedNodeId("a");
+        var c = graph.toMappedNodeId("c");
+        var d = graph.toMappedNodeId("d");
+
+        assertThat(search.distance(a, a)).isEqualTo(0.0);
+        assertThat(search.sourceTarget(a, a).findFirst()).hasValueSatisfying(path -> {
+            assertThat(path.nodeIds()).containsExactly(a);
+            assertThat(path.totalCost()).isEqualTo(0.0);
+        });
+        assertThat(search.distance(a, c)).isEqualTo(3.0);
+        assertThat(search.distance(c, a)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(search.distance(a, d)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(search.sourceTarget(a, d).findFirst()).isEmpty();
+        // the search is reusable, earlier queries must not leak into later ones
+        assertThat(search.distance(a, c)).isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldValidateWitnessSearchLimit() {
+        var graph = randomGraph(Direction.DIRECTED);
+        assertThatThrownBy(() -> new ContractionHierarchies(graph, 0, 1, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must be positive");
+    }
+
+    private static ContractionHierarchy contract(Graph graph) {
+        return new ContractionHierarchies(
+            graph,
+            ContractionHierarchies.DEFAULT_WITNESS_SEARCH_LIMIT,
+            4,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+
+    private static HashMap<Long, Double> dijkstraDistances(Graph graph, long source) {
+        var config = ImmutableAllShortestPathsDijkstraStreamConfig.builder()
+            .sourceNode(graph.toOriginalNodeId(source))
+            .build();
+        var distances = new HashMap<Long, Double>();
+        Dijkstra.singleSource(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .forEachPath(path -> distances.put(path.targetNode(), path.totalCost()));
+        return distances;
+    }
+
+    private static double minWeight(Graph graph, long source, long target) {
+        double[] weight = {Double.POSITIVE_INFINITY};
+        graph.forEachRelationship(source, 1.0D, (s, t, w) -> {
+            if (t == target) {
+                weight[0] = Math.min(weight[0], w);
+            }
+            return true;
+        });
+        return weight[0];
+    }
+
+    private static Graph randomGraph(Direction direction) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(500)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(direction)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 1.0, 10.0))
+            .seed(42L)
+            .build()
+            .generate();
+    }
+}
@@ -417,4 +417,60 @@ final class DeltaSteppingTest {
 
     }
 
+    @ParameterizedTest
+    @CsvSource({"2,UNIFORM,1", "2,UNIFORM,4", "10,POWER_LAW,1", "10,POWER_LAW,4"})
+    void shouldGiveSameResultsAsDijkstraWithAutoDelta(
+        int averageDegree,
+        RelationshipDistribution distribution,
+        int concurrency
+    ) {
+        int nodeCount = 3_000;
+        var newGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("foo", 1, 10))
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = ImmutableAllShortestPathsDeltaStreamConfig.builder()
+            .concurrency(concurrency)
+            .sourceNode(0)
+            .autoDelta(true)
+            .build();
+        var deltaStepping = DeltaStepping.of(newGraph, config, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER);
+        assertThat(deltaStepping.delta()).isGreaterThanOrEqualTo(1.0);
+
+        var expected = new double[nodeCount];
+        Dijkstra
+            .singleSource(newGraph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .forEachPath(path -> expected[(int) path.targetNode()] = path.totalCost());
+        var actual = new double[nodeCount];
+        deltaStepping.compute().forEachPath(path -> actual[(int) path.targetNode()] = path.totalCost());
+
+        for (int i = 0; i < nodeCount; i++) {
+            assertThat(actual[i]).as("node %d", i).isCloseTo(expected[i], Offset.offset(1e-5));
+        }
+    }
+
+    @Test
+    void shouldEstimateWiderBinsForSparseGraphs() {
+        var sparse = TestSupport.fromGdl(
+            "(a)-[{w: 4.0}]->(b)-[{w: 6.0}]->(c)-[{w: 2.0}]->(d)-[{w: 8.0}]->(a)"
+        );
+        // mean weight 5, average degree 1
+        assertThat(DeltaStepping.estimateDelta(sparse)).isEqualTo(10.0);
+
+        var dense = TestSupport.fromGdl(
+            "(a)-[{w: 1.0}]->(b), (a)-[{w: 1.0}]->(c), (a)-[{w: 1.0}]->(d), " +
+            "(b)-[{w: 1.0}]->(a), (b)-[{w: 1.0}]->(c), (b)-[{w: 1.0}]->(d), " +
+            "(c)-[{w: 1.0}]->(a), (c)-[{w: 1.0}]->(b), (c)-[{w: 1.0}]->(d), " +
+            "(d)-[{w: 1.0}]->(a), (d)-[{w: 1.0}]->(b), (d)-[{w: 1.0}]->(c)"
+        );
+        // 2 * 1 / 3 is smaller than the smallest weight
+        assertThat(DeltaStepping.estimateDelta(dense)).isEqualTo(1.0);
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraBatchStreamConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.Orientation.NATURAL;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class BatchedDijkstraTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldMatchDijkstraForEveryPair(boolean trackRelationships) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 1.0, 10.0))
+            .seed(42L)
+            .build()
+            .generate();
+
+        // few distinct sources with many targets each, plus duplicate pairs
+        var random = new Random(42L);
+        int pairCount = 500;
+        var sources = new long[pairCount];
+        var targets = new long[pairCount];
+        for (int i = 0; i < pairCount; i++) {
+            sources[i] = random.nextInt(20);
+            targets[i] = random.nextInt((int) graph.nodeCount());
+        }
+
+        var paths = new BatchedDijkstra(
+            graph,
+            sources,
+            targets,
+            trackRelationships,
+            4,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute().pathSet();
+
+        var pathsByIndex = paths.stream().collect(Collectors.toMap(PathResult::index, path -> path));
+        for (int i = 0; i < pairCount; i++) {
+            var expected = dijkstra(graph, sources[i], targets[i], trackRelationships);
+            var actual = Optional.ofNullable(pathsByIndex.get((long) i));
+
+            assertThat(actual.isPresent()).as("pair %d", i).isEqualTo(expected.isPresent());
+            if (expected.isPresent()) {
+                assertThat(actual.get().sourceNode()).isEqualTo(sources[i]);
+                assertThat(actual.get().targetNode()).isEqualTo(targets[i]);
+                assertThat(actual.get().totalCost()).as("pair %d", i).isCloseTo(expected.get().totalCost(), within(1e-9));
+                assertThat(actual.get().costs()).hasSameSizeAs(actual.get().nodeIds());
+                if (trackRelationships) {
+                    assertThat(actual.get().relationshipIds()).hasSize(actual.get().nodeIds().length - 1);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldEmitPathsInPairOrder() {
+        var graph = fromGdl(
+            "CREATE (a)-[:R {w: 1.0}]->(b), (b)-[:R {w: 2.0}]->(c), (a)-[:R {w: 5.0}]->(c), (d)",
+            NATURAL
+        );
+        var a = graph.toMappedNodeId("a");
+        var b = graph.toMappedNodeId("b");
+        var c = graph.toMappedNodeId("c");
+        var d = graph.toMappedNodeId("d");
+
+        var paths = new BatchedDijkstra(
+            graph,
+            new long[]{b, a, a, a, c},
+            new long[]{c, c, d, a, a},
+            false,
+            1,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute().pathSet();
+
+        // (a, d) and (c, a) are unreachable
+        assertThat(paths.stream().map(PathResult::index).sorted().collect(Collectors.toList()))
+            .containsExactly(0L, 1L, 3L);
+        var pathsByIndex = paths.stream().collect(Collectors.toMap(PathResult::index, path -> path));
+        assertThat(pathsByIndex.get(0L).nodeIds()).containsExactly(b, c);
+        assertThat(pathsByIndex.get(1L).nodeIds()).containsExactly(a, b, c);
+        assertThat(pathsByIndex.get(1L).costs()).containsExactly(0.0, 1.0, 3.0);
+        assertThat(pathsByIndex.get(3L).nodeIds()).containsExactly(a);
+        assertThat(pathsByIndex.get(3L).totalCost()).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldValidatePairs() {
+        assertThatThrownBy(() -> ShortestPathDijkstraBatchStreamConfig.of(CypherMapWrapper.create(Map.of(
+            "sourceNodes", List.of(0L, 1L),
+            "targetNodes", List.of(2L)
+        ))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must match");
+
+        assertThatThrownBy(() -> ShortestPathDijkstraBatchStreamConfig.of(CypherMapWrapper.create(Map.of())))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("At least one source-target pair");
+    }
+
+    private static Optional<PathResult> dijkstra(Graph graph, long source, long target, boolean trackRelationships) {
+        var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+            .sourceNode(graph.toOriginalNodeId(source))
+            .targetNode(graph.toOriginalNodeId(target))
+            .trackRelationships(trackRelationships)
+            .build();
+        return Dijkstra.sourceTarget(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst();
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.Orientation.UNDIRECTED;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class LandmarksTest {
+
+    private static final int GRID_SIZE = 20;
+
+    @ParameterizedTest
+    @EnumSource(LandmarkSelection.class)
+    void shouldNotOverestimateDistances(LandmarkSelection selection) {
+        var graph = randomGraph(Direction.UNDIRECTED, false);
+        var index = new Landmarks(graph, 8, selection, 4, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER).compute();
+
+        for (long target = 0; target < graph.nodeCount(); target += 97) {
+            var heuristic = index.heuristic(target);
+            var config = ImmutableAllShortestPathsDijkstraStreamConfig.builder()
+                .sourceNode(graph.toOriginalNodeId(target))
+                .build();
+            var distances = new HashMap<Long, Double>();
+            Dijkstra.singleSource(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .forEachPath(path -> distances.put(path.targetNode(), path.totalCost()));
+
+            for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                // the graph is undirected, so the distance from the target equals the distance to the target
+                var distance = distances.get(nodeId);
+                if (distance != null) {
+                    assertThat(heuristic.applyAsDouble(nodeId)).as("node %d", nodeId).isLessThanOrEqualTo(distance + 1e-9);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(LandmarkSelection.class)
+    void shouldFindShortestPathsOnDirectedGraph(LandmarkSelection selection) {
+        var graph = randomGraph(Direction.DIRECTED, true);
+        var index = new Landmarks(graph, 4, selection, 4, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER).compute();
+
+        for (long source = 0; source < graph.nodeCount(); source += 131) {
+            long target = graph.nodeCount() - 1 - source;
+            var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+                .sourceNode(graph.toOriginalNodeId(source))
+                .targetNode(graph.toOriginalNodeId(target))
+                .build();
+
+            var expected = Dijkstra.sourceTarget(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+            var actual = Dijkstra.sourceTarget(graph, config, Optional.of(index.heuristic(target)), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            expected.ifPresent(path -> assertThat(actual.get().totalCost()).isCloseTo(path.totalCost(), within(1e-9)));
+        }
+    }
+
+    @Test
+    void shouldExpandFewerNodesOnGrid() {
+        var graph = fromGdl(grid(), UNDIRECTED);
+        var index = new Landmarks(graph, 4, LandmarkSelection.FARTHEST, 4, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER).compute();
+
+        // not the opposite corner, where every node lies on a shortest path
+        var target = graph.toMappedNodeId("n0_" + (GRID_SIZE - 1));
+        var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+            .sourceNode(graph.toOriginalNodeId("n0_0"))
+            .targetNode(graph.toOriginalNodeId(target))
+            .build();
+
+        var uninformed = new AtomicLong();
+        var uninformedPath = Dijkstra.sourceTarget(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+            .withRelationshipFilter((source, targetNode, relationshipId) -> uninformed.incrementAndGet() > 0)
+            .compute()
+            .findFirst()
+            .orElseThrow();
+
+        var informed = new AtomicLong();
+        var informedPath = Dijkstra.sourceTarget(graph, config, Optional.of(index.heuristic(target)), ProgressTracker.NULL_TRACKER)
+            .withRelationshipFilter((source, targetNode, relationshipId) -> informed.incrementAndGet() > 0)
+            .compute()
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(informedPath.totalCost()).isEqualTo(uninformedPath.totalCost()).isEqualTo(GRID_SIZE - 1.0);
+        assertThat(informed.get()).isLessThan(uninformed.get() / 2);
+    }
+
+    @Test
+    void shouldExposeDistancesAsNodeProperty() {
+        var graph = randomGraph(Direction.DIRECTED, true);
+        var index = new Landmarks(graph, 3, LandmarkSelection.DEGREE, 4, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER).compute();
+
+        var signature = LandmarkIndex.signature(graph, Optional.of("weight"));
+        var values = index.nodePropertyValues(signature);
+        assertThat(values.nodeCount()).isEqualTo(graph.nodeCount());
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            var distances = values.doubleArrayValue(nodeId);
+            assertThat(distances).hasSize(6 + LandmarkIndex.METADATA_SLOTS);
+            for (int landmark = 0; landmark < 3; landmark++) {
+                assertThat(distances[landmark]).isEqualTo(index.distanceFromLandmark(nodeId, landmark));
+                assertThat(distances[3 + landmark]).isEqualTo(index.distanceToLandmark(nodeId, landmark));
+            }
+            assertThat(distances[6]).isEqualTo(3);
+            assertThat(distances[7]).isEqualTo(1);
+            assertThat((long) distances[8]).isEqualTo(signature);
+        }
+    }
+
+    @Test
+    void signatureShouldCoverOrientationAndWeightProperty() {
+        var directed = randomGraph(Direction.DIRECTED, false);
+        var undirected = randomGraph(Direction.UNDIRECTED, false);
+
+        var signature = LandmarkIndex.signature(directed, Optional.of("weight"));
+
+        assertThat(LandmarkIndex.signature(directed, Optional.of("weight"))).isEqualTo(signature);
+        assertThat(LandmarkIndex.signature(directed, Optional.empty())).isNotEqualTo(signature);
+        assertThat(LandmarkIndex.signature(undirected, Optional.of("weight"))).isNotEqualTo(signature);
+        assertThat(signature).isLessThan(1L << 52);
+    }
+
+    @Test
+    void shouldRequirePositiveLandmarkCount() {
+        var graph = fromGdl(grid(), UNDIRECTED);
+        assertThatThrownBy(() -> new Landmarks(graph, 0, LandmarkSelection.DEGREE, 1, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must be positive");
+    }
+
+    private static Graph randomGraph(Direction direction, boolean inverseIndex) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(direction)
+            .inverseIndex(inverseIndex)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 1.0, 10.0))
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
+    private static String grid() {
+        var gdl = new StringBuilder("CREATE ");
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int column = 0; column < GRID_SIZE; column++) {
+                if (row > 0 || column > 0) {
+                    gdl.append(", ");
+                }
+                gdl.append("(n").append(row).append('_').append(column).append(')');
+            }
+        }
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int column = 0; column < GRID_SIZE; column++) {
+                if (column + 1 < GRID_SIZE) {
+                    gdl.append(", (n").append(row).append('_').append(column)
+                        .append(")-[:R {weight: 1.0}]->(n").append(row).append('_').append(column + 1).append(')');
+                }
+                if (row + 1 < GRID_SIZE) {
+                    gdl.append(", (n").append(row).append('_').append(column)
+                        .append(")-[:R {weight: 1.0}]->(n").append(row + 1).append('_').append(column).append(')');
+                }
+            }
+        }
+        return gdl.toString();
+    }
+}
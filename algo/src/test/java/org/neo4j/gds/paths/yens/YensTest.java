@@ -26,9 +26,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.Aggregation;
@@ -47,6 +53,7 @@ import org.s1ck.gdl.GDLHandler;
 import org.s1ck.gdl.model.Edge;
 import org.s1ck.gdl.model.Vertex;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -54,6 +61,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.assertj.Extractors.replaceTimings;
 
@@ -97,6 +105,7 @@ class YensTest {
 
     // https://en.wikipedia.org/wiki/Yen%27s_algorithm#/media/File:Yen's_K-Shortest_Path_Algorithm,_K=3,_A_to_F.gif
     @GdlGraph(aggregation = Aggregation.SINGLE)
+    @GdlGraph(aggregation = Aggregation.SINGLE, graphNamePrefix = "inverse", indexInverse = true)
     private static final String DB_CYPHER =
         "CREATE" +
         "  (c:C {id: 0})" +
@@ -119,6 +128,9 @@ class YensTest {
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph inverseGraph;
+
     // Each input represents k paths that are expected to be returned by Yen's algorithm.
     // The first node in each path is the start node for the path search, the last node in
     // each path is the target node for each path search. The node property represents the
@@ -177,6 +189,73 @@ class YensTest {
         assertResult(graph, expectedPaths, false, 4);
     }
 
+    @ParameterizedTest
+    @MethodSource("pathInput")
+    void computeWithReusedShortestPathTree(Collection<String> expectedPaths) {
+        assertResult(inverseGraph, expectedPaths, false, 4, true);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Orientation.class, names = {"NATURAL", "UNDIRECTED"})
+    void shouldFindSamePathCostsWithReusedShortestPathTree(Orientation orientation) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.fromOrientation(orientation))
+            .inverseIndex(orientation == Orientation.NATURAL)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 1.0, 10.0))
+            .aggregation(Aggregation.SINGLE)
+            .seed(42L)
+            .build()
+            .generate();
+
+        for (long target = 100; target < 1_000; target += 300) {
+            var config = defaultSourceTargetConfigBuilder(4)
+                .sourceNode(0)
+                .targetNode(target)
+                .k(10)
+                .build();
+            var reusingConfig = defaultSourceTargetConfigBuilder(4)
+                .from(config)
+                .reuseShortestPathTree(true)
+                .build();
+
+            var expectedCosts = Yens.sourceTarget(randomGraph, config, ProgressTracker.NULL_TRACKER)
+                .compute()
+                .mapPaths(PathResult::totalCost)
+                .sorted()
+                .collect(Collectors.toList());
+            var actualPaths = Yens.sourceTarget(randomGraph, reusingConfig, ProgressTracker.NULL_TRACKER)
+                .compute()
+                .pathSet();
+
+            assertThat(actualPaths.stream().map(PathResult::totalCost).sorted().collect(Collectors.toList()))
+                .as("target %d", target)
+                .usingElementComparator((a, b) -> Math.abs(a - b) < 1e-9 ? 0 : Double.compare(a, b))
+                .containsExactlyElementsOf(expectedCosts);
+            // paths must be simple and distinct
+            assertThat(actualPaths.stream().map(path -> Arrays.toString(path.nodeIds())).distinct()).hasSameSizeAs(actualPaths);
+            for (var path : actualPaths) {
+                assertThat(Arrays.stream(path.nodeIds()).distinct().count()).isEqualTo(path.nodeIds().length);
+            }
+        }
+    }
+
+    @Test
+    void shouldRequireInverseIndexForReusedShortestPathTree() {
+        var config = defaultSourceTargetConfigBuilder(1)
+            .sourceNode(graph.toOriginalNodeId("c"))
+            .targetNode(graph.toOriginalNodeId("h"))
+            .k(2)
+            .reuseShortestPathTree(true)
+            .build();
+
+        assertThatThrownBy(() -> Yens.sourceTarget(graph, config, ProgressTracker.NULL_TRACKER).compute())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse indexed");
+    }
+
     @Test
     void shouldLogProgress() {
         int k = 3;
@@ -251,6 +330,16 @@ class YensTest {
         Collection<String> expectedPaths,
         boolean trackRelationships,
         int concurrency
+    ) {
+        assertResult(graph, expectedPaths, trackRelationships, concurrency, false);
+    }
+
+    private static void assertResult(
+        TestGraph graph,
+        Collection<String> expectedPaths,
+        boolean trackRelationships,
+        int concurrency,
+        boolean reuseShortestPathTree
     ) {
         var expectedPathResults = expectedPathResults(graph::toMappedNodeId, expectedPaths, trackRelationships);
 
@@ -269,6 +358,7 @@ class YensTest {
             .sourceNode(graph.toOriginalNodeId(firstResult.sourceNode()))
             .targetNode(graph.toOriginalNodeId(firstResult.targetNode()))
             .k(expectedPathResults.size())
+            .reuseShortestPathTree(reuseShortestPathTree)
             .build();
 
         var actualPathResults = Yens
@@ -20,10 +20,16 @@
 package org.neo4j.gds.scc;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -36,6 +42,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.assertj.Extractors.replaceTimings;
 
@@ -69,9 +76,15 @@ class SccTest {
         ", (h)-[:TYPE {cost: 3}]->(i)" +
         ", (i)-[:TYPE {cost: 3}]->(g)";
 
+    @GdlGraph(indexInverse = true, graphNamePrefix = "indexed")
+    private static final String INDEXED_DB_CYPHER = DB_CYPHER;
+
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph indexedGraph;
+
     @Test
     void testDirect() {
         var scc = new Scc(graph, ProgressTracker.NULL_TRACKER);
@@ -106,8 +119,74 @@ class SccTest {
         assertCC(components);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testForwardBackward(int concurrency) {
+        var scc = new Scc(
+            indexedGraph,
+            SccStrategy.FORWARD_BACKWARD,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+        assertCC(indexedGraph, scc.compute());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void forwardBackwardShouldFindSameComponentsAsTarjan(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.DIRECTED)
+            .inverseIndex(true)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var expected = new Scc(randomGraph, ProgressTracker.NULL_TRACKER).compute();
+        var actual = new Scc(
+            randomGraph,
+            SccStrategy.FORWARD_BACKWARD,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        // both partitions must be identical up to the component ids
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            long expectedComponent = expected.get(nodeId);
+            long actualComponent = actual.get(nodeId);
+            assertThat(actualComponent).isNotEqualTo(Scc.UNORDERED);
+            assertThat(expectedToActual.computeIfAbsent(expectedComponent, c -> actualComponent))
+                .isEqualTo(actualComponent);
+            assertThat(actualToExpected.computeIfAbsent(actualComponent, c -> expectedComponent))
+                .isEqualTo(expectedComponent);
+        }
+    }
+
+    @Test
+    void forwardBackwardShouldRequireInverseIndex() {
+        assertThatThrownBy(() -> new Scc(
+            graph,
+            SccStrategy.FORWARD_BACKWARD,
+            1,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse indexed");
+    }
+
     private void assertCC(HugeLongArray components) {
-        IdFunction idFunction = graph::toMappedNodeId;
+        assertCC(graph, components);
+    }
+
+    private void assertCC(TestGraph testGraph, HugeLongArray components) {
+        IdFunction idFunction = testGraph::toMappedNodeId;
 
         assertBelongSameComponent(components, List.of(
             idFunction.of("a"),
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ *         a                  a                  a
+ *     1 /   \ 2            /  \                  \
+ *      /     \            /    \                  \
+ *     b --3-- c          b      c          b       c
+ *     |       |  =min=>  |      |  =max=>  |       |
+ *     4       5          |      |          |       |
+ *     |       |          |      |          |       |
+ *     d --6-- e          d      e          d-------e
+ *
+ *     y --7-- z          y -- z            y -- z
+ */
+@GdlExtension
+class BoruvkaTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (y:Node)" +
+        ", (z:Node)" +
+
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 3.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 4.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(e)" +
+        ", (y)-[:TYPE {cost: 7.0}]->(z)";
+
+    @GdlGraph(orientation = Orientation.NATURAL, graphNamePrefix = "directed")
+    private static final String DIRECTED_DB_CYPHER = DB_CYPHER;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph directedGraph;
+
+    @Test
+    void shouldComputeMinimumSpanningForest() {
+        var forest = boruvka(graph, Prim.MIN_OPERATOR, 1, 1);
+
+        assertThat(forest.totalWeight()).isEqualTo(19.0);
+        assertParent(forest, "a", null);
+        assertParent(forest, "b", "a");
+        assertParent(forest, "c", "a");
+        assertParent(forest, "d", "b");
+        assertParent(forest, "e", "c");
+        assertParent(forest, "y", null);
+        assertParent(forest, "z", "y");
+    }
+
+    @Test
+    void shouldComputeMaximumSpanningForest() {
+        var forest = boruvka(graph, Prim.MAX_OPERATOR, 1, 1);
+
+        assertThat(forest.totalWeight()).isEqualTo(24.0);
+        assertParent(forest, "a", null);
+        assertParent(forest, "c", "a");
+        assertParent(forest, "e", "c");
+        assertParent(forest, "d", "e");
+        assertParent(forest, "b", "d");
+        assertParent(forest, "z", "y");
+    }
+
+    @Test
+    void shouldCutWorstRelationshipsToReachComponentCount() {
+        // the forest has two trees, reaching four removes y-z (7) and c-e (5)
+        var forest = boruvka(graph, Prim.MIN_OPERATOR, 4, 1);
+
+        assertThat(forest.totalWeight()).isEqualTo(7.0);
+        assertParent(forest, "b", "a");
+        assertParent(forest, "c", "a");
+        assertParent(forest, "d", "b");
+        assertParent(forest, "e", null);
+        assertParent(forest, "z", null);
+    }
+
+    @Test
+    void shouldNotCutBelowTheNumberOfConnectedComponents() {
+        var forest = boruvka(graph, Prim.MIN_OPERATOR, 2, 1);
+
+        assertThat(forest.totalWeight()).isEqualTo(19.0);
+        assertParent(forest, "z", "y");
+    }
+
+    @Test
+    void shouldMatchPrimPerComponent() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0, 100))
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var forest = boruvka(randomGraph, Prim.MIN_OPERATOR, 1, 4);
+        assertThat(forest.parentArray().toArray())
+            .isEqualTo(boruvka(randomGraph, Prim.MIN_OPERATOR, 1, 1).parentArray().toArray());
+
+        long source = 0;
+        var tree = new Prim(randomGraph, Prim.MIN_OPERATOR, source, ProgressTracker.NULL_TRACKER).compute();
+
+        long root = forest.head(source);
+        double componentWeight = 0;
+        long componentSize = 0;
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            if (forest.head(nodeId) == root) {
+                componentSize++;
+                if (nodeId != root) {
+                    componentWeight += forest.costToParent(nodeId);
+                }
+            }
+        }
+
+        assertThat(componentSize).isEqualTo(tree.effectiveNodeCount());
+        assertThat(componentWeight).isCloseTo(tree.totalWeight(), within(1e-6));
+    }
+
+    @Test
+    void shouldFailOnDirectedGraphs() {
+        assertThatThrownBy(() -> boruvka(directedGraph, Prim.MIN_OPERATOR, 1, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("undirected");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldBeIndependentOfConcurrency(int concurrency) {
+        var forest = boruvka(graph, Prim.MIN_OPERATOR, 1, concurrency);
+        assertThat(forest.parentArray().toArray())
+            .isEqualTo(boruvka(graph, Prim.MIN_OPERATOR, 1, 1).parentArray().toArray());
+    }
+
+    private static SpanningTree boruvka(Graph graph, DoubleUnaryOperator minMax, long componentCount, int concurrency) {
+        return new Boruvka(
+            graph,
+            minMax,
+            componentCount,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+
+    private void assertParent(SpanningTree forest, String node, String expectedParent) {
+        long expected = expectedParent == null ? -1 : graph.toMappedNodeId(expectedParent);
+        assertThat(forest.parent(graph.toMappedNodeId(node))).as(node).isEqualTo(expected);
+    }
+}
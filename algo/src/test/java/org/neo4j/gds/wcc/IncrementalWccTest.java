@@ -21,17 +21,24 @@ package org.neo4j.gds.wcc;
 
 import com.carrotsearch.hppc.BitSet;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.gdl.GdlFactory;
 
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.TestSupport.fromGdl;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -122,6 +129,79 @@ class IncrementalWccTest {
             .forEach(node -> assertEquals(42, result.setIdOf(node)));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldUpdateComponentsWithAddedRelationships(int concurrency) {
+        var graphStore = GdlFactory.of(
+            "  (a), (b), (c), (d), (e)" +
+            ", (a)-[:OLD]->(b)" +
+            ", (c)-[:OLD]->(d)" +
+            ", (b)-[:NEW]->(c)"
+        ).build();
+        var oldGraph = graphStore.getGraph(RelationshipType.of("OLD"));
+        var addedRelationships = graphStore.getGraph(RelationshipType.of("NEW"));
+
+        var components = run(oldGraph, ImmutableWccStreamConfig.builder().build());
+        assertThat(components.sameSet(0, 2)).isFalse();
+
+        var updated = new IncrementalWcc(
+            addedRelationships,
+            components,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(updated).isSameAs(components);
+        assertThat(getSetCount(updated)).isEqualTo(2L);
+        assertThat(updated.setIdOf(3)).isEqualTo(updated.setIdOf(0));
+        assertThat(updated.setIdOf(4)).isNotEqualTo(updated.setIdOf(0));
+    }
+
+    @Test
+    void shouldUpdateComponentsFromComponentProperty() {
+        // (a) and (b) share a component without a relationship between them,
+        // all other relationships have been processed by a previous run
+        var graph = fromGdl(
+            "  (a {component: 5})" +
+            ", (b {component: 5})" +
+            ", (c {component: 7})" +
+            ", (d {component: 7})" +
+            ", (e {component: 9})" +
+            ", (f)" +
+            ", (b)-->(c)"
+        );
+
+        var components = IncrementalWcc.fromComponents(graph.nodeProperties("component"), graph.nodeCount(), 1);
+        var updated = new IncrementalWcc(
+            graph,
+            components,
+            1,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(LongStream.range(0, 4).map(updated::setIdOf)).containsOnly(5L);
+        assertThat(updated.setIdOf(4)).isEqualTo(9L);
+        assertThat(updated.setIdOf(5)).isNotIn(5L, 9L);
+    }
+
+    @Test
+    void shouldFailOnDifferentNodeCount() {
+        var components = new HugeAtomicDisjointSetStruct(3, 1);
+        var graph = fromGdl("(a)-->(b)");
+
+        assertThatThrownBy(() -> new IncrementalWcc(
+            graph,
+            components,
+            1,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cover 2 nodes, but the components cover 3 nodes");
+    }
+
     private DisjointSetStruct run(Graph graph, WccBaseConfig config) {
         return new Wcc(
             graph,
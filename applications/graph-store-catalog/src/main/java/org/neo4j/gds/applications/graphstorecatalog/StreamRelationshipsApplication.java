@@ -19,40 +19,38 @@
  */
 package org.neo4j.gds.applications.graphstorecatalog;
 
-import org.eclipse.collections.impl.tuple.Tuples;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.columnar.ColumnarBatchStream;
 
-import java.util.stream.Collectors;
-import java.util.stream.LongStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 public class StreamRelationshipsApplication {
     Stream<TopologyResult> compute(GraphStore graphStore, GraphStreamRelationshipsConfig configuration) {
-        var relationshipTypesAndGraphs = configuration.relationshipTypeIdentifiers(graphStore).stream()
-            .map(relationshipType -> Tuples.pair(relationshipType.name(), graphStore.getGraph(relationshipType)))
-            .collect(Collectors.toList());
+        List<String> relationshipTypes = new ArrayList<>();
+        List<Graph> graphs = new ArrayList<>();
+        configuration.relationshipTypeIdentifiers(graphStore).forEach(relationshipType -> {
+            relationshipTypes.add(relationshipType.name());
+            graphs.add(graphStore.getGraph(relationshipType));
+        });
 
-        return ParallelUtil.parallelStream(
-            LongStream.range(0, graphStore.nodeCount()),
-            configuration.concurrency(),
-            nodeStream -> nodeStream
-                .boxed()
-                .flatMap(nodeId -> relationshipTypesAndGraphs.stream().flatMap(graphAndRelationshipType -> {
-                    var relationshipType = graphAndRelationshipType.getOne();
-                    Graph graph = graphAndRelationshipType.getTwo();
-
-                    var originalSourceId = graph.toOriginalNodeId(nodeId);
-
-                    return graph
-                        .streamRelationships(nodeId, Double.NaN)
-                        .map(relationshipCursor -> new TopologyResult(
-                            originalSourceId,
-                            graph.toOriginalNodeId(relationshipCursor.targetId()),
-                            relationshipType
-                        ));
-                }))
+        // Relationships are collected into primitive batches per node range,
+        // result objects are only created once a row is consumed.
+        var rows = ColumnarBatchStream.stream(
+            graphStore.nodeCount(),
+            TopologyBatchProducer.LONG_COLUMNS,
+            0,
+            new TopologyBatchProducer(graphs),
+            (batch, row) -> new TopologyResult(
+                batch.longValue(TopologyBatchProducer.SOURCE_COLUMN, row),
+                batch.longValue(TopologyBatchProducer.TARGET_COLUMN, row),
+                relationshipTypes.get((int) batch.longValue(TopologyBatchProducer.TYPE_COLUMN, row))
+            )
         );
+
+        return ParallelUtil.parallelStream(rows, configuration.concurrency(), stream -> stream);
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.applications.graphstorecatalog;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.core.utils.columnar.ColumnarBatch;
+import org.neo4j.gds.core.utils.columnar.ColumnarBatchProducer;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fills batches with (source, target, type index) rows,
+ * using original node ids for source and target.
+ */
+final class TopologyBatchProducer implements ColumnarBatchProducer, RelationshipConsumer {
+
+    static final int SOURCE_COLUMN = 0;
+    static final int TARGET_COLUMN = 1;
+    static final int TYPE_COLUMN = 2;
+    static final int LONG_COLUMNS = 3;
+
+    private final List<Graph> graphs;
+
+    private ColumnarBatch batch;
+    private Graph currentGraph;
+    private long originalSourceId;
+    private int typeIndex;
+
+    TopologyBatchProducer(List<Graph> graphs) {
+        this.graphs = graphs;
+    }
+
+    @Override
+    public long fill(long startNode, long endNode, ColumnarBatch batch) {
+        this.batch = batch;
+        long nodeId = startNode;
+        while (nodeId < endNode && !batch.isFull()) {
+            for (typeIndex = 0; typeIndex < graphs.size(); typeIndex++) {
+                currentGraph = graphs.get(typeIndex);
+                originalSourceId = currentGraph.toOriginalNodeId(nodeId);
+                currentGraph.forEachRelationship(nodeId, this);
+            }
+            nodeId++;
+        }
+        this.batch = null;
+        return nodeId;
+    }
+
+    @Override
+    public boolean accept(long sourceNodeId, long targetNodeId) {
+        batch.setLong(SOURCE_COLUMN, originalSourceId);
+        batch.setLong(TARGET_COLUMN, currentGraph.toOriginalNodeId(targetNodeId));
+        batch.setLong(TYPE_COLUMN, typeIndex);
+        batch.endRow();
+        return true;
+    }
+
+    @Override
+    public ColumnarBatchProducer concurrentCopy() {
+        var graphCopies = graphs.stream().map(Graph::concurrentCopy).collect(Collectors.toList());
+        return new TopologyBatchProducer(graphCopies);
+    }
+}
@@ -39,6 +39,8 @@ public enum GdsFeatureToggles {
     // Makes sure end users algorithms don't fail due to errors in log tracking,
     // but keeps the option to find these failures when running tests.
     FAIL_ON_PROGRESS_TRACKER_ERRORS(false),
+    // Aggregates per-thread progress in the background instead of on every logProgress call.
+    USE_SAMPLING_PROGRESS_TRACKER(false),
     ENABLE_ADJACENCY_COMPRESSION_MEMORY_TRACKING(false);
 
     public boolean isEnabled() {
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointLocation;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface CheckpointConfig {
+
+    String CHECKPOINT_DIRECTORY_KEY = "checkpointDirectory";
+    String CHECKPOINT_INTERVAL_KEY = "checkpointInterval";
+
+    /**
+     * Directory to periodically persist the algorithm state into,
+     * relative to the server-configured {@value CheckpointLocation#SETTING_NAME}.
+     * If a checkpoint for the same computation, graph and configuration is present,
+     * the algorithm resumes from it instead of starting from scratch.
+     */
+    Optional<String> checkpointDirectory();
+
+    /**
+     * Number of iterations between two consecutive checkpoints.
+     */
+    @Value.Default
+    @Configuration.Key(CHECKPOINT_INTERVAL_KEY)
+    @Configuration.IntegerRange(min = 1)
+    default int checkpointInterval() {
+        return 1;
+    }
+
+    @Configuration.Ignore
+    default Optional<Path> checkpointPath() {
+        return checkpointDirectory().map(CheckpointLocation::resolve);
+    }
+
+    @Value.Check
+    default void validateCheckpointDirectory() {
+        checkpointPath();
+    }
+}
@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.concurrency;
 
 import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.partition.NodeChunkScheduler;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionConsumer;
 import org.neo4j.gds.mem.BitUtil;
@@ -35,6 +36,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -53,7 +55,6 @@ import java.util.function.IntFunction;
 import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.BaseStream;
-import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -106,14 +107,74 @@ public final class ParallelUtil {
         TerminationFlag terminationFlag,
         LongConsumer consumer
     ) {
-        parallelStreamConsume(
-            LongStream.range(0, nodeCount),
-            concurrency,
+        parallelForEachChunk(
+            NodeChunkScheduler.of(nodeCount, concurrency),
             terminationFlag,
-            stream -> stream.forEach(consumer)
+            () -> partition -> partition.consume(consumer)
         );
     }
 
+    /**
+     * Runs one worker per thread, each pulling node chunks from the given scheduler until all nodes are consumed.
+     * The supplier is called once per worker, so thread local state such as a graph copy can be created in there.
+     */
+    public static void parallelForEachChunk(
+        NodeChunkScheduler scheduler,
+        TerminationFlag terminationFlag,
+        Supplier<PartitionConsumer<Partition>> taskSupplier
+    ) {
+        if (scheduler.nodeCount() == 0) {
+            return;
+        }
+
+        Callable<Void> worker = () -> {
+            var chunks = scheduler.worker();
+            var consumer = taskSupplier.get();
+            while (chunks.next()) {
+                terminationFlag.assertRunning();
+                consumer.consume(chunks.partition());
+            }
+            return null;
+        };
+
+        var concurrency = scheduler.concurrency();
+        if (concurrency == 1) {
+            try {
+                worker.call();
+            } catch (Exception e) {
+                ExceptionUtil.throwIfUnchecked(e);
+                throw new RuntimeException(e);
+            }
+            return;
+        }
+
+        var workers = new ArrayList<Callable<Void>>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(worker);
+        }
+
+        ForkJoinPool pool = ExecutorServiceUtil.createForkJoinPool(concurrency);
+        try {
+            Throwable error = null;
+            for (Future<Void> future : pool.invokeAll(workers)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    error = ExceptionUtil.chain(error, e.getCause());
+                }
+            }
+            if (error != null) {
+                ExceptionUtil.throwIfUnchecked(error);
+                throw new RuntimeException(error);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     /**
      * This method is useful, when |partitions| is greatly larger than concurrency as we only create a single consumer per thread.
      * Compared to parallelForEachNode, thread local state does not need to be resolved for each node but only per partition.
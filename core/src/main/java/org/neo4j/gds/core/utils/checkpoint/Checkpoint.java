@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.checkpoint;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.config.CheckpointConfig;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.config.WriteConfig;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Entry point for persisting the intermediate state of iterative algorithms.
+ * <p>
+ * A checkpoint is a single binary file inside a user-provided directory.
+ * It starts with a header that identifies the format and the fingerprint
+ * of the graph and configuration the state was computed with, followed by
+ * the algorithm-specific payload.
+ * The payload is written and read sequentially, i.e. the reader has to
+ * consume values in the same order the writer produced them.
+ * <p>
+ * Writes go to a temporary file that replaces the previous checkpoint
+ * only once it is complete, so a crash during checkpointing leaves the
+ * last complete checkpoint intact.
+ */
+public final class Checkpoint {
+
+    static final int MAGIC = 0x47445343; // GDSC
+    static final int VERSION = 3;
+
+    private static final String FILE_SUFFIX = ".checkpoint";
+    private static final String TEMP_FILE_SUFFIX = ".checkpoint.tmp";
+
+    // settings that do not influence the computed state
+    private static final Set<String> IGNORED_CONFIG_KEYS = Set.of(
+        ConcurrencyConfig.CONCURRENCY_KEY,
+        WriteConfig.WRITE_CONCURRENCY_KEY,
+        BaseConfig.SUDO_KEY,
+        BaseConfig.LOG_PROGRESS_KEY,
+        "username",
+        "jobId",
+        CheckpointConfig.CHECKPOINT_DIRECTORY_KEY,
+        CheckpointConfig.CHECKPOINT_INTERVAL_KEY
+    );
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private Checkpoint() {}
+
+    /**
+     * Checkpoints are named after the algorithm and the fingerprint,
+     * so that runs on different graphs or configurations do not overwrite each other.
+     */
+    public static String name(Class<?> algorithm, String fingerprint) {
+        return algorithm.getName() + '-' + fingerprint;
+    }
+
+    public static Path path(Path directory, String name) {
+        return directory.resolve(name + FILE_SUFFIX);
+    }
+
+    public static boolean exists(Path directory, String name) {
+        return Files.isRegularFile(path(directory, name));
+    }
+
+    /**
+     * Computes the fingerprint a checkpoint is validated against.
+     * It covers the graph schema, the size and topology of the graph as well as
+     * all configuration values, except for those that only affect how the
+     * computation is executed, such as the concurrency.
+     */
+    public static String fingerprint(Graph graph, Map<String, Object> configuration, int concurrency) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        var relevantConfiguration = new TreeMap<String, Object>();
+        configuration.forEach((key, value) -> {
+            if (!IGNORED_CONFIG_KEYS.contains(key)) {
+                relevantConfiguration.put(key, value);
+            }
+        });
+
+        var canonical = new StringBuilder();
+        appendCanonical(canonical, relevantConfiguration);
+        canonical.append('|');
+        appendCanonical(canonical, graph.schema().toMap());
+        digest.update(canonical.toString().getBytes(StandardCharsets.UTF_8));
+
+        var counts = ByteBuffer.allocate(3 * Long.BYTES)
+            .putLong(graph.nodeCount())
+            .putLong(graph.relationshipCount())
+            .putLong(topologyHash(graph, concurrency));
+        digest.update(counts.array());
+
+        var hash = digest.digest();
+        var hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Creates a writer for a new checkpoint of the given name.
+     * The checkpoint becomes visible once {@link CheckpointWriter#commit()} has been called.
+     */
+    public static CheckpointWriter writer(
+        Path directory,
+        String name,
+        String fingerprint,
+        int iteration
+    ) {
+        try {
+            Files.createDirectories(directory);
+            var tempFile = directory.resolve(name + TEMP_FILE_SUFFIX);
+            var writer = new CheckpointWriter(tempFile, path(directory, name));
+            writer.writeHeader(fingerprint, iteration);
+            return writer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not create checkpoint in `%s`", directory), e);
+        }
+    }
+
+    /**
+     * Opens the checkpoint with the given name, if it exists.
+     *
+     * @throws IllegalStateException if the checkpoint was written with a different fingerprint
+     */
+    public static Optional<CheckpointReader> reader(
+        Path directory,
+        String name,
+        String fingerprint
+    ) {
+        var path = path(directory, name);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            var reader = new CheckpointReader(path);
+            reader.readHeader(fingerprint);
+            return Optional.of(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not read checkpoint `%s`", path), e);
+        }
+    }
+
+    public static void delete(Path directory, String name) {
+        try {
+            Files.deleteIfExists(path(directory, name));
+            Files.deleteIfExists(directory.resolve(name + TEMP_FILE_SUFFIX));
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not delete checkpoint `%s`", name), e);
+        }
+    }
+
+    private static void appendCanonical(StringBuilder builder, Object value) {
+        if (value instanceof Map) {
+            var sorted = new TreeMap<String, Object>();
+            ((Map<?, ?>) value).forEach((key, entry) -> sorted.put(String.valueOf(key), entry));
+            builder.append('{');
+            sorted.forEach((key, entry) -> {
+                builder.append(key).append('=');
+                appendCanonical(builder, entry);
+                builder.append(',');
+            });
+            builder.append('}');
+        } else if (value instanceof Collection) {
+            builder.append('[');
+            for (Object entry : (Collection<?>) value) {
+                appendCanonical(builder, entry);
+                builder.append(',');
+            }
+            builder.append(']');
+        } else {
+            builder.append(value);
+        }
+    }
+
+    // order-independent, so that partitions can be hashed in parallel
+    private static long topologyHash(Graph graph, int concurrency) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> new TopologyHasher(graph.concurrentCopy(), partition),
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .run();
+
+        return tasks.stream().mapToLong(TopologyHasher::hash).sum();
+    }
+
+    // finalizer of the SplitMix64 generator
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    private static final class TopologyHasher implements Runnable {
+        private final Graph graph;
+        private final Partition partition;
+        private long hash;
+
+        TopologyHasher(Graph graph, Partition partition) {
+            this.graph = graph;
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> hash += mix(mix(graph.toOriginalNodeId(nodeId)) + graph.degree(nodeId)));
+        }
+
+        long hash() {
+            return hash;
+        }
+    }
+}
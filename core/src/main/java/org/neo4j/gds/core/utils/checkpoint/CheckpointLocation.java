@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.checkpoint;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.config.CheckpointConfig;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The server-configured directory all checkpoints are written into.
+ * User-provided checkpoint directories are resolved relative to it
+ * and must not escape it.
+ */
+public final class CheckpointLocation {
+
+    public static final String SETTING_NAME = "gds.checkpoint.location";
+
+    private static volatile @Nullable Path root;
+
+    private CheckpointLocation() {}
+
+    /**
+     * Called once the server configuration has been read, {@code null} disables checkpointing.
+     */
+    public static void set(@Nullable Path location) {
+        root = location == null ? null : location.toAbsolutePath().normalize();
+    }
+
+    public static Optional<Path> get() {
+        return Optional.ofNullable(root);
+    }
+
+    /**
+     * Resolves a user-provided checkpoint directory against the configured location.
+     *
+     * @throws IllegalArgumentException if no location is configured or the directory escapes it
+     */
+    public static Path resolve(String checkpointDirectory) {
+        var rootPath = root;
+        if (rootPath == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The configuration option '%s' must be set to use the parameter `%s`.",
+                SETTING_NAME,
+                CheckpointConfig.CHECKPOINT_DIRECTORY_KEY
+            ));
+        }
+
+        var resolved = rootPath.resolve(checkpointDirectory).normalize();
+        if (!resolved.startsWith(rootPath)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Illegal parameter value for parameter %s '%s'. It attempts to write into a forbidden directory.",
+                CheckpointConfig.CHECKPOINT_DIRECTORY_KEY,
+                checkpointDirectory
+            ));
+        }
+        return resolved;
+    }
+}
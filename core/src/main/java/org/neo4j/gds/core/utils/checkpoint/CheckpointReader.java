@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.checkpoint;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Sequentially reads algorithm state from a checkpoint file
+ * written by a {@link CheckpointWriter}. Arrays are read
+ * page-wise into pre-allocated targets of matching size.
+ */
+public final class CheckpointReader implements AutoCloseable {
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private int iteration;
+
+    CheckpointReader(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocateDirect(CheckpointWriter.BUFFER_SIZE);
+        this.buffer.flip();
+    }
+
+    void readHeader(String expectedFingerprint) throws IOException {
+        try {
+            ensureAvailable(2 * Integer.BYTES);
+            var magic = buffer.getInt();
+            if (magic != Checkpoint.MAGIC) {
+                throw new IllegalStateException(formatWithLocale("`%s` is not a checkpoint file", path));
+            }
+            var version = buffer.getInt();
+            if (version != Checkpoint.VERSION) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Checkpoint `%s` has version %d, but only version %d is supported",
+                    path,
+                    version,
+                    Checkpoint.VERSION
+                ));
+            }
+            ensureAvailable(Integer.BYTES);
+            var fingerprintLength = buffer.getInt();
+            if (fingerprintLength < 0 || fingerprintLength > buffer.capacity() - Integer.BYTES) {
+                throw new IllegalStateException(formatWithLocale("Checkpoint `%s` has a corrupted header", path));
+            }
+            ensureAvailable(fingerprintLength + Integer.BYTES);
+            var fingerprintBytes = new byte[fingerprintLength];
+            buffer.get(fingerprintBytes);
+            var fingerprint = new String(fingerprintBytes, StandardCharsets.UTF_8);
+            if (!fingerprint.equals(expectedFingerprint)) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Checkpoint `%s` was written for a different graph or configuration",
+                    path
+                ));
+            }
+            this.iteration = buffer.getInt();
+        } catch (RuntimeException | IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * The iteration the checkpoint has been written after.
+     */
+    public int iteration() {
+        return iteration;
+    }
+
+    public int readInt() {
+        try {
+            ensureAvailable(Integer.BYTES);
+            return buffer.getInt();
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public long readLong() {
+        try {
+            ensureAvailable(Long.BYTES);
+            return buffer.getLong();
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public double readDouble() {
+        try {
+            ensureAvailable(Double.BYTES);
+            return buffer.getDouble();
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void read(float[] target) {
+        try {
+            readTag(CheckpointWriter.FLOAT_ARRAY, target.length);
+            getFloats(target, 0, target.length);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void read(HugeIntArray target) {
+        try {
+            readTag(CheckpointWriter.INT_ARRAY, target.size());
+            try (var cursor = target.initCursor(target.newCursor())) {
+                while (cursor.next()) {
+                    getInts(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void read(HugeLongArray target) {
+        try {
+            readTag(CheckpointWriter.LONG_ARRAY, target.size());
+            try (var cursor = target.initCursor(target.newCursor())) {
+                while (cursor.next()) {
+                    getLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void read(HugeDoubleArray target) {
+        try {
+            readTag(CheckpointWriter.DOUBLE_ARRAY, target.size());
+            try (var cursor = target.initCursor(target.newCursor())) {
+                while (cursor.next()) {
+                    getDoubles(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Restores the array, must not be called while other threads access the target.
+     */
+    public void read(HugeAtomicLongArray target) {
+        try {
+            var size = target.size();
+            readTag(CheckpointWriter.LONG_ARRAY, size);
+            var page = new long[(int) Math.min(CheckpointWriter.STAGING_SIZE, size)];
+            for (long start = 0; start < size; start += page.length) {
+                int length = (int) Math.min(page.length, size - start);
+                getLongs(page, 0, length);
+                for (int i = 0; i < length; i++) {
+                    target.set(start + i, page[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Restores the array, must not be called while other threads access the target.
+     */
+    public void read(HugeAtomicDoubleArray target) {
+        try {
+            var size = target.size();
+            readTag(CheckpointWriter.DOUBLE_ARRAY, size);
+            var page = new double[(int) Math.min(CheckpointWriter.STAGING_SIZE, size)];
+            for (long start = 0; start < size; start += page.length) {
+                int length = (int) Math.min(page.length, size - start);
+                getDoubles(page, 0, length);
+                for (int i = 0; i < length; i++) {
+                    target.set(start + i, page[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Reads values written by {@link CheckpointWriter#writeDoubles(double[], int, int)}.
+     */
+    public void readDoubles(double[] target, int offset, int length) {
+        try {
+            getDoubles(target, offset, length);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void readLongArrays(HugeObjectArray<long[]> target) {
+        try {
+            readTag(CheckpointWriter.LONG_ARRAYS, target.size());
+            for (long index = 0; index < target.size(); index++) {
+                ensureAvailable(Integer.BYTES);
+                var length = buffer.getInt();
+                if (length < 0) {
+                    target.set(index, null);
+                    continue;
+                }
+                var array = new long[length];
+                getLongs(array, 0, length);
+                target.set(index, array);
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void readDoubleArrays(HugeObjectArray<double[]> target) {
+        try {
+            readTag(CheckpointWriter.DOUBLE_ARRAYS, target.size());
+            for (long index = 0; index < target.size(); index++) {
+                ensureAvailable(Integer.BYTES);
+                var length = buffer.getInt();
+                if (length < 0) {
+                    target.set(index, null);
+                    continue;
+                }
+                var array = new double[length];
+                getDoubles(array, 0, length);
+                target.set(index, array);
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Restores the bit set, must not be called while other threads access the target.
+     */
+    public void read(HugeAtomicBitSet target) {
+        try {
+            readTag(CheckpointWriter.BIT_SET, target.size());
+            try (var cursor = target.wordCursor()) {
+                while (cursor.next()) {
+                    getLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    private void readTag(byte expectedTag, long expectedSize) throws IOException {
+        ensureAvailable(Byte.BYTES + Long.BYTES);
+        var tag = buffer.get();
+        var size = buffer.getLong();
+        if (tag != expectedTag || size != expectedSize) {
+            throw new IllegalStateException(formatWithLocale(
+                "Unexpected entry in checkpoint `%s`: expected type %d of size %d, got type %d of size %d",
+                path,
+                expectedTag,
+                expectedSize,
+                tag,
+                size
+            ));
+        }
+    }
+
+    private void getInts(int[] target, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Integer.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(target, offset, chunk);
+            buffer.position(buffer.position() + chunk * Integer.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void getLongs(long[] target, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Long.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(target, offset, chunk);
+            buffer.position(buffer.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void getFloats(float[] target, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Float.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Float.BYTES);
+            buffer.asFloatBuffer().get(target, offset, chunk);
+            buffer.position(buffer.position() + chunk * Float.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void getDoubles(double[] target, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Double.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().get(target, offset, chunk);
+            buffer.position(buffer.position() + chunk * Double.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void ensureAvailable(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                buffer.flip();
+                throw new EOFException(formatWithLocale("Checkpoint `%s` ended unexpectedly", path));
+            }
+        }
+        buffer.flip();
+    }
+
+    private UncheckedIOException failure(IOException e) {
+        return new UncheckedIOException(formatWithLocale("Could not read checkpoint `%s`", path), e);
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.checkpoint;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Sequentially writes algorithm state into a checkpoint file.
+ * Every array is prefixed with a type tag and its length, the
+ * values of Huge arrays are copied page-wise into the write buffer.
+ * Atomic arrays do not expose their pages and are staged through
+ * a page-sized array instead.
+ */
+public final class CheckpointWriter implements AutoCloseable {
+
+    static final byte INT_ARRAY = 1;
+    static final byte LONG_ARRAY = 2;
+    static final byte DOUBLE_ARRAY = 3;
+    static final byte LONG_ARRAYS = 4;
+    static final byte DOUBLE_ARRAYS = 5;
+    static final byte BIT_SET = 6;
+    static final byte FLOAT_ARRAY = 7;
+
+    static final int BUFFER_SIZE = 1 << 16;
+    static final int STAGING_SIZE = BUFFER_SIZE / Long.BYTES;
+
+    private final Path tempFile;
+    private final Path target;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private boolean committed;
+
+    CheckpointWriter(Path tempFile, Path target) throws IOException {
+        this.tempFile = tempFile;
+        this.target = target;
+        this.channel = FileChannel.open(
+            tempFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        );
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    void writeHeader(String fingerprint, int iteration) throws IOException {
+        var fingerprintBytes = fingerprint.getBytes(StandardCharsets.UTF_8);
+        ensureRemaining(3 * Integer.BYTES + fingerprintBytes.length);
+        buffer.putInt(Checkpoint.MAGIC);
+        buffer.putInt(Checkpoint.VERSION);
+        buffer.putInt(fingerprintBytes.length);
+        buffer.put(fingerprintBytes);
+        buffer.putInt(iteration);
+    }
+
+    public void writeInt(int value) {
+        try {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void writeLong(long value) {
+        try {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void writeDouble(double value) {
+        try {
+            ensureRemaining(Double.BYTES);
+            buffer.putDouble(value);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Writes a fixed-size {@code float[]}, e.g. a single embedding.
+     */
+    public void write(float[] values) {
+        try {
+            writeTag(FLOAT_ARRAY, values.length);
+            putFloats(values, 0, values.length);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void write(HugeIntArray values) {
+        try {
+            writeTag(INT_ARRAY, values.size());
+            try (var cursor = values.initCursor(values.newCursor())) {
+                while (cursor.next()) {
+                    putInts(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void write(HugeLongArray values) {
+        try {
+            writeTag(LONG_ARRAY, values.size());
+            try (var cursor = values.initCursor(values.newCursor())) {
+                while (cursor.next()) {
+                    putLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void write(HugeDoubleArray values) {
+        try {
+            writeTag(DOUBLE_ARRAY, values.size());
+            try (var cursor = values.initCursor(values.newCursor())) {
+                while (cursor.next()) {
+                    putDoubles(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void write(HugeAtomicLongArray values) {
+        try {
+            var size = values.size();
+            writeTag(LONG_ARRAY, size);
+            var page = new long[(int) Math.min(STAGING_SIZE, size)];
+            for (long start = 0; start < size; start += page.length) {
+                int length = (int) Math.min(page.length, size - start);
+                for (int i = 0; i < length; i++) {
+                    page[i] = values.get(start + i);
+                }
+                putLongs(page, 0, length);
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void write(HugeAtomicDoubleArray values) {
+        try {
+            var size = values.size();
+            writeTag(DOUBLE_ARRAY, size);
+            var page = new double[(int) Math.min(STAGING_SIZE, size)];
+            for (long start = 0; start < size; start += page.length) {
+                int length = (int) Math.min(page.length, size - start);
+                for (int i = 0; i < length; i++) {
+                    page[i] = values.get(start + i);
+                }
+                putDoubles(page, 0, length);
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Writes a range of a {@code double[]} without type tag, the reader has to know the length.
+     */
+    public void writeDoubles(double[] values, int offset, int length) {
+        try {
+            putDoubles(values, offset, length);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Writes one {@code long[]} per index, {@code null} entries are preserved.
+     */
+    public void writeLongArrays(HugeObjectArray<long[]> values) {
+        try {
+            writeTag(LONG_ARRAYS, values.size());
+            try (var cursor = values.initCursor(values.newCursor())) {
+                while (cursor.next()) {
+                    for (int i = cursor.offset; i < cursor.limit; i++) {
+                        var array = cursor.array[i];
+                        ensureRemaining(Integer.BYTES);
+                        if (array == null) {
+                            buffer.putInt(-1);
+                            continue;
+                        }
+                        buffer.putInt(array.length);
+                        putLongs(array, 0, array.length);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Writes one {@code double[]} per index, {@code null} entries are preserved.
+     */
+    public void writeDoubleArrays(HugeObjectArray<double[]> values) {
+        try {
+            writeTag(DOUBLE_ARRAYS, values.size());
+            try (var cursor = values.initCursor(values.newCursor())) {
+                while (cursor.next()) {
+                    for (int i = cursor.offset; i < cursor.limit; i++) {
+                        var array = cursor.array[i];
+                        ensureRemaining(Integer.BYTES);
+                        if (array == null) {
+                            buffer.putInt(-1);
+                            continue;
+                        }
+                        buffer.putInt(array.length);
+                        putDoubles(array, 0, array.length);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public void write(HugeAtomicBitSet bitSet) {
+        try {
+            writeTag(BIT_SET, bitSet.size());
+            try (var cursor = bitSet.wordCursor()) {
+                while (cursor.next()) {
+                    putLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Flushes all pending writes and atomically replaces
+     * the previous checkpoint with the one written so far.
+     */
+    public void commit() {
+        try {
+            flush();
+            channel.force(false);
+            channel.close();
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (committed) {
+            return;
+        }
+        try {
+            channel.close();
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    private void writeTag(byte tag, long size) throws IOException {
+        ensureRemaining(Byte.BYTES + Long.BYTES);
+        buffer.put(tag);
+        buffer.putLong(size);
+    }
+
+    private void putInts(int[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureRemaining(Integer.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Integer.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void putLongs(long[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureRemaining(Long.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void putFloats(float[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureRemaining(Float.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Float.BYTES);
+            buffer.asFloatBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Float.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void putDoubles(double[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureRemaining(Double.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Double.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private UncheckedIOException failure(IOException e) {
+        return new UncheckedIOException(formatWithLocale("Could not write checkpoint `%s`", target), e);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.checkpoint;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.config.CheckpointConfig;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Persists the state of an iterative algorithm every {@link CheckpointConfig#checkpointInterval()} iterations.
+ * <p>
+ * Checkpoints are named after the algorithm and the fingerprint of the graph and configuration,
+ * see {@link Checkpoint#fingerprint}. A checkpoint that cannot be restored is ignored and
+ * the algorithm starts from scratch.
+ */
+public final class Checkpointer {
+
+    private final Path directory;
+    private final String name;
+    private final String fingerprint;
+    private final int interval;
+    private final ProgressTracker progressTracker;
+
+    /**
+     * Returns a checkpointer if the configuration specifies a checkpoint directory.
+     */
+    public static <CONFIG extends BaseConfig & ConcurrencyConfig & CheckpointConfig> Optional<Checkpointer> of(
+        CONFIG config,
+        Graph graph,
+        Class<?> algorithm,
+        ProgressTracker progressTracker
+    ) {
+        return config.checkpointPath().map(directory -> {
+            var fingerprint = Checkpoint.fingerprint(graph, config.toMap(), config.concurrency());
+            return new Checkpointer(
+                directory,
+                Checkpoint.name(algorithm, fingerprint),
+                fingerprint,
+                config.checkpointInterval(),
+                progressTracker
+            );
+        });
+    }
+
+    private Checkpointer(
+        Path directory,
+        String name,
+        String fingerprint,
+        int interval,
+        ProgressTracker progressTracker
+    ) {
+        this.directory = directory;
+        this.name = name;
+        this.fingerprint = fingerprint;
+        this.interval = interval;
+        this.progressTracker = progressTracker;
+    }
+
+    /**
+     * Opens the most recent checkpoint, if any.
+     */
+    public Optional<CheckpointReader> reader() {
+        try {
+            return Checkpoint.reader(directory, name, fingerprint);
+        } catch (IllegalStateException e) {
+            progressTracker.logWarning(formatWithLocale("Ignoring checkpoint: %s", e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes a checkpoint after the given iteration if it is due according to the interval.
+     */
+    public void checkpoint(int iteration, Consumer<CheckpointWriter> state) {
+        if ((iteration + 1) % interval != 0) {
+            return;
+        }
+        try (var writer = Checkpoint.writer(directory, name, fingerprint, iteration)) {
+            state.accept(writer);
+            writer.commit();
+        }
+    }
+
+    /**
+     * Removes the checkpoint once the algorithm has completed.
+     */
+    public void clear() {
+        Checkpoint.delete(directory, name);
+    }
+}
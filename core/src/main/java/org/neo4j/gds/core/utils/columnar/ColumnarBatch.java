@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.columnar;
+
+import org.neo4j.gds.collections.ArrayUtil;
+
+import java.util.Arrays;
+
+/**
+ * A batch of result rows stored column-wise in primitive arrays.
+ * <p>
+ * Producers append values per column and commit a row via {@link #endRow()}.
+ * The underlying arrays grow on demand and are reused when the batch is
+ * {@link #clear() cleared}, so that filling a batch does not allocate
+ * once it reached its steady-state capacity.
+ */
+public final class ColumnarBatch {
+
+    private final long[][] longColumns;
+    private final double[][] doubleColumns;
+    private final int capacity;
+
+    private int size;
+
+    public static ColumnarBatch of(int longColumnCount, int doubleColumnCount, int capacity) {
+        return new ColumnarBatch(longColumnCount, doubleColumnCount, capacity);
+    }
+
+    private ColumnarBatch(int longColumnCount, int doubleColumnCount, int capacity) {
+        this.capacity = capacity;
+        this.longColumns = new long[longColumnCount][capacity];
+        this.doubleColumns = new double[doubleColumnCount][capacity];
+    }
+
+    /**
+     * The number of rows after which producers should stop appending.
+     * A single producer step may exceed it, in which case the columns grow.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size >= capacity;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void setLong(int column, long value) {
+        var values = longColumns[column];
+        if (size >= values.length) {
+            values = grow(values);
+            longColumns[column] = values;
+        }
+        values[size] = value;
+    }
+
+    public void setDouble(int column, double value) {
+        var values = doubleColumns[column];
+        if (size >= values.length) {
+            values = grow(values);
+            doubleColumns[column] = values;
+        }
+        values[size] = value;
+    }
+
+    /**
+     * Commits the values set since the previous call as a new row.
+     */
+    public void endRow() {
+        size++;
+    }
+
+    public long longValue(int column, int row) {
+        return longColumns[column][row];
+    }
+
+    public double doubleValue(int column, int row) {
+        return doubleColumns[column][row];
+    }
+
+    private long[] grow(long[] values) {
+        return Arrays.copyOf(values, ArrayUtil.oversize(size + 1, Long.BYTES));
+    }
+
+    private double[] grow(double[] values) {
+        return Arrays.copyOf(values, ArrayUtil.oversize(size + 1, Double.BYTES));
+    }
+}
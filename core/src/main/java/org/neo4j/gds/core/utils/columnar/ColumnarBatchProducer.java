@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.columnar;
+
+/**
+ * Fills {@link ColumnarBatch batches} with the rows of a contiguous node id range.
+ */
+public interface ColumnarBatchProducer {
+
+    /**
+     * Appends the rows of nodes starting at {@code startNode} to the batch
+     * until either the batch is {@link ColumnarBatch#isFull() full} or
+     * {@code endNode} (exclusive) has been reached.
+     * All rows of a single node are always written to the same batch.
+     *
+     * @return the first node that has not been written to the batch
+     */
+    long fill(long startNode, long endNode, ColumnarBatch batch);
+
+    /**
+     * Returns a producer that can be used independently of this one
+     * to fill batches from a different thread.
+     */
+    ColumnarBatchProducer concurrentCopy();
+
+    /**
+     * Base for producers that emit at most one row per node and hold no thread-local state.
+     */
+    @FunctionalInterface
+    interface PerNode extends ColumnarBatchProducer {
+
+        /**
+         * Appends the row for the given node, if any.
+         */
+        void fill(long nodeId, ColumnarBatch batch);
+
+        @Override
+        default long fill(long startNode, long endNode, ColumnarBatch batch) {
+            long nodeId = startNode;
+            while (nodeId < endNode && !batch.isFull()) {
+                fill(nodeId++, batch);
+            }
+            return nodeId;
+        }
+
+        @Override
+        default ColumnarBatchProducer concurrentCopy() {
+            return this;
+        }
+    }
+}
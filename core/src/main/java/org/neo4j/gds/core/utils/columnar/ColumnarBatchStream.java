@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.columnar;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams result rows that are produced in columnar batches.
+ * <p>
+ * Rows are produced batch-wise into reusable primitive buffers and only
+ * materialized into result objects when the consumer pulls them.
+ * The stream splits along node id ranges, each split owning its own
+ * batch and a {@link ColumnarBatchProducer#concurrentCopy() copy} of the producer.
+ */
+public final class ColumnarBatchStream {
+
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    // Node ranges smaller than this are not split further.
+    static final long MIN_SPLIT_SIZE = 1024;
+
+    @FunctionalInterface
+    public interface RowMapper<ROW> {
+        ROW map(ColumnarBatch batch, int row);
+    }
+
+    private ColumnarBatchStream() {}
+
+    public static <ROW> Stream<ROW> stream(
+        long nodeCount,
+        int longColumns,
+        int doubleColumns,
+        ColumnarBatchProducer producer,
+        RowMapper<ROW> rowMapper
+    ) {
+        return stream(nodeCount, longColumns, doubleColumns, DEFAULT_BATCH_SIZE, producer, rowMapper);
+    }
+
+    public static <ROW> Stream<ROW> stream(
+        long nodeCount,
+        int longColumns,
+        int doubleColumns,
+        int batchSize,
+        ColumnarBatchProducer producer,
+        RowMapper<ROW> rowMapper
+    ) {
+        var spliterator = new BatchSpliterator<>(
+            0,
+            nodeCount,
+            longColumns,
+            doubleColumns,
+            batchSize,
+            producer,
+            rowMapper
+        );
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    static final class BatchSpliterator<ROW> implements Spliterator<ROW> {
+
+        private final int longColumns;
+        private final int doubleColumns;
+        private final int batchSize;
+        private final ColumnarBatchProducer producer;
+        private final RowMapper<ROW> rowMapper;
+
+        private long nextNode;
+        private long endNode;
+        private ColumnarBatch batch;
+        private int row;
+
+        BatchSpliterator(
+            long startNode,
+            long endNode,
+            int longColumns,
+            int doubleColumns,
+            int batchSize,
+            ColumnarBatchProducer producer,
+            RowMapper<ROW> rowMapper
+        ) {
+            this.nextNode = startNode;
+            this.endNode = endNode;
+            this.longColumns = longColumns;
+            this.doubleColumns = doubleColumns;
+            this.batchSize = batchSize;
+            this.producer = producer;
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ROW> action) {
+            if (!ensureRows()) {
+                return false;
+            }
+            action.accept(rowMapper.map(batch, row++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super ROW> action) {
+            while (ensureRows()) {
+                var size = batch.size();
+                for (; row < size; row++) {
+                    action.accept(rowMapper.map(batch, row));
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<ROW> trySplit() {
+            var remaining = endNode - nextNode;
+            if (remaining < 2 * MIN_SPLIT_SIZE) {
+                return null;
+            }
+            var splitNode = nextNode + remaining / 2;
+            var prefix = new BatchSpliterator<>(
+                nextNode,
+                splitNode,
+                longColumns,
+                doubleColumns,
+                batchSize,
+                producer.concurrentCopy(),
+                rowMapper
+            );
+            this.nextNode = splitNode;
+            return prefix.withPendingRows(this);
+        }
+
+        @Override
+        public long estimateSize() {
+            return endNode - nextNode;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+
+        /**
+         * Hands over rows that have already been produced, but not consumed,
+         * since those belong to the prefix of the node range.
+         */
+        private Spliterator<ROW> withPendingRows(BatchSpliterator<ROW> source) {
+            if (source.batch != null && source.row < source.batch.size()) {
+                this.batch = source.batch;
+                this.row = source.row;
+                source.batch = null;
+                source.row = 0;
+            }
+            return this;
+        }
+
+        private boolean ensureRows() {
+            while (batch == null || row >= batch.size()) {
+                if (nextNode >= endNode) {
+                    return false;
+                }
+                if (batch == null) {
+                    batch = ColumnarBatch.of(longColumns, doubleColumns, batchSize);
+                }
+                batch.clear();
+                row = 0;
+                nextNode = producer.fill(nextNode, endNode, batch);
+            }
+            return true;
+        }
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.utils.paged;
 
+import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.mem.MemoryUsage;
@@ -191,6 +192,17 @@ public final class HugeAtomicBitSet {
         }
     }
 
+    /**
+     * Returns a cursor over the words backing this bit set, bit {@code i} is stored
+     * in word {@code i / 64} at position {@code i % 64}. Writing to the arrays of the
+     * cursor modifies the bit set, which allows copying whole pages at once.
+     *
+     * This method is not thread-safe.
+     */
+    public HugeCursor<long[]> wordCursor() {
+        return bits.initCursor(bits.newCursor());
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
@@ -277,6 +289,16 @@ public final class HugeAtomicBitSet {
         }
     }
 
+    /**
+     * Destroys the bit set and frees the memory of its words.
+     * The bit set is unusable after calling this method.
+     *
+     * @return the amount of memory freed, in bytes
+     */
+    public long release() {
+        return bits.release();
+    }
+
     private static void setWord(HugeAtomicLongArray bits, long wordIndex, long bitMask) {
         var oldWord = bits.get(wordIndex);
         while (true) {
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.partition;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out node ranges to workers on demand instead of fixing partitions up front.
+ * <p>
+ * Workers claim consecutive chunks from a shared atomic cursor. When a degree
+ * function is given, a chunk ends once the summed weight ({@code degree + 1}) of its
+ * nodes reaches the worker's current target, so hubs end up in small chunks.
+ * The target is adapted per worker from the observed time per unit of weight and
+ * is capped by the remaining work divided among all workers, which keeps the
+ * tail short on skewed degree distributions.
+ */
+public final class NodeChunkScheduler {
+
+    static final long TARGET_CHUNK_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    static final long MIN_CHUNK_WEIGHT = 16;
+    private static final int INITIAL_CHUNKS_PER_WORKER = 64;
+    private static final double SMOOTHING = 0.5;
+
+    private final long nodeCount;
+    private final int concurrency;
+    private final double averageWeight;
+    private final long initialWeight;
+    private final @Nullable PartitionUtils.DegreeFunction degrees;
+    private final AtomicLong cursor;
+
+    public static NodeChunkScheduler of(long nodeCount, int concurrency) {
+        return new NodeChunkScheduler(nodeCount, nodeCount, concurrency, null);
+    }
+
+    public static NodeChunkScheduler of(Graph graph, int concurrency) {
+        return of(graph.nodeCount(), graph.relationshipCount(), concurrency, graph::degree);
+    }
+
+    public static NodeChunkScheduler of(
+        long nodeCount,
+        long relationshipCount,
+        int concurrency,
+        PartitionUtils.DegreeFunction degrees
+    ) {
+        return new NodeChunkScheduler(nodeCount, nodeCount + relationshipCount, concurrency, degrees);
+    }
+
+    private NodeChunkScheduler(
+        long nodeCount,
+        long totalWeight,
+        int concurrency,
+        @Nullable PartitionUtils.DegreeFunction degrees
+    ) {
+        this.nodeCount = nodeCount;
+        this.concurrency = Math.max(1, concurrency);
+        this.averageWeight = nodeCount == 0 ? 1.0 : Math.max(1.0, (double) totalWeight / nodeCount);
+        this.initialWeight = Math.max(
+            MIN_CHUNK_WEIGHT,
+            totalWeight / ((long) this.concurrency * INITIAL_CHUNKS_PER_WORKER)
+        );
+        this.degrees = degrees;
+        this.cursor = new AtomicLong();
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Creates the chunk source for a single worker. Workers must not be shared between threads.
+     */
+    public Worker worker() {
+        return new Worker();
+    }
+
+    long remainingWeight(long start) {
+        return (long) ((nodeCount - start) * averageWeight);
+    }
+
+    public final class Worker {
+
+        private long targetWeight;
+        private double nanosPerWeight;
+
+        private long chunkStart;
+        private long chunkEnd;
+        private long chunkWeight;
+        private long chunkStartNanos;
+
+        private Worker() {
+            this.targetWeight = initialWeight;
+            this.nanosPerWeight = -1;
+            this.chunkWeight = 0;
+        }
+
+        /**
+         * Claims the next chunk. Timing of the previous chunk is taken into
+         * account when sizing the new one.
+         *
+         * @return false if all nodes have been handed out
+         */
+        public boolean next() {
+            var now = System.nanoTime();
+            if (chunkWeight > 0) {
+                adapt(now - chunkStartNanos);
+            }
+
+            var claimed = degrees == null ? claimUniform() : claimWeighted();
+            chunkStartNanos = now;
+            return claimed;
+        }
+
+        public long start() {
+            return chunkStart;
+        }
+
+        public long end() {
+            return chunkEnd;
+        }
+
+        public Partition partition() {
+            return Partition.of(chunkStart, chunkEnd - chunkStart);
+        }
+
+        long targetWeight() {
+            return targetWeight;
+        }
+
+        private void adapt(long elapsedNanos) {
+            var observed = (double) Math.max(1, elapsedNanos) / chunkWeight;
+            nanosPerWeight = nanosPerWeight < 0
+                ? observed
+                : SMOOTHING * observed + (1 - SMOOTHING) * nanosPerWeight;
+            targetWeight = Math.max(MIN_CHUNK_WEIGHT, (long) (TARGET_CHUNK_NANOS / nanosPerWeight));
+        }
+
+        private long cappedTarget(long start) {
+            // guided scheduling: never take more than a fraction of what is left
+            var guidedMax = Math.max(MIN_CHUNK_WEIGHT, remainingWeight(start) / (2L * concurrency));
+            return Math.min(targetWeight, guidedMax);
+        }
+
+        private boolean claimUniform() {
+            var size = cappedTarget(cursor.get());
+            var start = cursor.getAndAdd(size);
+            if (start >= nodeCount) {
+                chunkWeight = 0;
+                return false;
+            }
+            chunkStart = start;
+            chunkEnd = Math.min(start + size, nodeCount);
+            chunkWeight = chunkEnd - chunkStart;
+            return true;
+        }
+
+        private boolean claimWeighted() {
+            while (true) {
+                var start = cursor.get();
+                if (start >= nodeCount) {
+                    chunkWeight = 0;
+                    return false;
+                }
+                var target = cappedTarget(start);
+                var end = start;
+                long weight = 0;
+                do {
+                    weight += degrees.degree(end) + 1L;
+                    end++;
+                } while (end < nodeCount && weight < target);
+
+                if (cursor.compareAndSet(start, end)) {
+                    chunkStart = start;
+                    chunkEnd = end;
+                    chunkWeight = weight;
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.checkpoint;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class CheckpointTest {
+
+    private static final String FINGERPRINT = "fingerprint";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTrip() {
+        var longs = HugeLongArray.of(1, 3, 3, 7);
+        var doubles = HugeDoubleArray.of(4.2, 13.37, -1);
+        var doubleArrays = HugeObjectArray.of(new double[]{1, 2}, null, new double[0]);
+        var bitSet = HugeAtomicBitSet.create(130);
+        bitSet.set(0);
+        bitSet.set(64);
+        bitSet.set(129);
+
+        try (var writer = Checkpoint.writer(directory, "test", FINGERPRINT, 41)) {
+            writer.writeInt(42);
+            writer.write(longs);
+            writer.write(doubles);
+            writer.writeDoubleArrays(doubleArrays);
+            writer.write(bitSet);
+            writer.commit();
+        }
+
+        assertThat(Checkpoint.exists(directory, "test")).isTrue();
+
+        var restoredLongs = HugeLongArray.newArray(4);
+        var restoredDoubles = HugeDoubleArray.newArray(3);
+        var restoredDoubleArrays = HugeObjectArray.newArray(double[].class, 3);
+        var restoredBitSet = HugeAtomicBitSet.create(130);
+
+        try (var reader = Checkpoint.reader(directory, "test", FINGERPRINT).orElseThrow()) {
+            assertThat(reader.iteration()).isEqualTo(41);
+            assertThat(reader.readInt()).isEqualTo(42);
+            reader.read(restoredLongs);
+            reader.read(restoredDoubles);
+            reader.readDoubleArrays(restoredDoubleArrays);
+            reader.read(restoredBitSet);
+        }
+
+        assertThat(restoredLongs.toArray()).containsExactly(1, 3, 3, 7);
+        assertThat(restoredDoubles.toArray()).containsExactly(4.2, 13.37, -1);
+        assertThat(restoredDoubleArrays.get(0)).containsExactly(1, 2);
+        assertThat(restoredDoubleArrays.get(1)).isNull();
+        assertThat(restoredDoubleArrays.get(2)).isEmpty();
+        assertThat(restoredBitSet.cardinality()).isEqualTo(3);
+        assertThat(restoredBitSet.get(0)).isTrue();
+        assertThat(restoredBitSet.get(64)).isTrue();
+        assertThat(restoredBitSet.get(129)).isTrue();
+    }
+
+    @Test
+    void uncommittedCheckpointIsNotVisible() {
+        try (var writer = Checkpoint.writer(directory, "test", FINGERPRINT, 0)) {
+            writer.writeLong(1337L);
+        }
+
+        assertThat(Checkpoint.exists(directory, "test")).isFalse();
+        assertThat(Checkpoint.reader(directory, "test", FINGERPRINT)).isEmpty();
+    }
+
+    @Test
+    void failsOnDifferentFingerprint() {
+        try (var writer = Checkpoint.writer(directory, "test", FINGERPRINT, 0)) {
+            writer.commit();
+        }
+
+        assertThatThrownBy(() -> Checkpoint.reader(directory, "test", "other"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("was written for a different graph or configuration");
+    }
+
+    @Test
+    void fingerprintCoversGraphAndConfiguration() {
+        var graph = fromGdl("(a)-[:REL]->(b)-[:REL]->(c)");
+        var otherGraph = fromGdl("(a)-[:REL]->(b), (a)-[:REL]->(c)");
+
+        var fingerprint = Checkpoint.fingerprint(graph, Map.of("maxIterations", 10, "concurrency", 4), 4);
+
+        assertThat(Checkpoint.fingerprint(graph, Map.of("maxIterations", 10, "concurrency", 1), 1))
+            .isEqualTo(fingerprint);
+        assertThat(Checkpoint.fingerprint(graph, Map.of("maxIterations", 20, "concurrency", 4), 4))
+            .isNotEqualTo(fingerprint);
+        assertThat(Checkpoint.fingerprint(otherGraph, Map.of("maxIterations", 10, "concurrency", 4), 4))
+            .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void roundTripLargerThanBuffer() {
+        var size = 3 * CheckpointWriter.BUFFER_SIZE / Long.BYTES + 17;
+        var longs = HugeLongArray.newArray(size);
+        longs.setAll(index -> index * 31);
+        var bitSet = HugeAtomicBitSet.create(size);
+        for (long index = 0; index < size; index += 3) {
+            bitSet.set(index);
+        }
+
+        try (var writer = Checkpoint.writer(directory, "test", FINGERPRINT, 0)) {
+            writer.write(longs);
+            writer.write(bitSet);
+            writer.commit();
+        }
+
+        var restoredLongs = HugeLongArray.newArray(size);
+        var restoredBitSet = HugeAtomicBitSet.create(size);
+        try (var reader = Checkpoint.reader(directory, "test", FINGERPRINT).orElseThrow()) {
+            reader.read(restoredLongs);
+            reader.read(restoredBitSet);
+        }
+
+        assertThat(restoredLongs.toArray()).isEqualTo(longs.toArray());
+        assertThat(restoredBitSet.cardinality()).isEqualTo(bitSet.cardinality());
+        for (long index = 0; index < size; index++) {
+            assertThat(restoredBitSet.get(index)).isEqualTo(index % 3 == 0);
+        }
+    }
+
+    @Test
+    void roundTripAtomicArraysLargerThanStagingPage() {
+        var size = 2 * CheckpointWriter.STAGING_SIZE + 5;
+        var longs = HugeAtomicLongArray.of(size, ParalleLongPageCreator.passThrough(1));
+        var doubles = HugeAtomicDoubleArray.of(size, ParallelDoublePageCreator.passThrough(1));
+        for (long index = 0; index < size; index++) {
+            longs.set(index, index * 7);
+            doubles.set(index, index / 2.0);
+        }
+
+        try (var writer = Checkpoint.writer(directory, "test", FINGERPRINT, 0)) {
+            writer.write(longs);
+            writer.write(doubles);
+            writer.commit();
+        }
+
+        var restoredLongs = HugeAtomicLongArray.of(size, ParalleLongPageCreator.passThrough(1));
+        var restoredDoubles = HugeAtomicDoubleArray.of(size, ParallelDoublePageCreator.passThrough(1));
+        try (var reader = Checkpoint.reader(directory, "test", FINGERPRINT).orElseThrow()) {
+            reader.read(restoredLongs);
+            reader.read(restoredDoubles);
+        }
+
+        for (long index = 0; index < size; index++) {
+            assertThat(restoredLongs.get(index)).isEqualTo(index * 7);
+            assertThat(restoredDoubles.get(index)).isEqualTo(index / 2.0);
+        }
+    }
+
+    @Test
+    void failsOnUnexpectedEntry() {
+        try (var writer = Checkpoint.writer(directory, "test", FINGERPRINT, 0)) {
+            writer.write(HugeLongArray.of(1, 2));
+            writer.commit();
+        }
+
+        try (var reader = Checkpoint.reader(directory, "test", FINGERPRINT).orElseThrow()) {
+            assertThatThrownBy(() -> reader.read(HugeDoubleArray.newArray(2)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unexpected entry");
+        }
+    }
+
+    @Test
+    void deletesCheckpoint() {
+        try (var writer = Checkpoint.writer(directory, "test", FINGERPRINT, 0)) {
+            writer.commit();
+        }
+
+        Checkpoint.delete(directory, "test");
+
+        assertThat(Checkpoint.exists(directory, "test")).isFalse();
+    }
+
+    @Test
+    void resolvesDirectoriesBelowTheCheckpointLocation() {
+        try {
+            CheckpointLocation.set(directory);
+
+            assertThat(CheckpointLocation.resolve("pregel/run")).isEqualTo(directory.resolve("pregel").resolve("run"));
+            assertThatThrownBy(() -> CheckpointLocation.resolve("../escape"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("forbidden directory");
+            assertThatThrownBy(() -> CheckpointLocation.resolve(directory.getRoot().resolve("tmp").toString()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("forbidden directory");
+        } finally {
+            CheckpointLocation.set(null);
+        }
+    }
+
+    @Test
+    void failsWithoutCheckpointLocation() {
+        assertThatThrownBy(() -> CheckpointLocation.resolve("pregel"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("gds.checkpoint.location");
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.columnar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarBatchStreamTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 4096})
+    void streamsRowsInNodeOrder(int batchSize) {
+        ColumnarBatchProducer.PerNode producer = (nodeId, batch) -> {
+            if (nodeId % 3 != 0) {
+                batch.setLong(0, nodeId);
+                batch.setDouble(0, nodeId / 2.0);
+                batch.endRow();
+            }
+        };
+
+        var rows = ColumnarBatchStream
+            .stream(10_000, 1, 1, batchSize, producer, (batch, row) -> batch.longValue(0, row))
+            .collect(Collectors.toList());
+
+        assertThat(rows).containsExactlyElementsOf(
+            LongStream.range(0, 10_000).filter(nodeId -> nodeId % 3 != 0).boxed().collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    void growsBatchForNodesWithManyRows() {
+        var producer = new ColumnarBatchProducer() {
+            @Override
+            public long fill(long startNode, long endNode, ColumnarBatch batch) {
+                long nodeId = startNode;
+                while (nodeId < endNode && !batch.isFull()) {
+                    for (int i = 0; i < nodeId; i++) {
+                        batch.setLong(0, nodeId);
+                        batch.setLong(1, i);
+                        batch.endRow();
+                    }
+                    nodeId++;
+                }
+                return nodeId;
+            }
+
+            @Override
+            public ColumnarBatchProducer concurrentCopy() {
+                return this;
+            }
+        };
+
+        var rowCount = ColumnarBatchStream
+            .stream(100, 2, 0, 8, producer, (batch, row) -> batch.longValue(1, row))
+            .count();
+
+        assertThat(rowCount).isEqualTo(100 * 99 / 2);
+    }
+
+    @Test
+    void parallelStreamProducesAllRows() {
+        ColumnarBatchProducer.PerNode producer = (nodeId, batch) -> {
+            batch.setLong(0, nodeId);
+            batch.endRow();
+        };
+
+        var sum = ColumnarBatchStream
+            .stream(100_000, 1, 0, 128, producer, (batch, row) -> batch.longValue(0, row))
+            .parallel()
+            .mapToLong(Long::longValue)
+            .sum();
+
+        assertThat(sum).isEqualTo(100_000L * 99_999L / 2);
+    }
+
+    @Test
+    void reusesBatchBuffers() {
+        var batch = ColumnarBatch.of(1, 1, 4);
+        for (int i = 0; i < 6; i++) {
+            batch.setLong(0, i);
+            batch.setDouble(0, i);
+            batch.endRow();
+        }
+        assertThat(batch.size()).isEqualTo(6);
+        assertThat(batch.isFull()).isTrue();
+        assertThat(batch.longValue(0, 5)).isEqualTo(5);
+
+        batch.clear();
+        assertThat(batch.isEmpty()).isTrue();
+        batch.setLong(0, 42);
+        batch.setDouble(0, 4.2);
+        batch.endRow();
+        assertThat(batch.longValue(0, 0)).isEqualTo(42);
+        assertThat(batch.doubleValue(0, 0)).isEqualTo(4.2);
+    }
+}
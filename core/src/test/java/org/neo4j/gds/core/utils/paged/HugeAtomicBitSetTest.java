@@ -25,6 +25,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -44,6 +45,14 @@ class HugeAtomicBitSetTest {
         assertThat(bitSet.size()).isEqualTo(1337);
     }
 
+    @Test
+    void testRelease() {
+        var bitSet = HugeAtomicBitSet.create(1337);
+        // 21 words of 64 bits
+        assertThat(bitSet.release()).isEqualTo(MemoryUsage.sizeOfLongArray(21));
+        assertThat(bitSet.release()).isEqualTo(0L);
+    }
+
     @ParameterizedTest
     @CsvSource({"0,1336", "0,63", "70,140"})
     void setRange(int startIndex, int endIndex) {
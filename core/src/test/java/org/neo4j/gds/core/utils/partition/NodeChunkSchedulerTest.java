@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.partition;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NodeChunkSchedulerTest {
+
+    @Test
+    void shouldHandOutContiguousChunks() {
+        var scheduler = NodeChunkScheduler.of(10_000, 4);
+        var worker = scheduler.worker();
+
+        long expectedStart = 0;
+        while (worker.next()) {
+            assertThat(worker.start()).isEqualTo(expectedStart);
+            assertThat(worker.end()).isGreaterThan(worker.start());
+            expectedStart = worker.end();
+        }
+        assertThat(expectedStart).isEqualTo(10_000);
+        assertThat(worker.next()).isFalse();
+    }
+
+    @Test
+    void shouldIsolateHubs() {
+        long nodeCount = 10_000;
+        long hub = 5_000;
+        int hubDegree = 1_000_000;
+        PartitionUtils.DegreeFunction degrees = node -> node == hub ? hubDegree : 1;
+
+        var scheduler = NodeChunkScheduler.of(nodeCount, hubDegree + nodeCount, 4, degrees);
+        var worker = scheduler.worker();
+
+        while (worker.next()) {
+            if (worker.start() <= hub && hub < worker.end()) {
+                // the chunk closes right after the hub since its weight exceeds any target
+                assertThat(worker.end()).isEqualTo(hub + 1);
+            }
+        }
+    }
+
+    @Test
+    void shouldHandleEmptyRange() {
+        var worker = NodeChunkScheduler.of(0, 4).worker();
+        assertThat(worker.next()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldVisitEveryNodeExactlyOnce(int concurrency) {
+        long nodeCount = 100_000;
+        var visits = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        var workers = new AtomicInteger();
+
+        ParallelUtil.parallelForEachChunk(
+            NodeChunkScheduler.of(nodeCount, nodeCount, concurrency, node -> (int) (node % 100)),
+            TerminationFlag.RUNNING_TRUE,
+            () -> {
+                workers.incrementAndGet();
+                return partition -> partition.consume(node -> visits.getAndAdd(node, 1));
+            }
+        );
+
+        assertThat(workers.get()).isEqualTo(concurrency);
+        for (long node = 0; node < nodeCount; node++) {
+            assertThat(visits.get(node)).isEqualTo(1);
+        }
+    }
+}
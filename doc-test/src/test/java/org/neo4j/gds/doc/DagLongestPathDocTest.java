@@ -20,6 +20,7 @@
 package org.neo4j.gds.doc;
 
 import org.neo4j.gds.functions.AsNodeFunc;
+import org.neo4j.gds.paths.dag.longestPath.DagCriticalPathStreamProc;
 import org.neo4j.gds.paths.dag.longestPath.DagLongestPathStreamProc;
 
 import java.util.List;
@@ -34,7 +35,8 @@ class DagLongestPathDocTest extends SingleFileDocTestBase {
     @Override
     protected List<Class<?>> procedures() {
         return List.of(
-            DagLongestPathStreamProc.class
+            DagLongestPathStreamProc.class,
+            DagCriticalPathStreamProc.class
         );
     }
 
@@ -21,6 +21,7 @@ package org.neo4j.gds.doc;
 
 import org.neo4j.gds.catalog.GraphProjectProc;
 import org.neo4j.gds.functions.AsNodeFunc;
+import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraBatchStreamProc;
 import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraMutateProc;
 import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraStreamProc;
 import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraWriteProc;
@@ -38,6 +39,7 @@ class DijkstraSourceTargetDocTest extends SingleFileDocTestBase {
     protected List<Class<?>> procedures() {
         return List.of(
             ShortestPathDijkstraStreamProc.class,
+            ShortestPathDijkstraBatchStreamProc.class,
             ShortestPathDijkstraWriteProc.class,
             ShortestPathDijkstraMutateProc.class,
             GraphProjectProc.class
@@ -47,6 +47,8 @@ final class RecordScannerTaskRunner {
         long start = System.nanoTime();
         ParallelUtil.run(tasks, executorService);
 
+        // Compression cannot overlap with the scan: records are read in relationship id order,
+        // so any scanner may still add to any adjacency buffer page until all of them are done.
         ParallelUtil.run(recordScannerTaskFactory.adjacencyListBuilderTasks(), executorService);
         long elapsed = System.nanoTime() - start;
 
@@ -27,6 +27,10 @@ public final class GdsSettings {
 
     private GdsSettings() {}
 
+    public static Setting<Path> checkpointLocation() {
+        return CheckpointSettings.checkpoint_location_setting;
+    }
+
     public static Setting<Path> exportLocation() {
         return GraphStoreExportSettings.export_location_setting;
     }
@@ -70,6 +70,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.conductance.stream",
 
+        "gds.contractionHierarchy.mutate",
+        "gds.contractionHierarchy.mutate.estimate",
+
         "gds.closeness.harmonic.mutate",
         "gds.closeness.harmonic.stats",
         "gds.closeness.harmonic.stream",
@@ -80,6 +83,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.closeness.stream",
         "gds.closeness.write",
 
+        "gds.landmarks.mutate",
+        "gds.landmarks.mutate.estimate",
+
         "gds.leiden.mutate",
         "gds.leiden.mutate.estimate",
         "gds.leiden.stats",
@@ -137,6 +143,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.dag.topologicalSort.stream",
         "gds.dag.longestPath.stream",
+        "gds.dag.criticalPath.stream",
 
         "gds.hashgnn.mutate",
         "gds.hashgnn.mutate.estimate",
@@ -214,6 +221,8 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.sllpa.write.estimate",
 
         "gds.kSpanningTree.write",
+        "gds.alpha.spanningForest.stream",
+        "gds.alpha.spanningForest.stream.estimate",
         "gds.spanningTree.mutate",
         "gds.spanningTree.mutate.estimate",
         "gds.spanningTree.stats",
@@ -243,6 +252,12 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.influenceMaximization.celf.stream.estimate",
         "gds.influenceMaximization.celf.write",
         "gds.influenceMaximization.celf.write.estimate",
+        "gds.alpha.influenceMaximization.imm.stream",
+        "gds.alpha.influenceMaximization.imm.stream.estimate",
+        "gds.alpha.personalizedPageRank.stats",
+        "gds.alpha.personalizedPageRank.stats.estimate",
+        "gds.alpha.personalizedPageRank.stream",
+        "gds.alpha.personalizedPageRank.stream.estimate",
 
 
         "gds.userLog",
@@ -453,12 +468,20 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.shortestPath.astar.write",
         "gds.shortestPath.astar.write.estimate",
 
+        "gds.shortestPath.alt.stream",
+        "gds.shortestPath.alt.stream.estimate",
+
         "gds.shortestPath.dijkstra.stream",
         "gds.shortestPath.dijkstra.stream.estimate",
         "gds.shortestPath.dijkstra.mutate",
         "gds.shortestPath.dijkstra.mutate.estimate",
         "gds.shortestPath.dijkstra.write",
         "gds.shortestPath.dijkstra.write.estimate",
+        "gds.shortestPath.dijkstra.batch.stream",
+        "gds.shortestPath.dijkstra.batch.stream.estimate",
+
+        "gds.shortestPath.contractionHierarchy.stream",
+        "gds.shortestPath.contractionHierarchy.stream.estimate",
 
         "gds.shortestPath.yens.stream",
         "gds.shortestPath.yens.stream.estimate",
@@ -477,6 +500,8 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.wcc.stream.estimate",
         "gds.wcc.write",
         "gds.wcc.write.estimate",
+        "gds.alpha.wcc.incremental.mutate",
+        "gds.alpha.wcc.incremental.mutate.estimate",
 
         "gds.triangleCount.mutate",
         "gds.triangleCount.mutate.estimate",
@@ -576,7 +601,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 420;
+        int expectedCount = 441;
         assertEquals(
             expectedCount,
             returnedRows,
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the nodes that are active in the next superstep, i.e. nodes
+ * that received a message or did not vote to halt. If the active set
+ * is small, the next superstep only visits the nodes in a worklist
+ * instead of scanning all nodes. Otherwise, the superstep falls back
+ * to scanning all nodes.
+ * <br>
+ * The worklist is bounded by a fraction of the node count. Once it
+ * overflows, tracking stops for the remaining superstep, since the
+ * next superstep is going to be dense anyway.
+ * <br>
+ * Frontier tracking is only correct for synchronous messaging.
+ * In asynchronous mode, messages can be received within the same
+ * superstep and the frontier is disabled.
+ */
+final class ActiveFrontier {
+
+    /**
+     * Supersteps with at most {@code nodeCount / SPARSE_RATIO} active nodes are sparse.
+     */
+    static final int SPARSE_RATIO = 32;
+
+    private static final ActiveFrontier DISABLED = new ActiveFrontier();
+
+    private final long capacity;
+    private final AtomicLong nextSize;
+
+    private HugeAtomicBitSet currentBits;
+    private HugeAtomicBitSet nextBits;
+    private HugeLongArray currentNodes;
+    private HugeLongArray nextNodes;
+
+    private long currentSize;
+    private long previousSize;
+    private boolean isSparse;
+    private boolean wasSparse;
+    private boolean hasPopulatedNext;
+    private volatile boolean nextOverflowed;
+
+    static ActiveFrontier of(long nodeCount, boolean isAsynchronous) {
+        long capacity = nodeCount / SPARSE_RATIO;
+        if (isAsynchronous || capacity == 0) {
+            return DISABLED;
+        }
+        return new ActiveFrontier(nodeCount, capacity);
+    }
+
+    /**
+     * Estimates the bitsets and worklists of a synchronous frontier.
+     * Graphs that are too small for sparse supersteps do not track a frontier.
+     */
+    static long memoryEstimation(long nodeCount) {
+        long capacity = nodeCount / SPARSE_RATIO;
+        if (capacity == 0) {
+            return 0;
+        }
+        return 2 * HugeAtomicBitSet.memoryEstimation(nodeCount) + 2 * HugeLongArray.memoryEstimation(capacity);
+    }
+
+    private ActiveFrontier() {
+        this.capacity = 0;
+        this.nextSize = new AtomicLong();
+        this.nextOverflowed = true;
+    }
+
+    private ActiveFrontier(long nodeCount, long capacity) {
+        this.capacity = capacity;
+        this.nextSize = new AtomicLong();
+        this.currentBits = HugeAtomicBitSet.create(nodeCount);
+        this.nextBits = HugeAtomicBitSet.create(nodeCount);
+        this.currentNodes = HugeLongArray.newArray(capacity);
+        this.nextNodes = HugeLongArray.newArray(capacity);
+    }
+
+    boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    /**
+     * Wraps the messenger so that every receiver of a message
+     * becomes active in the next superstep.
+     */
+    @SuppressWarnings("unchecked")
+    <ITERATOR extends Messages.MessageIterator> Messenger<ITERATOR> track(Messenger<ITERATOR> messenger) {
+        return messenger instanceof TypedMessenger
+            ? track((TypedMessenger<ITERATOR>) messenger)
+            : track((DoubleMessenger<ITERATOR>) messenger);
+    }
+
+    <ITERATOR extends Messages.MessageIterator> DoubleMessenger<ITERATOR> track(DoubleMessenger<ITERATOR> messenger) {
+        return isEnabled() ? new DoubleTrackingMessenger<>(messenger, this) : messenger;
+    }
+
+    <ITERATOR extends Messages.MessageIterator> TypedMessenger<ITERATOR> track(TypedMessenger<ITERATOR> messenger) {
+        return isEnabled() ? new TypedTrackingMessenger<>(messenger, this) : messenger;
+    }
+
+    /**
+     * Swaps the frontier of the previous superstep in and prepares tracking
+     * the next one. Must be called before the superstep starts.
+     * The first superstep after creation, including a superstep that is
+     * resumed from a checkpoint, is always dense.
+     */
+    void advance() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        this.wasSparse = isSparse;
+        this.previousSize = currentSize;
+
+        // the previous frontier becomes the next one and must be empty
+        if (isSparse) {
+            for (long i = 0; i < currentSize; i++) {
+                currentBits.clear(currentNodes.get(i));
+            }
+        } else {
+            currentBits.clear();
+        }
+
+        var tmpBits = currentBits;
+        this.currentBits = nextBits;
+        this.nextBits = tmpBits;
+
+        var tmpNodes = currentNodes;
+        this.currentNodes = nextNodes;
+        this.nextNodes = tmpNodes;
+
+        this.currentSize = Math.min(nextSize.get(), capacity);
+        this.isSparse = hasPopulatedNext && !nextOverflowed;
+        this.hasPopulatedNext = true;
+
+        nextSize.set(0);
+        this.nextOverflowed = false;
+    }
+
+    /**
+     * Starts the superstep of the messenger. The messenger recycles the messages
+     * of the superstep before the previous one, which were only sent to nodes
+     * that were active in the previous superstep. If that superstep was sparse,
+     * its worklist is still intact and only the slots of those nodes are reset.
+     * Must be called after {@link #advance()}.
+     */
+    void initMessengerIteration(Messenger<?> messenger, int iteration) {
+        if (wasSparse) {
+            messenger.initSparseIteration(iteration, nextNodes, previousSize);
+        } else {
+            messenger.initIteration(iteration);
+        }
+    }
+
+    /**
+     * True, if the current superstep only visits the active nodes.
+     */
+    boolean isSparse() {
+        return isSparse;
+    }
+
+    /**
+     * The number of active nodes in a sparse superstep.
+     */
+    long size() {
+        return currentSize;
+    }
+
+    /**
+     * Visits the active nodes at the given worklist positions.
+     */
+    void forEachActiveNode(Partition worklistBatch, LongConsumer consumer) {
+        long end = worklistBatch.startNode() + worklistBatch.nodeCount();
+        for (long i = worklistBatch.startNode(); i < end; i++) {
+            consumer.accept(currentNodes.get(i));
+        }
+    }
+
+    /**
+     * The share of the active nodes that the given worker visits in a sparse superstep.
+     */
+    Partition worklistBatch(int worker, int workerCount) {
+        long start = currentSize * worker / workerCount;
+        long end = currentSize * (worker + 1) / workerCount;
+        return Partition.of(start, end - start);
+    }
+
+    /**
+     * Marks the node as active in the next superstep.
+     */
+    void activate(long nodeId) {
+        if (nextOverflowed || nextBits.get(nodeId) || nextBits.getAndSet(nodeId)) {
+            return;
+        }
+        long index = nextSize.getAndIncrement();
+        if (index < capacity) {
+            nextNodes.set(index, nodeId);
+        } else {
+            this.nextOverflowed = true;
+        }
+    }
+
+    private abstract static class TrackingMessenger<ITERATOR extends Messages.MessageIterator> implements Messenger<ITERATOR> {
+
+        private final Messenger<ITERATOR> delegate;
+        final ActiveFrontier frontier;
+
+        TrackingMessenger(Messenger<ITERATOR> delegate, ActiveFrontier frontier) {
+            this.delegate = delegate;
+            this.frontier = frontier;
+        }
+
+        @Override
+        public void initIteration(int iteration) {
+            delegate.initIteration(iteration);
+        }
+
+        @Override
+        public void initSparseIteration(int iteration, HugeLongArray receivers, long receiverCount) {
+            delegate.initSparseIteration(iteration, receivers, receiverCount);
+        }
+
+        @Override
+        public ITERATOR messageIterator() {
+            return delegate.messageIterator();
+        }
+
+        @Override
+        public void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration) {
+            delegate.initMessageIterator(messageIterator, nodeId, isFirstIteration);
+        }
+
+        @Override
+        public void release() {
+            delegate.release();
+        }
+
+        @Override
+        public void writeCheckpoint(CheckpointWriter writer) {
+            delegate.writeCheckpoint(writer);
+        }
+
+        @Override
+        public void readCheckpoint(CheckpointReader reader) {
+            delegate.readCheckpoint(reader);
+        }
+    }
+
+    private static final class DoubleTrackingMessenger<ITERATOR extends Messages.MessageIterator> extends TrackingMessenger<ITERATOR> implements DoubleMessenger<ITERATOR> {
+
+        private final DoubleMessenger<ITERATOR> doubleDelegate;
+
+        DoubleTrackingMessenger(DoubleMessenger<ITERATOR> delegate, ActiveFrontier frontier) {
+            super(delegate, frontier);
+            this.doubleDelegate = delegate;
+        }
+
+        @Override
+        public void sendTo(long targetNodeId, double message) {
+            doubleDelegate.sendTo(targetNodeId, message);
+            frontier.activate(targetNodeId);
+        }
+    }
+
+    private static final class TypedTrackingMessenger<ITERATOR extends Messages.MessageIterator> extends TrackingMessenger<ITERATOR> implements TypedMessenger<ITERATOR> {
+
+        private final TypedMessenger<ITERATOR> typedDelegate;
+
+        TypedTrackingMessenger(TypedMessenger<ITERATOR> delegate, ActiveFrontier frontier) {
+            super(delegate, frontier);
+            this.typedDelegate = delegate;
+        }
+
+        @Override
+        public void sendTo(long targetNodeId, long[] message) {
+            typedDelegate.sendTo(targetNodeId, message);
+            frontier.activate(targetNodeId);
+        }
+    }
+}
@@ -19,9 +19,11 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 
-class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterator> {
+class AsyncQueueMessenger implements DoubleMessenger<PrimitiveAsyncDoubleQueues.Iterator> {
 
     private final PrimitiveAsyncDoubleQueues queues;
 
@@ -65,4 +67,14 @@ class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterat
         queues.release();
     }
 
+    @Override
+    public void writeCheckpoint(CheckpointWriter writer) {
+        queues.writeCheckpoint(writer);
+    }
+
+    @Override
+    public void readCheckpoint(CheckpointReader reader) {
+        queues.readCheckpoint(reader);
+    }
+
 }
@@ -67,6 +67,23 @@ public interface BasePregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * The message schema describes the layout of the messages sent
+     * between nodes. By default, a message is a single double value.
+     * Computations that need to send multiple or long values per
+     * message can declare a different layout and use the typed send
+     * methods of the compute context. Received messages are read via
+     * {@link Messages#cursor()}.
+     * <br>
+     * Reducers for typed messages are part of the message schema,
+     * {@link #reducer()} must be empty in that case.
+     *
+     * @see MessageSchema
+     */
+    default MessageSchema messageSchema(C config) {
+        return MessageSchema.DOUBLE;
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
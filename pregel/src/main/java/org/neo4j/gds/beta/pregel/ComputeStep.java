@@ -25,6 +25,8 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.function.LongConsumer;
+
 public interface ComputeStep<
     CONFIG extends PregelConfig,
     ITERATOR extends Messages.MessageIterator,
@@ -50,6 +52,13 @@ public interface ComputeStep<
 
     ProgressTracker progressTracker();
 
+    ActiveFrontier frontier();
+
+    /**
+     * Computes the nodes of the batch. In a sparse superstep,
+     * the batch refers to positions in the worklist of the
+     * {@link ActiveFrontier} instead of node ids.
+     */
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
@@ -59,8 +68,9 @@ public interface ComputeStep<
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var frontier = frontier();
 
-        nodeBatch.consume(nodeId -> {
+        LongConsumer computeNode = nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 initFunction().init(initContext);
@@ -72,8 +82,18 @@ public interface ComputeStep<
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computeFunction().compute(computeContext, messages);
+
+                if (!voteBits.get(nodeId)) {
+                    frontier.activate(nodeId);
+                }
             }
-        });
+        };
+
+        if (frontier.isSparse()) {
+            frontier.forEachActiveNode(nodeBatch, computeNode);
+        } else {
+            nodeBatch.consume(computeNode);
+        }
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
@@ -33,4 +33,15 @@ public interface Element {
 
     @Value.Auxiliary
     PregelSchema.Visibility visibility();
+
+    /**
+     * The fixed length of array values, 0 if the length is unknown.
+     * Array values of a fixed length are stored in a single flat array.
+     */
+    @Value.Auxiliary
+    @Value.Parameter(false)
+    @Value.Default
+    default int dimension() {
+        return 0;
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stores a double array of fixed dimension per node in a single
+ * {@link HugeDoubleArray}. The values of a node occupy the slice
+ * {@code [nodeId * dimension, (nodeId + 1) * dimension)}.
+ * <br>
+ * Compared to one heap array per node, this avoids an object
+ * header and a reference per node and keeps all values in a
+ * few large pages.
+ */
+public final class FixedWidthDoubleArrays {
+
+    private final HugeDoubleArray values;
+    private final int dimension;
+
+    FixedWidthDoubleArrays(long nodeCount, int dimension) {
+        this.values = HugeDoubleArray.newArray(nodeCount * dimension);
+        this.dimension = dimension;
+    }
+
+    public static long memoryEstimation(long nodeCount, int dimension) {
+        return HugeDoubleArray.memoryEstimation(nodeCount * dimension);
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public long nodeCount() {
+        return values.size() / dimension;
+    }
+
+    public double get(long nodeId, int index) {
+        assert index < dimension;
+        return values.get(nodeId * dimension + index);
+    }
+
+    public void set(long nodeId, int index, double value) {
+        assert index < dimension;
+        values.set(nodeId * dimension + index, value);
+    }
+
+    /**
+     * Returns a copy of the values of the given node.
+     */
+    public double[] get(long nodeId) {
+        var target = new double[dimension];
+        copyTo(nodeId, target);
+        return target;
+    }
+
+    /**
+     * Copies the values of the given node into the target array.
+     */
+    public void copyTo(long nodeId, double[] target) {
+        checkLength(target.length);
+        long offset = nodeId * dimension;
+        for (int i = 0; i < dimension; i++) {
+            target[i] = values.get(offset + i);
+        }
+    }
+
+    public void set(long nodeId, double[] value) {
+        checkLength(value.length);
+        long offset = nodeId * dimension;
+        for (int i = 0; i < dimension; i++) {
+            values.set(offset + i, value[i]);
+        }
+    }
+
+    HugeDoubleArray values() {
+        return values;
+    }
+
+    private void checkLength(int length) {
+        if (length != dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected an array of length %d, got %d.",
+                dimension,
+                length
+            ));
+        }
+    }
+}
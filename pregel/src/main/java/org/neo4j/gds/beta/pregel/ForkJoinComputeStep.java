@@ -49,6 +49,7 @@ public final class ForkJoinComputeStep<
     private final NodeValue nodeValue;
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
+    private final ActiveFrontier frontier;
     private Partition nodeBatch;
     private final MutableInt iteration;
     private final AtomicBoolean hasSentMessage;
@@ -64,6 +65,7 @@ public final class ForkJoinComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        ActiveFrontier frontier,
         @Nullable CountedCompleter<Void> parent,
         AtomicBoolean sentMessage,
         ProgressTracker progressTracker
@@ -78,6 +80,7 @@ public final class ForkJoinComputeStep<
         this.nodeBatch = nodeBatch;
         this.nodeValue = nodeValue;
         this.messenger = messenger;
+        this.frontier = frontier;
         this.hasSentMessage = sentMessage;
         this.progressTracker = progressTracker;
         this.computeContext = computeContextSupplier.get();
@@ -108,6 +111,7 @@ public final class ForkJoinComputeStep<
                 nodeValue,
                 messenger,
                 voteBits,
+                frontier,
                 this,
                 hasSentMessage,
                 progressTracker
@@ -170,4 +174,9 @@ public final class ForkJoinComputeStep<
     public ProgressTracker progressTracker() {
         return progressTracker;
     }
+
+    @Override
+    public ActiveFrontier frontier() {
+        return frontier;
+    }
 }
@@ -48,11 +48,12 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         CONFIG config,
         NodeValue nodeValues,
         Messenger<?> messenger,
+        MessageSchema messageSchema,
         HugeAtomicBitSet voteBits,
         ForkJoinPool forkJoinPool,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, messageSchema, voteBits, progressTracker);
         this.forkJoinPool = forkJoinPool;
     }
 
@@ -65,7 +66,12 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
     public void initIteration(int iteration) {
         this.sentMessage = new AtomicBoolean(false);
         MutableInt mutableIteration = new MutableInt(iteration);
-        Partition partition = Partition.of(0, graph.nodeCount());
+
+        frontier.advance();
+        // in a sparse superstep, the root task splits the worklist of active nodes
+        Partition partition = frontier.isSparse()
+            ? Partition.of(0, frontier.size())
+            : Partition.of(0, graph.nodeCount());
 
         this.rootTask = computation instanceof PregelComputation
             ? createComputeStep(mutableIteration, sentMessage, partition)
@@ -75,6 +81,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
     @Override
     public void runIteration() {
         forkJoinPool.invoke(rootTask);
+        logSkippedNodes();
     }
 
     @Override
@@ -107,6 +114,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             computation,
             nodeValues,
             messenger,
+            messageSchema,
             voteBits,
             iteration,
             Optional.empty(),
@@ -123,6 +131,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             null,
             hasSentMessages,
             progressTracker
@@ -148,6 +157,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             computation,
             nodeValues,
             messenger,
+            messageSchema,
             voteBits,
             iteration,
             Optional.empty(),
@@ -164,6 +174,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             null,
             hasSentMessages,
             progressTracker
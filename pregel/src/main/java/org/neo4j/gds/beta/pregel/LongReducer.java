@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+/**
+ * Reduces the long components of a typed message,
+ * see {@link MessageSchema}. The counterpart of
+ * {@link Reducer} for double components.
+ */
+public interface LongReducer {
+
+    /**
+     * The identity element is used as the initial value.
+     */
+    long identity();
+
+    /**
+     * Computes a new value based on the current value and the message.
+     */
+    long reduce(long current, long message);
+
+    class Sum implements LongReducer {
+
+        @Override
+        public long identity() {
+            return 0;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return current + message;
+        }
+    }
+
+    class Min implements LongReducer {
+
+        @Override
+        public long identity() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return Math.min(current, message);
+        }
+    }
+
+    class Max implements LongReducer {
+
+        @Override
+        public long identity() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return Math.max(current, message);
+        }
+    }
+
+    class Count implements LongReducer {
+
+        @Override
+        public long identity() {
+            return 0;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return current + 1;
+        }
+    }
+}
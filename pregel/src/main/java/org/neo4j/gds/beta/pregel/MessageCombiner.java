@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+/**
+ * A small direct-mapped buffer that pre-reduces the messages sent by
+ * a single worker before they reach the shared send array of the
+ * {@link ReducingMessenger}. Messages to frequently addressed nodes,
+ * e.g. hubs in power-law graphs, are combined locally and only hit
+ * the shared array when their slot is evicted or the buffer is flushed.
+ * <br>
+ * The buffer is not thread-safe and must only be used by its owning worker.
+ */
+final class MessageCombiner {
+
+    static final int CAPACITY = 1 << 12;
+
+    private static final int SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(CAPACITY);
+    private static final long EMPTY = -1L;
+
+    @FunctionalInterface
+    interface Sink {
+        void combine(long targetNodeId, double partialMessage);
+    }
+
+    private final Reducer reducer;
+    private final Sink sink;
+    private final long[] targets;
+    private final double[] values;
+
+    MessageCombiner(Reducer reducer, Sink sink) {
+        this.reducer = reducer;
+        this.sink = sink;
+        this.targets = new long[CAPACITY];
+        this.values = new double[CAPACITY];
+        Arrays.fill(targets, EMPTY);
+    }
+
+    static long memoryEstimation() {
+        return MemoryUsage.sizeOfLongArray(CAPACITY) + MemoryUsage.sizeOfDoubleArray(CAPACITY);
+    }
+
+    void add(long targetNodeId, double message) {
+        int slot = slot(targetNodeId);
+        long occupant = targets[slot];
+        if (occupant == targetNodeId) {
+            values[slot] = reducer.reduce(values[slot], message);
+            return;
+        }
+        if (occupant != EMPTY) {
+            sink.combine(occupant, values[slot]);
+        }
+        targets[slot] = targetNodeId;
+        values[slot] = reducer.reduce(reducer.identity(), message);
+    }
+
+    /**
+     * Passes all buffered partial messages to the sink and empties the buffer.
+     */
+    void flush() {
+        for (int slot = 0; slot < CAPACITY; slot++) {
+            long target = targets[slot];
+            if (target != EMPTY) {
+                sink.combine(target, values[slot]);
+                targets[slot] = EMPTY;
+            }
+        }
+    }
+
+    private static int slot(long nodeId) {
+        // Fibonacci hashing spreads consecutive node ids over the buffer
+        return (int) ((nodeId * 0x9E3779B97F4A7C15L) >>> SHIFT);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The message schema describes the layout of the messages sent
+ * during a Pregel computation. Analogous to {@link PregelSchema}
+ * for node values, a message can be composed of multiple long
+ * and double components. By default, messages are a single double.
+ * <br>
+ * Every component occupies one primitive slot, messages are
+ * stored in flat primitive arrays without allocating per message.
+ * Long components are stored by their bit pattern.
+ * <br>
+ * If reducers are given, they must be given for every component.
+ * Each component is then reduced independently.
+ * <br>
+ * Example:
+ * <pre>
+ * public MessageSchema messageSchema(PregelConfig config) {
+ *      return new MessageSchema.Builder()
+ *          .addLong(new LongReducer.Min())
+ *          .addDouble(new Reducer.Sum())
+ *          .build();
+ * }
+ * </pre>
+ */
+public final class MessageSchema {
+
+    public enum Type {
+        LONG, DOUBLE
+    }
+
+    public static final MessageSchema DOUBLE = new Builder().addDouble().build();
+
+    private final Type[] types;
+    private final @Nullable Object[] reducers;
+    private final long[] identities;
+
+    public static MessageSchema longMessage() {
+        return new Builder().addLong().build();
+    }
+
+    public static MessageSchema longMessage(LongReducer reducer) {
+        return new Builder().addLong(reducer).build();
+    }
+
+    public static MessageSchema doubleArray(int width) {
+        return new Builder().addDoubles(width).build();
+    }
+
+    public static MessageSchema doubleArray(int width, Reducer reducer) {
+        return new Builder().addDoubles(width, reducer).build();
+    }
+
+    public static MessageSchema longDoublePair() {
+        return new Builder().addLong().addDouble().build();
+    }
+
+    public static MessageSchema longDoublePair(LongReducer longReducer, Reducer doubleReducer) {
+        return new Builder().addLong(longReducer).addDouble(doubleReducer).build();
+    }
+
+    private MessageSchema(Type[] types, @Nullable Object[] reducers) {
+        this.types = types;
+        this.reducers = reducers;
+        this.identities = new long[types.length];
+        if (reducers != null) {
+            for (int component = 0; component < types.length; component++) {
+                identities[component] = types[component] == Type.LONG
+                    ? ((LongReducer) reducers[component]).identity()
+                    : Double.doubleToRawLongBits(((Reducer) reducers[component]).identity());
+            }
+        }
+    }
+
+    public int width() {
+        return types.length;
+    }
+
+    public Type type(int component) {
+        return types[component];
+    }
+
+    public boolean isReducing() {
+        return reducers != null;
+    }
+
+    /**
+     * True for the default layout of a single double component, which
+     * is handled by the messengers that predate the message schema.
+     */
+    public boolean isSingleDouble() {
+        return types.length == 1 && types[0] == Type.DOUBLE;
+    }
+
+    public boolean isLong() {
+        return types.length == 1 && types[0] == Type.LONG;
+    }
+
+    public boolean isLongDoublePair() {
+        return types.length == 2 && types[0] == Type.LONG && types[1] == Type.DOUBLE;
+    }
+
+    public boolean isDoubleArray() {
+        for (Type type : types) {
+            if (type != Type.DOUBLE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The reducer of the given double component.
+     */
+    Reducer doubleReducer(int component) {
+        assert reducers != null && types[component] == Type.DOUBLE;
+        return (Reducer) reducers[component];
+    }
+
+    /**
+     * The identity of the given component's reducer as raw bits.
+     */
+    long identity(int component) {
+        return identities[component];
+    }
+
+    /**
+     * Reduces a single component, both values are given and returned as raw bits.
+     */
+    long reduce(int component, long current, long message) {
+        assert reducers != null;
+        if (types[component] == Type.LONG) {
+            return ((LongReducer) reducers[component]).reduce(current, message);
+        }
+        return Double.doubleToRawLongBits(((Reducer) reducers[component]).reduce(
+            Double.longBitsToDouble(current),
+            Double.longBitsToDouble(message)
+        ));
+    }
+
+    public static class Builder {
+
+        private final List<Type> types = new ArrayList<>();
+        private final List<Object> reducers = new ArrayList<>();
+
+        public MessageSchema.Builder addLong() {
+            return add(Type.LONG, null);
+        }
+
+        public MessageSchema.Builder addLong(LongReducer reducer) {
+            return add(Type.LONG, reducer);
+        }
+
+        public MessageSchema.Builder addDouble() {
+            return add(Type.DOUBLE, null);
+        }
+
+        public MessageSchema.Builder addDouble(Reducer reducer) {
+            assert !Double.isNaN(reducer.identity()) : "identity element must not be NaN";
+            return add(Type.DOUBLE, reducer);
+        }
+
+        public MessageSchema.Builder addDoubles(int count) {
+            for (int i = 0; i < count; i++) {
+                addDouble();
+            }
+            return this;
+        }
+
+        public MessageSchema.Builder addDoubles(int count, Reducer reducer) {
+            for (int i = 0; i < count; i++) {
+                addDouble(reducer);
+            }
+            return this;
+        }
+
+        private MessageSchema.Builder add(Type type, @Nullable Object reducer) {
+            types.add(type);
+            reducers.add(reducer);
+            return this;
+        }
+
+        public MessageSchema build() {
+            if (types.isEmpty()) {
+                throw new IllegalArgumentException("A message schema requires at least one component.");
+            }
+            long reducerCount = reducers.stream().filter(reducer -> reducer != null).count();
+            if (reducerCount != 0 && reducerCount != reducers.size()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Either all or none of the message components must have a reducer, got %d reducers for %d components.",
+                    reducerCount,
+                    reducers.size()
+                ));
+            }
+            return new MessageSchema(
+                types.toArray(new Type[0]),
+                reducerCount == 0 ? null : reducers.toArray()
+            );
+        }
+    }
+}
@@ -36,6 +36,23 @@ public final class Messages implements Iterable<Double> {
         boolean isEmpty();
     }
 
+    /**
+     * Gives access to messages that follow a {@link MessageSchema}.
+     * Component values are only valid until the next call to {@link #advance()}.
+     */
+    public interface MessageCursor {
+        /**
+         * Moves to the next message.
+         *
+         * @return false if there are no more messages
+         */
+        boolean advance();
+
+        long longValue(int component);
+
+        double doubleValue(int component);
+    }
+
     private final MessageIterator iterator;
 
     Messages(MessageIterator iterator) {
@@ -50,4 +67,19 @@ public final class Messages implements Iterable<Double> {
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
+
+    /**
+     * Returns a cursor over the messages of a computation
+     * that defines a {@link MessageSchema}.
+     *
+     * @throws IllegalStateException if the messenger does not support typed messages
+     */
+    public MessageCursor cursor() {
+        if (iterator instanceof MessageCursor) {
+            return (MessageCursor) iterator;
+        }
+        throw new IllegalStateException(
+            "Typed message access requires a message schema, see `BasePregelComputation#messageSchema`."
+        );
+    }
 }
@@ -19,15 +19,42 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
+
+/**
+ * Stores the messages of a computation between supersteps. How messages are
+ * sent depends on their layout, see {@link DoubleMessenger} for single double
+ * messages and {@link TypedMessenger} for messages that follow a {@link MessageSchema}.
+ */
 public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void initIteration(int iteration);
 
-    void sendTo(long targetNodeId, double message);
+    /**
+     * Same as {@link #initIteration(int)}, but the messages that are discarded
+     * by this call have only been sent to the first {@code receiverCount} nodes
+     * of {@code receivers}. Messengers may reset only the slots of those nodes.
+     */
+    default void initSparseIteration(int iteration, HugeLongArray receivers, long receiverCount) {
+        initIteration(iteration);
+    }
 
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
 
     void release();
+
+    /**
+     * Persists all messages that will be delivered in the next superstep.
+     */
+    void writeCheckpoint(CheckpointWriter writer);
+
+    /**
+     * Restores messages previously written by {@link #writeCheckpoint(CheckpointWriter)}.
+     * Must be called before the next call to {@link #initIteration(int)}.
+     */
+    void readCheckpoint(CheckpointReader reader);
 }
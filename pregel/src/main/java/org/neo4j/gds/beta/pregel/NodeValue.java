@@ -23,6 +23,8 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -33,8 +35,11 @@ import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.utils.StringFormatting;
 import org.neo4j.gds.utils.StringJoining;
 
+import java.util.Comparator;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.neo4j.gds.api.nodeproperties.ValueType.DOUBLE;
 import static org.neo4j.gds.api.nodeproperties.ValueType.DOUBLE_ARRAY;
@@ -46,12 +51,18 @@ public abstract class NodeValue {
 
     private final PregelSchema pregelSchema;
     private final Map<String, ValueType> propertyTypes;
+    private final Set<String> fixedWidthKeys;
 
     NodeValue(PregelSchema pregelSchema) {
         this.pregelSchema = pregelSchema;
         this.propertyTypes = pregelSchema.elements()
             .stream()
             .collect(Collectors.toMap(Element::propertyKey, Element::propertyType));
+        this.fixedWidthKeys = pregelSchema.elements()
+            .stream()
+            .filter(element -> element.dimension() > 0)
+            .map(Element::propertyKey)
+            .collect(Collectors.toSet());
     }
 
     static NodeValue of(PregelSchema schema, long nodeCount, int concurrency) {
@@ -86,6 +97,13 @@ public abstract class NodeValue {
                         builder.fixed(entry, HugeDoubleArray.memoryEstimation(dimensions.nodeCount()));
                         break;
                     case LONG_ARRAY:
+                        if (element.dimension() > 0) {
+                            builder.fixed(
+                                entry,
+                                FixedWidthLongArrays.memoryEstimation(dimensions.nodeCount(), element.dimension())
+                            );
+                            break;
+                        }
                         builder.add(entry, MemoryEstimations.builder()
                             .fixed(
                                 HugeObjectArray.class.getSimpleName(),
@@ -95,6 +113,13 @@ public abstract class NodeValue {
                             .build());
                         break;
                     case DOUBLE_ARRAY:
+                        if (element.dimension() > 0) {
+                            builder.fixed(
+                                entry,
+                                FixedWidthDoubleArrays.memoryEstimation(dimensions.nodeCount(), element.dimension())
+                            );
+                            break;
+                        }
                         builder.add(entry, MemoryEstimations.builder()
                             .fixed(
                                 HugeObjectArray.class.getSimpleName(),
@@ -124,6 +149,18 @@ public abstract class NodeValue {
 
     public abstract HugeObjectArray<double[]> doubleArrayProperties(String propertyKey);
 
+    public abstract FixedWidthLongArrays fixedWidthLongArrayProperties(String propertyKey);
+
+    public abstract FixedWidthDoubleArrays fixedWidthDoubleArrayProperties(String propertyKey);
+
+    /**
+     * True, if the array values of the given key have a fixed dimension,
+     * see {@link PregelSchema.Builder#add(String, ValueType, int)}.
+     */
+    public boolean isFixedWidth(String propertyKey) {
+        return fixedWidthKeys.contains(propertyKey);
+    }
+
     public double doubleValue(String key, long nodeId) {
         return doubleProperties(key).get(nodeId);
     }
@@ -132,16 +169,36 @@ public abstract class NodeValue {
         return longProperties(key).get(nodeId);
     }
 
+    /**
+     * For fixed width arrays, the returned array is a copy.
+     */
     public long[] longArrayValue(String key, long nodeId) {
+        if (isFixedWidth(key)) {
+            return fixedWidthLongArrayProperties(key).get(nodeId);
+        }
         HugeObjectArray<long[]> arrayProperties = longArrayProperties(key);
         return arrayProperties.get(nodeId);
     }
 
+    /**
+     * For fixed width arrays, the returned array is a copy.
+     */
     public double[] doubleArrayValue(String key, long nodeId) {
+        if (isFixedWidth(key)) {
+            return fixedWidthDoubleArrayProperties(key).get(nodeId);
+        }
         HugeObjectArray<double[]> arrayProperties = doubleArrayProperties(key);
         return arrayProperties.get(nodeId);
     }
 
+    public long longArrayValue(String key, long nodeId, int index) {
+        return fixedWidthLongArrayProperties(key).get(nodeId, index);
+    }
+
+    public double doubleArrayValue(String key, long nodeId, int index) {
+        return fixedWidthDoubleArrayProperties(key).get(nodeId, index);
+    }
+
     public void set(String key, long nodeId, double value) {
         doubleProperties(key).set(nodeId, value);
     }
@@ -150,18 +207,122 @@ public abstract class NodeValue {
         longProperties(key).set(nodeId, value);
     }
 
+    /**
+     * For fixed width arrays, the values are copied.
+     */
     public void set(String key, long nodeId, long[] value) {
-        longArrayProperties(key).set(nodeId, value);
+        if (isFixedWidth(key)) {
+            fixedWidthLongArrayProperties(key).set(nodeId, value);
+        } else {
+            longArrayProperties(key).set(nodeId, value);
+        }
     }
 
+    /**
+     * For fixed width arrays, the values are copied.
+     */
     public void set(String key, long nodeId, double[] value) {
-        doubleArrayProperties(key).set(nodeId, value);
+        if (isFixedWidth(key)) {
+            fixedWidthDoubleArrayProperties(key).set(nodeId, value);
+        } else {
+            doubleArrayProperties(key).set(nodeId, value);
+        }
+    }
+
+    public void setArrayEntry(String key, long nodeId, int index, long value) {
+        fixedWidthLongArrayProperties(key).set(nodeId, index, value);
+    }
+
+    public void setArrayEntry(String key, long nodeId, int index, double value) {
+        fixedWidthDoubleArrayProperties(key).set(nodeId, index, value);
+    }
+
+    void writeCheckpoint(CheckpointWriter writer) {
+        sortedElements().forEach(element -> {
+            var key = element.propertyKey();
+            switch (element.propertyType()) {
+                case DOUBLE:
+                    writer.write(doubleProperties(key));
+                    break;
+                case LONG:
+                    writer.write(longProperties(key));
+                    break;
+                case LONG_ARRAY:
+                    if (element.dimension() > 0) {
+                        writer.write(fixedWidthLongArrayProperties(key).values());
+                    } else {
+                        writer.writeLongArrays(longArrayProperties(key));
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    if (element.dimension() > 0) {
+                        writer.write(fixedWidthDoubleArrayProperties(key).values());
+                    } else {
+                        writer.writeDoubleArrays(doubleArrayProperties(key));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(StringFormatting.formatWithLocale(
+                        "Unsupported value type: %s",
+                        element.propertyType()
+                    ));
+            }
+        });
+    }
+
+    void readCheckpoint(CheckpointReader reader) {
+        sortedElements().forEach(element -> {
+            var key = element.propertyKey();
+            switch (element.propertyType()) {
+                case DOUBLE:
+                    reader.read(doubleProperties(key));
+                    break;
+                case LONG:
+                    reader.read(longProperties(key));
+                    break;
+                case LONG_ARRAY:
+                    if (element.dimension() > 0) {
+                        reader.read(fixedWidthLongArrayProperties(key).values());
+                    } else {
+                        reader.readLongArrays(longArrayProperties(key));
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    if (element.dimension() > 0) {
+                        reader.read(fixedWidthDoubleArrayProperties(key).values());
+                    } else {
+                        reader.readDoubleArrays(doubleArrayProperties(key));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(StringFormatting.formatWithLocale(
+                        "Unsupported value type: %s",
+                        element.propertyType()
+                    ));
+            }
+        });
+    }
+
+    private Stream<Element> sortedElements() {
+        return pregelSchema.elements().stream().sorted(Comparator.comparing(Element::propertyKey));
     }
 
     void checkProperty(String key, ValueType expectedType) {
         checkProperty(key, propertyTypes.get(key), expectedType);
     }
 
+    void checkArrayProperty(String key, ValueType expectedType, boolean expectFixedWidth) {
+        checkProperty(key, expectedType);
+        if (isFixedWidth(key) != expectFixedWidth) {
+            throw new IllegalArgumentException(formatWithLocale(
+                expectFixedWidth
+                    ? "Property with key %s has no fixed dimension, use the array accessors instead."
+                    : "Property with key %s has a fixed dimension, use the fixed width accessors instead.",
+                key
+            ));
+        }
+    }
+
     private void checkProperty(String key, @Nullable ValueType actualType, ValueType expectedType) {
         if (actualType == null) {
             throw new IllegalArgumentException(formatWithLocale(
@@ -204,9 +365,13 @@ public abstract class NodeValue {
                 );
                 return longNodeValues;
             case LONG_ARRAY:
-                return HugeObjectArray.newArray(long[].class, nodeCount);
+                return element.dimension() > 0
+                    ? new FixedWidthLongArrays(nodeCount, element.dimension())
+                    : HugeObjectArray.newArray(long[].class, nodeCount);
             case DOUBLE_ARRAY:
-                return HugeObjectArray.newArray(double[].class, nodeCount);
+                return element.dimension() > 0
+                    ? new FixedWidthDoubleArrays(nodeCount, element.dimension())
+                    : HugeObjectArray.newArray(double[].class, nodeCount);
             default:
                 throw new IllegalArgumentException(StringFormatting.formatWithLocale(
                     "Unsupported value type: %s",
@@ -240,18 +405,30 @@ public abstract class NodeValue {
 
         @Override
         public HugeObjectArray<long[]> longArrayProperties(String propertyKey) {
-            checkProperty(propertyKey, LONG_ARRAY);
+            checkArrayProperty(propertyKey, LONG_ARRAY, false);
             //noinspection unchecked
             return (HugeObjectArray<long[]>) property;
         }
 
         @Override
         public HugeObjectArray<double[]> doubleArrayProperties(String propertyKey) {
-            checkProperty(propertyKey, DOUBLE_ARRAY);
+            checkArrayProperty(propertyKey, DOUBLE_ARRAY, false);
             //noinspection unchecked
             return (HugeObjectArray<double[]>) property;
         }
 
+        @Override
+        public FixedWidthLongArrays fixedWidthLongArrayProperties(String propertyKey) {
+            checkArrayProperty(propertyKey, LONG_ARRAY, true);
+            return (FixedWidthLongArrays) property;
+        }
+
+        @Override
+        public FixedWidthDoubleArrays fixedWidthDoubleArrayProperties(String propertyKey) {
+            checkArrayProperty(propertyKey, DOUBLE_ARRAY, true);
+            return (FixedWidthDoubleArrays) property;
+        }
+
         @Override
         void checkProperty(String key, ValueType expectedType) {
             var actualType = element.propertyKey().equals(key) ? element.propertyType() : null;
@@ -282,16 +459,28 @@ public abstract class NodeValue {
 
         @Override
         public HugeObjectArray<long[]> longArrayProperties(String propertyKey) {
-            checkProperty(propertyKey, LONG_ARRAY);
+            checkArrayProperty(propertyKey, LONG_ARRAY, false);
             //noinspection unchecked
             return (HugeObjectArray<long[]>) properties.get(propertyKey);
         }
 
         @Override
         public HugeObjectArray<double[]> doubleArrayProperties(String propertyKey) {
-            checkProperty(propertyKey, DOUBLE_ARRAY);
+            checkArrayProperty(propertyKey, DOUBLE_ARRAY, false);
             //noinspection unchecked
             return (HugeObjectArray<double[]>) properties.get(propertyKey);
         }
+
+        @Override
+        public FixedWidthLongArrays fixedWidthLongArrayProperties(String propertyKey) {
+            checkArrayProperty(propertyKey, LONG_ARRAY, true);
+            return (FixedWidthLongArrays) properties.get(propertyKey);
+        }
+
+        @Override
+        public FixedWidthDoubleArrays fixedWidthDoubleArrayProperties(String propertyKey) {
+            checkArrayProperty(propertyKey, DOUBLE_ARRAY, true);
+            return (FixedWidthDoubleArrays) properties.get(propertyKey);
+        }
     }
 }
@@ -42,11 +42,14 @@ public final class PartitionedComputeStep<
     private final Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
+    private final ActiveFrontier frontier;
 
     private final MutableInt iteration;
     private final MutableBoolean hasSentMessage;
     private final NodeValue nodeValue;
 
+    private Partition worklistBatch;
+
     PartitionedComputeStep(
         InitFunction<CONFIG, INIT_CONTEXT> initFunction,
         ComputeFunction<CONFIG, COMPUTE_CONTEXT> computeFunction,
@@ -56,6 +59,7 @@ public final class PartitionedComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        ActiveFrontier frontier,
         MutableInt iteration,
         MutableBoolean hasSentMessage,
         ProgressTracker progressTracker
@@ -68,10 +72,11 @@ public final class PartitionedComputeStep<
         this.voteBits = voteBits;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
+        this.frontier = frontier;
         this.progressTracker = progressTracker;
         this.iteration = iteration;
         this.hasSentMessage = hasSentMessage;
-
+        this.worklistBatch = Partition.of(0, 0);
     }
 
     @Override
@@ -106,7 +111,7 @@ public final class PartitionedComputeStep<
 
     @Override
     public Partition nodeBatch() {
-        return nodeBatch;
+        return frontier.isSparse() ? worklistBatch : nodeBatch;
     }
 
     @Override
@@ -124,8 +129,14 @@ public final class PartitionedComputeStep<
         return progressTracker;
     }
 
-    void init(int iteration) {
+    @Override
+    public ActiveFrontier frontier() {
+        return frontier;
+    }
+
+    void init(int iteration, Partition worklistBatch) {
         this.iteration.setValue(iteration);
+        this.worklistBatch = worklistBatch;
         hasSentMessage.setValue(false);
     }
 
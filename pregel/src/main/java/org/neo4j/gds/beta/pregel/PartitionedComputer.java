@@ -52,12 +52,13 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         CONFIG config,
         NodeValue nodeValues,
         Messenger<?> messenger,
+        MessageSchema messageSchema,
         HugeAtomicBitSet voteBits,
         int concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, messageSchema, voteBits, progressTracker);
         this.executorService = executorService;
         this.concurrency = concurrency;
     }
@@ -69,8 +70,9 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
 
     @Override
     public void initIteration(int iteration) {
-        for (var computeStep : computeSteps) {
-            computeStep.init(iteration);
+        frontier.advance();
+        for (int i = 0; i < computeSteps.size(); i++) {
+            computeSteps.get(i).init(iteration, frontier.worklistBatch(i, computeSteps.size()));
         }
     }
 
@@ -81,6 +83,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             .tasks(computeSteps)
             .executor(executorService)
             .run();
+        logSkippedNodes();
     }
 
     @Override
@@ -152,6 +155,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             computation,
             nodeValues,
             messenger,
+            messageSchema,
             voteBits,
             iteration,
             Optional.of(hasSentMessages),
@@ -167,6 +171,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             iteration,
             hasSentMessages,
             progressTracker
@@ -195,6 +200,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             computation,
             nodeValues,
             messenger,
+            messageSchema,
             voteBits,
             iteration,
             Optional.of(hasSentMessages),
@@ -210,6 +216,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             iteration,
             hasSentMessages,
             progressTracker
@@ -34,6 +34,7 @@ import org.neo4j.gds.utils.StringJoining;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
@@ -49,8 +50,12 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
     private final Messenger<?> messenger;
 
+    private final HugeAtomicBitSet voteBits;
+
     private final PregelComputer<CONFIG> computer;
 
+    private final Optional<PregelCheckpointer> checkpointer;
+
     private final ProgressTracker progressTracker;
     private TerminationFlag terminationFlag;
 
@@ -89,11 +94,24 @@ public final class Pregel<CONFIG extends PregelConfig> {
     }
 
     public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, boolean isQueueBased, boolean isAsync) {
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean combineMessages
+    ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
             .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
             .add("node value", NodeValue.memoryEstimation(pregelSchema));
 
+        if (!isAsync) {
+            estimationBuilder.perNode("frontier", ActiveFrontier::memoryEstimation);
+        }
+
         if (isQueueBased) {
             if (isAsync) {
                 estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
@@ -101,7 +119,27 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
             }
         } else {
-            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
+            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation(combineMessages));
+        }
+
+        return estimationBuilder.build();
+    }
+
+    public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, MessageSchema messageSchema) {
+        if (messageSchema.isSingleDouble()) {
+            return memoryEstimation(pregelSchema, !messageSchema.isReducing(), false);
+        }
+
+        var estimationBuilder = MemoryEstimations.builder(Pregel.class)
+            .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
+            .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
+            .perNode("frontier", ActiveFrontier::memoryEstimation)
+            .add("node value", NodeValue.memoryEstimation(pregelSchema));
+
+        if (messageSchema.isReducing()) {
+            estimationBuilder.add("message arrays", TypedReducingMessenger.memoryEstimation(messageSchema.width()));
+        } else {
+            estimationBuilder.add("message queues", TypedSyncQueueMessenger.memoryEstimation());
         }
 
         return estimationBuilder.build();
@@ -143,13 +181,13 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressTracker = progressTracker;
         this.terminationFlag = TerminationFlag.RUNNING_TRUE;
 
-        var reducer = computation.reducer();
+        // the schema is resolved once per run and shared by all compute contexts
+        var messageSchema = computation.messageSchema(config);
+        this.messenger = createMessenger(graph, config, computation, messageSchema);
+
+        this.voteBits = HugeAtomicBitSet.create(graph.nodeCount());
 
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        this.checkpointer = PregelCheckpointer.of(config, graph, computation, progressTracker);
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
@@ -157,7 +195,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .config(config)
             .nodeValues(nodeValues)
             .messenger(messenger)
-            .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .messageSchema(messageSchema)
+            .voteBits(voteBits)
             .executorService(config.useForkJoin()
                 ? ExecutorServiceUtil.createForkJoinPool(config.concurrency())
                 : executor)
@@ -165,6 +204,44 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .build();
     }
 
+    private static <CONFIG extends PregelConfig> Messenger<?> createMessenger(
+        Graph graph,
+        CONFIG config,
+        BasePregelComputation<CONFIG> computation,
+        MessageSchema messageSchema
+    ) {
+        var reducer = computation.reducer();
+
+        if (reducer.isPresent() && (messageSchema.isReducing() || !messageSchema.isSingleDouble())) {
+            throw new IllegalArgumentException(
+                "Reducers for typed messages must be defined in the message schema, not via `reducer()`."
+            );
+        }
+
+        if (messageSchema.isSingleDouble()) {
+            if (messageSchema.isReducing()) {
+                reducer = Optional.of(messageSchema.doubleReducer(0));
+            }
+            return reducer.isPresent()
+                ? new ReducingMessenger(graph, config, reducer.get())
+                : config.isAsynchronous()
+                    ? new AsyncQueueMessenger(graph.nodeCount())
+                    : new SyncQueueMessenger(graph.nodeCount());
+        }
+
+        if (messageSchema.isReducing()) {
+            return new TypedReducingMessenger(graph, config, messageSchema);
+        }
+
+        if (config.isAsynchronous()) {
+            throw new IllegalArgumentException(
+                "Asynchronous computations only support single double messages without a reducer."
+            );
+        }
+
+        return new TypedSyncQueueMessenger(graph.nodeCount(), messageSchema.width());
+    }
+
     public void setTerminationFlag(TerminationFlag terminationFlag) {
         this.terminationFlag = terminationFlag;
     }
@@ -177,13 +254,15 @@ public final class Pregel<CONFIG extends PregelConfig> {
         try {
             progressTracker.beginSubTask();
 
-            int iteration = 0;
+            int iteration = checkpointer
+                .map(checkpointer -> checkpointer.restore(nodeValues, voteBits, messenger))
+                .orElse(0);
             for (; iteration < config.maxIterations(); iteration++) {
                 terminationFlag.assertRunning();
                 progressTracker.beginSubTask();
 
                 computer.initIteration(iteration);
-                messenger.initIteration(iteration);
+                computer.initMessengerIteration(iteration);
                 computer.runIteration();
 
                 progressTracker.endSubTask();
@@ -197,7 +276,16 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 if (didConverge) {
                     break;
                 }
+
+                int completedIteration = iteration;
+                checkpointer.ifPresent(checkpointer -> checkpointer.checkpoint(
+                    completedIteration,
+                    nodeValues,
+                    voteBits,
+                    messenger
+                ));
             }
+            checkpointer.ifPresent(PregelCheckpointer::clear);
             return ImmutablePregelResult.builder()
                 .nodeValues(nodeValues)
                 .didConverge(didConverge)
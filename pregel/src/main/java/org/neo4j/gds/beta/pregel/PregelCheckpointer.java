@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.checkpoint.Checkpointer;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Persists the state of a Pregel computation at superstep boundaries.
+ * <p>
+ * A checkpoint contains the node values, the vote bits and all messages
+ * that are pending for the next superstep. Checkpoints are identified by the
+ * computation class and validated against a fingerprint of the graph and
+ * the configuration.
+ */
+final class PregelCheckpointer {
+
+    private final Checkpointer checkpointer;
+    private final ProgressTracker progressTracker;
+
+    static Optional<PregelCheckpointer> of(
+        PregelConfig config,
+        Graph graph,
+        BasePregelComputation<?> computation,
+        ProgressTracker progressTracker
+    ) {
+        return Checkpointer
+            .of(config, graph, computation.getClass(), progressTracker)
+            .map(checkpointer -> new PregelCheckpointer(checkpointer, progressTracker));
+    }
+
+    private PregelCheckpointer(Checkpointer checkpointer, ProgressTracker progressTracker) {
+        this.checkpointer = checkpointer;
+        this.progressTracker = progressTracker;
+    }
+
+    /**
+     * Restores the state of the most recent checkpoint, if any.
+     *
+     * @return the superstep to continue the computation with
+     */
+    int restore(NodeValue nodeValues, HugeAtomicBitSet voteBits, Messenger<?> messenger) {
+        return checkpointer
+            .reader()
+            .map(reader -> {
+                try (reader) {
+                    nodeValues.readCheckpoint(reader);
+                    reader.read(voteBits);
+                    messenger.readCheckpoint(reader);
+                    progressTracker.logInfo(formatWithLocale(
+                        "Resuming from checkpoint after superstep %d",
+                        reader.iteration()
+                    ));
+                    return reader.iteration() + 1;
+                }
+            })
+            .orElse(0);
+    }
+
+    void checkpoint(int iteration, NodeValue nodeValues, HugeAtomicBitSet voteBits, Messenger<?> messenger) {
+        checkpointer.checkpoint(iteration, writer -> {
+            nodeValues.writeCheckpoint(writer);
+            writer.write(voteBits);
+            messenger.writeCheckpoint(writer);
+        });
+    }
+
+    void clear() {
+        checkpointer.clear();
+    }
+}
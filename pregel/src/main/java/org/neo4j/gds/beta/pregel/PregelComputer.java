@@ -35,7 +35,9 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final CONFIG config;
     final NodeValue nodeValues;
     final Messenger<?> messenger;
+    final MessageSchema messageSchema;
     final HugeAtomicBitSet voteBits;
+    final ActiveFrontier frontier;
     final ProgressTracker progressTracker;
 
     PregelComputer(
@@ -44,6 +46,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         CONFIG config,
         NodeValue nodeValues,
         Messenger<?> messenger,
+        MessageSchema messageSchema,
         HugeAtomicBitSet voteBits,
         ProgressTracker progressTracker
     ) {
@@ -51,7 +54,10 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.computation = computation;
         this.config = config;
         this.nodeValues = nodeValues;
-        this.messenger = messenger;
+        this.frontier = ActiveFrontier.of(graph.nodeCount(), config.isAsynchronous());
+        // the compute steps send via the messenger, which keeps track of the receivers
+        this.messenger = frontier.track(messenger);
+        this.messageSchema = messageSchema;
         this.voteBits = voteBits;
         this.progressTracker = progressTracker;
     }
@@ -60,12 +66,31 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
 
     abstract void initIteration(int iteration);
 
+    /**
+     * Starts the superstep of the messenger, see {@link ActiveFrontier#initMessengerIteration(Messenger, int)}.
+     * Must be called after {@link #initIteration(int)}.
+     */
+    void initMessengerIteration(int iteration) {
+        frontier.initMessengerIteration(messenger, iteration);
+    }
+
     abstract void runIteration();
 
     abstract boolean hasConverged();
 
     abstract void release();
 
+    /**
+     * A sparse superstep only visits the active nodes, but the
+     * iteration task is sized for all nodes. The nodes that were
+     * skipped still count as processed.
+     */
+    void logSkippedNodes() {
+        if (frontier.isSparse()) {
+            progressTracker.logProgress(graph.nodeCount() - frontier.size());
+        }
+    }
+
     static <CONFIG extends PregelConfig> ComputerBuilder<CONFIG> builder() {
         return new ComputerBuilder<>();
     }
@@ -77,6 +102,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         CONFIG config,
         NodeValue nodeValues,
         Messenger<?> messenger,
+        MessageSchema messageSchema,
         HugeAtomicBitSet voteBits,
         ExecutorService executorService,
         ProgressTracker progressTracker
@@ -95,6 +121,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 config,
                 nodeValues,
                 messenger,
+                messageSchema,
                 voteBits,
                 (ForkJoinPool) executorService,
                 progressTracker
@@ -107,6 +134,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             config,
             nodeValues,
             messenger,
+            messageSchema,
             voteBits,
             config.concurrency(),
             executorService,
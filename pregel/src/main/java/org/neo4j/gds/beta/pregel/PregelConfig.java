@@ -23,6 +23,7 @@ import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.CheckpointConfig;
 import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.config.IterationsConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
@@ -34,7 +35,8 @@ public interface PregelConfig extends
     AlgoBaseConfig,
     RelationshipWeightConfig,
     IterationsConfig,
-    ConcurrencyConfig {
+    ConcurrencyConfig,
+    CheckpointConfig {
 
     @Value.Default
     @Configuration.Key("isAsynchronous")
@@ -42,6 +44,15 @@ public interface PregelConfig extends
         return false;
     }
 
+    /**
+     * Pre-reduce messages per worker thread before they reach the shared message array.
+     * Requires a reducer that declares {@link Reducer#isCombinable()}.
+     */
+    @Value.Default
+    default boolean combineMessages() {
+        return false;
+    }
+
     @Value.Default
     @Configuration.ConvertWith(method = "org.neo4j.gds.beta.pregel.Partitioning#parse")
     @Configuration.ToMapValue("org.neo4j.gds.beta.pregel.Partitioning#toString")
@@ -25,6 +25,8 @@ import org.neo4j.gds.api.nodeproperties.ValueType;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 public interface PregelSchema {
 
@@ -47,6 +49,39 @@ public interface PregelSchema {
             return this;
         }
 
+        /**
+         * Adds an array element of a fixed length. The values of all nodes
+         * are stored in a single flat array instead of one array per node.
+         * Use the slice accessors of the contexts to access single entries.
+         */
+        public PregelSchema.Builder add(String propertyKey, ValueType propertyType, int dimension) {
+            return add(propertyKey, propertyType, dimension, Visibility.PUBLIC);
+        }
+
+        public PregelSchema.Builder add(
+            String propertyKey,
+            ValueType propertyType,
+            int dimension,
+            Visibility visibility
+        ) {
+            if (propertyType != ValueType.DOUBLE_ARRAY && propertyType != ValueType.LONG_ARRAY) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "A dimension can only be declared for array types, got %s for key %s.",
+                    propertyType,
+                    propertyKey
+                ));
+            }
+            if (dimension <= 0) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The dimension of key %s must be positive, got %d.",
+                    propertyKey,
+                    dimension
+                ));
+            }
+            elements.add(ImmutableElement.of(propertyKey, propertyType, visibility).withDimension(dimension));
+            return this;
+        }
+
         public PregelSchema build() {
             return ImmutablePregelSchema.of(elements);
         }
@@ -130,6 +130,11 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
         return queues.get(nodeId)[currentHead];
     }
 
+    @Override
+    int firstPendingIndex(long nodeId) {
+        return heads.get(nodeId);
+    }
+
     @Override
     void grow(long nodeId, int minCapacity) {
         var queue = this.queues.get(nodeId);
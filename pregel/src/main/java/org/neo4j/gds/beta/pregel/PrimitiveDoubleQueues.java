@@ -22,6 +22,8 @@ package org.neo4j.gds.beta.pregel;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
@@ -55,7 +57,52 @@ public abstract class PrimitiveDoubleQueues {
 
     abstract void grow(long nodeId, int newCapacity);
 
+    /**
+     * Index of the first message in the given node's queue
+     * that has not yet been consumed.
+     */
+    abstract int firstPendingIndex(long nodeId);
+
     public void push(long nodeId, double message) {
+        long idx = reserve(nodeId, 1);
+
+        // We place a full fence in order to make sure that writes after the
+        // fence are not re-ordered with reads before the fence. In particular,
+        // we avoid the queues.get call being moved before the grow operation
+        // in order to avoid reading from the queue before it is grown.
+        VarHandle.fullFence();
+
+        // Multiple threads can concurrently update the queue, we need
+        // to signal this with a shared reference to the array.
+        getSharedReference(nodeId);
+        ARRAY_HANDLE.setVolatile(queues.get(nodeId), (int) idx, message);
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Pushes a message that spans multiple consecutive slots, see {@link MessageSchema}.
+     * Slots are given as raw bits and stored by their bit pattern.
+     */
+    void push(long nodeId, long[] slots) {
+        int idx = (int) reserve(nodeId, slots.length);
+
+        VarHandle.fullFence();
+
+        getSharedReference(nodeId);
+        var queue = queues.get(nodeId);
+        for (int i = 0; i < slots.length; i++) {
+            ARRAY_HANDLE.setVolatile(queue, idx + i, Double.longBitsToDouble(slots[i]));
+        }
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Reserves {@code count} consecutive slots in the given node's
+     * queue, growing the queue if necessary.
+     *
+     * @return the index of the first reserved slot
+     */
+    private long reserve(long nodeId, int count) {
         // The index which we will eventually use to
         // insert the message into the nodes' queue.
         long idx;
@@ -69,7 +116,7 @@ public abstract class PrimitiveDoubleQueues {
                 // When the thread is done growing, the index will
                 // turn positive again, so we go ahead and try to
                 // set the next index.
-                var nextId = -idx + 1;
+                var nextId = -idx + count;
 
                 while (true) {
                     var currentIdx = tails.compareAndExchange(nodeId, -idx, nextId);
@@ -91,9 +138,9 @@ public abstract class PrimitiveDoubleQueues {
                     // trying to set the next index.
                 }
             }
-            // We basically perform and getAndIncrement and try
+            // We basically perform and getAndAdd and try
             // to update the tail with the next index.
-            long nextIdx = idx + 1;
+            long nextIdx = idx + count;
 
             if (hasSpaceLeft(nodeId, (int) nextIdx)) {
                 // There is still room in the local queue.
@@ -131,17 +178,7 @@ public abstract class PrimitiveDoubleQueues {
             }
         }
 
-        // We place a full fence in order to make sure that writes after the
-        // fence are not re-ordered with reads before the fence. In particular,
-        // we avoid the queues.get call being moved before the grow operation
-        // in order to avoid reading from the queue before it is grown.
-        VarHandle.fullFence();
-
-        // Multiple threads can concurrently update the queue, we need
-        // to signal this with a shared reference to the array.
-        getSharedReference(nodeId);
-        ARRAY_HANDLE.setVolatile(queues.get(nodeId), (int) idx, message);
-        dropSharedReference(nodeId);
+        return idx;
     }
 
     private void getSharedReference(long nodeId) {
@@ -196,6 +233,33 @@ public abstract class PrimitiveDoubleQueues {
         return queues.get(nodeId).length >= minCapacity;
     }
 
+    void writeCheckpoint(CheckpointWriter writer) {
+        var nodeCount = queues.size();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var queue = queues.get(nodeId);
+            var head = firstPendingIndex(nodeId);
+            var tail = (int) tails.get(nodeId);
+            var messageCount = Math.max(0, tail - head);
+            writer.writeInt(messageCount);
+            writer.writeDoubles(queue, head, messageCount);
+        }
+    }
+
+    void readCheckpoint(CheckpointReader reader) {
+        var nodeCount = queues.size();
+        var messages = new double[0];
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var messageCount = reader.readInt();
+            if (messages.length < messageCount) {
+                messages = new double[messageCount];
+            }
+            reader.readDoubles(messages, 0, messageCount);
+            for (int i = 0; i < messageCount; i++) {
+                push(nodeId, messages[i]);
+            }
+        }
+    }
+
     void release() {
         this.queues.release();
         this.tails.release();
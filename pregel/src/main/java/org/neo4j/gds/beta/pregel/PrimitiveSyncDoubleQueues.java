@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -83,11 +84,26 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     }
 
     void swapQueues() {
+        swap();
+        this.tails.setAll(0);
+    }
+
+    /**
+     * Swaps the queues, but only resets the tails of the given nodes.
+     * All other queues must already be empty.
+     */
+    void swapQueues(HugeLongArray receivers, long receiverCount) {
+        swap();
+        for (long i = 0; i < receiverCount; i++) {
+            this.tails.set(receivers.get(i), 0);
+        }
+    }
+
+    private void swap() {
         // swap tail indexes
         var tmpTails = tails;
         this.tails = prevTails;
         this.prevTails = tmpTails;
-        this.tails.setAll(0);
         // swap queues
         var tmpQueues = queues;
         this.queues = prevQueues;
@@ -98,12 +114,17 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
         iterator.init(prevQueues.get(nodeId), (int) prevTails.get(nodeId));
     }
 
+    @Override
+    int firstPendingIndex(long nodeId) {
+        return 0;
+    }
+
     @Override
     void grow(long nodeId, int minCapacity) {
         var queue = queues.get(nodeId);
         var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
+        // grow by 50%, but at least enough for messages spanning multiple slots
+        var newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
         queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
     }
 
@@ -114,18 +135,48 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
         this.prevQueues.release();
     }
 
-    static class Iterator implements Messages.MessageIterator {
+    static class Iterator implements Messages.MessageIterator, Messages.MessageCursor {
+
+        private final int width;
 
         double[] queue;
         private int length;
         private int pos;
 
+        Iterator() {
+            this(1);
+        }
+
+        Iterator(int width) {
+            this.width = width;
+        }
+
         void init(double[] queue, int length) {
             this.queue = queue;
             this.pos = 0;
             this.length = length;
         }
 
+        @Override
+        public boolean advance() {
+            // pos points behind the current message
+            if (pos + width > length) {
+                return false;
+            }
+            pos += width;
+            return true;
+        }
+
+        @Override
+        public long longValue(int component) {
+            return Double.doubleToRawLongBits(queue[pos - width + component]);
+        }
+
+        @Override
+        public double doubleValue(int component) {
+            return queue[pos - width + component];
+        }
+
         @Override
         public boolean hasNext() {
             return pos < length;
@@ -31,6 +31,26 @@ public interface Reducer {
      */
     double reduce(double current, double message);
 
+    /**
+     * Whether partially reduced values may be merged using {@link #combine}.
+     * Only combinable reducers support pre-reducing messages per worker,
+     * see {@link PregelConfig#combineMessages()}.
+     */
+    default boolean isCombinable() {
+        return false;
+    }
+
+    /**
+     * Combines two partially reduced values. Messages sent by the same
+     * worker may be reduced locally before they are combined with the
+     * messages of other workers. The default delegates to {@link #reduce},
+     * which is correct if a partial result can be treated like a message.
+     * Only called for reducers that declare {@link #isCombinable()}.
+     */
+    default double combine(double current, double partial) {
+        return reduce(current, partial);
+    }
+
     class Sum implements Reducer {
 
         @Override
@@ -43,6 +63,10 @@ public interface Reducer {
             return current + message;
         }
 
+        @Override
+        public boolean isCombinable() {
+            return true;
+        }
     }
 
     class Min implements Reducer {
@@ -56,6 +80,11 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.min(current, message);
         }
+
+        @Override
+        public boolean isCombinable() {
+            return true;
+        }
     }
 
     class Max implements Reducer {
@@ -69,6 +98,11 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.max(current, message);
         }
+
+        @Override
+        public boolean isCombinable() {
+            return true;
+        }
     }
 
     class Count implements Reducer {
@@ -82,5 +116,15 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return current + 1;
         }
+
+        @Override
+        public boolean isCombinable() {
+            return true;
+        }
+
+        @Override
+        public double combine(double current, double partial) {
+            return current + partial;
+        }
     }
 }
@@ -19,21 +19,36 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 /**
  * A messenger implementation that is backed by two double arrays used
  * to send and receive messages. The messenger can only be applied in
  * combination with a {@link Reducer}
  * which atomically reduces all incoming messages into a single one.
+ * <br>
+ * If {@link PregelConfig#combineMessages()} is set and more than one thread
+ * is used, every worker pre-reduces its messages in a {@link MessageCombiner}
+ * to avoid contention on the slots of highly connected nodes.
+ * The combiners are flushed at the end of each superstep.
  */
-public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
+public class ReducingMessenger implements DoubleMessenger<ReducingMessenger.SingleMessageIterator> {
 
     private final Graph graph;
     private final PregelConfig config;
@@ -42,30 +57,54 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
     private HugeAtomicDoubleArray sendArray;
     private HugeAtomicDoubleArray receiveArray;
 
+    private final @Nullable CloseableThreadLocal<MessageCombiner> combiners;
+    private final Queue<MessageCombiner> allCombiners;
+
     ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer) {
         assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
 
+        if (config.combineMessages() && !reducer.isCombinable()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Message combining requires a combinable reducer, but `%s` does not declare `isCombinable()`.",
+                reducer.getClass().getSimpleName()
+            ));
+        }
+
         this.graph = graph;
         this.config = config;
         this.reducer = reducer;
 
         this.receiveArray = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
         this.sendArray = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
+
+        this.allCombiners = new ConcurrentLinkedQueue<>();
+        this.combiners = usesCombiners(config)
+            ? CloseableThreadLocal.withInitial(this::newCombiner)
+            : null;
     }
 
-    static MemoryEstimation memoryEstimation() {
-        return MemoryEstimations.builder(ReducingMessenger.class)
+    static MemoryEstimation memoryEstimation(boolean combineMessages) {
+        var builder = MemoryEstimations.builder(ReducingMessenger.class)
             .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
-            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation)
-            .build();
+            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation);
+
+        if (combineMessages) {
+            builder.perThread(
+                "message combiners",
+                concurrency -> concurrency > 1 ? concurrency * MessageCombiner.memoryEstimation() : 0
+            );
+        }
+
+        return builder.build();
+    }
+
+    private static boolean usesCombiners(PregelConfig config) {
+        return config.combineMessages() && config.concurrency() > 1;
     }
 
     @Override
     public void initIteration(int iteration) {
-        // Swap arrays
-        var tmp = receiveArray;
-        this.receiveArray = sendArray;
-        this.sendArray = tmp;
+        swapArrays();
 
         int concurrency = config.concurrency();
         ParallelUtil.parallelForEachNode(
@@ -76,12 +115,54 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         );
     }
 
+    @Override
+    public void initSparseIteration(int iteration, HugeLongArray receivers, long receiverCount) {
+        swapArrays();
+
+        for (long i = 0; i < receiverCount; i++) {
+            sendArray.set(receivers.get(i), reducer.identity());
+        }
+    }
+
+    private void swapArrays() {
+        flushCombiners();
+
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+    }
+
     @Override
     public void sendTo(long targetNodeId, double message) {
-        sendArray.update(
-            targetNodeId,
-            current -> reducer.reduce(current, message)
+        if (combiners != null) {
+            combiners.get().add(targetNodeId, message);
+        } else {
+            sendArray.update(
+                targetNodeId,
+                current -> reducer.reduce(current, message)
+            );
+        }
+    }
+
+    private MessageCombiner newCombiner() {
+        var combiner = new MessageCombiner(
+            reducer,
+            (targetNodeId, partialMessage) -> sendArray.update(
+                targetNodeId,
+                current -> reducer.combine(current, partialMessage)
+            )
         );
+        allCombiners.add(combiner);
+        return combiner;
+    }
+
+    /**
+     * Must only be called between supersteps, when no worker is sending messages.
+     */
+    private void flushCombiners() {
+        for (var combiner : allCombiners) {
+            combiner.flush();
+        }
     }
 
     @Override
@@ -101,10 +182,26 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
 
     @Override
     public void release() {
+        if (combiners != null) {
+            combiners.close();
+        }
+        allCombiners.clear();
         sendArray.release();
         receiveArray.release();
     }
 
+    @Override
+    public void writeCheckpoint(CheckpointWriter writer) {
+        // messages of the current iteration are received after the next swap
+        flushCombiners();
+        writer.write(sendArray);
+    }
+
+    @Override
+    public void readCheckpoint(CheckpointReader reader) {
+        reader.read(sendArray);
+    }
+
     static class SingleMessageIterator implements Messages.MessageIterator {
 
         boolean hasNext;
@@ -19,9 +19,12 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 
-public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.Iterator> {
+public class SyncQueueMessenger implements DoubleMessenger<PrimitiveSyncDoubleQueues.Iterator> {
 
     private final PrimitiveSyncDoubleQueues queues;
 
@@ -38,6 +41,11 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
         queues.swapQueues();
     }
 
+    @Override
+    public void initSparseIteration(int iteration, HugeLongArray receivers, long receiverCount) {
+        queues.swapQueues(receivers, receiverCount);
+    }
+
     @Override
     public void sendTo(long targetNodeId, double message) {
         queues.push(targetNodeId, message);
@@ -57,4 +65,14 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
     public void release() {
         queues.release();
     }
+
+    @Override
+    public void writeCheckpoint(CheckpointWriter writer) {
+        queues.writeCheckpoint(writer);
+    }
+
+    @Override
+    public void readCheckpoint(CheckpointReader reader) {
+        queues.readCheckpoint(reader);
+    }
 }
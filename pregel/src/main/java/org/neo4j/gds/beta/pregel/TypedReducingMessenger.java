@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointReader;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointWriter;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.termination.TerminationFlag;
+
+/**
+ * A messenger for messages that follow a reducing {@link MessageSchema}.
+ * Every component is stored in its own slot of a flat long array and is
+ * atomically reduced with the reducer of that component. A bit set keeps
+ * track of which nodes received a message, so that the identity of a
+ * reducer can also be a regular message value.
+ */
+public class TypedReducingMessenger implements TypedMessenger<TypedReducingMessenger.SingleMessageCursor> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final MessageSchema schema;
+    private final int width;
+
+    private HugeAtomicLongArray sendArray;
+    private HugeAtomicLongArray receiveArray;
+    private HugeAtomicBitSet sendBits;
+    private HugeAtomicBitSet receiveBits;
+
+    TypedReducingMessenger(Graph graph, PregelConfig config, MessageSchema schema) {
+        assert schema.isReducing() : "message schema must define reducers";
+
+        this.graph = graph;
+        this.config = config;
+        this.schema = schema;
+        this.width = schema.width();
+
+        var size = graph.nodeCount() * width;
+        this.sendArray = HugeAtomicLongArray.of(size, ParalleLongPageCreator.passThrough(config.concurrency()));
+        this.receiveArray = HugeAtomicLongArray.of(size, ParalleLongPageCreator.passThrough(config.concurrency()));
+        this.sendBits = HugeAtomicBitSet.create(graph.nodeCount());
+        this.receiveBits = HugeAtomicBitSet.create(graph.nodeCount());
+        resetSendArray();
+    }
+
+    static MemoryEstimation memoryEstimation(int width) {
+        return MemoryEstimations.builder(TypedReducingMessenger.class)
+            .perNode("send array", nodeCount -> HugeAtomicLongArray.memoryEstimation(nodeCount * width))
+            .perNode("receive array", nodeCount -> HugeAtomicLongArray.memoryEstimation(nodeCount * width))
+            .perNode("send bits", HugeAtomicBitSet::memoryEstimation)
+            .perNode("receive bits", HugeAtomicBitSet::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        swapArrays();
+
+        sendBits.clear();
+        resetSendArray();
+    }
+
+    @Override
+    public void initSparseIteration(int iteration, HugeLongArray receivers, long receiverCount) {
+        swapArrays();
+
+        for (long i = 0; i < receiverCount; i++) {
+            var nodeId = receivers.get(i);
+            sendBits.clear(nodeId);
+            resetSendSlots(nodeId);
+        }
+    }
+
+    private void swapArrays() {
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        var tmpBits = receiveBits;
+        this.receiveBits = sendBits;
+        this.sendBits = tmpBits;
+    }
+
+    private void resetSendArray() {
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            config.concurrency(),
+            TerminationFlag.RUNNING_TRUE,
+            this::resetSendSlots
+        );
+    }
+
+    private void resetSendSlots(long nodeId) {
+        var offset = nodeId * width;
+        for (int component = 0; component < width; component++) {
+            sendArray.set(offset + component, schema.identity(component));
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] message) {
+        var offset = targetNodeId * width;
+        for (int component = 0; component < width; component++) {
+            var index = offset + component;
+            var value = message[component];
+            var current = sendArray.get(index);
+            while (true) {
+                var reduced = schema.reduce(component, current, value);
+                var witness = sendArray.compareAndExchange(index, current, reduced);
+                if (witness == current) {
+                    break;
+                }
+                current = witness;
+            }
+        }
+        sendBits.set(targetNodeId);
+    }
+
+    @Override
+    public SingleMessageCursor messageIterator() {
+        return new SingleMessageCursor(width);
+    }
+
+    @Override
+    public void initMessageIterator(SingleMessageCursor messageIterator, long nodeId, boolean isFirstIteration) {
+        var hasMessage = receiveBits.get(nodeId);
+        if (hasMessage) {
+            var offset = nodeId * width;
+            for (int component = 0; component < width; component++) {
+                messageIterator.values[component] = receiveArray.get(offset + component);
+            }
+        }
+        messageIterator.init(hasMessage);
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+        sendBits.release();
+        receiveBits.release();
+    }
+
+    @Override
+    public void writeCheckpoint(CheckpointWriter writer) {
+        // messages of the current iteration are received after the next swap
+        writer.write(sendBits);
+        writer.write(sendArray);
+    }
+
+    @Override
+    public void readCheckpoint(CheckpointReader reader) {
+        reader.read(sendBits);
+        reader.read(sendArray);
+    }
+
+    static class SingleMessageCursor implements Messages.MessageIterator, Messages.MessageCursor {
+
+        final long[] values;
+        private boolean hasNext;
+
+        SingleMessageCursor(int width) {
+            this.values = new long[width];
+        }
+
+        void init(boolean hasNext) {
+            this.hasNext = hasNext;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public double nextDouble() {
+            hasNext = false;
+            return Double.longBitsToDouble(values[0]);
+        }
+
+        @Override
+        public boolean advance() {
+            var result = hasNext;
+            hasNext = false;
+            return result;
+        }
+
+        @Override
+        public long longValue(int component) {
+            return values[component];
+        }
+
+        @Override
+        public double doubleValue(int component) {
+            return Double.longBitsToDouble(values[component]);
+        }
+    }
+}
@@ -23,14 +23,19 @@ import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.BasePregelComputation;
+import org.neo4j.gds.beta.pregel.DoubleMessenger;
+import org.neo4j.gds.beta.pregel.MessageSchema;
 import org.neo4j.gds.beta.pregel.Messenger;
 import org.neo4j.gds.beta.pregel.NodeValue;
 import org.neo4j.gds.beta.pregel.PregelConfig;
+import org.neo4j.gds.beta.pregel.TypedMessenger;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.Optional;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 /**
  * A context that is used during the computation. It allows an implementation
  * to send messages to other nodes and change the state of the currently
@@ -40,9 +45,17 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
 
     private final HugeAtomicBitSet voteBits;
 
-    private final Messenger<?> messenger;
     private final MutableInt iteration;
     private final MutableBoolean hasSendMessage;
+    private final long[] messageSlots;
+
+    // senders are selected once by the message schema, senders
+    // for a layout that the schema does not declare always throw
+    private final DoubleSender doubleSender;
+    private final LongSender longSender;
+    private final PairSender pairSender;
+    private final ArraySender arraySender;
+    private final SlotSender slotSender;
 
     protected BasePregelComputation<CONFIG> computation;
 
@@ -51,6 +64,7 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
                           BasePregelComputation<CONFIG> computation,
                           NodeValue nodeValue,
                           Messenger<?> messenger,
+                          MessageSchema messageSchema,
                           HugeAtomicBitSet voteBits,
                           MutableInt iteration,
                           Optional<MutableBoolean> hasSendMessage,
@@ -60,10 +74,51 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         this.sendMessagesFunction = config.hasRelationshipWeightProperty()
             ? this::sendToNeighborsWeighted
             : this::sendToNeighbors;
-        this.messenger = messenger;
         this.voteBits = voteBits;
         this.iteration = iteration;
         this.hasSendMessage = hasSendMessage.orElse(new MutableBoolean(false));
+
+        this.messageSlots = new long[messageSchema.width()];
+        this.slotSender = slotSender(messageSchema, messenger);
+        this.doubleSender = messageSchema.isSingleDouble()
+            ? doubleMessenger(messenger)::sendTo
+            : (targetNodeId, message) -> { throw schemaMismatch(messageSchema, "a single double"); };
+        this.longSender = messageSchema.isLong()
+            ? this::sendLongSlot
+            : (targetNodeId, message) -> { throw schemaMismatch(messageSchema, "a single long"); };
+        this.pairSender = messageSchema.isLongDoublePair()
+            ? this::sendPairSlots
+            : (targetNodeId, first, second) -> { throw schemaMismatch(messageSchema, "a long and a double"); };
+        this.arraySender = messageSchema.isDoubleArray()
+            ? this::sendArraySlots
+            : (targetNodeId, message) -> { throw schemaMismatch(messageSchema, "only doubles"); };
+    }
+
+    private static SlotSender slotSender(MessageSchema messageSchema, Messenger<?> messenger) {
+        if (messageSchema.isSingleDouble()) {
+            // single doubles are handled by the default messengers
+            var doubleMessenger = doubleMessenger(messenger);
+            return (targetNodeId, slots) -> doubleMessenger.sendTo(targetNodeId, Double.longBitsToDouble(slots[0]));
+        }
+        if (!(messenger instanceof TypedMessenger)) {
+            throw unsupportedMessenger(messenger, "typed messages");
+        }
+        return ((TypedMessenger<?>) messenger)::sendTo;
+    }
+
+    private static DoubleMessenger<?> doubleMessenger(Messenger<?> messenger) {
+        if (!(messenger instanceof DoubleMessenger)) {
+            throw unsupportedMessenger(messenger, "single double messages");
+        }
+        return (DoubleMessenger<?>) messenger;
+    }
+
+    private static IllegalStateException unsupportedMessenger(Messenger<?> messenger, String messages) {
+        return new IllegalStateException(formatWithLocale(
+            "The messenger `%s` does not support %s.",
+            messenger.getClass().getSimpleName(),
+            messages
+        ));
     }
 
     private final SendMessagesFunction sendMessagesFunction;
@@ -113,6 +168,24 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         return nodeValue.doubleArrayValue(key, nodeId);
     }
 
+    /**
+     * Returns a single entry of the fixed width double array for the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or is not a fixed width double array
+     */
+    public double doubleArrayNodeValueAt(String key, int index) {
+        return nodeValue.doubleArrayValue(key, nodeId, index);
+    }
+
+    /**
+     * Returns a single entry of the fixed width long array for the given node schema key.
+     *
+     * @throws IllegalArgumentException if the key does not exist or is not a fixed width long array
+     */
+    public long longArrayNodeValueAt(String key, int index) {
+        return nodeValue.longArrayValue(key, nodeId, index);
+    }
+
     /**
      * Notify the execution framework that this node intends
      * to stop the computation. If the node voted to halt
@@ -151,12 +224,109 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
      * node can be any existing node id in the graph.
      *
      * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     * @throws IllegalArgumentException if the computation declares a typed message schema
      */
     public void sendTo(long targetNodeId, double message) {
-        messenger.sendTo(targetNodeId, message);
+        doubleSender.sendTo(targetNodeId, message);
+        this.hasSendMessage.setValue(true);
+    }
+
+    /**
+     * Sends the given long message to the target node.
+     * Requires a message schema with a single long component.
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        longSender.sendTo(targetNodeId, message);
+    }
+
+    /**
+     * Sends the given long message to all neighbors of the node.
+     * Relationship weights are not applied to typed messages.
+     */
+    public void sendLongToNeighbors(long message) {
+        graph.forEachRelationship(nodeId, (ignored, targetNodeId) -> {
+            longSender.sendTo(targetNodeId, message);
+            return true;
+        });
+    }
+
+    /**
+     * Sends a message composed of a long and a double to the target node.
+     * Requires a message schema with a long and a double component.
+     */
+    public void sendPairTo(long targetNodeId, long first, double second) {
+        pairSender.sendTo(targetNodeId, first, second);
+    }
+
+    /**
+     * Sends a message composed of a long and a double to all neighbors of the node.
+     * Relationship weights are not applied to typed messages.
+     */
+    public void sendPairToNeighbors(long first, double second) {
+        graph.forEachRelationship(nodeId, (ignored, targetNodeId) -> {
+            pairSender.sendTo(targetNodeId, first, second);
+            return true;
+        });
+    }
+
+    /**
+     * Sends the given double array to the target node. The array
+     * length must match the width of the message schema which
+     * must only consist of double components.
+     */
+    public void sendArrayTo(long targetNodeId, double[] message) {
+        arraySender.sendTo(targetNodeId, message);
+    }
+
+    /**
+     * Sends the given double array to all neighbors of the node.
+     * Relationship weights are not applied to typed messages.
+     */
+    public void sendArrayToNeighbors(double[] message) {
+        graph.forEachRelationship(nodeId, (ignored, targetNodeId) -> {
+            arraySender.sendTo(targetNodeId, message);
+            return true;
+        });
+    }
+
+    private void sendLongSlot(long targetNodeId, long message) {
+        messageSlots[0] = message;
+        sendSlots(targetNodeId);
+    }
+
+    private void sendPairSlots(long targetNodeId, long first, double second) {
+        messageSlots[0] = first;
+        messageSlots[1] = Double.doubleToRawLongBits(second);
+        sendSlots(targetNodeId);
+    }
+
+    private void sendArraySlots(long targetNodeId, double[] message) {
+        if (message.length != messageSlots.length) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of length %d, got %d.",
+                messageSlots.length,
+                message.length
+            ));
+        }
+        for (int i = 0; i < message.length; i++) {
+            messageSlots[i] = Double.doubleToRawLongBits(message[i]);
+        }
+        sendSlots(targetNodeId);
+    }
+
+    private void sendSlots(long targetNodeId) {
+        slotSender.sendTo(targetNodeId, messageSlots);
         this.hasSendMessage.setValue(true);
     }
 
+    private static IllegalArgumentException schemaMismatch(MessageSchema messageSchema, String expectedLayout) {
+        return new IllegalArgumentException(formatWithLocale(
+            "The message schema must consist of %s, got %d component(s).",
+            expectedLayout,
+            messageSchema.width()
+        ));
+    }
+
     private void sendToNeighbors(long sourceNodeId, double message) {
         graph.forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             sendTo(targetNodeId, message);
@@ -180,6 +350,31 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         void sendToNeighbors(long sourceNodeId, double message);
     }
 
+    @FunctionalInterface
+    interface DoubleSender {
+        void sendTo(long targetNodeId, double message);
+    }
+
+    @FunctionalInterface
+    interface LongSender {
+        void sendTo(long targetNodeId, long message);
+    }
+
+    @FunctionalInterface
+    interface PairSender {
+        void sendTo(long targetNodeId, long first, double second);
+    }
+
+    @FunctionalInterface
+    interface ArraySender {
+        void sendTo(long targetNodeId, double[] message);
+    }
+
+    @FunctionalInterface
+    interface SlotSender {
+        void sendTo(long targetNodeId, long[] slots);
+    }
+
     public static final class BidirectionalComputeContext<CONFIG extends PregelConfig> extends ComputeContext<CONFIG> implements BidirectionalNodeCentricContext {
 
         private final SendMessagesIncomingFunction sendMessagesIncomingFunction;
@@ -190,6 +385,7 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
             BasePregelComputation<CONFIG> computation,
             NodeValue nodeValue,
             Messenger<?> messenger,
+            MessageSchema messageSchema,
             HugeAtomicBitSet voteBits,
             MutableInt iteration,
             Optional<MutableBoolean> hasSendMessage,
@@ -201,6 +397,7 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
                 computation,
                 nodeValue,
                 messenger,
+                messageSchema,
                 voteBits,
                 iteration,
                 hasSendMessage,
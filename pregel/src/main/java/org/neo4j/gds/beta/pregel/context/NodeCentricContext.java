@@ -110,6 +110,30 @@ public abstract class NodeCentricContext<CONFIG extends PregelConfig> extends Pr
         nodeValue.set(key, nodeId, value);
     }
 
+    /**
+     * Sets a single entry of a fixed width double array for the given node schema key.
+     *
+     * @param key node schema key
+     * @param index position within the array
+     * @param value property value
+     * @throws IllegalArgumentException if the key does not exist or is not a fixed width double array
+     */
+    public void setDoubleArrayNodeValueAt(String key, int index, double value) {
+        nodeValue.setArrayEntry(key, nodeId, index, value);
+    }
+
+    /**
+     * Sets a single entry of a fixed width long array for the given node schema key.
+     *
+     * @param key node schema key
+     * @param index position within the array
+     * @param value property value
+     * @throws IllegalArgumentException if the key does not exist or is not a fixed width long array
+     */
+    public void setLongArrayNodeValueAt(String key, int index, long value) {
+        nodeValue.setArrayEntry(key, nodeId, index, value);
+    }
+
     /**
      * Returns the degree (number of relationships) of the currently processed node.
      */
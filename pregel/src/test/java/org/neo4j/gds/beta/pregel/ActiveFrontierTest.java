@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveFrontierTest {
+
+    private static final long NODE_COUNT = 100 * ActiveFrontier.SPARSE_RATIO;
+
+    @Test
+    void firstSuperstepIsDense() {
+        var frontier = ActiveFrontier.of(NODE_COUNT, false);
+
+        frontier.advance();
+
+        assertThat(frontier.isSparse()).isFalse();
+    }
+
+    @Test
+    void trackedNodesFormTheNextFrontier() {
+        var frontier = ActiveFrontier.of(NODE_COUNT, false);
+        frontier.advance();
+
+        frontier.activate(42);
+        frontier.activate(1337);
+        frontier.activate(42);
+
+        frontier.advance();
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.size()).isEqualTo(2);
+        assertThat(activeNodes(frontier, Partition.of(0, frontier.size()))).containsExactlyInAnyOrder(42L, 1337L);
+    }
+
+    @Test
+    void messagesActivateTheirReceivers() {
+        var frontier = ActiveFrontier.of(NODE_COUNT, false);
+        var messenger = frontier.track(new SyncQueueMessenger(NODE_COUNT));
+        frontier.advance();
+
+        messenger.sendTo(7, 1.0);
+        messenger.sendTo(7, 2.0);
+
+        frontier.advance();
+
+        assertThat(activeNodes(frontier, Partition.of(0, frontier.size()))).containsExactly(7L);
+    }
+
+    @Test
+    void sparseSuperstepsOnlyResetTheReceiversOfTheMessenger() {
+        var frontier = ActiveFrontier.of(NODE_COUNT, false);
+        var messenger = frontier.track(new SyncQueueMessenger(NODE_COUNT));
+
+        frontier.advance();
+        frontier.initMessengerIteration(messenger, 0);
+        messenger.sendTo(7, 1.0);
+
+        frontier.advance();
+        frontier.initMessengerIteration(messenger, 1);
+        assertThat(messages(messenger, 7)).containsExactly(1.0);
+
+        // recycles the slots of the first superstep, which only contain messages to 7
+        frontier.advance();
+        frontier.initMessengerIteration(messenger, 2);
+        messenger.sendTo(7, 2.0);
+
+        frontier.advance();
+        frontier.initMessengerIteration(messenger, 3);
+        assertThat(messages(messenger, 7)).containsExactly(2.0);
+    }
+
+    @Test
+    void fallsBackToDenseIfTheFrontierIsLarge() {
+        var frontier = ActiveFrontier.of(NODE_COUNT, false);
+        frontier.advance();
+
+        for (long nodeId = 0; nodeId < NODE_COUNT / 2; nodeId++) {
+            frontier.activate(nodeId);
+        }
+        frontier.advance();
+
+        assertThat(frontier.isSparse()).isFalse();
+
+        // after a dense superstep, a small frontier is sparse again
+        frontier.activate(23);
+        frontier.advance();
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(activeNodes(frontier, Partition.of(0, frontier.size()))).containsExactly(23L);
+    }
+
+    @Test
+    void emptiesTheFrontierAfterEachSuperstep() {
+        var frontier = ActiveFrontier.of(NODE_COUNT, false);
+        frontier.advance();
+        frontier.activate(42);
+        frontier.advance();
+        frontier.advance();
+
+        // 42 must be tracked again after its bit has been reused
+        frontier.activate(42);
+        frontier.advance();
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(activeNodes(frontier, Partition.of(0, frontier.size()))).containsExactly(42L);
+    }
+
+    @Test
+    void worklistBatchesCoverAllActiveNodes() {
+        var frontier = ActiveFrontier.of(NODE_COUNT, false);
+        frontier.advance();
+        for (long nodeId = 0; nodeId < 10; nodeId++) {
+            frontier.activate(nodeId);
+        }
+        frontier.advance();
+
+        var visited = new ArrayList<Long>();
+        for (int worker = 0; worker < 4; worker++) {
+            visited.addAll(activeNodes(frontier, frontier.worklistBatch(worker, 4)));
+        }
+
+        assertThat(visited).containsExactlyInAnyOrder(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    }
+
+    @Test
+    void isDisabledForAsynchronousMessaging() {
+        var frontier = ActiveFrontier.of(NODE_COUNT, true);
+        frontier.advance();
+        frontier.activate(42);
+        frontier.advance();
+
+        assertThat(frontier.isEnabled()).isFalse();
+        assertThat(frontier.isSparse()).isFalse();
+    }
+
+    @Test
+    void memoryEstimation() {
+        assertThat(ActiveFrontier.memoryEstimation(ActiveFrontier.SPARSE_RATIO - 1)).isEqualTo(0);
+        // 2 bitsets of 50 words and 2 worklists of 100 nodes
+        assertThat(ActiveFrontier.memoryEstimation(NODE_COUNT)).isEqualTo(2624);
+    }
+
+    private static List<Double> messages(Messenger<PrimitiveSyncDoubleQueues.Iterator> messenger, long nodeId) {
+        var iterator = messenger.messageIterator();
+        messenger.initMessageIterator(iterator, nodeId, false);
+        var messages = new ArrayList<Double>();
+        while (iterator.hasNext()) {
+            messages.add(iterator.nextDouble());
+        }
+        return messages;
+    }
+
+    private static List<Long> activeNodes(ActiveFrontier frontier, Partition worklistBatch) {
+        var nodes = new ArrayList<Long>();
+        frontier.forEachActiveNode(worklistBatch, nodes::add);
+        return nodes;
+    }
+}
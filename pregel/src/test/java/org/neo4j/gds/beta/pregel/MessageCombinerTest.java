@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageCombinerTest {
+
+    @Test
+    void combinesMessagesToTheSameTarget() {
+        var received = new HashMap<Long, Double>();
+        var combiner = new MessageCombiner(new Reducer.Sum(), collectInto(received));
+
+        combiner.add(42, 1.0);
+        combiner.add(42, 2.0);
+        combiner.add(1337, 4.0);
+
+        assertThat(received).isEmpty();
+
+        combiner.flush();
+
+        assertThat(received).containsExactlyInAnyOrderEntriesOf(Map.of(42L, 3.0, 1337L, 4.0));
+    }
+
+    @Test
+    void passesPartialMessagesOnEviction() {
+        var received = new HashMap<Long, Double>();
+        var combiner = new MessageCombiner(new Reducer.Sum(), collectInto(received));
+
+        // more targets than slots forces evictions
+        long targetCount = 4L * MessageCombiner.CAPACITY;
+        for (long target = 0; target < targetCount; target++) {
+            combiner.add(target, 1.0);
+            combiner.add(target, 1.0);
+        }
+        combiner.flush();
+
+        assertThat(received).hasSize((int) targetCount);
+        assertThat(received.values()).containsOnly(2.0);
+    }
+
+    @Test
+    void flushEmptiesTheBuffer() {
+        var received = new HashMap<Long, Double>();
+        var combiner = new MessageCombiner(new Reducer.Sum(), collectInto(received));
+
+        combiner.add(42, 1.0);
+        combiner.flush();
+        combiner.flush();
+
+        assertThat(received).containsExactlyEntriesOf(Map.of(42L, 1.0));
+    }
+
+    @Test
+    void combinesPartialCounts() {
+        var reducer = new Reducer.Count();
+        var received = new HashMap<Long, Double>();
+        var combiner = new MessageCombiner(reducer, collectInto(received));
+
+        for (int i = 0; i < 5; i++) {
+            combiner.add(42, 1337.0);
+        }
+        combiner.flush();
+
+        assertThat(received).containsExactlyEntriesOf(Map.of(42L, 5.0));
+        assertThat(reducer.combine(3.0, received.get(42L))).isEqualTo(8.0);
+    }
+
+    private static MessageCombiner.Sink collectInto(Map<Long, Double> received) {
+        return (targetNodeId, partialMessage) -> received.merge(targetNodeId, partialMessage, Double::sum);
+    }
+}
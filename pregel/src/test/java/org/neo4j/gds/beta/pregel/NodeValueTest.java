@@ -84,6 +84,62 @@ class NodeValueTest {
             .hasMessageContaining("is not compatible with available property type");
     }
 
+    @Test
+    void fixedWidthArrays() {
+        var schema = new PregelSchema.Builder()
+            .add("embedding", ValueType.DOUBLE_ARRAY, 3)
+            .add("labels", ValueType.LONG_ARRAY, 2)
+            .build();
+        var nodeValues = NodeValue.of(schema, 10, 4);
+
+        assertThat(nodeValues.isFixedWidth("embedding")).isTrue();
+        assertThat(nodeValues.fixedWidthDoubleArrayProperties("embedding").dimension()).isEqualTo(3);
+        assertThat(nodeValues.fixedWidthDoubleArrayProperties("embedding").nodeCount()).isEqualTo(10);
+
+        nodeValues.set("embedding", 4, new double[]{1.0, 2.0, 3.0});
+        nodeValues.setArrayEntry("embedding", 5, 1, 42.0);
+        nodeValues.setArrayEntry("labels", 9, 1, 1337L);
+
+        assertThat(nodeValues.doubleArrayValue("embedding", 4)).containsExactly(1.0, 2.0, 3.0);
+        assertThat(nodeValues.doubleArrayValue("embedding", 5)).containsExactly(0.0, 42.0, 0.0);
+        assertThat(nodeValues.doubleArrayValue("embedding", 4, 2)).isEqualTo(3.0);
+        assertThat(nodeValues.longArrayValue("labels", 9)).containsExactly(0L, 1337L);
+        assertThat(nodeValues.longArrayValue("labels", 9, 1)).isEqualTo(1337L);
+    }
+
+    @Test
+    void throwWhenSettingFixedWidthArrayOfWrongLength() {
+        var schema = new PregelSchema.Builder().add("KEY", ValueType.DOUBLE_ARRAY, 3).build();
+        var nodeValues = NodeValue.of(schema, 10, 4);
+
+        assertThatThrownBy(() -> nodeValues.set("KEY", 0, new double[]{1.0}))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Expected an array of length 3, got 1.");
+    }
+
+    @Test
+    void throwWhenMixingArrayAccessors() {
+        var schema = new PregelSchema.Builder()
+            .add("FIXED", ValueType.DOUBLE_ARRAY, 3)
+            .add("DYNAMIC", ValueType.DOUBLE_ARRAY)
+            .build();
+        var nodeValues = NodeValue.of(schema, 10, 4);
+
+        assertThatThrownBy(() -> nodeValues.doubleArrayProperties("FIXED"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("has a fixed dimension");
+        assertThatThrownBy(() -> nodeValues.fixedWidthDoubleArrayProperties("DYNAMIC"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("has no fixed dimension");
+    }
+
+    @Test
+    void throwWhenDeclaringDimensionForScalars() {
+        assertThatThrownBy(() -> new PregelSchema.Builder().add("KEY", ValueType.DOUBLE, 3))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("A dimension can only be declared for array types, got DOUBLE for key KEY.");
+    }
+
     static Stream<Arguments> validPropertyTypeAndGetters() {
         BiConsumer<NodeValue, String> longGetter = NodeValue::longProperties;
         BiConsumer<NodeValue, String> doubleGetter = NodeValue::doubleProperties;
@@ -21,7 +21,9 @@ package org.neo4j.gds.beta.pregel;
 
 import org.assertj.core.api.ThrowableAssert;
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -45,6 +47,8 @@ import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.checkpoint.Checkpoint;
+import org.neo4j.gds.core.utils.checkpoint.CheckpointLocation;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
@@ -57,9 +61,12 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -95,6 +102,11 @@ class PregelTest {
     @Inject
     private TestGraph graph;
 
+    @AfterEach
+    void resetCheckpointLocation() {
+        CheckpointLocation.set(null);
+    }
+
     @ParameterizedTest
     @MethodSource("partitioningConfigAndResult")
     void sendsMessages(
@@ -135,6 +147,90 @@ class PregelTest {
         assertTransactionTermination(pregelJob::run);
     }
 
+    @ParameterizedTest
+    @MethodSource("partitioningConfigAndResult")
+    void resumesFromCheckpoint(
+        Partitioning partitioning,
+        ImmutablePregelConfig.Builder configBuilder,
+        PregelComputation<PregelConfig> computation,
+        double[] expected,
+        @TempDir Path checkpointLocation
+    ) {
+        CheckpointLocation.set(checkpointLocation);
+        var checkpointDirectory = checkpointLocation.resolve("pregel");
+
+        var config = configBuilder
+            .partitioning(partitioning)
+            .checkpointDirectory("pregel")
+            .build();
+        var checkpointName = Checkpoint.name(computation.getClass(), Checkpoint.fingerprint(graph, config.toMap(), config.concurrency()));
+
+        var interruptedJob = Pregel.create(
+            graph,
+            config,
+            computation,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+        // terminate right before the second superstep
+        var remainingChecks = new AtomicInteger(1);
+        interruptedJob.setTerminationFlag(() -> remainingChecks.getAndDecrement() > 0);
+        assertTransactionTermination(interruptedJob::run);
+        interruptedJob.release();
+
+        assertThat(Checkpoint.exists(checkpointDirectory, checkpointName)).isTrue();
+
+        var resumedJob = Pregel.create(
+            graph,
+            config,
+            computation,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = resumedJob.run().nodeValues();
+        assertArrayEquals(expected, nodeValues.doubleProperties(KEY).toArray());
+        assertThat(Checkpoint.exists(checkpointDirectory, checkpointName)).isFalse();
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningConfigAndResult")
+    void ignoresCheckpointWithDifferentFingerprint(
+        Partitioning partitioning,
+        ImmutablePregelConfig.Builder configBuilder,
+        PregelComputation<PregelConfig> computation,
+        double[] expected,
+        @TempDir Path checkpointLocation
+    ) {
+        CheckpointLocation.set(checkpointLocation);
+        var checkpointDirectory = checkpointLocation.resolve("pregel");
+
+        var config = configBuilder
+            .partitioning(partitioning)
+            .checkpointDirectory("pregel")
+            .build();
+        var checkpointName = Checkpoint.name(computation.getClass(), Checkpoint.fingerprint(graph, config.toMap(), config.concurrency()));
+
+        try (var writer = Checkpoint.writer(checkpointDirectory, checkpointName, "stale", 0)) {
+            writer.commit();
+        }
+
+        var log = Neo4jProxy.testLog();
+        var progressTracker = new TestProgressTracker(
+            Pregel.progressTask(graph, config, computation.getClass().getSimpleName()),
+            log,
+            1,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+        var nodeValues = Pregel.create(graph, config, computation, DefaultPool.INSTANCE, progressTracker)
+            .run()
+            .nodeValues();
+
+        assertArrayEquals(expected, nodeValues.doubleProperties(KEY).toArray());
+        assertThat(log.getMessages(TestLog.WARN))
+            .anyMatch(message -> message.contains("was written for a different graph or configuration"));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"AUTO", "RANGE"})
     void logProgress(Partitioning partitioning) {
@@ -255,25 +351,73 @@ class PregelTest {
 
         var singleThreadedConfig = configBuilder.concurrency(1).build();
         var multiThreadedConfig = configBuilder.concurrency(4).build();
+        var combiningConfig = configBuilder.concurrency(4).combineMessages(true).build();
 
         var singleThreaded = run(graph, singleThreadedConfig, new TestPregelComputation());
         var singleThreadedReduce = run(graph, singleThreadedConfig, new TestReduciblePregelComputation());
 
         var multiThreaded = run(graph, multiThreadedConfig, new TestPregelComputation());
         var multiThreadedReduce = run(graph, multiThreadedConfig, new TestReduciblePregelComputation());
+        var multiThreadedCombine = run(graph, combiningConfig, new TestReduciblePregelComputation());
 
         for (int nodeId = 0; nodeId < singleThreaded.size(); nodeId++) {
             var v1 = singleThreaded.get(nodeId);
             var v2 = singleThreadedReduce.get(nodeId);
             var v3 = multiThreaded.get(nodeId);
             var v4 = multiThreadedReduce.get(nodeId);
+            var v5 = multiThreadedCombine.get(nodeId);
             assertTrue(
-                v1 == v2 && v1 == v3 && v1 == v4,
-                formatWithLocale("Value mismatch for node id %d: %f, %f, %f, %f", nodeId, v1, v2, v3, v4)
+                v1 == v2 && v1 == v3 && v1 == v4 && v1 == v5,
+                formatWithLocale("Value mismatch for node id %d: %f, %f, %f, %f, %f", nodeId, v1, v2, v3, v4, v5)
             );
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void computesActiveFrontier(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(100)
+            .partitioning(partitioning)
+            .concurrency(4)
+            .build();
+
+        var result = Pregel.create(
+            graph,
+            config,
+            new TestBreadthFirstSearch(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        var expectedLevels = new long[(int) graph.nodeCount()];
+        Arrays.fill(expectedLevels, -1L);
+        expectedLevels[0] = 0;
+        var queue = new ArrayDeque<Long>();
+        queue.add(0L);
+        while (!queue.isEmpty()) {
+            long nodeId = queue.poll();
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                if (expectedLevels[(int) target] == -1L) {
+                    expectedLevels[(int) target] = expectedLevels[(int) source] + 1;
+                    queue.add(target);
+                }
+                return true;
+            });
+        }
+
+        assertThat(result.didConverge()).isTrue();
+        assertArrayEquals(expectedLevels, result.nodeValues().longProperties(TestBreadthFirstSearch.LEVEL).toArray());
+    }
+
     @NotNull
     private HugeDoubleArray run(Graph graph, PregelConfig config, PregelComputation<PregelConfig> computation) {
         var pregelJob = Pregel.create(
@@ -393,8 +537,8 @@ class PregelTest {
     static Stream<Arguments> estimations() {
         return Stream.of(
             // queue based sync
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7441752L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7442256L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7449480L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7449984L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -403,7 +547,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9441824L
+                9449552L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -413,7 +557,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9442328L
+                9450056L
             ),
 
             // queue based async
@@ -441,8 +585,8 @@ class PregelTest {
             ),
 
             // array based
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 241584L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 242088L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 249312L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 249816L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -451,7 +595,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2241656L
+                2249384L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -461,7 +605,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2242160L
+                2249888L
             )
         );
     }
@@ -634,6 +778,114 @@ class PregelTest {
         pregelJob.run();
     }
 
+    static Stream<Arguments> typedMessageSchemas() {
+        return crossArguments(
+            PregelTest::partitionings,
+            () -> Stream.of(
+                Arguments.of(MessageSchema.longDoublePair()),
+                Arguments.of(MessageSchema.longDoublePair(new LongReducer.Min(), new Reducer.Sum()))
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("typedMessageSchemas")
+    void sendsTypedMessages(Partitioning partitioning, MessageSchema messageSchema) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestTypedMessages(messageSchema),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertArrayEquals(new long[]{11L, 10L, 10L}, nodeValues.longProperties(TestTypedMessages.MIN_KEY).toArray());
+        assertArrayEquals(new double[]{4.0, 1.0, 1.0}, nodeValues.doubleProperties(TestTypedMessages.SUM_KEY).toArray());
+    }
+
+    @Test
+    void throwIfAsynchronousWithTypedMessages() {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .isAsynchronous(true)
+            .build();
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            new TestTypedMessages(MessageSchema.longDoublePair()),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Asynchronous computations only support single double messages");
+    }
+
+    @Test
+    void throwIfSendingDoubleWithTypedMessageSchema() {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .build();
+
+        var computation = new TestTypedMessages(MessageSchema.longDoublePair()) {
+            @Override
+            public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                context.sendTo(0, 1.0);
+            }
+        };
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            computation,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run())
+            .hasStackTraceContaining("The message schema must consist of a single double, got 2 component(s).");
+    }
+
+    @Test
+    void throwIfCombiningWithNonCombinableReducer() {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .concurrency(4)
+            .combineMessages(true)
+            .build();
+
+        var computation = new TestReduciblePregelComputation() {
+            @Override
+            public Optional<Reducer> reducer() {
+                return Optional.of(new Reducer() {
+                    @Override
+                    public double identity() {
+                        return 0;
+                    }
+
+                    @Override
+                    public double reduce(double current, double message) {
+                        return current + 1;
+                    }
+                });
+            }
+        };
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            computation,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires a combinable reducer");
+    }
+
     static Stream<Arguments> partitionings() {
         return Arrays.stream(Partitioning.values()).map(Arguments::of);
     }
@@ -757,6 +1009,79 @@ class PregelTest {
         }
     }
 
+    static class TestTypedMessages implements PregelComputation<PregelConfig> {
+
+        static final String MIN_KEY = "min";
+        static final String SUM_KEY = "sum";
+
+        private final MessageSchema messageSchema;
+
+        TestTypedMessages(MessageSchema messageSchema) {
+            this.messageSchema = messageSchema;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(MIN_KEY, ValueType.LONG)
+                .add(SUM_KEY, ValueType.DOUBLE)
+                .build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return messageSchema;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendPairToNeighbors(context.nodeId() + 10, 1.0);
+                if (context.nodeId() != 0) {
+                    context.sendPairTo(0, context.nodeId() + 10, 2.0);
+                }
+            } else {
+                long min = Long.MAX_VALUE;
+                double sum = 0.0;
+                var cursor = messages.cursor();
+                while (cursor.advance()) {
+                    min = Math.min(min, cursor.longValue(0));
+                    sum += cursor.doubleValue(1);
+                }
+                context.setNodeValue(MIN_KEY, min);
+                context.setNodeValue(SUM_KEY, sum);
+            }
+        }
+    }
+
+    static class TestBreadthFirstSearch implements PregelComputation<PregelConfig> {
+
+        static final String LEVEL = "level";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(LEVEL, ValueType.LONG).build();
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(LEVEL, context.nodeId() == 0 ? 0L : -1L);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                if (context.nodeId() == 0) {
+                    context.sendToNeighbors(1);
+                }
+            } else if (context.longNodeValue(LEVEL) == -1L) {
+                context.setNodeValue(LEVEL, (long) context.superstep());
+                context.sendToNeighbors(1);
+            }
+            context.voteToHalt();
+        }
+    }
+
     static class TestMasterCompute implements PregelComputation<PregelConfig> {
 
         private final int stopAtIteration;
@@ -21,6 +21,7 @@ package org.neo4j.gds.beta.pregel;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 
 import java.util.Arrays;
 import java.util.stream.IntStream;
@@ -54,6 +55,25 @@ class PrimitiveSyncDoubleQueuesTest extends PrimitiveDoubleQueuesTest {
         }
     }
 
+    @Test
+    void swapQueuesOnlyResetsReceivers() {
+        var queue = getQueue(3, 42);
+        var receivers = HugeLongArray.of(1);
+
+        queue.push(1, 1.0);
+        queue.swapQueues();
+        // recycles the queue of node 1 which still holds the first message
+        queue.swapQueues(receivers, 1);
+        queue.push(1, 2.0);
+        queue.swapQueues();
+
+        var iterator = new PrimitiveSyncDoubleQueues.Iterator();
+        queue.initIterator(iterator, 1);
+
+        assertThat(iterator.nextDouble()).isEqualTo(2.0);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
     @Nested
     class IteratorTest {
 
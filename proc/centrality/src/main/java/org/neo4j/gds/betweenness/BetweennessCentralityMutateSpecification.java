@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.betweenness;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.MutatePropertyComputationResultConsumer;
 import org.neo4j.gds.api.properties.nodes.EmptyDoubleNodePropertyValues;
 import org.neo4j.gds.core.write.ImmutableNodeProperty;
@@ -28,7 +29,7 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.procedures.centrality.CentralityMutateResult;
+import org.neo4j.gds.procedures.centrality.betweenness.BetweennessCentralityMutateResult;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
 import java.util.List;
@@ -37,7 +38,7 @@ import java.util.stream.Stream;
 import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
 
 @GdsCallable(name = "gds.betweenness.mutate", description = BetweennessCentrality.BETWEENNESS_DESCRIPTION, executionMode = MUTATE_NODE_PROPERTY)
-public class BetweennessCentralityMutateSpecification implements AlgorithmSpec<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityMutateConfig, Stream<CentralityMutateResult>, BetweennessCentralityFactory<BetweennessCentralityMutateConfig>> {
+public class BetweennessCentralityMutateSpecification implements AlgorithmSpec<Algorithm<BetwennessCentralityResult>, BetwennessCentralityResult, BetweennessCentralityMutateConfig, Stream<BetweennessCentralityMutateResult>, BetweennessCentralityFactory<BetweennessCentralityMutateConfig>> {
     @Override
     public String name() {
         return "BetweennessCentralityMutate";
@@ -54,7 +55,7 @@ public class BetweennessCentralityMutateSpecification implements AlgorithmSpec<B
     }
 
     @Override
-    public ComputationResultConsumer<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityMutateConfig, Stream<CentralityMutateResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<BetwennessCentralityResult>, BetwennessCentralityResult, BetweennessCentralityMutateConfig, Stream<BetweennessCentralityMutateResult>> computationResultConsumer() {
         return new MutatePropertyComputationResultConsumer<>(
             computationResult -> List.of(ImmutableNodeProperty.of(
                 computationResult.config().mutateProperty(),
@@ -67,17 +68,21 @@ public class BetweennessCentralityMutateSpecification implements AlgorithmSpec<B
         );
     }
 
-    private AbstractResultBuilder<CentralityMutateResult> resultBuilder(
-        ComputationResult<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityMutateConfig> computationResult,
+    private AbstractResultBuilder<BetweennessCentralityMutateResult> resultBuilder(
+        ComputationResult<Algorithm<BetwennessCentralityResult>, BetwennessCentralityResult, BetweennessCentralityMutateConfig> computationResult,
         ExecutionContext executionContext
     ) {
-        var builder = new CentralityMutateResult.Builder(
+        var builder = new BetweennessCentralityMutateResult.Builder(
             executionContext.returnColumns(),
             computationResult.config().concurrency()
         );
 
         computationResult.result()
-            .ifPresent(result -> builder.withCentralityFunction(result.centralityScoreProvider()));
+            .ifPresent(result -> builder
+                .withSampleCount(result.sampleCount())
+                .withAchievedEpsilon(result.achievedEpsilon())
+                .withTopKSeparated(result.topKSeparated())
+                .withCentralityFunction(result.centralityScoreProvider()));
 
         return builder;
     }
@@ -20,7 +20,7 @@
 package org.neo4j.gds.betweenness;
 
 import org.neo4j.gds.procedures.GraphDataScience;
-import org.neo4j.gds.procedures.centrality.CentralityStatsResult;
+import org.neo4j.gds.procedures.centrality.betweenness.BetweennessCentralityStatsResult;
 import org.neo4j.gds.results.MemoryEstimateResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
@@ -40,7 +40,7 @@ public class BetweennessCentralityStatsProc {
 
     @Procedure(value = "gds.betweenness.stats", mode = READ)
     @Description(STATS_MODE_DESCRIPTION)
-    public Stream<CentralityStatsResult> stats(
+    public Stream<BetweennessCentralityStatsResult> stats(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
@@ -19,12 +19,13 @@
  */
 package org.neo4j.gds.betweenness;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.procedures.centrality.CentralityStatsResult;
+import org.neo4j.gds.procedures.centrality.betweenness.BetweennessCentralityStatsResult;
 
 import java.util.stream.Stream;
 
@@ -32,7 +33,7 @@ import static org.neo4j.gds.betweenness.BetweennessCentrality.BETWEENNESS_DESCRI
 import static org.neo4j.gds.executor.ExecutionMode.STATS;
 
 @GdsCallable(name = "gds.betweenness.stats", description = BETWEENNESS_DESCRIPTION, executionMode = STATS)
-public class BetweennessCentralityStatsSpecification implements AlgorithmSpec<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityStatsConfig, Stream<CentralityStatsResult>, BetweennessCentralityFactory<BetweennessCentralityStatsConfig>> {
+public class BetweennessCentralityStatsSpecification implements AlgorithmSpec<Algorithm<BetwennessCentralityResult>, BetwennessCentralityResult, BetweennessCentralityStatsConfig, Stream<BetweennessCentralityStatsResult>, BetweennessCentralityFactory<BetweennessCentralityStatsConfig>> {
     @Override
     public String name() {
         return "BetweennessCentralityStats";
@@ -49,15 +50,19 @@ public class BetweennessCentralityStatsSpecification implements AlgorithmSpec<Be
     }
 
     @Override
-    public ComputationResultConsumer<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityStatsConfig, Stream<CentralityStatsResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<BetwennessCentralityResult>, BetwennessCentralityResult, BetweennessCentralityStatsConfig, Stream<BetweennessCentralityStatsResult>> computationResultConsumer() {
         return (computationResult, executionContext) -> {
-            var builder = new CentralityStatsResult.Builder(
+            var builder = new BetweennessCentralityStatsResult.Builder(
                 executionContext.returnColumns(),
                 computationResult.config().concurrency()
             );
 
             computationResult.result()
-                .ifPresent(result -> builder.withCentralityFunction(result.centralityScoreProvider()));
+                .ifPresent(result -> builder
+                    .withSampleCount(result.sampleCount())
+                    .withAchievedEpsilon(result.achievedEpsilon())
+                    .withTopKSeparated(result.topKSeparated())
+                    .withCentralityFunction(result.centralityScoreProvider()));
 
             return Stream.of(
                 builder.withPreProcessingMillis(computationResult.preProcessingMillis())
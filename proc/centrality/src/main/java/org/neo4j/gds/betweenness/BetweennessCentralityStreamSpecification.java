@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.betweenness;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
@@ -35,7 +36,7 @@ import static org.neo4j.gds.betweenness.BetweennessCentrality.BETWEENNESS_DESCRI
 import static org.neo4j.gds.executor.ExecutionMode.STREAM;
 
 @GdsCallable(name = "gds.betweenness.stream", description = BETWEENNESS_DESCRIPTION, executionMode = STREAM)
-public class BetweennessCentralityStreamSpecification implements AlgorithmSpec<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityStreamConfig, Stream<CentralityStreamResult>, BetweennessCentralityFactory<BetweennessCentralityStreamConfig>> {
+public class BetweennessCentralityStreamSpecification implements AlgorithmSpec<Algorithm<BetwennessCentralityResult>, BetwennessCentralityResult, BetweennessCentralityStreamConfig, Stream<CentralityStreamResult>, BetweennessCentralityFactory<BetweennessCentralityStreamConfig>> {
 
     @Override
     public String name() {
@@ -53,7 +54,7 @@ public class BetweennessCentralityStreamSpecification implements AlgorithmSpec<B
     }
 
     @Override
-    public ComputationResultConsumer<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityStreamConfig, Stream<CentralityStreamResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<BetwennessCentralityResult>, BetwennessCentralityResult, BetweennessCentralityStreamConfig, Stream<CentralityStreamResult>> computationResultConsumer() {
         return (computationResult, executionContext) -> runWithExceptionLogging(
             "Result streaming failed",
             executionContext.log(),
@@ -20,7 +20,7 @@
 package org.neo4j.gds.betweenness;
 
 import org.neo4j.gds.procedures.GraphDataScience;
-import org.neo4j.gds.procedures.centrality.CentralityWriteResult;
+import org.neo4j.gds.procedures.centrality.betweenness.BetweennessCentralityWriteResult;
 import org.neo4j.gds.results.MemoryEstimateResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
@@ -41,7 +41,7 @@ public class BetweennessCentralityWriteProc {
 
     @Procedure(value = "gds.betweenness.write", mode = WRITE)
     @Description(BETWEENNESS_DESCRIPTION)
-    public Stream<CentralityWriteResult> write(
+    public Stream<BetweennessCentralityWriteResult> write(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.betweenness;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.WriteNodePropertiesComputationResultConsumer;
 import org.neo4j.gds.api.properties.nodes.EmptyDoubleNodePropertyValues;
 import org.neo4j.gds.core.write.ImmutableNodeProperty;
@@ -28,7 +29,7 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.procedures.centrality.CentralityWriteResult;
+import org.neo4j.gds.procedures.centrality.betweenness.BetweennessCentralityWriteResult;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
 import java.util.List;
@@ -38,7 +39,7 @@ import static org.neo4j.gds.betweenness.BetweennessCentrality.BETWEENNESS_DESCRI
 import static org.neo4j.gds.executor.ExecutionMode.WRITE_NODE_PROPERTY;
 
 @GdsCallable(name = "gds.betweenness.write", description = BETWEENNESS_DESCRIPTION, executionMode = WRITE_NODE_PROPERTY)
-public class BetweennessCentralityWriteSpecification implements AlgorithmSpec<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityWriteConfig, Stream<CentralityWriteResult>, BetweennessCentralityFactory<BetweennessCentralityWriteConfig>> {
+public class BetweennessCentralityWriteSpecification implements AlgorithmSpec<Algorithm<BetwennessCentralityResult>, BetwennessCentralityResult, BetweennessCentralityWriteConfig, Stream<BetweennessCentralityWriteResult>, BetweennessCentralityFactory<BetweennessCentralityWriteConfig>> {
     @Override
     public String name() {
         return "BetweennessCentralityWrite";
@@ -55,7 +56,7 @@ public class BetweennessCentralityWriteSpecification implements AlgorithmSpec<Be
     }
 
     @Override
-    public ComputationResultConsumer<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityWriteConfig, Stream<CentralityWriteResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<BetwennessCentralityResult>, BetwennessCentralityResult, BetweennessCentralityWriteConfig, Stream<BetweennessCentralityWriteResult>> computationResultConsumer() {
         return new WriteNodePropertiesComputationResultConsumer<>(
             this::resultBuilder,
             computationResult -> List.of(ImmutableNodeProperty.of(
@@ -69,17 +70,21 @@ public class BetweennessCentralityWriteSpecification implements AlgorithmSpec<Be
         );
     }
 
-    private AbstractResultBuilder<CentralityWriteResult> resultBuilder(
-        ComputationResult<BetweennessCentrality, BetwennessCentralityResult, BetweennessCentralityWriteConfig> computationResult,
+    private AbstractResultBuilder<BetweennessCentralityWriteResult> resultBuilder(
+        ComputationResult<Algorithm<BetwennessCentralityResult>, BetwennessCentralityResult, BetweennessCentralityWriteConfig> computationResult,
         ExecutionContext executionContext
     ) {
-        var builder = new CentralityWriteResult.Builder(
+        var builder = new BetweennessCentralityWriteResult.Builder(
             executionContext.returnColumns(),
             computationResult.config().concurrency()
         );
 
         computationResult.result()
-            .ifPresent(result -> builder.withCentralityFunction(result.centralityScoreProvider()));
+            .ifPresent(result -> builder
+                .withSampleCount(result.sampleCount())
+                .withAchievedEpsilon(result.achievedEpsilon())
+                .withTopKSeparated(result.topKSeparated())
+                .withCentralityFunction(result.centralityScoreProvider()));
 
         return builder;
     }
@@ -20,8 +20,8 @@
 package org.neo4j.gds.closeness;
 
 import org.neo4j.gds.procedures.GraphDataScience;
-import org.neo4j.gds.procedures.centrality.CentralityMutateResult;
 import org.neo4j.gds.procedures.centrality.betacloseness.BetaClosenessCentralityMutateResult;
+import org.neo4j.gds.procedures.centrality.closeness.ClosenessCentralityMutateResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Internal;
@@ -40,7 +40,7 @@ public class ClosenessCentralityMutateProc {
     public GraphDataScience facade;
     @Procedure(value = "gds.closeness.mutate", mode = READ)
     @Description(CLOSENESS_DESCRIPTION)
-    public Stream<CentralityMutateResult> mutate(
+    public Stream<ClosenessCentralityMutateResult> mutate(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
@@ -28,7 +28,7 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.procedures.centrality.CentralityMutateResult;
+import org.neo4j.gds.procedures.centrality.closeness.ClosenessCentralityMutateResult;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
 import java.util.List;
@@ -38,7 +38,7 @@ import static org.neo4j.gds.closeness.ClosenessCentrality.CLOSENESS_DESCRIPTION;
 import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
 
 @GdsCallable(name = "gds.closeness.mutate", aliases = {"gds.beta.closeness.mutate"}, description = CLOSENESS_DESCRIPTION, executionMode = MUTATE_NODE_PROPERTY)
-public class ClosenessCentralityMutateSpec implements AlgorithmSpec<ClosenessCentrality, ClosenessCentralityResult, ClosenessCentralityMutateConfig, Stream<CentralityMutateResult>, ClosenessCentralityAlgorithmFactory<ClosenessCentralityMutateConfig>> {
+public class ClosenessCentralityMutateSpec implements AlgorithmSpec<ClosenessCentrality, ClosenessCentralityResult, ClosenessCentralityMutateConfig, Stream<ClosenessCentralityMutateResult>, ClosenessCentralityAlgorithmFactory<ClosenessCentralityMutateConfig>> {
 
     @Override
     public String name() {
@@ -56,7 +56,7 @@ public class ClosenessCentralityMutateSpec implements AlgorithmSpec<ClosenessCen
     }
 
     @Override
-    public ComputationResultConsumer<ClosenessCentrality, ClosenessCentralityResult, ClosenessCentralityMutateConfig, Stream<CentralityMutateResult>> computationResultConsumer() {
+    public ComputationResultConsumer<ClosenessCentrality, ClosenessCentralityResult, ClosenessCentralityMutateConfig, Stream<ClosenessCentralityMutateResult>> computationResultConsumer() {
         return new MutatePropertyComputationResultConsumer<>(
             computationResult -> List.of(ImmutableNodeProperty.of(
                 computationResult.config().mutateProperty(),
@@ -68,17 +68,19 @@ public class ClosenessCentralityMutateSpec implements AlgorithmSpec<ClosenessCen
         );
     }
 
-    private AbstractResultBuilder<CentralityMutateResult> resultBuilder(
+    private AbstractResultBuilder<ClosenessCentralityMutateResult> resultBuilder(
         ComputationResult<ClosenessCentrality, ClosenessCentralityResult, ClosenessCentralityMutateConfig> computationResult,
         ExecutionContext executionContext
     ) {
-        var builder = new CentralityMutateResult.Builder(
+        var builder = new ClosenessCentralityMutateResult.Builder(
             executionContext.returnColumns(),
             computationResult.config().concurrency()
         );
 
         computationResult.result()
-            .ifPresent(result -> builder.withCentralityFunction(result.centralityScoreProvider()));
+            .ifPresent(result -> builder
+                .withEffectiveDiameter(result.effectiveDiameter())
+                .withCentralityFunction(result.centralityScoreProvider()));
 
         return builder;
     }
@@ -20,7 +20,7 @@
 package org.neo4j.gds.closeness;
 
 import org.neo4j.gds.procedures.GraphDataScience;
-import org.neo4j.gds.procedures.centrality.CentralityStatsResult;
+import org.neo4j.gds.procedures.centrality.closeness.ClosenessCentralityStatsResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Internal;
@@ -40,7 +40,7 @@ public class ClosenessCentralityStatsProc {
 
     @Procedure(value = "gds.closeness.stats", mode = READ)
     @Description(CLOSENESS_DESCRIPTION)
-    public Stream<CentralityStatsResult> stats(
+    public Stream<ClosenessCentralityStatsResult> stats(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
@@ -51,7 +51,7 @@ public class ClosenessCentralityStatsProc {
     @Internal
     @Procedure(value = "gds.beta.closeness.stats", mode = READ, deprecatedBy = "gds.closeness.stats")
     @Description(CLOSENESS_DESCRIPTION)
-    public Stream<CentralityStatsResult> statsBeta(
+    public Stream<ClosenessCentralityStatsResult> statsBeta(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
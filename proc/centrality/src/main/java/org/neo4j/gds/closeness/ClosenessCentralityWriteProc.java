@@ -20,8 +20,8 @@
 package org.neo4j.gds.closeness;
 
 import org.neo4j.gds.procedures.GraphDataScience;
-import org.neo4j.gds.procedures.centrality.CentralityWriteResult;
 import org.neo4j.gds.procedures.centrality.betacloseness.BetaClosenessCentralityWriteResult;
+import org.neo4j.gds.procedures.centrality.closeness.ClosenessCentralityWriteResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Internal;
@@ -41,7 +41,7 @@ public class ClosenessCentralityWriteProc {
 
     @Procedure(value = "gds.closeness.write", mode = WRITE)
     @Description(CLOSENESS_DESCRIPTION)
-    public Stream<CentralityWriteResult> write(
+    public Stream<ClosenessCentralityWriteResult> write(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
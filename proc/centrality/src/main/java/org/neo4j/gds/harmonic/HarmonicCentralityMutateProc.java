@@ -20,7 +20,7 @@
 package org.neo4j.gds.harmonic;
 
 import org.neo4j.gds.procedures.GraphDataScience;
-import org.neo4j.gds.procedures.centrality.CentralityMutateResult;
+import org.neo4j.gds.procedures.centrality.harmonic.HarmonicCentralityMutateResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
@@ -39,7 +39,7 @@ public class HarmonicCentralityMutateProc {
 
     @Procedure(name = "gds.closeness.harmonic.mutate", mode = READ)
     @Description(DESCRIPTION)
-    public Stream<CentralityMutateResult> mutate(
+    public Stream<HarmonicCentralityMutateResult> mutate(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
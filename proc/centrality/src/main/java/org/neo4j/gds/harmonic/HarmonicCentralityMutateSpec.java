@@ -28,7 +28,7 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.procedures.centrality.CentralityMutateResult;
+import org.neo4j.gds.procedures.centrality.harmonic.HarmonicCentralityMutateResult;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
 import java.util.List;
@@ -38,7 +38,7 @@ import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
 import static org.neo4j.gds.harmonic.HarmonicCentralityCompanion.DESCRIPTION;
 
 @GdsCallable(name = "gds.closeness.harmonic.mutate", description = DESCRIPTION, executionMode = MUTATE_NODE_PROPERTY)
-public class HarmonicCentralityMutateSpec implements AlgorithmSpec<HarmonicCentrality, HarmonicResult, HarmonicCentralityMutateConfig, Stream<CentralityMutateResult>, HarmonicCentralityAlgorithmFactory<HarmonicCentralityMutateConfig>> {
+public class HarmonicCentralityMutateSpec implements AlgorithmSpec<HarmonicCentrality, HarmonicResult, HarmonicCentralityMutateConfig, Stream<HarmonicCentralityMutateResult>, HarmonicCentralityAlgorithmFactory<HarmonicCentralityMutateConfig>> {
 
     @Override
     public String name() {
@@ -56,7 +56,7 @@ public class HarmonicCentralityMutateSpec implements AlgorithmSpec<HarmonicCentr
     }
 
     @Override
-    public ComputationResultConsumer<HarmonicCentrality, HarmonicResult, HarmonicCentralityMutateConfig, Stream<CentralityMutateResult>> computationResultConsumer() {
+    public ComputationResultConsumer<HarmonicCentrality, HarmonicResult, HarmonicCentralityMutateConfig, Stream<HarmonicCentralityMutateResult>> computationResultConsumer() {
         return new MutatePropertyComputationResultConsumer<>(
             computationResult -> List.of(ImmutableNodeProperty.of(
                 computationResult.config().mutateProperty(),
@@ -68,17 +68,19 @@ public class HarmonicCentralityMutateSpec implements AlgorithmSpec<HarmonicCentr
         );
     }
 
-    private AbstractResultBuilder<CentralityMutateResult> resultBuilder(
+    private AbstractResultBuilder<HarmonicCentralityMutateResult> resultBuilder(
         ComputationResult<HarmonicCentrality, HarmonicResult, HarmonicCentralityMutateConfig> computationResult,
         ExecutionContext executionContext
     ) {
-        var builder = new CentralityMutateResult.Builder(
+        var builder = new HarmonicCentralityMutateResult.Builder(
             executionContext.returnColumns(),
             computationResult.config().concurrency()
         );
 
         computationResult.result()
-            .ifPresent(result -> builder.withCentralityFunction(result.centralityScoreProvider()));
+            .ifPresent(result -> builder
+                .withEffectiveDiameter(result.effectiveDiameter())
+                .withCentralityFunction(result.centralityScoreProvider()));
 
         return builder;
     }
@@ -21,8 +21,8 @@ package org.neo4j.gds.harmonic;
 
 import org.neo4j.gds.BaseProc;
 import org.neo4j.gds.procedures.GraphDataScience;
-import org.neo4j.gds.procedures.centrality.CentralityWriteResult;
 import org.neo4j.gds.procedures.centrality.alphaharmonic.AlphaHarmonicWriteResult;
+import org.neo4j.gds.procedures.centrality.harmonic.HarmonicCentralityWriteResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Internal;
@@ -42,7 +42,7 @@ public class HarmonicCentralityWriteProc extends BaseProc {
 
     @Procedure(value = "gds.closeness.harmonic.write", mode = WRITE)
     @Description(DESCRIPTION)
-    public Stream<CentralityWriteResult> write(
+    public Stream<HarmonicCentralityWriteResult> write(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
@@ -28,7 +28,7 @@ import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
-import org.neo4j.gds.procedures.centrality.CentralityWriteResult;
+import org.neo4j.gds.procedures.centrality.harmonic.HarmonicCentralityWriteResult;
 import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 
 import java.util.List;
@@ -38,7 +38,7 @@ import static org.neo4j.gds.executor.ExecutionMode.WRITE_NODE_PROPERTY;
 import static org.neo4j.gds.harmonic.HarmonicCentralityCompanion.DESCRIPTION;
 
 @GdsCallable(name = "gds.closeness.harmonic.write", description = DESCRIPTION, executionMode = WRITE_NODE_PROPERTY)
-public class HarmonicCentralityWriteSpec implements AlgorithmSpec<HarmonicCentrality, HarmonicResult, HarmonicCentralityWriteConfig, Stream<CentralityWriteResult>, HarmonicCentralityAlgorithmFactory<HarmonicCentralityWriteConfig>> {
+public class HarmonicCentralityWriteSpec implements AlgorithmSpec<HarmonicCentrality, HarmonicResult, HarmonicCentralityWriteConfig, Stream<HarmonicCentralityWriteResult>, HarmonicCentralityAlgorithmFactory<HarmonicCentralityWriteConfig>> {
 
     @Override
     public String name() {
@@ -56,7 +56,7 @@ public class HarmonicCentralityWriteSpec implements AlgorithmSpec<HarmonicCentra
     }
 
     @Override
-    public ComputationResultConsumer<HarmonicCentrality, HarmonicResult, HarmonicCentralityWriteConfig, Stream<CentralityWriteResult>> computationResultConsumer() {
+    public ComputationResultConsumer<HarmonicCentrality, HarmonicResult, HarmonicCentralityWriteConfig, Stream<HarmonicCentralityWriteResult>> computationResultConsumer() {
         return new WriteNodePropertiesComputationResultConsumer<>(
             this::resultBuilder,
             computationResult -> List.of(ImmutableNodeProperty.of(
@@ -69,17 +69,19 @@ public class HarmonicCentralityWriteSpec implements AlgorithmSpec<HarmonicCentra
         );
     }
 
-    private AbstractCentralityResultBuilder<CentralityWriteResult> resultBuilder(
+    private AbstractCentralityResultBuilder<HarmonicCentralityWriteResult> resultBuilder(
         ComputationResult<HarmonicCentrality, HarmonicResult, HarmonicCentralityWriteConfig> computationResult,
         ExecutionContext executionContext
     ) {
-        var builder = new CentralityWriteResult.Builder(
+        var builder = new HarmonicCentralityWriteResult.Builder(
             executionContext.returnColumns(),
             computationResult.config().concurrency()
         );
 
         computationResult.result()
-            .ifPresent(result -> builder.withCentralityFunction(result.centralityScoreProvider()));
+            .ifPresent(result -> builder
+                .withEffectiveDiameter(result.effectiveDiameter())
+                .withCentralityFunction(result.centralityScoreProvider()));
 
         return builder;
     }
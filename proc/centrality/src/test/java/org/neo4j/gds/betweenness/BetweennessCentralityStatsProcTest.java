@@ -109,4 +109,57 @@ class BetweennessCentralityStatsProcTest extends BaseProcTest {
             .isEqualTo(1);
     }
 
+    @Test
+    void testStatsReportsExactSampling() {
+        String query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("betweenness")
+            .statsMode()
+            .yields("sampleCount", "achievedEpsilon", "topKSeparated");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("sampleCount")).asInstanceOf(LONG).isEqualTo(5L);
+            assertThat(row.getNumber("achievedEpsilon")).isEqualTo(0.0);
+            assertThat(row.getBoolean("topKSeparated")).isFalse();
+        });
+
+        assertThat(rowCount).isEqualTo(1);
+    }
+
+    @Test
+    void testStatsReportsAdaptiveSampling() {
+        String query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("betweenness")
+            .statsMode()
+            .addParameter("epsilon", 0.1)
+            .addParameter("topK", 1)
+            .addParameter("samplingSize", 3)
+            .addParameter("samplingSeed", 42)
+            .yields("sampleCount", "achievedEpsilon", "topKSeparated");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            // the sampling stops at `samplingSize` before reaching the error bound
+            assertThat(row.getNumber("sampleCount")).asInstanceOf(LONG).isEqualTo(3L);
+            assertThat(row.getNumber("achievedEpsilon"))
+                .asInstanceOf(InstanceOfAssertFactories.DOUBLE)
+                .isGreaterThan(0.1)
+                .isLessThanOrEqualTo(1.0);
+            assertThat(row.getBoolean("topKSeparated")).isFalse();
+        });
+
+        assertThat(rowCount).isEqualTo(1);
+    }
+
+    @Test
+    void testTopKRequiresEpsilon() {
+        String query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("betweenness")
+            .statsMode()
+            .addParameter("topK", 1)
+            .yields();
+
+        assertError(query, "Configuration parameter 'topK' requires 'epsilon' to be set.");
+    }
 }
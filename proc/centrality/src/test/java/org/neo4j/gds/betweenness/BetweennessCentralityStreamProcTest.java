@@ -30,9 +30,11 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.Neo4jGraph;
 import org.neo4j.graphdb.QueryExecutionException;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 class BetweennessCentralityStreamProcTest extends BaseProcTest {
@@ -87,6 +89,28 @@ class BetweennessCentralityStreamProcTest extends BaseProcTest {
             ));
     }
 
+    @Test
+    void testStreamWithEpsilon() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.betweenness")
+            .streamMode()
+            .addParameter("epsilon", 0.1)
+            .addParameter("samplingSeed", 42L)
+            .yields();
+
+        var scores = new HashMap<Long, Double>();
+        runQueryWithRowConsumer(query, row -> scores.put(
+            row.getNumber("nodeId").longValue(),
+            row.getNumber("score").doubleValue()
+        ));
+
+        // end points of the path are never between other nodes, no matter which sources are sampled
+        assertThat(scores)
+            .hasSize(5)
+            .containsEntry(idFunction.of("a"), 0.0)
+            .containsEntry(idFunction.of("e"), 0.0);
+    }
+
     // FIXME: This should not be tested here
     @Test
     void shouldValidateSampleSize() {
@@ -129,5 +129,28 @@ class ClosenessCentralityStatsProcTest extends BaseProcTest {
 
         });
     }
-    
+
+    @Test
+    void shouldReportEffectiveDiameterWhenApproximating() {
+        String query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("closeness")
+            .statsMode()
+            .addParameter("approximate", true)
+            .addParameter("hyperLogLogPrecision", 10)
+            .yields("effectiveDiameter");
+
+        runQueryWithRowConsumer(query, row -> assertThat(row.getNumber("effectiveDiameter").doubleValue()).isBetween(1.0, 2.0));
+    }
+
+    @Test
+    void shouldNotReportEffectiveDiameterForExactComputation() {
+        String query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("closeness")
+            .statsMode()
+            .yields("effectiveDiameter");
+
+        runQueryWithRowConsumer(query, row -> assertThat(row.getNumber("effectiveDiameter").doubleValue()).isNaN());
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.RelationshipProjection;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatNoException;
+
+class IMMStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (a)-[:RELATIONSHIP]->(b)" +
+        ", (a)-[:RELATIONSHIP]->(c)" +
+        ", (a)-[:RELATIONSHIP]->(d)" +
+        ", (a)-[:RELATIONSHIP]->(e)" +
+        ", (f)-[:RELATIONSHIP]->(g)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(IMMStreamProc.class, GraphProjectProc.class);
+
+        String graphCreateQuery = GdsCypher.call("immGraph")
+            .graphProject()
+            .withNodeLabel("Node")
+            .withRelationshipType(
+                "RELATIONSHIP",
+                RelationshipProjection.builder().type("RELATIONSHIP").indexInverse(true).build()
+            ).yields();
+
+        runQuery(graphCreateQuery);
+    }
+
+    @AfterEach
+    void shutdownGraph() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void testResultStream() {
+        var cypher = GdsCypher.call("immGraph")
+            .algo("gds.alpha.influenceMaximization.imm")
+            .streamMode()
+            .addParameter("seedSetSize", 2)
+            .addParameter("propagationProbability", 1.0)
+            .addParameter("randomSeed", 42L)
+            .addParameter("concurrency", 1)
+            .yields("nodeId", "spread");
+
+        var resultRowCount = runQueryWithRowConsumer(cypher, (tx, row) -> {
+            long nodeId = row.getNumber("nodeId").longValue();
+            double spread = row.getNumber("spread").doubleValue();
+            assertThat(nodeId).isIn(idFunction.of("a"), idFunction.of("f"));
+            assertThat(spread).isGreaterThan(0d);
+        });
+
+        assertThat(resultRowCount).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldCallMemoryEstimation() {
+        var query = GdsCypher.call("immGraph")
+            .algo("gds.alpha.influenceMaximization.imm")
+            .estimationMode(GdsCypher.ExecutionModes.STREAM)
+            .addParameter("seedSetSize", 2)
+            .yields();
+
+        assertThatNoException().isThrownBy(() -> runQuery(query));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class BatchedPersonalizedPageRankProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)" +
+        ", (d)-[:REL]->(e)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            BatchedPersonalizedPageRankStreamProc.class,
+            BatchedPersonalizedPageRankStatsProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(GdsCypher.call("graph").graphProject().loadEverything().yields());
+    }
+
+    @AfterEach
+    void shutdownGraph() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldStreamScoresOfReachedNodesPerSourceNode() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.alpha.personalizedPageRank")
+            .streamMode()
+            .addParameter("sourceNodes", List.of(idFunction.of("a"), idFunction.of("d")))
+            .addParameter("batchSize", 1)
+            .yields("nodeId", "sourceNodeId", "score");
+
+        Map<Long, Set<Long>> reachedNodes = new HashMap<>();
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("score").doubleValue()).isGreaterThan(0D);
+            reachedNodes
+                .computeIfAbsent(row.getNumber("sourceNodeId").longValue(), ignore -> new HashSet<>())
+                .add(row.getNumber("nodeId").longValue());
+        });
+
+        assertThat(reachedNodes).containsOnly(
+            Map.entry(idFunction.of("a"), Set.of(idFunction.of("a"), idFunction.of("b"), idFunction.of("c"))),
+            Map.entry(idFunction.of("d"), Set.of(idFunction.of("d"), idFunction.of("e")))
+        );
+    }
+
+    @Test
+    void shouldReportBatchesInStatsMode() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.alpha.personalizedPageRank")
+            .statsMode()
+            .addParameter("sourceNodes", List.of(idFunction.of("a"), idFunction.of("b"), idFunction.of("d")))
+            .addParameter("batchSize", 2)
+            .yields("batches", "didConverge");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("batches").longValue()).isEqualTo(2L);
+            assertThat(row.getBoolean("didConverge")).isTrue();
+        });
+
+        assertThat(rowCount).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRequireSourceNodes() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.alpha.personalizedPageRank")
+            .statsMode()
+            .yields();
+
+        assertError(query, "requires at least one source node");
+    }
+
+    @Test
+    void shouldCallMemoryEstimation() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.alpha.personalizedPageRank")
+            .estimationMode(GdsCypher.ExecutionModes.STREAM)
+            .addParameter("sourceNodes", List.of(idFunction.of("a")))
+            .yields();
+
+        assertThatNoException().isThrownBy(() -> runQuery(query));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.Username;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class IncrementalWccMutateProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:OLD]->(b)" +
+        ", (c)-[:OLD]->(d)" +
+        ", (b)-[:NEW]->(c)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            IncrementalWccMutateProc.class,
+            WccMutateProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery("CALL gds.graph.project('graph', 'Node', ['OLD', 'NEW'])");
+        runQuery(
+            GdsCypher.call("graph")
+                .algo("wcc")
+                .mutateMode()
+                .addParameter("relationshipTypes", List.of("OLD"))
+                .addParameter("mutateProperty", "component")
+                .yields()
+        );
+    }
+
+    @AfterEach
+    void shutdownGraph() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldMergeComponentsConnectedByTheAddedRelationships() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.alpha.wcc.incremental")
+            .mutateMode()
+            .addParameter("relationshipTypes", List.of("NEW"))
+            .addParameter("seedProperty", "component")
+            .addParameter("mutateProperty", "updatedComponent")
+            .yields("componentCount", "nodePropertiesWritten");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("componentCount").longValue()).isEqualTo(2L);
+            assertThat(row.getNumber("nodePropertiesWritten").longValue()).isEqualTo(5L);
+        });
+
+        assertThat(rowCount).isEqualTo(1L);
+
+        var graphStore = GraphStoreCatalog
+            .get(Username.EMPTY_USERNAME.username(), DatabaseId.of(db.databaseName()), "graph")
+            .graphStore();
+        var components = graphStore.nodeProperty("updatedComponent").values();
+        var a = graphStore.nodes().toMappedNodeId(idFunction.of("a"));
+        var d = graphStore.nodes().toMappedNodeId(idFunction.of("d"));
+        var e = graphStore.nodes().toMappedNodeId(idFunction.of("e"));
+        assertThat(components.longValue(a)).isEqualTo(components.longValue(d));
+        assertThat(components.longValue(a)).isNotEqualTo(components.longValue(e));
+    }
+
+    @Test
+    void shouldRequireSeedProperty() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.alpha.wcc.incremental")
+            .mutateMode()
+            .addParameter("mutateProperty", "updatedComponent")
+            .yields();
+
+        assertError(query, "requires `seedProperty`");
+    }
+
+    @Test
+    void shouldCallMemoryEstimation() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.alpha.wcc.incremental")
+            .estimationMode(GdsCypher.ExecutionModes.MUTATE)
+            .addParameter("seedProperty", "component")
+            .addParameter("mutateProperty", "updatedComponent")
+            .yields();
+
+        assertThatNoException().isThrownBy(() -> runQuery(query));
+    }
+}
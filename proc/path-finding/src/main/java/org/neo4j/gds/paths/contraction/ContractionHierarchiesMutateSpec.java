@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.GraphStoreUpdater;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.core.write.ImmutableNodeProperty;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_RELATIONSHIP;
+import static org.neo4j.gds.paths.contraction.ContractionHierarchiesMutateProc.DESCRIPTION;
+
+@GdsCallable(name = "gds.contractionHierarchy.mutate", description = DESCRIPTION, executionMode = MUTATE_RELATIONSHIP)
+public class ContractionHierarchiesMutateSpec implements AlgorithmSpec<ContractionHierarchies, ContractionHierarchy, ContractionHierarchiesMutateConfig, Stream<MutateResult>, ContractionHierarchiesFactory<ContractionHierarchiesMutateConfig>> {
+
+    @Override
+    public String name() {
+        return "ContractionHierarchiesMutate";
+    }
+
+    @Override
+    public ContractionHierarchiesFactory<ContractionHierarchiesMutateConfig> algorithmFactory(ExecutionContext executionContext) {
+        return new ContractionHierarchiesFactory<>();
+    }
+
+    @Override
+    public NewConfigFunction<ContractionHierarchiesMutateConfig> newConfigFunction() {
+        return (__, config) -> ContractionHierarchiesMutateConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<ContractionHierarchies, ContractionHierarchy, ContractionHierarchiesMutateConfig, Stream<MutateResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> {
+            var builder = new MutateResult.Builder();
+            builder.withPreProcessingMillis(computationResult.preProcessingMillis());
+            builder.withComputeMillis(computationResult.computeMillis());
+            builder.withConfig(computationResult.config());
+
+            if (computationResult.result().isEmpty()) {
+                return Stream.of(builder.build());
+            }
+
+            var hierarchy = computationResult.result().get();
+            var config = computationResult.config();
+
+            try (ProgressTimer ignored = ProgressTimer.start(builder::withMutateMillis)) {
+                GraphStoreUpdater.updateGraphStore(
+                    computationResult.graph(),
+                    computationResult.graphStore(),
+                    builder,
+                    config,
+                    executionContext.log(),
+                    List.of(ImmutableNodeProperty.of(
+                        config.mutateProperty(),
+                        NodePropertyValuesAdapter.adapt(hierarchy.ranks())
+                    ))
+                );
+
+                var relationshipsBuilder = GraphFactory
+                    .initRelationshipsBuilder()
+                    .relationshipType(RelationshipType.of(config.mutateRelationshipType()))
+                    .nodes(computationResult.graph())
+                    .addPropertyConfig(GraphFactory.PropertyConfig.of(config.mutateRelationshipProperty()))
+                    .orientation(Orientation.NATURAL)
+                    .build();
+                hierarchy.forEachRelationship((source, target, weight) -> {
+                    relationshipsBuilder.addFromInternal(source, target, weight);
+                    return true;
+                });
+                computationResult.graphStore().addRelationshipType(relationshipsBuilder.build());
+            }
+            builder.withRelationshipsWritten(hierarchy.relationshipCount());
+
+            return Stream.of(builder.build());
+        };
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dag.longestPath;
+
+import org.neo4j.gds.dag.longestPath.DagCriticalPath;
+import org.neo4j.gds.dag.longestPath.DagCriticalPathFactory;
+import org.neo4j.gds.dag.longestPath.DagCriticalPathResult;
+import org.neo4j.gds.dag.longestPath.DagCriticalPathStreamConfig;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.LoggingUtil.runWithExceptionLogging;
+import static org.neo4j.gds.executor.ExecutionMode.STREAM;
+
+@GdsCallable(name = "gds.dag.criticalPath.stream", description = DagCriticalPathStreamProc.CRITICAL_PATH_DESCRIPTION, executionMode = STREAM)
+public class DagCriticalPathStreamSpec implements AlgorithmSpec<DagCriticalPath, DagCriticalPathResult, DagCriticalPathStreamConfig, Stream<DagCriticalPathStreamResult>, DagCriticalPathFactory<DagCriticalPathStreamConfig>> {
+
+    @Override
+    public String name() {
+        return "dagCriticalPathStream";
+    }
+
+    @Override
+    public DagCriticalPathFactory<DagCriticalPathStreamConfig> algorithmFactory(ExecutionContext executionContext) {
+        return new DagCriticalPathFactory<>();
+    }
+
+    @Override
+    public NewConfigFunction<DagCriticalPathStreamConfig> newConfigFunction() {
+        return (___, config) -> DagCriticalPathStreamConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<DagCriticalPath, DagCriticalPathResult, DagCriticalPathStreamConfig, Stream<DagCriticalPathStreamResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> runWithExceptionLogging(
+            "Result streaming failed",
+            executionContext.log(),
+            () -> computationResult.result()
+                .map(result -> {
+                    var graph = computationResult.graph();
+                    var levels = result.levels();
+
+                    // nodes on or reachable from a cycle have no level and are not streamed
+                    return IntStream.range(0, levels.levelCount())
+                        .boxed()
+                        .flatMap(level -> levels.nodes(level).mapToObj(nodeId -> new DagCriticalPathStreamResult(
+                            graph.toOriginalNodeId(nodeId),
+                            result.distance(nodeId),
+                            result.slack(nodeId),
+                            result.isCritical(nodeId)
+                        )));
+                }).orElseGet(Stream::empty)
+        );
+    }
+
+    @Override
+    public boolean releaseProgressTask() {
+        return false;
+    }
+}
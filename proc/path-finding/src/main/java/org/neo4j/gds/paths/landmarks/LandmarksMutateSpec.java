@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.MutateNodePropertyListFunction;
+import org.neo4j.gds.MutatePropertyComputationResultConsumer;
+import org.neo4j.gds.api.properties.nodes.EmptyDoubleArrayNodePropertyValues;
+import org.neo4j.gds.core.write.ImmutableNodeProperty;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
+import static org.neo4j.gds.paths.landmarks.LandmarksMutateProc.DESCRIPTION;
+
+@GdsCallable(name = "gds.landmarks.mutate", description = DESCRIPTION, executionMode = MUTATE_NODE_PROPERTY)
+public class LandmarksMutateSpec implements AlgorithmSpec<Landmarks, LandmarkIndex, LandmarksMutateConfig, Stream<MutateResult>, LandmarksFactory<LandmarksMutateConfig>> {
+
+    @Override
+    public String name() {
+        return "LandmarksMutate";
+    }
+
+    @Override
+    public LandmarksFactory<LandmarksMutateConfig> algorithmFactory(ExecutionContext executionContext) {
+        return new LandmarksFactory<>();
+    }
+
+    @Override
+    public NewConfigFunction<LandmarksMutateConfig> newConfigFunction() {
+        return (__, config) -> LandmarksMutateConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<Landmarks, LandmarkIndex, LandmarksMutateConfig, Stream<MutateResult>> computationResultConsumer() {
+        MutateNodePropertyListFunction<Landmarks, LandmarkIndex, LandmarksMutateConfig> nodePropertyListFunction =
+            computationResult -> List.of(ImmutableNodeProperty.of(
+                computationResult.config().mutateProperty(),
+                computationResult.result()
+                    .map(index -> index.nodePropertyValues(LandmarkIndex.signature(
+                        computationResult.graph(),
+                        computationResult.config().relationshipWeightProperty()
+                    )))
+                    .orElse(EmptyDoubleArrayNodePropertyValues.INSTANCE)
+            ));
+        return new MutatePropertyComputationResultConsumer<>(
+            nodePropertyListFunction,
+            (computationResult, executionContext) -> new MutateResult.Builder()
+        );
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+import org.neo4j.gds.paths.ShortestPathStreamResultConsumer;
+import org.neo4j.gds.paths.StreamResult;
+import org.neo4j.gds.paths.astar.AStar;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.STREAM;
+import static org.neo4j.gds.paths.landmarks.ShortestPathAltStreamProc.DESCRIPTION;
+
+@GdsCallable(name = "gds.shortestPath.alt.stream", description = DESCRIPTION, executionMode = STREAM)
+public class ShortestPathAltStreamSpec implements AlgorithmSpec<AStar, PathFindingResult, ShortestPathAltStreamConfig, Stream<StreamResult>, AltFactory<ShortestPathAltStreamConfig>> {
+
+    @Override
+    public String name() {
+        return "AltStream";
+    }
+
+    @Override
+    public AltFactory<ShortestPathAltStreamConfig> algorithmFactory(ExecutionContext executionContext) {
+        return new AltFactory<>();
+    }
+
+    @Override
+    public NewConfigFunction<ShortestPathAltStreamConfig> newConfigFunction() {
+        return (__, config) -> ShortestPathAltStreamConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<AStar, PathFindingResult, ShortestPathAltStreamConfig, Stream<StreamResult>> computationResultConsumer() {
+        return new ShortestPathStreamResultConsumer<>();
+    }
+
+    @Override
+    public boolean releaseProgressTask() {
+        return false;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.sourcetarget;
+
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+import org.neo4j.gds.paths.ShortestPathStreamResultConsumer;
+import org.neo4j.gds.paths.StreamResult;
+import org.neo4j.gds.paths.dijkstra.BatchedDijkstra;
+import org.neo4j.gds.paths.dijkstra.BatchedDijkstraFactory;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraBatchStreamConfig;
+
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.STREAM;
+import static org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraBatchStreamProc.DIJKSTRA_BATCH_DESCRIPTION;
+
+@GdsCallable(name = "gds.shortestPath.dijkstra.batch.stream", description = DIJKSTRA_BATCH_DESCRIPTION, executionMode = STREAM)
+public class ShortestPathDijkstraBatchStreamSpec implements AlgorithmSpec<BatchedDijkstra, PathFindingResult, ShortestPathDijkstraBatchStreamConfig, Stream<StreamResult>, BatchedDijkstraFactory<ShortestPathDijkstraBatchStreamConfig>> {
+
+    @Override
+    public String name() {
+        return "DijkstraBatchStream";
+    }
+
+    @Override
+    public BatchedDijkstraFactory<ShortestPathDijkstraBatchStreamConfig> algorithmFactory(ExecutionContext executionContext) {
+        return new BatchedDijkstraFactory<>();
+    }
+
+    @Override
+    public NewConfigFunction<ShortestPathDijkstraBatchStreamConfig> newConfigFunction() {
+        return (___, config) -> ShortestPathDijkstraBatchStreamConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<BatchedDijkstra, PathFindingResult, ShortestPathDijkstraBatchStreamConfig, Stream<StreamResult>> computationResultConsumer() {
+        return new ShortestPathStreamResultConsumer<>();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.spanningtree;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+import org.neo4j.gds.spanningtree.Boruvka;
+import org.neo4j.gds.spanningtree.BoruvkaAlgorithmFactory;
+import org.neo4j.gds.spanningtree.SpanningForestStreamConfig;
+import org.neo4j.gds.spanningtree.SpanningTree;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.LoggingUtil.runWithExceptionLogging;
+import static org.neo4j.gds.executor.ExecutionMode.STREAM;
+
+@GdsCallable(
+    name = "gds.alpha.spanningForest.stream",
+    description = SpanningForestStreamProc.DESCRIPTION,
+    executionMode = STREAM
+)
+public class SpanningForestStreamSpec implements AlgorithmSpec<Boruvka, SpanningTree, SpanningForestStreamConfig, Stream<StreamResult>, BoruvkaAlgorithmFactory<SpanningForestStreamConfig>> {
+
+    @Override
+    public String name() {
+        return "SpanningForestStream";
+    }
+
+    @Override
+    public BoruvkaAlgorithmFactory<SpanningForestStreamConfig> algorithmFactory(ExecutionContext executionContext) {
+        return new BoruvkaAlgorithmFactory<>();
+    }
+
+    @Override
+    public NewConfigFunction<SpanningForestStreamConfig> newConfigFunction() {
+        return (__, config) -> SpanningForestStreamConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<Boruvka, SpanningTree, SpanningForestStreamConfig, Stream<StreamResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> runWithExceptionLogging(
+            "Result streaming failed",
+            executionContext.log(),
+            () -> computationResult.result()
+                .map(result -> {
+                    var graph = computationResult.graph();
+                    // the root of every tree is its own parent
+                    return LongStream.range(IdMap.START_NODE_ID, graph.nodeCount())
+                        .mapToObj(nodeId -> {
+                            var parent = result.parent(nodeId);
+                            var originalId = graph.toOriginalNodeId(nodeId);
+                            return parent < 0
+                                ? new StreamResult(originalId, originalId, 0.0)
+                                : new StreamResult(originalId, graph.toOriginalNodeId(parent), result.costToParent(nodeId));
+                        });
+                }).orElseGet(Stream::empty)
+        );
+    }
+}
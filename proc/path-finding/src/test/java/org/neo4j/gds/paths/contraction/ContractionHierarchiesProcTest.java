@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractionHierarchiesProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER = "CREATE" +
+                                            "  (a:Label)" +
+                                            ", (b:Label)" +
+                                            ", (c:Label)" +
+                                            ", (d:Label)" +
+                                            ", (e:Label)" +
+                                            ", (f:Label)" +
+                                            ", (a)-[:TYPE {cost: 4}]->(b)" +
+                                            ", (a)-[:TYPE {cost: 2}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 5}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 10}]->(d)" +
+                                            ", (c)-[:TYPE {cost: 3}]->(e)" +
+                                            ", (d)-[:TYPE {cost: 11}]->(f)" +
+                                            ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            ContractionHierarchiesMutateProc.class,
+            ShortestPathContractionHierarchyStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(GdsCypher.call("graph")
+            .graphProject()
+            .withNodeLabel("Label")
+            .withRelationshipType("TYPE")
+            .withRelationshipProperty("cost")
+            .yields());
+    }
+
+    @Test
+    void testMutateAndStream() {
+        var mutateQuery = GdsCypher.call("graph")
+            .algo("gds.contractionHierarchy")
+            .mutateMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("mutateProperty", "rank")
+            .addParameter("mutateRelationshipType", "HIERARCHY")
+            .yields("nodePropertiesWritten", "relationshipsWritten");
+
+        runQueryWithRowConsumer(mutateQuery, row -> {
+            assertThat(row.getNumber("nodePropertiesWritten").longValue()).isEqualTo(6L);
+            // every original relationship is part of the hierarchy, shortcuts come on top
+            assertThat(row.getNumber("relationshipsWritten").longValue()).isGreaterThanOrEqualTo(7L);
+        });
+
+        var graph = findLoadedGraph("graph");
+        assertThat(graph.availableNodeProperties()).contains("rank");
+
+        var streamQuery = GdsCypher.call("graph")
+            .algo("gds.shortestPath.contractionHierarchy")
+            .streamMode()
+            .addParameter("relationshipTypes", List.of("HIERARCHY"))
+            .addParameter("relationshipWeightProperty", "weight")
+            .addParameter("rankProperty", "rank")
+            .addParameter("sourceNodes", List.of(idFunction.of("a"), idFunction.of("b"), idFunction.of("a"), idFunction.of("f")))
+            .addParameter("targetNodes", List.of(idFunction.of("f"), idFunction.of("e"), idFunction.of("d"), idFunction.of("a")))
+            .yields("index", "totalCost", "nodeIds");
+
+        var costs = new HashMap<Long, Double>();
+        var nodeIds = new HashMap<Long, Object>();
+        runQueryWithRowConsumer(streamQuery, row -> {
+            var index = row.getNumber("index").longValue();
+            costs.put(index, row.getNumber("totalCost").doubleValue());
+            nodeIds.put(index, row.get("nodeIds"));
+        });
+
+        // there is no path from f to a, shortcuts are unpacked into the original relationships
+        assertThat(costs).isEqualTo(Map.of(0L, 20.0, 1L, 8.0, 2L, 9.0));
+        assertThat(nodeIds.get(0L)).isEqualTo(List.of(
+            idFunction.of("a"),
+            idFunction.of("c"),
+            idFunction.of("e"),
+            idFunction.of("d"),
+            idFunction.of("f")
+        ));
+        assertThat(nodeIds.get(1L)).isEqualTo(List.of(idFunction.of("b"), idFunction.of("c"), idFunction.of("e")));
+    }
+
+    @Test
+    void testEstimate() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.contractionHierarchy")
+            .mutateEstimation()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("mutateProperty", "rank")
+            .addParameter("mutateRelationshipType", "HIERARCHY")
+            .yields("bytesMin", "bytesMax");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("bytesMin").longValue()).isPositive();
+            assertThat(row.getNumber("bytesMax").longValue())
+                .isGreaterThanOrEqualTo(row.getNumber("bytesMin").longValue());
+        });
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dag.longestPath;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DagCriticalPathStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph(offsetIds = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (e)" +
+        ", (f)" +
+        ", (a)-[:R {w: 3.0}]->(b)" +
+        ", (a)-[:R {w: 1.0}]->(c)" +
+        ", (c)-[:R {w: 1.0}]->(b)" +
+        ", (b)-[:R {w: 1.0}]->(d)" +
+        ", (e)-[:R {w: 1.0}]->(f)" +
+        ", (f)-[:R {w: 1.0}]->(e)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registerProcedures(
+            GraphProjectProc.class,
+            DagCriticalPathStreamProc.class
+        );
+
+        runQuery("CALL gds.graph.project('graph', '*', {R: {properties: 'w'}})");
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldStreamDistanceAndSlackOfNodesOutsideOfCycles() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.dag.criticalPath")
+            .streamMode()
+            .addParameter("relationshipWeightProperty", "w")
+            .yields("nodeId", "distance", "slack", "critical");
+
+        Map<Long, List<Object>> rows = new HashMap<>();
+        runQueryWithRowConsumer(query, row -> rows.put(
+            row.getNumber("nodeId").longValue(),
+            List.of(
+                row.getNumber("distance").doubleValue(),
+                row.getNumber("slack").doubleValue(),
+                row.getBoolean("critical")
+            )
+        ));
+
+        assertThat(rows).containsOnly(
+            Map.entry(idFunction.of("a"), List.of(0.0, 0.0, true)),
+            Map.entry(idFunction.of("b"), List.of(3.0, 0.0, true)),
+            Map.entry(idFunction.of("c"), List.of(1.0, 1.0, false)),
+            Map.entry(idFunction.of("d"), List.of(4.0, 0.0, true))
+        );
+    }
+
+    @Test
+    void shouldStreamNodesInTopologicalOrder() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.dag.criticalPath")
+            .streamMode()
+            .yields("nodeId");
+
+        var nodeIds = new ArrayList<Long>();
+        runQueryWithRowConsumer(query, row -> nodeIds.add(row.getNumber("nodeId").longValue()));
+
+        assertThat(nodeIds).containsExactly(
+            idFunction.of("a"),
+            idFunction.of("c"),
+            idFunction.of("b"),
+            idFunction.of("d")
+        );
+    }
+}
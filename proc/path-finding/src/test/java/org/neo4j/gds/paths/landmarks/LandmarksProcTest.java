@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LandmarksProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER = "CREATE" +
+                                            "  (a:Label)" +
+                                            ", (b:Label)" +
+                                            ", (c:Label)" +
+                                            ", (d:Label)" +
+                                            ", (e:Label)" +
+                                            ", (f:Label)" +
+                                            ", (a)-[:TYPE {cost: 4}]->(b)" +
+                                            ", (a)-[:TYPE {cost: 2}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 5}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 10}]->(d)" +
+                                            ", (c)-[:TYPE {cost: 3}]->(e)" +
+                                            ", (d)-[:TYPE {cost: 11}]->(f)" +
+                                            ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            LandmarksMutateProc.class,
+            ShortestPathAltStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(GdsCypher.call("graph")
+            .graphProject()
+            .withNodeLabel("Label")
+            .withRelationshipType("TYPE", Orientation.UNDIRECTED)
+            .withRelationshipProperty("cost")
+            .yields());
+    }
+
+    @Test
+    void testMutateAndStream() {
+        var mutateQuery = GdsCypher.call("graph")
+            .algo("gds.landmarks")
+            .mutateMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("landmarkCount", 2)
+            .addParameter("mutateProperty", "landmarks")
+            .yields("nodePropertiesWritten");
+
+        runQueryWithRowConsumer(
+            mutateQuery,
+            row -> assertThat(row.getNumber("nodePropertiesWritten").longValue()).isEqualTo(6L)
+        );
+
+        var graph = findLoadedGraph("graph");
+        assertThat(graph.nodeProperties("landmarks").doubleArrayValue(0)).hasSize(2 + LandmarkIndex.METADATA_SLOTS);
+
+        var streamQuery = GdsCypher.call("graph")
+            .algo("gds.shortestPath.alt")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("landmarkProperty", "landmarks")
+            .yields("totalCost", "nodeIds");
+
+        var costs = new ArrayList<Double>();
+        var nodeIds = new ArrayList<Object>();
+        runQueryWithRowConsumer(streamQuery, row -> {
+            costs.add(row.getNumber("totalCost").doubleValue());
+            nodeIds.add(row.get("nodeIds"));
+        });
+
+        assertThat(costs).containsExactly(20.0);
+        assertThat(nodeIds).containsExactly(List.of(
+            idFunction.of("a"),
+            idFunction.of("c"),
+            idFunction.of("e"),
+            idFunction.of("d"),
+            idFunction.of("f")
+        ));
+    }
+
+    @Test
+    void shouldRejectLandmarksOfDifferentWeights() {
+        runQuery(GdsCypher.call("graph")
+            .algo("gds.landmarks")
+            .mutateMode()
+            .addParameter("landmarkCount", 2)
+            .addParameter("mutateProperty", "landmarks")
+            .yields());
+
+        var streamQuery = GdsCypher.call("graph")
+            .algo("gds.shortestPath.alt")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("landmarkProperty", "landmarks")
+            .yields("totalCost");
+
+        assertThatThrownBy(() -> runQuery(streamQuery))
+            .rootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("have been computed on different relationships");
+    }
+
+    @Test
+    void testEstimate() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.landmarks")
+            .mutateEstimation()
+            .addParameter("landmarkCount", 2)
+            .addParameter("mutateProperty", "landmarks")
+            .yields("bytesMin", "bytesMax");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("bytesMin").longValue()).isPositive();
+            assertThat(row.getNumber("bytesMax").longValue())
+                .isGreaterThanOrEqualTo(row.getNumber("bytesMin").longValue());
+        });
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.sourcetarget;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+class ShortestPathDijkstraBatchStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER = "CREATE" +
+                                            "  (:Offset)" +
+                                            ", (a:Label)" +
+                                            ", (b:Label)" +
+                                            ", (c:Label)" +
+                                            ", (d:Label)" +
+                                            ", (e:Label)" +
+                                            ", (f:Label)" +
+                                            ", (a)-[:TYPE {cost: 4}]->(b)" +
+                                            ", (a)-[:TYPE {cost: 2}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 5}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 10}]->(d)" +
+                                            ", (c)-[:TYPE {cost: 3}]->(e)" +
+                                            ", (d)-[:TYPE {cost: 11}]->(f)" +
+                                            ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            ShortestPathDijkstraBatchStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(GdsCypher.call("graph")
+            .graphProject()
+            .withNodeLabel("Label")
+            .withAnyRelationshipType()
+            .withRelationshipProperty("cost")
+            .yields());
+    }
+
+    @Test
+    void testStream() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.shortestPath.dijkstra.batch")
+            .streamMode()
+            .addParameter("sourceNodes", List.of(idFunction.of("a"), idFunction.of("b"), idFunction.of("a"), idFunction.of("f")))
+            .addParameter("targetNodes", List.of(idFunction.of("f"), idFunction.of("e"), idFunction.of("d"), idFunction.of("a")))
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("index", "sourceNode", "targetNode", "totalCost", "nodeIds");
+
+        var costs = new HashMap<Long, Double>();
+        var nodeIds = new HashMap<Long, Object>();
+        runQueryWithRowConsumer(query, row -> {
+            var index = row.getNumber("index").longValue();
+            costs.put(index, row.getNumber("totalCost").doubleValue());
+            nodeIds.put(index, row.get("nodeIds"));
+        });
+
+        // there is no path from f to a
+        assertThat(costs).isEqualTo(Map.of(0L, 20.0, 1L, 8.0, 2L, 9.0));
+        assertThat(nodeIds.get(0L)).isEqualTo(List.of(
+            idFunction.of("a"),
+            idFunction.of("c"),
+            idFunction.of("e"),
+            idFunction.of("d"),
+            idFunction.of("f")
+        ));
+        assertThat(nodeIds.get(1L)).isEqualTo(List.of(idFunction.of("b"), idFunction.of("c"), idFunction.of("e")));
+    }
+
+    @Test
+    void testMemoryEstimation() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.shortestPath.dijkstra.batch")
+            .estimationMode(GdsCypher.ExecutionModes.STREAM)
+            .addParameter("sourceNodes", List.of(idFunction.of("a"), idFunction.of("b")))
+            .addParameter("targetNodes", List.of(idFunction.of("f"), idFunction.of("e")))
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("bytesMin", "bytesMax", "nodeCount", "relationshipCount");
+
+        assertCypherResult(query, List.of(Map.of(
+            "bytesMin", greaterThan(0L),
+            "bytesMax", greaterThan(0L),
+            "nodeCount", 6L,
+            "relationshipCount", 7L
+        )));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.spanningtree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ *     a                a
+ * 1 /   \ 2          /  \
+ *  /     \          /    \
+ * b --3-- c        b      c
+ * |       |   =>   |      |
+ * 4       5        |      |
+ * |       |        |      |
+ * d --6-- e        d      e
+ *
+ * y --7-- z        y -- z
+ */
+class SpanningForestStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    static final String DB_CYPHER = "CREATE(a:Node) " +
+                                    "CREATE(b:Node) " +
+                                    "CREATE(c:Node) " +
+                                    "CREATE(d:Node) " +
+                                    "CREATE(e:Node) " +
+                                    "CREATE(y:Node) " +
+                                    "CREATE(z:Node) " +
+                                    "CREATE (a)-[:TYPE {cost:1.0}]->(b) " +
+                                    "CREATE (a)-[:TYPE {cost:2.0}]->(c) " +
+                                    "CREATE (b)-[:TYPE {cost:3.0}]->(c) " +
+                                    "CREATE (b)-[:TYPE {cost:4.0}]->(d) " +
+                                    "CREATE (c)-[:TYPE {cost:5.0}]->(e) " +
+                                    "CREATE (d)-[:TYPE {cost:6.0}]->(e) " +
+                                    "CREATE (y)-[:TYPE {cost:7.0}]->(z)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(SpanningForestStreamProc.class, GraphProjectProc.class);
+        var createQuery = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .withAnyLabel()
+            .withRelationshipType("TYPE", Orientation.UNDIRECTED)
+            .withRelationshipProperty("cost")
+            .yields();
+        runQuery(createQuery);
+    }
+
+    @Test
+    void shouldStreamOneTreePerComponent() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.spanningForest")
+            .streamMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("nodeId", "parentId", "weight");
+
+        var parents = new HashMap<Long, Long>();
+        var totalWeight = new double[1];
+        runQueryWithRowConsumer(query, row -> {
+            parents.put(row.getNumber("nodeId").longValue(), row.getNumber("parentId").longValue());
+            totalWeight[0] += row.getNumber("weight").doubleValue();
+        });
+
+        assertThat(parents).containsAllEntriesOf(Map.of(
+            idFunction.of("b"), idFunction.of("a"),
+            idFunction.of("c"), idFunction.of("a"),
+            idFunction.of("d"), idFunction.of("b"),
+            idFunction.of("e"), idFunction.of("c")
+        ));
+        assertThat(parents).hasSize(7);
+        assertThat(totalWeight[0]).isEqualTo(19.0);
+    }
+
+    @Test
+    void shouldCutForestIntoComponentCountTrees() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.spanningForest")
+            .streamMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("componentCount", 4)
+            .yields("nodeId", "parentId");
+
+        var roots = new long[1];
+        runQueryWithRowConsumer(query, row -> {
+            if (row.getNumber("nodeId").longValue() == row.getNumber("parentId").longValue()) {
+                roots[0]++;
+            }
+        });
+
+        assertThat(roots[0]).isEqualTo(4);
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.spanningForest")
+            .estimationMode(GdsCypher.ExecutionModes.STREAM)
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("bytesMin", "bytesMax");
+
+        assertCypherResult(query, List.of(Map.of(
+            "bytesMin", greaterThan(0L),
+            "bytesMax", greaterThan(0L)
+        )));
+    }
+}
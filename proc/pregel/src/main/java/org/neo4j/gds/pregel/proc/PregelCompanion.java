@@ -26,6 +26,8 @@ import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.LongArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
+import org.neo4j.gds.beta.pregel.FixedWidthDoubleArrays;
+import org.neo4j.gds.beta.pregel.FixedWidthLongArrays;
 import org.neo4j.gds.beta.pregel.PregelConfig;
 import org.neo4j.gds.beta.pregel.PregelResult;
 import org.neo4j.gds.beta.pregel.PregelSchema;
@@ -44,6 +46,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -149,10 +152,14 @@ public final class PregelCompanion {
                         nodePropertyValues = NodePropertyValuesAdapter.adapt(compositeNodeValue.doubleProperties(propertyKey));
                         break;
                     case LONG_ARRAY:
-                        nodePropertyValues = new HugeObjectArrayLongArrayPropertyValues(compositeNodeValue.longArrayProperties(propertyKey));
+                        nodePropertyValues = compositeNodeValue.isFixedWidth(propertyKey)
+                            ? new FixedWidthLongArrayPropertyValues(compositeNodeValue.fixedWidthLongArrayProperties(propertyKey))
+                            : new HugeObjectArrayLongArrayPropertyValues(compositeNodeValue.longArrayProperties(propertyKey));
                         break;
                     case DOUBLE_ARRAY:
-                        nodePropertyValues = new HugeObjectArrayDoubleArrayPropertyValues(compositeNodeValue.doubleArrayProperties(propertyKey));
+                        nodePropertyValues = compositeNodeValue.isFixedWidth(propertyKey)
+                            ? new FixedWidthDoubleArrayPropertyValues(compositeNodeValue.fixedWidthDoubleArrayProperties(propertyKey))
+                            : new HugeObjectArrayDoubleArrayPropertyValues(compositeNodeValue.doubleArrayProperties(propertyKey));
                         break;
                     default:
                         throw new IllegalArgumentException("Unsupported property type: " + element.propertyType());
@@ -199,4 +206,46 @@ public final class PregelCompanion {
         }
     }
 
+    static class FixedWidthLongArrayPropertyValues implements LongArrayNodePropertyValues {
+        private final FixedWidthLongArrays longArrays;
+
+        FixedWidthLongArrayPropertyValues(FixedWidthLongArrays longArrays) {this.longArrays = longArrays;}
+
+        @Override
+        public long nodeCount() {
+            return longArrays.nodeCount();
+        }
+
+        @Override
+        public long[] longArrayValue(long nodeId) {
+            return longArrays.get(nodeId);
+        }
+
+        @Override
+        public Optional<Integer> dimension() {
+            return Optional.of(longArrays.dimension());
+        }
+    }
+
+    static class FixedWidthDoubleArrayPropertyValues implements DoubleArrayNodePropertyValues {
+        private final FixedWidthDoubleArrays doubleArrays;
+
+        FixedWidthDoubleArrayPropertyValues(FixedWidthDoubleArrays doubleArrays) {this.doubleArrays = doubleArrays;}
+
+        @Override
+        public long nodeCount() {
+            return doubleArrays.nodeCount();
+        }
+
+        @Override
+        public double[] doubleArrayValue(long nodeId) {
+            return doubleArrays.get(nodeId);
+        }
+
+        @Override
+        public Optional<Integer> dimension() {
+            return Optional.of(doubleArrays.dimension());
+        }
+    }
+
 }
@@ -75,11 +75,9 @@ public class PregelStreamComputationResultConsumer<
                                             case DOUBLE:
                                                 return nodeValues.doubleProperties(element.propertyKey()).get(nodeId);
                                             case DOUBLE_ARRAY:
-                                                return nodeValues.doubleArrayProperties(element.propertyKey()).get(
-                                                    nodeId);
+                                                return nodeValues.doubleArrayValue(element.propertyKey(), nodeId);
                                             case LONG_ARRAY:
-                                                return nodeValues.longArrayProperties(element.propertyKey())
-                                                    .get(nodeId);
+                                                return nodeValues.longArrayValue(element.propertyKey(), nodeId);
                                             default:
                                                 throw new IllegalArgumentException("Unsupported property type: " + element.propertyType());
                                         }
@@ -21,7 +21,7 @@ package org.neo4j.gds.procedures.centrality;
 
 import org.neo4j.gds.algorithms.NodePropertyMutateResult;
 import org.neo4j.gds.algorithms.NodePropertyWriteResult;
-import org.neo4j.gds.algorithms.centrality.specificfields.DefaultCentralitySpecificFields;
+import org.neo4j.gds.algorithms.centrality.specificfields.ClosenessCentralitySpecificFields;
 import org.neo4j.gds.closeness.ClosenessCentralityMutateConfig;
 import org.neo4j.gds.closeness.ClosenessCentralityWriteConfig;
 import org.neo4j.gds.procedures.centrality.betacloseness.BetaClosenessCentralityMutateResult;
@@ -34,7 +34,7 @@ final class BetaClosenessCentralityComputationalResultTransformer {
 
 
     static BetaClosenessCentralityMutateResult toMutateResult(
-        NodePropertyMutateResult<DefaultCentralitySpecificFields> computationResult,
+        NodePropertyMutateResult<ClosenessCentralitySpecificFields> computationResult,
         ClosenessCentralityMutateConfig configuration
     ) {
         return new BetaClosenessCentralityMutateResult(
@@ -50,7 +50,7 @@ final class BetaClosenessCentralityComputationalResultTransformer {
     }
 
     static BetaClosenessCentralityWriteResult toWriteResult(
-        NodePropertyWriteResult<DefaultCentralitySpecificFields> computationResult,
+        NodePropertyWriteResult<ClosenessCentralitySpecificFields> computationResult,
         ClosenessCentralityWriteConfig configuration
     ) {
         return new BetaClosenessCentralityWriteResult(
@@ -42,10 +42,13 @@ import org.neo4j.gds.harmonic.HarmonicCentralityMutateConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityStatsConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityStreamConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityWriteConfig;
+import org.neo4j.gds.influenceMaximization.IMMStreamConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationMutateConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationStatsConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationStreamConfig;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationWriteConfig;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRankStatsConfig;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRankStreamConfig;
 import org.neo4j.gds.pagerank.PageRankMutateConfig;
 import org.neo4j.gds.pagerank.PageRankStatsConfig;
 import org.neo4j.gds.pagerank.PageRankStreamConfig;
@@ -55,10 +58,25 @@ import org.neo4j.gds.procedures.centrality.alphaharmonic.AlphaHarmonicStreamResu
 import org.neo4j.gds.procedures.centrality.alphaharmonic.AlphaHarmonicWriteResult;
 import org.neo4j.gds.procedures.centrality.betacloseness.BetaClosenessCentralityMutateResult;
 import org.neo4j.gds.procedures.centrality.betacloseness.BetaClosenessCentralityWriteResult;
+import org.neo4j.gds.procedures.centrality.betweenness.BetweennessCentralityComputationalResultTransformer;
+import org.neo4j.gds.procedures.centrality.betweenness.BetweennessCentralityMutateResult;
+import org.neo4j.gds.procedures.centrality.betweenness.BetweennessCentralityStatsResult;
+import org.neo4j.gds.procedures.centrality.betweenness.BetweennessCentralityWriteResult;
 import org.neo4j.gds.procedures.centrality.celf.CELFMutateResult;
 import org.neo4j.gds.procedures.centrality.celf.CELFStatsResult;
 import org.neo4j.gds.procedures.centrality.celf.CELFStreamResult;
 import org.neo4j.gds.procedures.centrality.celf.CELFWriteResult;
+import org.neo4j.gds.procedures.centrality.closeness.ClosenessCentralityComputationalResultTransformer;
+import org.neo4j.gds.procedures.centrality.closeness.ClosenessCentralityMutateResult;
+import org.neo4j.gds.procedures.centrality.closeness.ClosenessCentralityStatsResult;
+import org.neo4j.gds.procedures.centrality.closeness.ClosenessCentralityWriteResult;
+import org.neo4j.gds.procedures.centrality.harmonic.HarmonicCentralityComputationalResultTransformer;
+import org.neo4j.gds.procedures.centrality.harmonic.HarmonicCentralityMutateResult;
+import org.neo4j.gds.procedures.centrality.harmonic.HarmonicCentralityStatsResult;
+import org.neo4j.gds.procedures.centrality.harmonic.HarmonicCentralityWriteResult;
+import org.neo4j.gds.procedures.centrality.pagerank.BatchedPersonalizedPageRankComputationalResultTransformer;
+import org.neo4j.gds.procedures.centrality.pagerank.BatchedPersonalizedPageRankStatsResult;
+import org.neo4j.gds.procedures.centrality.pagerank.BatchedPersonalizedPageRankStreamResult;
 import org.neo4j.gds.procedures.centrality.pagerank.PageRankComputationalResultTransformer;
 import org.neo4j.gds.procedures.centrality.pagerank.PageRankMutateResult;
 import org.neo4j.gds.procedures.centrality.pagerank.PageRankStatsResult;
@@ -114,7 +132,7 @@ public class CentralityProcedureFacade {
         return DefaultCentralityComputationalResultTransformer.toStreamResult(computationResult);
     }
 
-    public Stream<CentralityStatsResult> betweenessCentralityStats(
+    public Stream<BetweennessCentralityStatsResult> betweenessCentralityStats(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -129,10 +147,10 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
+        return Stream.of(BetweennessCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
     }
 
-    public Stream<CentralityMutateResult> betweenessCentralityMutate(
+    public Stream<BetweennessCentralityMutateResult> betweenessCentralityMutate(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -144,10 +162,10 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toMutateResult(computationResult));
+        return Stream.of(BetweennessCentralityComputationalResultTransformer.toMutateResult(computationResult));
     }
 
-    public Stream<CentralityWriteResult> betweenessCentralityWrite(
+    public Stream<BetweennessCentralityWriteResult> betweenessCentralityWrite(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -159,7 +177,7 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toWriteResult(computationResult));
+        return Stream.of(BetweennessCentralityComputationalResultTransformer.toWriteResult(computationResult));
     }
 
 
@@ -322,7 +340,7 @@ public class CentralityProcedureFacade {
         return DefaultCentralityComputationalResultTransformer.toStreamResult(computationResult);
     }
 
-    public Stream<CentralityStatsResult> closenessCentralityStats(
+    public Stream<ClosenessCentralityStatsResult> closenessCentralityStats(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -334,10 +352,10 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
+        return Stream.of(ClosenessCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
     }
 
-    public Stream<CentralityMutateResult> closenessCentralityMutate(
+    public Stream<ClosenessCentralityMutateResult> closenessCentralityMutate(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -349,11 +367,11 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toMutateResult(computationResult));
+        return Stream.of(ClosenessCentralityComputationalResultTransformer.toMutateResult(computationResult));
     }
 
 
-    public Stream<CentralityWriteResult> closenessCentralityWrite(
+    public Stream<ClosenessCentralityWriteResult> closenessCentralityWrite(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -365,7 +383,7 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toWriteResult(computationResult));
+        return Stream.of(ClosenessCentralityComputationalResultTransformer.toWriteResult(computationResult));
     }
 
     public Stream<BetaClosenessCentralityMutateResult> betaClosenessCentralityMutate(
@@ -422,7 +440,7 @@ public class CentralityProcedureFacade {
         return DefaultCentralityComputationalResultTransformer.toStreamResult(computationResult);
     }
 
-    public Stream<CentralityStatsResult> harmonicCentralityStats(
+    public Stream<HarmonicCentralityStatsResult> harmonicCentralityStats(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -434,10 +452,10 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
+        return Stream.of(HarmonicCentralityComputationalResultTransformer.toStatsResult(computationResult, config));
     }
 
-    public Stream<CentralityMutateResult> harmonicCentralityMutate(
+    public Stream<HarmonicCentralityMutateResult> harmonicCentralityMutate(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -449,11 +467,11 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toMutateResult(computationResult));
+        return Stream.of(HarmonicCentralityComputationalResultTransformer.toMutateResult(computationResult));
     }
 
 
-    public Stream<CentralityWriteResult> harmonicCentralityWrite(
+    public Stream<HarmonicCentralityWriteResult> harmonicCentralityWrite(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -465,7 +483,7 @@ public class CentralityProcedureFacade {
             procedureReturnColumns.contains("centralityDistribution")
         );
 
-        return Stream.of(DefaultCentralityComputationalResultTransformer.toWriteResult(computationResult));
+        return Stream.of(HarmonicCentralityComputationalResultTransformer.toWriteResult(computationResult));
     }
 
     public Stream<AlphaHarmonicStreamResult> alphaHarmonicCentralityStream(
@@ -520,6 +538,29 @@ public class CentralityProcedureFacade {
         return CELFComputationalResultTransformer.toStreamResult(computationResult);
     }
 
+    public Stream<CELFStreamResult> immStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        var config = configurationCreator.createConfigurationForStream(configuration, IMMStreamConfig::of);
+
+        var computationResult = streamBusinessFacade.imm(
+            graphName,
+            config
+        );
+
+        return CELFComputationalResultTransformer.toStreamResult(computationResult);
+    }
+
+    public Stream<MemoryEstimateResult> immStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> configuration
+    ) {
+        var config = configurationCreator.createConfiguration(configuration, IMMStreamConfig::of);
+
+        return Stream.of(estimateBusinessFacade.imm(graphNameOrConfiguration, config));
+    }
+
     public Stream<CELFStatsResult> celfStats(
         String graphName,
         Map<String, Object> configuration
@@ -650,6 +691,55 @@ public class CentralityProcedureFacade {
         return Stream.of(estimateBusinessFacade.pageRank(graphNameOrConfiguration, config));
     }
 
+    public Stream<BatchedPersonalizedPageRankStreamResult> batchedPersonalizedPageRankStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        var config = configurationCreator.createConfigurationForStream(
+            configuration,
+            BatchedPersonalizedPageRankStreamConfig::of
+        );
+
+        var computationResult = streamBusinessFacade.batchedPersonalizedPageRank(
+            graphName,
+            config
+        );
+
+        return BatchedPersonalizedPageRankComputationalResultTransformer.toStreamResult(computationResult, config);
+    }
+
+    public Stream<MemoryEstimateResult> batchedPersonalizedPageRankStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> configuration
+    ) {
+        var config = configurationCreator.createConfiguration(configuration, BatchedPersonalizedPageRankStreamConfig::of);
+
+        return Stream.of(estimateBusinessFacade.batchedPersonalizedPageRank(graphNameOrConfiguration, config));
+    }
+
+    public Stream<BatchedPersonalizedPageRankStatsResult> batchedPersonalizedPageRankStats(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        var config = configurationCreator.createConfiguration(configuration, BatchedPersonalizedPageRankStatsConfig::of);
+
+        var statsResult = statsBusinessFacade.batchedPersonalizedPageRank(
+            graphName,
+            config
+        );
+
+        return Stream.of(BatchedPersonalizedPageRankComputationalResultTransformer.toStatsResult(statsResult, config));
+    }
+
+    public Stream<MemoryEstimateResult> batchedPersonalizedPageRankStatsEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> configuration
+    ) {
+        var config = configurationCreator.createConfiguration(configuration, BatchedPersonalizedPageRankStatsConfig::of);
+
+        return Stream.of(estimateBusinessFacade.batchedPersonalizedPageRank(graphNameOrConfiguration, config));
+    }
+
     public Stream<PageRankMutateResult> pageRankMutate(
         String graphName,
         Map<String, Object> configuration
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.centrality;
+
+import org.neo4j.gds.algorithms.centrality.CentralityAlgorithmResult;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.columnar.ColumnarBatch;
+import org.neo4j.gds.core.utils.columnar.ColumnarBatchProducer;
+
+/**
+ * Fills batches with (original node id, score) rows.
+ * The scores of a batch are copied from the result as one node id range.
+ */
+final class CentralityScoreBatchProducer implements ColumnarBatchProducer {
+
+    static final int NODE_ID_COLUMN = 0;
+    static final int SCORE_COLUMN = 0;
+    static final int LONG_COLUMNS = 1;
+    static final int DOUBLE_COLUMNS = 1;
+
+    private final CentralityAlgorithmResult result;
+    private final NodePropertyValues nodePropertyValues;
+    private final IdMap idMap;
+
+    private double[] scores;
+
+    CentralityScoreBatchProducer(CentralityAlgorithmResult result, IdMap idMap) {
+        this(result, result.nodePropertyValues(), idMap);
+    }
+
+    private CentralityScoreBatchProducer(
+        CentralityAlgorithmResult result,
+        NodePropertyValues nodePropertyValues,
+        IdMap idMap
+    ) {
+        this.result = result;
+        this.nodePropertyValues = nodePropertyValues;
+        this.idMap = idMap;
+        this.scores = new double[0];
+    }
+
+    @Override
+    public long fill(long startNode, long endNode, ColumnarBatch batch) {
+        int length = (int) Math.min(endNode - startNode, Math.max(1, batch.capacity() - batch.size()));
+        if (scores.length < length) {
+            scores = new double[length];
+        }
+        result.copyCentralityScores(startNode, startNode + length, scores);
+
+        for (int i = 0; i < length; i++) {
+            long nodeId = startNode + i;
+            if (nodePropertyValues.hasValue(nodeId)) {
+                batch.setLong(NODE_ID_COLUMN, idMap.toOriginalNodeId(nodeId));
+                batch.setDouble(SCORE_COLUMN, scores[i]);
+                batch.endRow();
+            }
+        }
+        return startNode + length;
+    }
+
+    @Override
+    public ColumnarBatchProducer concurrentCopy() {
+        return new CentralityScoreBatchProducer(result, nodePropertyValues, idMap);
+    }
+}
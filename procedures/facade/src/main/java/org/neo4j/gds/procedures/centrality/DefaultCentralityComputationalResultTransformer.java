@@ -25,10 +25,9 @@ import org.neo4j.gds.algorithms.StatsResult;
 import org.neo4j.gds.algorithms.StreamComputationResult;
 import org.neo4j.gds.algorithms.centrality.CentralityAlgorithmResult;
 import org.neo4j.gds.algorithms.centrality.specificfields.DefaultCentralitySpecificFields;
-import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.utils.columnar.ColumnarBatchStream;
 
-import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 final class DefaultCentralityComputationalResultTransformer {
@@ -40,16 +39,17 @@ final class DefaultCentralityComputationalResultTransformer {
         StreamComputationResult<RESULT> computationResult
     ) {
         return computationResult.result().map(result -> {
-            var nodePropertyValues = result.nodePropertyValues();
             var graph = computationResult.graph();
-            return LongStream
-                .range(IdMap.START_NODE_ID, graph.nodeCount())
-                .filter(nodePropertyValues::hasValue)
-                .mapToObj(nodeId ->
-                    new CentralityStreamResult(
-                        graph.toOriginalNodeId(nodeId),
-                        nodePropertyValues.doubleValue(nodeId)
-                    ));
+            return ColumnarBatchStream.stream(
+                graph.nodeCount(),
+                CentralityScoreBatchProducer.LONG_COLUMNS,
+                CentralityScoreBatchProducer.DOUBLE_COLUMNS,
+                new CentralityScoreBatchProducer(result, graph),
+                (batch, row) -> new CentralityStreamResult(
+                    batch.longValue(CentralityScoreBatchProducer.NODE_ID_COLUMN, row),
+                    batch.doubleValue(CentralityScoreBatchProducer.SCORE_COLUMN, row)
+                )
+            );
 
         }).orElseGet(Stream::empty);
     }
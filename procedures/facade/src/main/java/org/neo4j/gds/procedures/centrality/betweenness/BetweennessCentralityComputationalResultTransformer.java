@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.centrality.betweenness;
+
+import org.neo4j.gds.algorithms.NodePropertyMutateResult;
+import org.neo4j.gds.algorithms.NodePropertyWriteResult;
+import org.neo4j.gds.algorithms.StatsResult;
+import org.neo4j.gds.algorithms.centrality.specificfields.BetweennessCentralitySpecificFields;
+import org.neo4j.gds.config.AlgoBaseConfig;
+
+public final class BetweennessCentralityComputationalResultTransformer {
+
+    private BetweennessCentralityComputationalResultTransformer() {}
+
+    public static BetweennessCentralityStatsResult toStatsResult(
+        StatsResult<BetweennessCentralitySpecificFields> computationResult,
+        AlgoBaseConfig configuration
+    ) {
+        return new BetweennessCentralityStatsResult(
+            computationResult.algorithmSpecificFields().sampleCount(),
+            computationResult.algorithmSpecificFields().achievedEpsilon(),
+            computationResult.algorithmSpecificFields().topKSeparated(),
+            computationResult.algorithmSpecificFields().centralityDistribution(),
+            computationResult.preProcessingMillis(),
+            computationResult.computeMillis(),
+            computationResult.postProcessingMillis(),
+            configuration.toMap()
+        );
+    }
+
+    public static BetweennessCentralityMutateResult toMutateResult(
+        NodePropertyMutateResult<BetweennessCentralitySpecificFields> computationResult
+    ) {
+        return new BetweennessCentralityMutateResult(
+            computationResult.algorithmSpecificFields().sampleCount(),
+            computationResult.algorithmSpecificFields().achievedEpsilon(),
+            computationResult.algorithmSpecificFields().topKSeparated(),
+            computationResult.algorithmSpecificFields().centralityDistribution(),
+            computationResult.preProcessingMillis(),
+            computationResult.computeMillis(),
+            computationResult.postProcessingMillis(),
+            computationResult.mutateMillis(),
+            computationResult.nodePropertiesWritten(),
+            computationResult.configuration().toMap()
+        );
+    }
+
+    public static BetweennessCentralityWriteResult toWriteResult(
+        NodePropertyWriteResult<BetweennessCentralitySpecificFields> computationResult
+    ) {
+        return new BetweennessCentralityWriteResult(
+            computationResult.algorithmSpecificFields().sampleCount(),
+            computationResult.algorithmSpecificFields().achievedEpsilon(),
+            computationResult.algorithmSpecificFields().topKSeparated(),
+            computationResult.algorithmSpecificFields().centralityDistribution(),
+            computationResult.preProcessingMillis(),
+            computationResult.computeMillis(),
+            computationResult.postProcessingMillis(),
+            computationResult.writeMillis(),
+            computationResult.nodePropertiesWritten(),
+            computationResult.configuration().toMap()
+        );
+    }
+}
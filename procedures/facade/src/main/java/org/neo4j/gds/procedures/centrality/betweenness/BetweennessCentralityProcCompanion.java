@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.centrality.betweenness;
+
+import org.neo4j.gds.api.ProcedureReturnColumns;
+import org.neo4j.gds.result.AbstractCentralityResultBuilder;
+
+public final class BetweennessCentralityProcCompanion {
+
+    private BetweennessCentralityProcCompanion() {}
+
+    public abstract static class BetweennessCentralityResultBuilder<PROC_RESULT> extends AbstractCentralityResultBuilder<PROC_RESULT> {
+        protected long sampleCount;
+
+        protected double achievedEpsilon;
+
+        protected boolean topKSeparated;
+
+        public BetweennessCentralityResultBuilder(ProcedureReturnColumns returnColumns, int concurrency) {
+            super(returnColumns, concurrency);
+        }
+
+        public BetweennessCentralityResultBuilder<PROC_RESULT> withSampleCount(long sampleCount) {
+            this.sampleCount = sampleCount;
+            return this;
+        }
+
+        public BetweennessCentralityResultBuilder<PROC_RESULT> withAchievedEpsilon(double achievedEpsilon) {
+            this.achievedEpsilon = achievedEpsilon;
+            return this;
+        }
+
+        public BetweennessCentralityResultBuilder<PROC_RESULT> withTopKSeparated(boolean topKSeparated) {
+            this.topKSeparated = topKSeparated;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.centrality.betweenness;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.ProcedureReturnColumns;
+import org.neo4j.gds.results.StandardStatsResult;
+
+import java.util.Map;
+
+public class BetweennessCentralityStatsResult extends StandardStatsResult {
+
+    public final long sampleCount;
+    public final double achievedEpsilon;
+    public final boolean topKSeparated;
+    public final Map<String, Object> centralityDistribution;
+
+    public BetweennessCentralityStatsResult(
+        long sampleCount,
+        double achievedEpsilon,
+        boolean topKSeparated,
+        @Nullable Map<String, Object> centralityDistribution,
+        long preProcessingMillis,
+        long computeMillis,
+        long postProcessingMillis,
+        Map<String, Object> configuration
+    ) {
+        super(preProcessingMillis, computeMillis, postProcessingMillis, configuration);
+        this.sampleCount = sampleCount;
+        this.achievedEpsilon = achievedEpsilon;
+        this.topKSeparated = topKSeparated;
+        this.centralityDistribution = centralityDistribution;
+    }
+
+    public static class Builder extends BetweennessCentralityProcCompanion.BetweennessCentralityResultBuilder<BetweennessCentralityStatsResult> {
+
+        public Builder(ProcedureReturnColumns returnColumns, int concurrency) {
+            super(returnColumns, concurrency);
+        }
+
+        @Override
+        public BetweennessCentralityStatsResult buildResult() {
+            return new BetweennessCentralityStatsResult(
+                sampleCount,
+                achievedEpsilon,
+                topKSeparated,
+                centralityHistogram,
+                preProcessingMillis,
+                computeMillis,
+                postProcessingMillis,
+                config.toMap()
+            );
+        }
+    }
+}
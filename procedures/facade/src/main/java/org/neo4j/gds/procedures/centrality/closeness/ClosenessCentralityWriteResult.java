@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.centrality.closeness;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.ProcedureReturnColumns;
+
+import java.util.Map;
+
+public final class ClosenessCentralityWriteResult extends ClosenessCentralityStatsResult {
+
+    public final long writeMillis;
+    public final long nodePropertiesWritten;
+
+    ClosenessCentralityWriteResult(
+        double effectiveDiameter,
+        @Nullable Map<String, Object> centralityDistribution,
+        long preProcessingMillis,
+        long computeMillis,
+        long postProcessingMillis,
+        long writeMillis,
+        long nodePropertiesWritten,
+        Map<String, Object> configuration
+    ) {
+        super(
+            effectiveDiameter,
+            centralityDistribution,
+            preProcessingMillis,
+            computeMillis,
+            postProcessingMillis,
+            configuration
+        );
+        this.writeMillis = writeMillis;
+        this.nodePropertiesWritten = nodePropertiesWritten;
+    }
+
+    public static class Builder extends ClosenessCentralityProcCompanion.ClosenessCentralityResultBuilder<ClosenessCentralityWriteResult> {
+
+        public Builder(ProcedureReturnColumns returnColumns, int concurrency) {
+            super(returnColumns, concurrency);
+        }
+
+        @Override
+        public ClosenessCentralityWriteResult buildResult() {
+            return new ClosenessCentralityWriteResult(
+                effectiveDiameter,
+                centralityHistogram,
+                preProcessingMillis,
+                computeMillis,
+                postProcessingMillis,
+                writeMillis,
+                nodePropertiesWritten,
+                config.toMap()
+            );
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.centrality.pagerank;
+
+import org.neo4j.gds.algorithms.StatsResult;
+import org.neo4j.gds.algorithms.StreamComputationResult;
+import org.neo4j.gds.algorithms.centrality.specificfields.BatchedPersonalizedPageRankSpecificFields;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRank;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRankStatsConfig;
+import org.neo4j.gds.pagerank.BatchedPersonalizedPageRankStreamConfig;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class BatchedPersonalizedPageRankComputationalResultTransformer {
+
+    private BatchedPersonalizedPageRankComputationalResultTransformer() {}
+
+    public static Stream<BatchedPersonalizedPageRankStreamResult> toStreamResult(
+        StreamComputationResult<BatchedPersonalizedPageRank.Result> computationResult,
+        BatchedPersonalizedPageRankStreamConfig configuration
+    ) {
+        return computationResult.result()
+            .flatMap(BatchedPersonalizedPageRank.Result::scores)
+            .map(scores -> {
+                var graph = computationResult.graph();
+                // the i-th source node set holds the i-th configured source node
+                var sourceNodes = configuration.sourceNodes();
+                return IntStream.range(0, scores.size())
+                    .mapToObj(index -> new BatchedPersonalizedPageRankStreamResult(
+                        graph.toOriginalNodeId(scores.nodeId(index)),
+                        sourceNodes.get(scores.sourceNodeSet(index)),
+                        scores.score(index)
+                    ));
+            }).orElseGet(Stream::empty);
+    }
+
+    public static BatchedPersonalizedPageRankStatsResult toStatsResult(
+        StatsResult<BatchedPersonalizedPageRankSpecificFields> computationResult,
+        BatchedPersonalizedPageRankStatsConfig configuration
+    ) {
+        return new BatchedPersonalizedPageRankStatsResult(
+            computationResult.algorithmSpecificFields().batches(),
+            computationResult.algorithmSpecificFields().ranIterations(),
+            computationResult.algorithmSpecificFields().didConverge(),
+            computationResult.preProcessingMillis(),
+            computationResult.computeMillis(),
+            computationResult.postProcessingMillis(),
+            configuration.toMap()
+        );
+    }
+}
@@ -123,6 +123,7 @@ import org.neo4j.gds.triangle.TriangleCountMutateConfig;
 import org.neo4j.gds.triangle.TriangleCountStatsConfig;
 import org.neo4j.gds.triangle.TriangleCountStreamConfig;
 import org.neo4j.gds.triangle.TriangleCountWriteConfig;
+import org.neo4j.gds.wcc.IncrementalWccMutateConfig;
 import org.neo4j.gds.wcc.WccMutateConfig;
 import org.neo4j.gds.wcc.WccStatsConfig;
 import org.neo4j.gds.wcc.WccStreamConfig;
@@ -192,6 +193,21 @@ public class CommunityProcedureFacade {
         return Stream.of(WccComputationResultTransformer.toMutateResult(computationResult));
     }
 
+    public Stream<WccMutateResult> incrementalWccMutate(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        var config = configurationCreator.createConfiguration(configuration, IncrementalWccMutateConfig::of);
+
+        var computationResult = mutateBusinessFacade.incrementalWcc(
+            graphName,
+            config,
+            ProcedureStatisticsComputationInstructions.forComponents(procedureReturnColumns)
+        );
+
+        return Stream.of(WccComputationResultTransformer.toMutateResult(computationResult));
+    }
+
     public Stream<WccStatsResult> wccStats(
         String graphName,
         Map<String, Object> configuration
@@ -230,6 +246,14 @@ public class CommunityProcedureFacade {
         return Stream.of(estimateBusinessFacade.wcc(graphNameOrConfiguration, config));
     }
 
+    public Stream<MemoryEstimateResult> incrementalWccEstimateMutate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algoConfiguration
+    ) {
+        var config = configurationCreator.createConfiguration(algoConfiguration, IncrementalWccMutateConfig::of);
+        return Stream.of(estimateBusinessFacade.incrementalWcc(graphNameOrConfiguration, config));
+    }
+
     public Stream<MemoryEstimateResult> wccEstimateStats(
         Object graphNameOrConfiguration,
         Map<String, Object> algoConfiguration
@@ -53,6 +53,15 @@ public interface ProgressTracker {
 
     void logProgress(long value, String messageTemplate);
 
+    /**
+     * Returns a progress sink for the calling thread.
+     * Implementations may provide a cheaper path than {@link #logProgress(long)},
+     * so workers that log progress very frequently should prefer it.
+     */
+    default LocalProgress localProgress() {
+        return this::logProgress;
+    }
+
     // prefer setting volume via factory method for leaves
     // to make root progress available from the start
     void setVolume(long volume);
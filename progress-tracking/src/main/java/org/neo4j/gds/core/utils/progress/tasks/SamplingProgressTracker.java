@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.progress.tasks;
+
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+import org.neo4j.internal.helpers.NamedThreadFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.neo4j.gds.core.utils.progress.tasks.Task.UNKNOWN_VOLUME;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A {@link ProgressTracker} that takes progress logging off the hot path.
+ * <p>
+ * Workers write progress into thread-confined counters without any
+ * synchronisation. A background sampler periodically drains those counters
+ * and forwards the aggregated delta to the delegate tracker. Task lifecycle
+ * calls flush all pending progress before they are passed on, so the
+ * delegate always attributes progress to the correct task.
+ * <p>
+ * On top of that, the sampler maintains a smoothed progress rate which is
+ * used to estimate the remaining time of the current task.
+ */
+public final class SamplingProgressTracker implements ProgressTracker {
+
+    static final long DEFAULT_SAMPLE_INTERVAL_MILLIS = 100;
+    private static final long ETA_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double RATE_SMOOTHING = 0.3;
+
+    private final ProgressTracker delegate;
+    private final long sampleIntervalMillis;
+    private final Queue<Counter> counters;
+    private final CloseableThreadLocal<Counter> localCounter;
+    private final Object sampleLock;
+
+    private ScheduledExecutorService sampler;
+    private int depth;
+
+    // all fields below are guarded by sampleLock
+    private long taskProgress;
+    private long lastSampleNanos;
+    private long lastEtaLogNanos;
+    private double rate;
+
+    public SamplingProgressTracker(ProgressTracker delegate) {
+        this(delegate, DEFAULT_SAMPLE_INTERVAL_MILLIS);
+    }
+
+    public SamplingProgressTracker(ProgressTracker delegate, long sampleIntervalMillis) {
+        this.delegate = delegate;
+        this.sampleIntervalMillis = sampleIntervalMillis;
+        this.counters = new ConcurrentLinkedQueue<>();
+        this.localCounter = CloseableThreadLocal.withInitial(this::newCounter);
+        this.sampleLock = new Object();
+        this.depth = 0;
+        resetRate();
+    }
+
+    @Override
+    public LocalProgress localProgress() {
+        return localCounter.get();
+    }
+
+    @Override
+    public void logProgress(long value) {
+        localCounter.get().logProgress(value);
+    }
+
+    @Override
+    public void logProgress(long value, String messageTemplate) {
+        synchronized (sampleLock) {
+            sample();
+            taskProgress += value;
+            delegate.logProgress(value, messageTemplate);
+        }
+    }
+
+    @Override
+    public void setEstimatedResourceFootprint(MemoryRange memoryEstimationInBytes, int concurrency) {
+        delegate.setEstimatedResourceFootprint(memoryEstimationInBytes, concurrency);
+    }
+
+    @Override
+    public void beginSubTask() {
+        synchronized (sampleLock) {
+            onBegin();
+            delegate.beginSubTask();
+        }
+    }
+
+    @Override
+    public void beginSubTask(long taskVolume) {
+        synchronized (sampleLock) {
+            onBegin();
+            delegate.beginSubTask(taskVolume);
+        }
+    }
+
+    @Override
+    public void beginSubTask(String expectedTaskDescription) {
+        synchronized (sampleLock) {
+            onBegin();
+            delegate.beginSubTask(expectedTaskDescription);
+        }
+    }
+
+    @Override
+    public void beginSubTask(String expectedTaskDescription, long taskVolume) {
+        synchronized (sampleLock) {
+            onBegin();
+            delegate.beginSubTask(expectedTaskDescription, taskVolume);
+        }
+    }
+
+    @Override
+    public void endSubTask() {
+        synchronized (sampleLock) {
+            onEnd();
+            delegate.endSubTask();
+        }
+    }
+
+    @Override
+    public void endSubTask(String expectedTaskDescription) {
+        synchronized (sampleLock) {
+            onEnd();
+            delegate.endSubTask(expectedTaskDescription);
+        }
+    }
+
+    @Override
+    public void endSubTaskWithFailure() {
+        synchronized (sampleLock) {
+            onFailure();
+            delegate.endSubTaskWithFailure();
+        }
+    }
+
+    @Override
+    public void endSubTaskWithFailure(String expectedTaskDescription) {
+        synchronized (sampleLock) {
+            onFailure();
+            delegate.endSubTaskWithFailure(expectedTaskDescription);
+        }
+    }
+
+    @Override
+    public void setVolume(long volume) {
+        synchronized (sampleLock) {
+            sample();
+            delegate.setVolume(volume);
+        }
+    }
+
+    @Override
+    public long currentVolume() {
+        return delegate.currentVolume();
+    }
+
+    @Override
+    public void logDebug(Supplier<String> messageSupplier) {
+        delegate.logDebug(messageSupplier);
+    }
+
+    @Override
+    public void logMessage(LogLevel level, String message) {
+        delegate.logMessage(level, message);
+    }
+
+    @Override
+    public void release() {
+        synchronized (sampleLock) {
+            sample();
+            depth = 0;
+            stopSampler();
+        }
+        localCounter.close();
+        delegate.release();
+    }
+
+    @Override
+    public void setSteps(long steps) {
+        synchronized (sampleLock) {
+            sample();
+            delegate.setSteps(steps);
+        }
+    }
+
+    @Override
+    public void logSteps(long steps) {
+        synchronized (sampleLock) {
+            sample();
+            delegate.logSteps(steps);
+        }
+    }
+
+    /**
+     * Estimates the time left for the current task based on the smoothed
+     * progress rate. Empty if no task is running, its volume is unknown
+     * or no progress has been observed yet.
+     */
+    public Optional<Duration> estimatedTimeRemaining() {
+        synchronized (sampleLock) {
+            var volume = delegate.currentVolume();
+            if (depth == 0 || volume == UNKNOWN_VOLUME || rate <= 0) {
+                return Optional.empty();
+            }
+            var remaining = Math.max(0, volume - taskProgress);
+            return Optional.of(Duration.ofNanos((long) (remaining / rate)));
+        }
+    }
+
+    /**
+     * Drains all thread-local counters and forwards the aggregated
+     * progress to the delegate.
+     */
+    void sample() {
+        synchronized (sampleLock) {
+            long delta = 0;
+            for (Counter counter : counters) {
+                delta += counter.drain();
+            }
+
+            var now = System.nanoTime();
+            var elapsed = now - lastSampleNanos;
+            lastSampleNanos = now;
+
+            if (delta == 0) {
+                return;
+            }
+
+            taskProgress += delta;
+            delegate.logProgress(delta);
+
+            if (elapsed > 0) {
+                var currentRate = (double) delta / elapsed;
+                rate = rate <= 0
+                    ? currentRate
+                    : RATE_SMOOTHING * currentRate + (1 - RATE_SMOOTHING) * rate;
+            }
+
+            if (now - lastEtaLogNanos >= ETA_LOG_INTERVAL_NANOS) {
+                lastEtaLogNanos = now;
+                estimatedTimeRemaining().ifPresent(eta -> delegate.logDebug(() -> formatWithLocale(
+                    "Estimated time remaining: %d ms",
+                    eta.toMillis()
+                )));
+            }
+        }
+    }
+
+    private Counter newCounter() {
+        var counter = new Counter();
+        counters.add(counter);
+        return counter;
+    }
+
+    private void onBegin() {
+        sample();
+        resetRate();
+        if (depth++ == 0) {
+            startSampler();
+        }
+    }
+
+    private void onEnd() {
+        sample();
+        resetRate();
+        if (depth > 0 && --depth == 0) {
+            stopSampler();
+        }
+    }
+
+    private void onFailure() {
+        sample();
+        resetRate();
+        depth = 0;
+        stopSampler();
+    }
+
+    private void resetRate() {
+        taskProgress = 0;
+        rate = 0;
+        lastSampleNanos = System.nanoTime();
+        lastEtaLogNanos = lastSampleNanos;
+    }
+
+    private void startSampler() {
+        if (sampler == null) {
+            sampler = Executors.newSingleThreadScheduledExecutor(NamedThreadFactory.daemon("gds-progress-sampler"));
+            sampler.scheduleAtFixedRate(
+                this::sample,
+                sampleIntervalMillis,
+                sampleIntervalMillis,
+                TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    private void stopSampler() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+            sampler = null;
+        }
+    }
+
+    /**
+     * Progress counter owned by a single worker thread.
+     * The owner publishes with opaque writes; the sampler
+     * reads the value and remembers how much it already forwarded.
+     */
+    private static final class Counter implements LocalProgress {
+
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Counter.class, "value", long.class);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private long value;
+        // only accessed by the sampler while holding the sample lock
+        private long forwarded;
+
+        @Override
+        public void logProgress(long delta) {
+            VALUE.setOpaque(this, value + delta);
+        }
+
+        long drain() {
+            var current = (long) VALUE.getOpaque(this);
+            var delta = current - forwarded;
+            forwarded = current;
+            return delta;
+        }
+    }
+}
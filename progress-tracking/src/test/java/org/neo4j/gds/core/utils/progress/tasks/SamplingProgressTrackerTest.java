@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.progress.tasks;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingProgressTrackerTest {
+
+    @Test
+    void shouldForwardLocalProgressOnSample() {
+        var task = Tasks.leaf("leaf", 100);
+        var progressTracker = samplingTracker(task);
+
+        progressTracker.beginSubTask();
+        var progress = progressTracker.localProgress();
+        progress.logProgress(10);
+        progress.logProgress(5);
+
+        progressTracker.sample();
+        assertThat(task.getProgress().progress()).isEqualTo(15);
+
+        progressTracker.sample();
+        assertThat(task.getProgress().progress()).isEqualTo(15);
+
+        progressTracker.endSubTask();
+        progressTracker.release();
+    }
+
+    @Test
+    void shouldAggregateProgressFromConcurrentWorkers() {
+        var concurrency = 4;
+        var perWorker = 10_000;
+        var task = Tasks.leaf("leaf", (long) concurrency * perWorker);
+        var progressTracker = samplingTracker(task);
+
+        progressTracker.beginSubTask();
+
+        var tasks = IntStream
+            .range(0, concurrency)
+            .mapToObj(i -> (Runnable) () -> {
+                var progress = progressTracker.localProgress();
+                for (int j = 0; j < perWorker; j++) {
+                    progress.logProgress();
+                }
+            })
+            .collect(Collectors.toList());
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .run();
+
+        progressTracker.sample();
+        assertThat(task.getProgress().progress()).isEqualTo((long) concurrency * perWorker);
+
+        progressTracker.endSubTask();
+        progressTracker.release();
+    }
+
+    @Test
+    void shouldFlushPendingProgressBeforeSwitchingTasks() {
+        // unknown volumes are derived from the logged progress when a leaf finishes
+        var first = Tasks.leaf("first");
+        var second = Tasks.leaf("second");
+        var root = Tasks.task("root", first, second);
+        var progressTracker = samplingTracker(root);
+
+        progressTracker.beginSubTask();
+        progressTracker.beginSubTask();
+        progressTracker.logProgress(3);
+        progressTracker.endSubTask();
+        assertThat(first.getProgress().progress()).isEqualTo(3);
+        assertThat(first.getProgress().volume()).isEqualTo(3);
+
+        progressTracker.beginSubTask();
+        progressTracker.logProgress(7);
+        progressTracker.endSubTask();
+        assertThat(second.getProgress().progress()).isEqualTo(7);
+        assertThat(second.getProgress().volume()).isEqualTo(7);
+
+        progressTracker.endSubTask();
+        progressTracker.release();
+    }
+
+    @Test
+    void shouldEstimateRemainingTime() {
+        var task = Tasks.leaf("leaf", 1_000);
+        var progressTracker = samplingTracker(task);
+
+        assertThat(progressTracker.estimatedTimeRemaining()).isEmpty();
+
+        progressTracker.beginSubTask();
+        assertThat(progressTracker.estimatedTimeRemaining()).isEmpty();
+
+        progressTracker.logProgress(100);
+        progressTracker.sample();
+        assertThat(progressTracker.estimatedTimeRemaining()).isPresent();
+
+        progressTracker.endSubTask();
+        assertThat(progressTracker.estimatedTimeRemaining()).isEmpty();
+        progressTracker.release();
+    }
+
+    private static SamplingProgressTracker samplingTracker(Task task) {
+        var delegate = new TaskProgressTracker(task, Neo4jProxy.testLog(), 1, EmptyTaskRegistryFactory.INSTANCE);
+        // a long interval keeps the background sampler out of the way
+        return new SamplingProgressTracker(delegate, 60_000);
+    }
+}